@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.activity;
+
+import com.epam.ta.reportportal.entity.activity.Activity;
+
+import java.util.List;
+
+/**
+ * Persists several {@link Activity} at once
+ */
+public interface ActivityBatchWriter {
+
+	/**
+	 * Inserts activities using JDBC batching. If the batch fails,
+	 * activities are saved one by one, so a single invalid activity doesn't discard the others
+	 *
+	 * @param activities {@link Activity} list
+	 */
+	void write(List<Activity> activities);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.activity.impl;
+
+import com.epam.ta.reportportal.core.activity.ActivityBatchWriter;
+import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+
+@Service
+public class ActivityBatchWriterImpl implements ActivityBatchWriter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ActivityBatchWriterImpl.class);
+
+	private static final String INSERT_ACTIVITY =
+			"INSERT INTO activity (user_id, username, project_id, entity, action, details, creation_date, object_id) "
+					+ "VALUES (?, ?, ?, ?, ?, CAST(? AS JSONB), ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ActivityRepository activityRepository;
+
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public ActivityBatchWriterImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			ActivityRepository activityRepository, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.activityRepository = activityRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void write(List<Activity> activities) {
+		if (activities.isEmpty()) {
+			return;
+		}
+		try {
+			transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_ACTIVITY, activities, activities.size(), (ps, activity) -> {
+				ps.setObject(1, activity.getUserId(), Types.BIGINT);
+				ps.setString(2, activity.getUsername());
+				ps.setObject(3, activity.getProjectId(), Types.BIGINT);
+				ps.setString(4, activity.getActivityEntityType());
+				ps.setString(5, activity.getAction());
+				ps.setString(6, toJson(activity));
+				ps.setTimestamp(7, ofNullable(activity.getCreatedAt()).map(Timestamp::valueOf).orElse(null));
+				ps.setObject(8, activity.getObjectId(), Types.BIGINT);
+			}));
+		} catch (DataAccessException | ReportPortalException e) {
+			LOGGER.warn("Unable to insert batch of {} activities, saving them one by one. Cause: {}", activities.size(), e.getMessage());
+			activities.forEach(this::saveSingle);
+		}
+	}
+
+	private void saveSingle(Activity activity) {
+		try {
+			activityRepository.save(activity);
+		} catch (Exception e) {
+			LOGGER.error("Unable to save activity of project '{}' with action '{}'", activity.getProjectId(), activity.getAction(), e);
+		}
+	}
+
+	private String toJson(Activity activity) {
+		if (activity.getDetails() == null) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(activity.getDetails());
+		} catch (JsonProcessingException e) {
+			throw new ReportPortalException("Unable to serialize activity details", e);
+		}
+	}
+}
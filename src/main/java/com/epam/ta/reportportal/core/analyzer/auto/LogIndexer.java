@@ -45,6 +45,18 @@ public interface LogIndexer {
 
 	Long indexItemsLogs(Long projectId, Long launchId, List<Long> itemIds, AnalyzerConfig analyzerConfig);
 
+	/**
+	 * Updates index entries of the given test items only, regardless of the launches they belong to.
+	 * Items are processed by chunks, progress is reported through
+	 * {@link com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexerStatusCache}
+	 *
+	 * @param projectId      - project id
+	 * @param itemIds        - IDs of the test items
+	 * @param analyzerConfig - analyzer config
+	 * @return The count of indexed logs
+	 */
+	CompletableFuture<Long> reindexItemsLogs(Long projectId, List<Long> itemIds, AnalyzerConfig analyzerConfig);
+
 	CompletableFuture<Long> indexPreparedLogs(Long projectId, IndexLaunch indexLaunch);
 
 	/**
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexerStatusCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
@@ -35,6 +36,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -47,6 +50,11 @@ import java.util.stream.Collectors;
 public class LogIndexerService implements LogIndexer {
 	private static Logger LOGGER = LoggerFactory.getLogger(LogIndexerService.class);
 
+	/**
+	 * Max count of the test items loaded and sent to the analyzer at once during the incremental reindex
+	 */
+	private static final int REINDEX_CHUNK_SIZE = 500;
+
 	private final LaunchRepository launchRepository;
 
 	private final TestItemRepository testItemRepository;
@@ -129,6 +137,42 @@ public class LogIndexerService implements LogIndexer {
 		}
 	}
 
+	@Override
+	public CompletableFuture<Long> reindexItemsLogs(Long projectId, List<Long> itemIds, AnalyzerConfig analyzerConfig) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				indexerStatusCache.indexingStarted(projectId);
+				LOGGER.info("Start reindexing of {} test items of project {}", itemIds.size(), projectId);
+				long indexed = 0;
+				int processed = 0;
+				for (List<Long> chunk : Lists.partition(itemIds, REINDEX_CHUNK_SIZE)) {
+					Map<Long, List<TestItem>> itemsByLaunch = testItemRepository.findAllById(chunk)
+							.stream()
+							.filter(it -> Objects.nonNull(it.getLaunchId()))
+							.collect(Collectors.groupingBy(TestItem::getLaunchId));
+					List<IndexLaunch> indexLaunches = launchRepository.findAllById(itemsByLaunch.keySet())
+							.stream()
+							.map(it -> launchPreparerService.prepare(it, itemsByLaunch.get(it.getId()), analyzerConfig))
+							.filter(Optional::isPresent)
+							.map(Optional::get)
+							.collect(Collectors.toList());
+					if (!indexLaunches.isEmpty()) {
+						indexed += indexerServiceClient.index(indexLaunches);
+					}
+					processed += chunk.size();
+					indexerStatusCache.indexingProgress(projectId, processed, itemIds.size());
+				}
+				LOGGER.info("Reindexed {} logs of project {}", indexed, projectId);
+				return indexed;
+			} catch (Exception e) {
+				LOGGER.error(e.getMessage(), e);
+				throw new ReportPortalException(e.getMessage());
+			} finally {
+				indexerStatusCache.indexingFinished(projectId);
+			}
+		});
+	}
+
 	public CompletableFuture<Long> indexPreparedLogs(Long projectId, IndexLaunch indexLaunch) {
 		return CompletableFuture.supplyAsync(() -> {
 			try {
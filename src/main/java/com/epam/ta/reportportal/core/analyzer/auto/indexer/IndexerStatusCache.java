@@ -4,6 +4,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -21,16 +22,40 @@ public class IndexerStatusCache {
 	 */
 	private Cache<Long, Boolean> indexingStatus;
 
+	/**
+	 * Contains percentage of the processed items of the incremental indexing running for concrete project
+	 * projectId - percentage
+	 */
+	private Cache<Long, Integer> indexingProgress;
+
 	public IndexerStatusCache() {
 		indexingStatus = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+		indexingProgress = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
 	}
 
 	public void indexingStarted(Long projectId) {
 		indexingStatus.put(projectId, true);
 	}
 
+	/**
+	 * Refreshes the running status of the project indexing and stores its progress
+	 *
+	 * @param projectId Id of the project
+	 * @param processed Count of the processed items
+	 * @param total     Total count of the items to process
+	 */
+	public void indexingProgress(Long projectId, int processed, int total) {
+		indexingStatus.put(projectId, true);
+		indexingProgress.put(projectId, total == 0 ? 100 : (int) (processed * 100L / total));
+	}
+
 	public void indexingFinished(Long projectId) {
 		indexingStatus.invalidate(projectId);
+		indexingProgress.invalidate(projectId);
+	}
+
+	public Optional<Integer> getIndexingProgress(Long projectId) {
+		return Optional.ofNullable(indexingProgress.getIfPresent(projectId));
 	}
 
 	public Cache<Long, Boolean> getIndexingStatus() {
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Removes error logs of the retried items from the analyzer index.
+ * <p>
+ * Retried items are buffered per project and flushed every {@code rp.analyzer.retry.cleanup.interval} milliseconds
+ * or as soon as the buffer reaches {@code rp.analyzer.retry.cleanup.bufferSize} items, so logs of the whole batch
+ * are resolved with a single query and removed with a single clean index request per project.
+ * When the flushing falls behind twice the buffer size the caller flushes the buffer itself.
+ * The buffer is flushed on shutdown.
+ */
+@Component
+public class RetryIndexCleaner {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RetryIndexCleaner.class);
+
+	private static final int ITEM_IDS_CHUNK_SIZE = 1000;
+
+	private final LogIndexer logIndexer;
+
+	private final LogRepository logRepository;
+
+	private final int bufferSize;
+
+	private final Map<Long, Set<Long>> buffer = new ConcurrentHashMap<>();
+
+	private final AtomicInteger bufferedItems = new AtomicInteger();
+
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	private final ScheduledExecutorService flushExecutor;
+
+	@Autowired
+	public RetryIndexCleaner(LogIndexer logIndexer, LogRepository logRepository,
+			@Value("${rp.analyzer.retry.cleanup.bufferSize:1000}") int bufferSize,
+			@Value("${rp.analyzer.retry.cleanup.interval:2000}") long flushInterval) {
+		this.logIndexer = logIndexer;
+		this.logRepository = logRepository;
+		this.bufferSize = bufferSize;
+		this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "retry-index-cleaner");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Adds retried item to the buffer
+	 *
+	 * @param projectId Id of the project
+	 * @param itemId    Id of the retried item
+	 */
+	public void add(Long projectId, Long itemId) {
+		AtomicBoolean added = new AtomicBoolean();
+		buffer.compute(projectId, (id, itemIds) -> {
+			Set<Long> result = itemIds == null ? new HashSet<>() : itemIds;
+			added.set(result.add(itemId));
+			return result;
+		});
+		if (!added.get()) {
+			return;
+		}
+		int size = bufferedItems.incrementAndGet();
+		if (size >= 2 * bufferSize) {
+			flush();
+		} else if (size >= bufferSize && flushScheduled.compareAndSet(false, true)) {
+			flushExecutor.execute(this::flushSafely);
+		}
+	}
+
+	/**
+	 * Cleans index of all the buffered items
+	 */
+	public synchronized void flush() {
+		flushScheduled.set(false);
+		new ArrayList<>(buffer.keySet()).forEach(projectId -> ofNullable(buffer.remove(projectId)).ifPresent(itemIds -> {
+			bufferedItems.addAndGet(-itemIds.size());
+			cleanIndex(projectId, itemIds);
+		}));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flushExecutor.shutdownNow();
+		flushSafely();
+	}
+
+	private void cleanIndex(Long projectId, Set<Long> itemIds) {
+		try {
+			List<Long> logIds = Lists.newArrayList();
+			Iterables.partition(itemIds, ITEM_IDS_CHUNK_SIZE)
+					.forEach(chunk -> logRepository.findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(chunk, LogLevel.ERROR.toInt())
+							.stream()
+							.map(Log::getId)
+							.forEach(logIds::add));
+			if (!logIds.isEmpty()) {
+				logIndexer.cleanIndex(projectId, logIds);
+			}
+		} catch (Exception e) {
+			LOGGER.error("Unable to clean index of the retried items of the project '{}'", projectId, e);
+		}
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			LOGGER.error("Unable to flush retried items", e);
+		}
+	}
+}
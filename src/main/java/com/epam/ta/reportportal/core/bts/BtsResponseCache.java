@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.bts;
+
+import com.epam.reportportal.extension.bugtracking.BtsExtension;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
+import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-integration cache of the responses of the {@link BtsExtension} plugins:
+ * ticket fields, issue types and recently fetched or submitted tickets.
+ * Entries expire after TTL and are explicitly evicted when the integration is updated or removed.
+ * The cache is local to the instance: eviction is applied after the commit of the current transaction
+ * and only by the instance that has changed the integration, the other ones serve their entries until TTL.
+ */
+public interface BtsResponseCache {
+
+	/**
+	 * @param btsExtension Plugin to load the fields with on cache miss
+	 * @param integration  BTS integration
+	 * @param ticketType   Type of the ticket
+	 * @return Fields of the ticket submit form
+	 */
+	List<PostFormField> getTicketFields(BtsExtension btsExtension, Integration integration, String ticketType);
+
+	/**
+	 * @param btsExtension Plugin to load the issue types with on cache miss
+	 * @param integration  BTS integration
+	 * @return Allowable issue types
+	 */
+	List<String> getIssueTypes(BtsExtension btsExtension, Integration integration);
+
+	/**
+	 * Absent tickets aren't cached
+	 *
+	 * @param btsExtension Plugin to load the ticket with on cache miss
+	 * @param integration  BTS integration
+	 * @param ticketId     Id of the ticket
+	 * @return {@link Ticket}
+	 */
+	Optional<Ticket> getTicket(BtsExtension btsExtension, Integration integration, String ticketId);
+
+	/**
+	 * Caches just submitted ticket, so it isn't fetched again by the following lookups
+	 *
+	 * @param integration BTS integration
+	 * @param ticket      Submitted {@link Ticket}
+	 */
+	void putTicket(Integration integration, Ticket ticket);
+
+	/**
+	 * Removes all the cached responses of the specified integrations, after the commit if a transaction is active
+	 *
+	 * @param integrationIds Ids of the integrations
+	 */
+	void evict(Collection<Long> integrationIds);
+
+	/**
+	 * Removes all the cached responses, after the commit if a transaction is active
+	 */
+	void evictAll();
+}
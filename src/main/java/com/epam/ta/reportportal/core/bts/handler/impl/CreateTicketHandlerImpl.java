@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.bts.handler.impl;
 import com.epam.reportportal.extension.bugtracking.BtsConstants;
 import com.epam.reportportal.extension.bugtracking.BtsExtension;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.bts.BtsResponseCache;
 import com.epam.ta.reportportal.core.bts.handler.CreateTicketHandler;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.TicketPostedEvent;
@@ -58,14 +59,16 @@ public class CreateTicketHandlerImpl implements CreateTicketHandler {
 	private final MessageBus messageBus;
 	private final PluginBox pluginBox;
 	private final GetIntegrationHandler getIntegrationHandler;
+	private final BtsResponseCache btsResponseCache;
 
 	@Autowired
 	public CreateTicketHandlerImpl(TestItemRepository testItemRepository, PluginBox pluginBox, MessageBus messageBus,
-			GetIntegrationHandler getIntegrationHandler) {
+			GetIntegrationHandler getIntegrationHandler, BtsResponseCache btsResponseCache) {
 		this.testItemRepository = testItemRepository;
 		this.pluginBox = pluginBox;
 		this.messageBus = messageBus;
 		this.getIntegrationHandler = getIntegrationHandler;
+		this.btsResponseCache = btsResponseCache;
 	}
 
 	@Override
@@ -92,8 +95,11 @@ public class CreateTicketHandlerImpl implements CreateTicketHandler {
 		);
 
 		Ticket ticket = btsExtension.get().submitTicket(postTicketRQ, integration);
+		btsResponseCache.putTicket(integration, ticket);
 
-		before.forEach(it -> messageBus.publishActivity(new TicketPostedEvent(ticket, user.getUserId(), user.getUsername(), it)));
+		messageBus.publishActivities(before.stream()
+				.map(it -> new TicketPostedEvent(ticket, user.getUserId(), user.getUsername(), it))
+				.collect(Collectors.toList()));
 		return ticket;
 	}
 
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.bts.handler.impl;
 
 import com.epam.reportportal.extension.bugtracking.BtsExtension;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.bts.BtsResponseCache;
 import com.epam.ta.reportportal.core.bts.handler.GetTicketHandler;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
 import com.epam.ta.reportportal.core.plugin.PluginBox;
@@ -46,17 +47,19 @@ public class GetTicketHandlerImpl implements GetTicketHandler {
 
 	private final PluginBox pluginBox;
 	private final GetIntegrationHandler getIntegrationHandler;
+	private final BtsResponseCache btsResponseCache;
 
 	@Autowired
-	public GetTicketHandlerImpl(PluginBox pluginBox, GetIntegrationHandler getIntegrationHandler) {
+	public GetTicketHandlerImpl(PluginBox pluginBox, GetIntegrationHandler getIntegrationHandler, BtsResponseCache btsResponseCache) {
 		this.pluginBox = pluginBox;
 		this.getIntegrationHandler = getIntegrationHandler;
+		this.btsResponseCache = btsResponseCache;
 	}
 
 	@Override
 	public Ticket getTicket(String ticketId, String url, String btsProject, ReportPortalUser.ProjectDetails projectDetails) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(projectDetails, url, btsProject);
-		return getBtsExtension(integration).getTicket(ticketId, integration)
+		return btsResponseCache.getTicket(getBtsExtension(integration), integration, ticketId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.TICKET_NOT_FOUND, ticketId));
 	}
 
@@ -64,25 +67,25 @@ public class GetTicketHandlerImpl implements GetTicketHandler {
 	public List<PostFormField> getSubmitTicketFields(String ticketType, Long integrationId,
 			ReportPortalUser.ProjectDetails projectDetails) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(projectDetails, integrationId);
-		return getBtsExtension(integration).getTicketFields(ticketType, integration);
+		return btsResponseCache.getTicketFields(getBtsExtension(integration), integration, ticketType);
 	}
 
 	@Override
 	public List<PostFormField> getSubmitTicketFields(String ticketType, Long integrationId) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(integrationId);
-		return getBtsExtension(integration).getTicketFields(ticketType, integration);
+		return btsResponseCache.getTicketFields(getBtsExtension(integration), integration, ticketType);
 	}
 
 	@Override
 	public List<String> getAllowableIssueTypes(Long integrationId, ReportPortalUser.ProjectDetails projectDetails) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(projectDetails, integrationId);
-		return getBtsExtension(integration).getIssueTypes(integration);
+		return btsResponseCache.getIssueTypes(getBtsExtension(integration), integration);
 	}
 
 	@Override
 	public List<String> getAllowableIssueTypes(Long integrationId) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(integrationId);
-		return getBtsExtension(integration).getIssueTypes(integration);
+		return btsResponseCache.getIssueTypes(getBtsExtension(integration), integration);
 	}
 
 	private BtsExtension getBtsExtension(Integration integration) {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.bts.impl;
+
+import com.epam.reportportal.extension.bugtracking.BtsExtension;
+import com.epam.ta.reportportal.core.bts.BtsResponseCache;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
+import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine based {@link BtsResponseCache}. Ticket form metadata and tickets are kept in separate caches
+ * with separate TTLs, both are exposed as 'rp.bts.cache' metrics tagged by the name of the cache.
+ */
+@Service
+public class BtsResponseCacheImpl implements BtsResponseCache {
+
+	private static final String METRIC_NAME = "rp.bts.cache";
+
+	private static final int MAXIMUM_SIZE = 10000;
+
+	private final Cache<CacheKey, Object> metadataCache;
+
+	private final Cache<CacheKey, Ticket> ticketCache;
+
+	@Autowired
+	public BtsResponseCacheImpl(MeterRegistry meterRegistry, @Value("${rp.bts.cache.metadata.ttl:600}") long metadataTtl,
+			@Value("${rp.bts.cache.ticket.ttl:60}") long ticketTtl) {
+		this.metadataCache = Caffeine.newBuilder()
+				.maximumSize(MAXIMUM_SIZE)
+				.expireAfterWrite(metadataTtl, TimeUnit.SECONDS)
+				.recordStats()
+				.build();
+		this.ticketCache = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(ticketTtl, TimeUnit.SECONDS).recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, metadataCache, METRIC_NAME, "cache", "metadata");
+		CaffeineCacheMetrics.monitor(meterRegistry, ticketCache, METRIC_NAME, "cache", "ticket");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<PostFormField> getTicketFields(BtsExtension btsExtension, Integration integration, String ticketType) {
+		return (List<PostFormField>) metadataCache.get(new CacheKey(integration.getId(), Kind.FIELDS, ticketType),
+				key -> btsExtension.getTicketFields(ticketType, integration)
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<String> getIssueTypes(BtsExtension btsExtension, Integration integration) {
+		return (List<String>) metadataCache.get(new CacheKey(integration.getId(), Kind.ISSUE_TYPES, null),
+				key -> btsExtension.getIssueTypes(integration)
+		);
+	}
+
+	@Override
+	public Optional<Ticket> getTicket(BtsExtension btsExtension, Integration integration, String ticketId) {
+		return Optional.ofNullable(ticketCache.get(new CacheKey(integration.getId(), Kind.TICKET, ticketId),
+				key -> btsExtension.getTicket(ticketId, integration).orElse(null)
+		));
+	}
+
+	@Override
+	public void putTicket(Integration integration, Ticket ticket) {
+		if (ticket != null && ticket.getId() != null) {
+			ticketCache.put(new CacheKey(integration.getId(), Kind.TICKET, ticket.getId()), ticket);
+		}
+	}
+
+	@Override
+	public void evict(Collection<Long> integrationIds) {
+		afterCommit(() -> {
+			metadataCache.asMap().keySet().removeIf(key -> integrationIds.contains(key.integrationId));
+			ticketCache.asMap().keySet().removeIf(key -> integrationIds.contains(key.integrationId));
+		});
+	}
+
+	@Override
+	public void evictAll() {
+		afterCommit(() -> {
+			metadataCache.invalidateAll();
+			ticketCache.invalidateAll();
+		});
+	}
+
+	/**
+	 * Eviction within a transaction is postponed till the commit, otherwise a concurrent lookup
+	 * could cache the response loaded with the integration that is not committed yet
+	 */
+	private static void afterCommit(Runnable eviction) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		} else {
+			eviction.run();
+		}
+	}
+
+	private enum Kind {
+		FIELDS,
+		ISSUE_TYPES,
+		TICKET
+	}
+
+	private static final class CacheKey {
+
+		private final Long integrationId;
+
+		private final Kind kind;
+
+		private final String argument;
+
+		private CacheKey(Long integrationId, Kind kind, String argument) {
+			this.integrationId = integrationId;
+			this.kind = kind;
+			this.argument = argument;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			CacheKey cacheKey = (CacheKey) o;
+			return Objects.equals(integrationId, cacheKey.integrationId) && kind == cacheKey.kind && Objects.equals(argument,
+					cacheKey.argument
+			);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(integrationId, kind, argument);
+		}
+	}
+}
@@ -18,6 +18,10 @@ package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTask;
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTaskAsync;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +34,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Configs for beans related to job execution
  *
@@ -57,7 +63,7 @@ public class ExecutorConfiguration {
 		executor.setQueueCapacity(600);
 		executor.setAllowCoreThreadTimeOut(true);
 		executor.setThreadNamePrefix("logs-task-exec");
-		executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 		return executor;
 	}
 
@@ -100,4 +106,106 @@ public class ExecutorConfiguration {
 		return threadPoolTaskExecutor;
 	}
 
+	@Bean(name = "projectDeletionTaskExecutor")
+	public ThreadPoolTaskExecutor projectDeletionTaskExecutor(MeterRegistry meterRegistry,
+			@Value("${rp.project.deletion.threads:1}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("project-delete-exec");
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "project-deletion", Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	/**
+	 * Recomputes project info snapshots in background. Refreshes are skipped when the queue is full,
+	 * snapshots are recomputed on demand after the max age anyway
+	 */
+	@Bean(name = "projectInfoSnapshotTaskExecutor")
+	public ThreadPoolTaskExecutor projectInfoSnapshotTaskExecutor(MeterRegistry meterRegistry,
+			@Value("${rp.project.info.snapshot.threads:2}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(100);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("project-info-exec");
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "project-info-snapshot", Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	/**
+	 * Processes the files of the imported archives. Caller runs the file itself when the queue is full,
+	 * so the import request is throttled instead of rejected
+	 */
+	@Bean(name = "importTaskExecutor")
+	public ThreadPoolTaskExecutor importTaskExecutor(MeterRegistry meterRegistry, @Value("${rp.import.threads:5}") int threads,
+			@Value("${rp.import.queueCapacity:100}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("import-exec");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "import", Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	/**
+	 * Parses the imported files. Each parser is paired with a single writer running in {@link #importTaskExecutor},
+	 * so the number of the queued parsers is limited by the number of the running writers
+	 */
+	@Bean(name = "importParserTaskExecutor")
+	public ThreadPoolTaskExecutor importParserTaskExecutor(MeterRegistry meterRegistry, @Value("${rp.import.threads:5}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("import-parse-exec");
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "import-parser", Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	/**
+	 * Generates thumbnails of the image attachments in low-priority threads. Tasks are rejected when the queue is full,
+	 * such thumbnails are generated on the first request
+	 */
+	@Bean(name = "thumbnailTaskExecutor")
+	public ThreadPoolTaskExecutor thumbnailTaskExecutor(MeterRegistry meterRegistry,
+			@Value("${rp.attachment.thumbnail.threads:2}") int threads, @Value("${rp.attachment.thumbnail.queueCapacity:1000}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadPriority(Thread.MIN_PRIORITY);
+		executor.setThreadNamePrefix("thumbnail-exec");
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "thumbnail", Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	/**
+	 * Declares the reporting queues and starts their consumers in parallel during the startup.
+	 * Idle threads are released, so the pool costs nothing after the startup
+	 */
+	@Bean(name = "reportingStartupTaskExecutor")
+	public ThreadPoolTaskExecutor reportingStartupTaskExecutor(MeterRegistry meterRegistry,
+			@Value("${rp.amqp.startup.threads:8}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("reporting-startup-exec");
+		executor.initialize();
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "reporting-startup", Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,7 +37,17 @@ public class JacksonConfiguration {
 	 */
 	@Bean(name = "objectMapper")
 	public ObjectMapper objectMapper() {
-		ObjectMapper om = new ObjectMapper();
+		return configure(new ObjectMapper());
+	}
+
+	/**
+	 * @return Object mapper of the binary Smile format configured the same way as the JSON one
+	 */
+	public static ObjectMapper smileObjectMapper() {
+		return configure(new ObjectMapper(new SmileFactory()));
+	}
+
+	private static ObjectMapper configure(ObjectMapper om) {
 		om.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
 		om.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, true);
 		om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -39,16 +39,19 @@ import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.validation.beanvalidation.BeanValidationPostProcessor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 import org.springframework.web.multipart.commons.CommonsMultipartResolver;
 import org.springframework.web.multipart.support.MultipartFilter;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,6 +72,15 @@ public class MvcConfig implements WebMvcConfigurer {
 	@Autowired
 	private List<HttpMessageConverter<?>> converters;
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Binary data endpoints stream content of unbounded size, so they shouldn't keep
+	 * the database connection of the 'open in view' entity manager during the transfer
+	 */
+	private static final String[] NON_OPEN_IN_VIEW_PATHS = { "/v1/data/**" };
+
 	private static final String[] CLASSPATH_RESOURCE_LOCATIONS = { "classpath:/public/", "classpath:/META-INF/resources/",
 			"classpath:/resources/" };
 
@@ -82,6 +94,13 @@ public class MvcConfig implements WebMvcConfigurer {
 		}
 	}
 
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor = new OpenEntityManagerInViewInterceptor();
+		openEntityManagerInViewInterceptor.setEntityManagerFactory(entityManagerFactory);
+		registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor).excludePathPatterns(NON_OPEN_IN_VIEW_PATHS);
+	}
+
 	@Bean
 	public SortArgumentResolver sortArgumentResolver() {
 		SortArgumentResolver argumentResolver = new SortArgumentResolver();
@@ -118,13 +137,18 @@ public class MvcConfig implements WebMvcConfigurer {
 
 	@Override
 	public void configureHandlerExceptionResolvers(List<HandlerExceptionResolver> exceptionResolvers) {
+		/* temporary rejections are rendered with 429/503 and 'Retry-After' */
+		RetryableExceptionResolver retryableExceptionResolver = new RetryableExceptionResolver(jsonConverter());
+		retryableExceptionResolver.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		exceptionResolvers.add(retryableExceptionResolver);
+
 		/* to propagate exceptions from downstream services */
 		ClientResponseForwardingExceptionHandler forwardingExceptionHandler = new ClientResponseForwardingExceptionHandler();
-		forwardingExceptionHandler.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		forwardingExceptionHandler.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
 		exceptionResolvers.add(forwardingExceptionHandler);
 
 		RestExceptionHandler handler = new RestExceptionHandler();
-		handler.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		handler.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
 
 		DefaultErrorResolver defaultErrorResolver = new DefaultErrorResolver(ExceptionMappings.DEFAULT_MAPPING);
 		handler.setErrorResolver(new ReportPortalExceptionResolver(defaultErrorResolver));
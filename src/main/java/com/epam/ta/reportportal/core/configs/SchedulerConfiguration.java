@@ -18,6 +18,8 @@ package com.epam.ta.reportportal.core.configs;
 import com.epam.ta.reportportal.job.*;
 import org.quartz.Job;
 import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
 import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
 import org.quartz.spi.TriggerFiredBundle;
@@ -35,7 +37,10 @@ import org.springframework.scheduling.quartz.*;
 import javax.inject.Named;
 import javax.sql.DataSource;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
 @Configuration
@@ -44,6 +49,19 @@ import java.util.Properties;
 		SchedulerConfiguration.CleanLaunchesJobProperties.class })
 public class SchedulerConfiguration {
 
+	private static final String THREAD_COUNT_PROPERTY = "org.quartz.threadPool.threadCount";
+
+	/**
+	 * Priority of the short periodic jobs. Quartz fires the triggers with higher priority first
+	 * when several of them are due at the same time
+	 */
+	public static final int PERIODIC_JOB_PRIORITY = 10;
+
+	/**
+	 * Priority of the long-running retention jobs
+	 */
+	public static final int RETENTION_JOB_PRIORITY = 1;
+
 	@Autowired
 	List<Trigger> listOfTrigger;
 
@@ -56,17 +74,29 @@ public class SchedulerConfiguration {
 	@Autowired
 	private DataSource dataSource;
 
+	@Autowired
+	private JobExecutionMetricsListener jobExecutionMetricsListener;
+
 	@Bean
 	@Primary
 	public SchedulerFactoryBean schedulerFactoryBean() {
-		SchedulerFactoryBean scheduler = new SchedulerFactoryBean();
+		SchedulerFactoryBean scheduler = new SchedulerFactoryBean() {
+			@Override
+			protected void registerJobsAndTriggers() throws SchedulerException {
+				super.registerJobsAndTriggers();
+				rescheduleChangedTriggers(getScheduler(), Optional.ofNullable(listOfTrigger).orElseGet(Collections::emptyList));
+			}
+		};
 		scheduler.setApplicationContextSchedulerContextKey("applicationContext");
 
-		scheduler.setQuartzProperties(quartzProperties.getQuartz());
+		scheduler.setQuartzProperties(withLanes(quartzProperties.getQuartz(),
+				Optional.ofNullable(listOfTrigger).map(List::size).orElse(0)
+		));
 		scheduler.setDataSource(dataSource);
 		scheduler.setAutoStartup(true);  // to not automatically start after startup
 		scheduler.setWaitForJobsToCompleteOnShutdown(true);
 		scheduler.setJobFactory(beanJobFactory());
+		scheduler.setGlobalJobListeners(jobExecutionMetricsListener);
 
 		// Here we will set all the trigger beans we have defined.
 		if (null != listOfTrigger && !listOfTrigger.isEmpty()) {
@@ -90,32 +120,37 @@ public class SchedulerConfiguration {
 
 	@Bean
 	public SimpleTriggerFactoryBean createCleanLogsTrigger(@Named("cleanLogsJobBean") JobDetail jobDetail,
-			@Value("${com.ta.reportportal.job.clean.logs.cron}") String cleanLogsCron) {
-		return createTrigger(jobDetail, Duration.parse(cleanLogsCron).toMillis());
+			@Value("${com.ta.reportportal.job.clean.logs.cron}") String cleanLogsCron,
+			@Value("${com.ta.reportportal.job.clean.logs.misfire:FIRE_NOW}") MisfirePolicy cleanLogsMisfire) {
+		return createTrigger(jobDetail, Duration.parse(cleanLogsCron).toMillis(), cleanLogsMisfire, RETENTION_JOB_PRIORITY);
 	}
 
 	@Bean
 	public SimpleTriggerFactoryBean interruptLaunchesTrigger(@Named("interruptLaunchesJobBean") JobDetail jobDetail,
-			@Value("${com.ta.reportportal.job.interrupt.broken.launches.cron}") String interruptLaunchesCron) {
-		return createTrigger(jobDetail, Duration.parse(interruptLaunchesCron).toMillis());
+			@Value("${com.ta.reportportal.job.interrupt.broken.launches.cron}") String interruptLaunchesCron,
+			@Value("${com.ta.reportportal.job.interrupt.broken.launches.misfire:SKIP}") MisfirePolicy interruptLaunchesMisfire) {
+		return createTrigger(jobDetail, Duration.parse(interruptLaunchesCron).toMillis(), interruptLaunchesMisfire, PERIODIC_JOB_PRIORITY);
 	}
 
 	@Bean
 	public SimpleTriggerFactoryBean cleanScreenshotsTrigger(@Named("cleanScreenshotsJobBean") JobDetail jobDetail,
-			@Value("${com.ta.reportportal.job.clean.screenshots.cron}") String cleanScreenshotsCron) {
-		return createTrigger(jobDetail, Duration.parse(cleanScreenshotsCron).toMillis());
+			@Value("${com.ta.reportportal.job.clean.screenshots.cron}") String cleanScreenshotsCron,
+			@Value("${com.ta.reportportal.job.clean.screenshots.misfire:FIRE_NOW}") MisfirePolicy cleanScreenshotsMisfire) {
+		return createTrigger(jobDetail, Duration.parse(cleanScreenshotsCron).toMillis(), cleanScreenshotsMisfire, RETENTION_JOB_PRIORITY);
 	}
 
 	@Bean
 	public SimpleTriggerFactoryBean createCleanLaunchesTrigger(@Named("cleanLaunchesJobBean") JobDetail jobDetail,
-			@Value("${com.ta.reportportal.job.clean.launches.cron}") String cleanLogsCron) {
-		return createTrigger(jobDetail, Duration.parse(cleanLogsCron).toMillis());
+			@Value("${com.ta.reportportal.job.clean.launches.cron}") String cleanLogsCron,
+			@Value("${com.ta.reportportal.job.clean.launches.misfire:FIRE_NOW}") MisfirePolicy cleanLaunchesMisfire) {
+		return createTrigger(jobDetail, Duration.parse(cleanLogsCron).toMillis(), cleanLaunchesMisfire, RETENTION_JOB_PRIORITY);
 	}
 
 	@Bean
 	public SimpleTriggerFactoryBean cleanExpiredCreationBidsTrigger(@Named("cleanExpiredCreationBidsJobBean") JobDetail jobDetail,
-			@Value("${com.ta.reportportal.job.clean.bids.cron}") String cleanBidsCron) {
-		return createTrigger(jobDetail, Duration.parse(cleanBidsCron).toMillis());
+			@Value("${com.ta.reportportal.job.clean.bids.cron}") String cleanBidsCron,
+			@Value("${com.ta.reportportal.job.clean.bids.misfire:SKIP}") MisfirePolicy cleanBidsMisfire) {
+		return createTrigger(jobDetail, Duration.parse(cleanBidsCron).toMillis(), cleanBidsMisfire, PERIODIC_JOB_PRIORITY);
 	}
 
 	@Bean("cleanLogsJobBean")
@@ -144,16 +179,65 @@ public class SchedulerConfiguration {
 	}
 
 	public static SimpleTriggerFactoryBean createTrigger(JobDetail jobDetail, long pollFrequencyMs) {
+		return createTrigger(jobDetail, pollFrequencyMs, MisfirePolicy.SKIP, Trigger.DEFAULT_PRIORITY);
+	}
+
+	public static SimpleTriggerFactoryBean createTrigger(JobDetail jobDetail, long pollFrequencyMs, MisfirePolicy misfirePolicy,
+			int priority) {
 		SimpleTriggerFactoryBean factoryBean = new SimpleTriggerFactoryBean();
 		factoryBean.setJobDetail(jobDetail);
 		factoryBean.setStartDelay(0L);
 		factoryBean.setRepeatInterval(pollFrequencyMs);
 		factoryBean.setRepeatCount(SimpleTrigger.REPEAT_INDEFINITELY);
-		// in case of misfire, ignore all missed triggers and continue :
-		factoryBean.setMisfireInstruction(SimpleTrigger.MISFIRE_INSTRUCTION_RESCHEDULE_NEXT_WITH_REMAINING_COUNT);
+		factoryBean.setMisfireInstruction(misfirePolicy.getInstruction());
+		factoryBean.setPriority(priority);
 		return factoryBean;
 	}
 
+	/**
+	 * Provides an own execution lane (worker thread) for every registered trigger, so a long-running job
+	 * can't occupy the thread needed by another one. Jobs are {@link org.quartz.DisallowConcurrentExecution},
+	 * so a single job never takes more than one lane and is executed only once at a time across the cluster.
+	 *
+	 * @param quartz       Configured Quartz properties
+	 * @param triggerCount Number of registered triggers
+	 * @return Properties with the thread count not less than the number of the triggers
+	 */
+	static Properties withLanes(Properties quartz, int triggerCount) {
+		Properties properties = new Properties();
+		properties.putAll(quartz);
+		int threadCount = Optional.ofNullable(quartz.getProperty(THREAD_COUNT_PROPERTY)).map(Integer::parseInt).orElse(1);
+		properties.setProperty(THREAD_COUNT_PROPERTY, String.valueOf(Math.max(threadCount, triggerCount)));
+		return properties;
+	}
+
+	/**
+	 * Triggers are stored in the DB and kept on startup, so the jobs aren't fired by every starting instance.
+	 * A stored trigger with the priority or the misfire policy differing from the configured one is replaced,
+	 * keeping its next fire time.
+	 *
+	 * @param scheduler Scheduler with the registered triggers
+	 * @param triggers  Configured triggers
+	 * @throws SchedulerException if the trigger can't be rescheduled
+	 */
+	static void rescheduleChangedTriggers(Scheduler scheduler, List<Trigger> triggers) throws SchedulerException {
+		for (Trigger trigger : triggers) {
+			Optional<Trigger> changed = changedTrigger(scheduler.getTrigger(trigger.getKey()), trigger);
+			if (changed.isPresent()) {
+				scheduler.rescheduleJob(trigger.getKey(), changed.get());
+			}
+		}
+	}
+
+	static Optional<Trigger> changedTrigger(Trigger stored, Trigger configured) {
+		if (stored == null || (stored.getPriority() == configured.getPriority()
+				&& stored.getMisfireInstruction() == configured.getMisfireInstruction())) {
+			return Optional.empty();
+		}
+		Date startTime = Optional.ofNullable(stored.getNextFireTime()).orElseGet(configured::getStartTime);
+		return Optional.of(configured.getTriggerBuilder().startAt(startTime).build());
+	}
+
 	// Use this method for creating cron triggers instead of simple triggers:
 	public static CronTriggerFactoryBean createCronTrigger(JobDetail jobDetail, String cronExpression) {
 		CronTriggerFactoryBean factoryBean = new CronTriggerFactoryBean();
@@ -171,6 +255,30 @@ public class SchedulerConfiguration {
 		return factoryBean;
 	}
 
+	/**
+	 * Behaviour of a trigger that missed its fire time, e.g. because the whole cluster was down
+	 */
+	public enum MisfirePolicy {
+		/**
+		 * Ignore all the missed executions and wait for the next scheduled fire time
+		 */
+		SKIP(SimpleTrigger.MISFIRE_INSTRUCTION_RESCHEDULE_NEXT_WITH_REMAINING_COUNT),
+		/**
+		 * Execute the job once immediately and continue with the regular schedule
+		 */
+		FIRE_NOW(SimpleTrigger.MISFIRE_INSTRUCTION_RESCHEDULE_NOW_WITH_EXISTING_REPEAT_COUNT);
+
+		private final int instruction;
+
+		MisfirePolicy(int instruction) {
+			this.instruction = instruction;
+		}
+
+		public int getInstruction() {
+			return instruction;
+		}
+	}
+
 	@ConfigurationProperties("spring.application")
 	public static class QuartzProperties {
 
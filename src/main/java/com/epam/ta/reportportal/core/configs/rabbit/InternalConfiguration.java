@@ -22,6 +22,7 @@ import com.epam.ta.reportportal.core.events.MessageBusImpl;
 import org.springframework.amqp.core.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
@@ -49,6 +50,10 @@ public class InternalConfiguration {
 	public static final String QUEUE_ATTACHMENT_DELETE = "attachment.delete";
 
 	public static final String QUEUE_QUERY_RQ = "query-rq";
+	public static final String QUEUE_QUERY_PAGE_RQ = "query-page-rq";
+
+	public static final String QUEUE_EMAIL_OUTBOX = "email.outbox";
+	public static final String QUEUE_EMAIL_OUTBOX_RETRY = "email.outbox.retry";
 
 	@Bean
 	public MessageBus messageBus(@Autowired @Qualifier(value = "rabbitTemplate") AmqpTemplate amqpTemplate) {
@@ -98,6 +103,28 @@ public class InternalConfiguration {
 		return new Queue(QUEUE_QUERY_RQ);
 	}
 
+	@Bean
+	public Queue queryPageQueue() {
+		return new Queue(QUEUE_QUERY_PAGE_RQ);
+	}
+
+	@Bean
+	public Queue emailOutboxQueue() {
+		return new Queue(QUEUE_EMAIL_OUTBOX);
+	}
+
+	/**
+	 * Failed emails wait here for the retry delay and then are dead-lettered back to the outbox
+	 */
+	@Bean
+	public Queue emailOutboxRetryQueue(@Value("${rp.email.outbox.retryDelay:60000}") long retryDelay) {
+		return QueueBuilder.durable(QUEUE_EMAIL_OUTBOX_RETRY)
+				.withArgument("x-dead-letter-exchange", "")
+				.withArgument("x-dead-letter-routing-key", QUEUE_EMAIL_OUTBOX)
+				.withArgument("x-message-ttl", retryDelay)
+				.build();
+	}
+
 	/**
 	 * Bindings
 	 */
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.amqp.support.postprocessor.DeflaterPostProcessor;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.io.IOException;
+
+/**
+ * Message converter of the internal traffic that chooses the payload format per message by its content type.
+ * <p>
+ * Messages are always read both in JSON and in binary Jackson Smile format, compressed or not
+ * (see 'Content-Encoding' header), so instances with different write settings interoperate during rollout.
+ * Messages are written in the configured {@link MessageEncoding} and compressed with deflate
+ * if the size of the body exceeds the compression threshold.
+ */
+public class NegotiatingMessageConverter implements SmartMessageConverter {
+
+	public static final String CONTENT_TYPE_SMILE = "application/x-jackson-smile";
+
+	private final Jackson2JsonMessageConverter jsonConverter;
+
+	private final ObjectMapper smileMapper;
+
+	private final Jackson2JavaTypeMapper javaTypeMapper;
+
+	private final MessageEncoding encoding;
+
+	private final int compressionThreshold;
+
+	private final DeflaterPostProcessor compressor = new DeflaterPostProcessor();
+
+	private final DelegatingDecompressingPostProcessor decompressor = new DelegatingDecompressingPostProcessor();
+
+	/**
+	 * @param jsonMapper           Mapper of the JSON messages
+	 * @param smileMapper          Mapper of the Smile messages
+	 * @param encoding             Format of the written messages
+	 * @param compressionThreshold Min size of the message body in bytes to be compressed, non-positive value disables compression
+	 */
+	public NegotiatingMessageConverter(ObjectMapper jsonMapper, ObjectMapper smileMapper, MessageEncoding encoding,
+			int compressionThreshold) {
+		this.jsonConverter = new Jackson2JsonMessageConverter(jsonMapper);
+		this.smileMapper = smileMapper;
+		DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+		typeMapper.setTrustedPackages("*");
+		this.javaTypeMapper = typeMapper;
+		this.encoding = encoding;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	@Override
+	public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+		Message message;
+		if (MessageEncoding.SMILE == encoding) {
+			try {
+				byte[] body = smileMapper.writeValueAsBytes(object);
+				messageProperties.setContentType(CONTENT_TYPE_SMILE);
+				messageProperties.setContentLength(body.length);
+				javaTypeMapper.fromJavaType(smileMapper.constructType(object.getClass()), messageProperties);
+				message = new Message(body, messageProperties);
+			} catch (IOException e) {
+				throw new MessageConversionException("Failed to convert Message content", e);
+			}
+		} else {
+			message = jsonConverter.toMessage(object, messageProperties);
+		}
+		return compressionThreshold > 0 && message.getBody().length > compressionThreshold ? compress(message) : message;
+	}
+
+	@Override
+	public Object fromMessage(Message message) throws MessageConversionException {
+		return fromMessage(message, null);
+	}
+
+	@Override
+	public Object fromMessage(Message message, Object conversionHint) throws MessageConversionException {
+		Message decompressed = decompress(message);
+		String contentType = decompressed.getMessageProperties().getContentType();
+		if (contentType == null || !contentType.contains(CONTENT_TYPE_SMILE)) {
+			return conversionHint == null ? jsonConverter.fromMessage(decompressed) : jsonConverter.fromMessage(decompressed, conversionHint);
+		}
+		JavaType targetType = conversionHint instanceof ParameterizedTypeReference ?
+				smileMapper.getTypeFactory().constructType(((ParameterizedTypeReference<?>) conversionHint).getType()) :
+				javaTypeMapper.toJavaType(decompressed.getMessageProperties());
+		try {
+			return smileMapper.readValue(decompressed.getBody(), targetType);
+		} catch (IOException e) {
+			throw new MessageConversionException("Failed to convert Message content", e);
+		}
+	}
+
+	private Message compress(Message message) {
+		try {
+			return compressor.postProcessMessage(message);
+		} catch (AmqpException e) {
+			throw new MessageConversionException("Failed to compress Message content", e);
+		}
+	}
+
+	private Message decompress(Message message) {
+		try {
+			return decompressor.postProcessMessage(message);
+		} catch (AmqpException e) {
+			throw new MessageConversionException("Failed to decompress Message content", e);
+		}
+	}
+
+	public enum MessageEncoding {
+		JSON,
+		SMILE
+	}
+}
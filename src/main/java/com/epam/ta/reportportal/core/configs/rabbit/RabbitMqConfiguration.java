@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.configs.rabbit;
 
 import com.epam.ta.reportportal.core.configs.Conditions;
+import com.epam.ta.reportportal.core.configs.JacksonConfiguration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
@@ -26,14 +27,13 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
-import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.net.URI;
 
@@ -48,9 +48,58 @@ public class RabbitMqConfiguration {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	/**
+	 * Format of the internal messages (reporting, activities, attachments removing): json or smile.
+	 * Messages of both formats are read regardless of this setting
+	 */
+	@Value("${rp.amqp.encoding:json}")
+	private String encoding;
+
+	/**
+	 * Min body size in bytes of the internal messages to be compressed, non-positive value disables compression
+	 */
+	@Value("${rp.amqp.compressionThreshold:0}")
+	private int compressionThreshold;
+
+	/**
+	 * Max number of activity messages consumed and persisted at once
+	 */
+	@Value("${rp.amqp.activity.batchSize:100}")
+	private int activityBatchSize;
+
+	/**
+	 * Max number of emails consumed from the outbox and sent over a single SMTP connection
+	 */
+	@Value("${rp.email.outbox.batchSize:50}")
+	private int mailOutboxBatchSize;
+
+	/**
+	 * Number of the outbox consumers sending emails in parallel
+	 */
+	@Value("${rp.email.outbox.consumers:2}")
+	private int mailOutboxConsumers;
+
+	/**
+	 * Reads messages of any supported format and writes JSON, as it's used for the replies and
+	 * the messages to the external services
+	 */
+	@Bean
+	@Primary
+	public NegotiatingMessageConverter jsonMessageConverter() {
+		return new NegotiatingMessageConverter(objectMapper,
+				JacksonConfiguration.smileObjectMapper(),
+				NegotiatingMessageConverter.MessageEncoding.JSON,
+				0
+		);
+	}
+
 	@Bean
-	public MessageConverter jsonMessageConverter() {
-		return new Jackson2JsonMessageConverter(objectMapper);
+	public NegotiatingMessageConverter internalMessageConverter() {
+		return new NegotiatingMessageConverter(objectMapper,
+				JacksonConfiguration.smileObjectMapper(),
+				NegotiatingMessageConverter.MessageEncoding.valueOf(encoding.toUpperCase()),
+				compressionThreshold
+		);
 	}
 
 	@Bean
@@ -66,7 +115,7 @@ public class RabbitMqConfiguration {
 	@Bean(name = "rabbitTemplate")
 	public RabbitTemplate rabbitTemplate(@Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory) {
 		RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-		rabbitTemplate.setMessageConverter(jsonMessageConverter());
+		rabbitTemplate.setMessageConverter(internalMessageConverter());
 		return rabbitTemplate;
 	}
 
@@ -82,4 +131,44 @@ public class RabbitMqConfiguration {
 		return factory;
 	}
 
+	/**
+	 * Delivers activity messages to the listener in batches to persist them with a single JDBC batch
+	 */
+	@Bean
+	public SimpleRabbitListenerContainerFactory activityListenerContainerFactory(
+			@Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		factory.setConnectionFactory(connectionFactory);
+		factory.setDefaultRequeueRejected(false);
+		factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+		factory.setAutoStartup(true);
+		factory.setMessageConverter(jsonMessageConverter());
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(activityBatchSize);
+		factory.setPrefetchCount(Math.max(activityBatchSize, 250));
+		return factory;
+	}
+
+	/**
+	 * Delivers outbox emails to the listener in batches to send them over a single SMTP connection.
+	 * Failed batches are requeued: the listener throws only when the failed emails can't be returned to the outbox
+	 */
+	@Bean
+	public SimpleRabbitListenerContainerFactory mailOutboxListenerContainerFactory(
+			@Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		factory.setConnectionFactory(connectionFactory);
+		factory.setDefaultRequeueRejected(true);
+		factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+		factory.setAutoStartup(true);
+		factory.setMessageConverter(jsonMessageConverter());
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(mailOutboxBatchSize);
+		factory.setPrefetchCount(mailOutboxBatchSize);
+		factory.setConcurrentConsumers(mailOutboxConsumers);
+		return factory;
+	}
+
 }
@@ -17,12 +17,19 @@
 package com.epam.ta.reportportal.core.configs.rabbit;
 
 import com.epam.ta.reportportal.core.configs.Conditions;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.rabbit.AsyncReportingListener;
-import com.rabbitmq.client.Channel;
+import com.rabbitmq.http.client.Client;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,10 +40,13 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * @author Konstantin Antipin
@@ -63,6 +73,13 @@ public class ReportingConfiguration {
 	public static final String QUEUE_RETRY_PREFIX = "reporting.retry";
 	public static final String QUEUE_DLQ = "reporting.dlq";
 
+	/**
+	 * Timer of the reporting startup phases. All the phases are tagged with the same keys,
+	 * as registries like Prometheus reject meters of the same name with different tag keys
+	 */
+	public static final String METRIC_STARTUP = "rp.amqp.startup";
+	public static final String METRIC_STARTUP_NO_RESULT = "n/a";
+
 	@Value("${rp.amqp.queues}")
 	public int queueAmount;
 
@@ -95,8 +112,8 @@ public class ReportingConfiguration {
 	}
 
 	@Bean
-	public List<Queue> queues(AmqpAdmin amqpAdmin) {
-		List<Queue> queues = new ArrayList();
+	public List<Queue> queues() {
+		List<Queue> queues = new ArrayList<>();
 		for (int i = 0; i < queueAmount; i++) {
 			String index = String.valueOf(i);
 			String queueName = QUEUE_PREFIX + "." + index;
@@ -104,18 +121,16 @@ public class ReportingConfiguration {
 					.withArgument("x-dead-letter-exchange", EXCHANGE_REPORTING_RETRY)
 					.withArgument("x-dead-letter-routing-key", index)
 					.build();
-			queue.setShouldDeclare(true);
-			queue.setAdminsThatShouldDeclare(amqpAdmin);
+			queue.setShouldDeclare(false);
 			registerSingleton(queueName, queue);
-			amqpAdmin.declareQueue(queue);
 			queues.add(queue);
 		}
 		return queues;
 	}
 
 	@Bean
-	public List<Queue> retryQueues(AmqpAdmin amqpAdmin) {
-		List<Queue> queues = new ArrayList();
+	public List<Queue> retryQueues() {
+		List<Queue> queues = new ArrayList<>();
 		for (int i = 0; i < queueAmount; i++) {
 			String index = String.valueOf(i);
 			String queueName = QUEUE_RETRY_PREFIX + "." + index;
@@ -124,37 +139,31 @@ public class ReportingConfiguration {
 					.withArgument("x-dead-letter-routing-key", index)
 					.withArgument("x-message-ttl", DEAD_LETTER_DELAY_MILLIS)
 					.build();
-			retryQueue.setShouldDeclare(true);
-			retryQueue.setAdminsThatShouldDeclare(amqpAdmin);
+			retryQueue.setShouldDeclare(false);
 			registerSingleton(queueName, retryQueue);
-			amqpAdmin.declareQueue(retryQueue);
 			queues.add(retryQueue);
 		}
 		return queues;
 	}
 
 	@Bean
-	public Queue queueDlq(AmqpAdmin amqpAdmin) {
+	public Queue queueDlq() {
 		Queue queue = QueueBuilder.durable(QUEUE_DLQ).build();
-		queue.setShouldDeclare(true);
-		queue.setAdminsThatShouldDeclare(amqpAdmin);
-		amqpAdmin.declareQueue(queue);
+		queue.setShouldDeclare(false);
 		return queue;
 	}
 
 	@Bean
-	public List<Binding> bindings(AmqpAdmin amqpAdmin, @Qualifier("reportingExchange") Exchange reportingExchange,
+	public List<Binding> bindings(@Qualifier("reportingExchange") Exchange reportingExchange,
 			@Qualifier("reportingRetryExchange") Exchange reportingRetryExchange, @Qualifier("queues") List<Queue> queues,
-			@Qualifier("queueDlq") Queue queueDlq, @Qualifier("retryQueues") List<Queue> retryQueues) {
+			@Qualifier("retryQueues") List<Queue> retryQueues) {
 		List<Binding> bindings = new ArrayList<>();
 		int i = 0;
 		for (Queue queue : queues) {
 			String index = String.valueOf(i);
 			Binding queueBinding = BindingBuilder.bind(queue).to(reportingExchange).with(index).noargs();
 			bindings.add(queueBinding);
-			queueBinding.setShouldDeclare(true);
-			queueBinding.setAdminsThatShouldDeclare(amqpAdmin);
-			amqpAdmin.declareBinding(queueBinding);
+			queueBinding.setShouldDeclare(false);
 			registerSingleton("queueBinding." + queue.getName(), queueBinding);
 			i++;
 		}
@@ -163,28 +172,83 @@ public class ReportingConfiguration {
 			String index = String.valueOf(i);
 			Binding queueBinding = BindingBuilder.bind(retryQueue).to(reportingRetryExchange).with(index).noargs();
 			bindings.add(queueBinding);
-			queueBinding.setShouldDeclare(true);
-			queueBinding.setAdminsThatShouldDeclare(amqpAdmin);
-			amqpAdmin.declareBinding(queueBinding);
+			queueBinding.setShouldDeclare(false);
 			registerSingleton("queueBinding." + retryQueue.getName(), queueBinding);
 			i++;
 		}
-		Binding queueBinding = BindingBuilder.bind(queueDlq).to(reportingRetryExchange).with(QUEUE_DLQ).noargs();
-		amqpAdmin.declareBinding(queueBinding);
-
 		return bindings;
 	}
 
+	/**
+	 * Reporting queues and bindings aren't declared by {@link AmqpAdmin} on each connection,
+	 * they are declared by the returned declarer if the topology was changed or is missing.
+	 * Exchanges of the virtual host are listed by the management API to find the markers of the other topologies
+	 */
+	@Bean
+	public ReportingTopologyDeclarer reportingTopologyDeclarer(AmqpAdmin amqpAdmin,
+			@Qualifier("rabbitTemplate") RabbitTemplate rabbitTemplate, ConnectionFactory connectionFactory,
+			@Value("${rp.amqp.api-address}") String apiAddress,
+			@Qualifier("reportingStartupTaskExecutor") TaskExecutor executor, MeterRegistry meterRegistry,
+			@Qualifier("reportingRetryExchange") Exchange reportingRetryExchange, @Qualifier("queues") List<Queue> queues,
+			@Qualifier("queueDlq") Queue queueDlq, @Qualifier("retryQueues") List<Queue> retryQueues,
+			@Qualifier("bindings") List<Binding> bindings) {
+		Binding dlqBinding = BindingBuilder.bind(queueDlq).to(reportingRetryExchange).with(QUEUE_DLQ).noargs();
+		Map<String, Binding> bindingsByQueue = bindings.stream().collect(Collectors.toMap(Binding::getDestination, Function.identity()));
+		Map<String, List<Declarable>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < queues.size(); i++) {
+			Queue queue = queues.get(i);
+			Queue retryQueue = retryQueues.get(i);
+			groups.put(queue.getName(),
+					Arrays.asList(queue, retryQueue, bindingsByQueue.get(queue.getName()), bindingsByQueue.get(retryQueue.getName()))
+			);
+		}
+
+		ReportingTopologyDeclarer declarer = new ReportingTopologyDeclarer(amqpAdmin,
+				rabbitTemplate,
+				executor,
+				meterRegistry,
+				Arrays.asList(queueDlq, dlqBinding),
+				groups,
+				exchanges(apiAddress, connectionFactory.getVirtualHost())
+		);
+		declarer.declareIfChanged();
+		connectionFactory.addConnectionListener(declarer);
+		return declarer;
+	}
+
+	private static Supplier<Collection<String>> exchanges(String apiAddress, String virtualHost) {
+		Client client;
+		try {
+			client = new Client(apiAddress);
+		} catch (Exception e) {
+			throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR,
+					"Cannot create a HTTP rabbit client instance. Incorrect api address " + apiAddress
+			);
+		}
+		return () -> client.getExchanges(virtualHost).stream().map(ExchangeInfo::getName).collect(Collectors.toList());
+	}
+
+	/**
+	 * Consumer counts of the queues are probed in parallel, missing queues are declared on demand
+	 */
 	@Bean
 	@Qualifier("reportingListenerContainers")
-	public List<AbstractMessageListenerContainer> listenerContainers(ConnectionFactory connectionFactory,
-			@Qualifier("queues") List<Queue> queues) {
+	public List<AbstractMessageListenerContainer> listenerContainers(ConnectionFactory connectionFactory, AmqpAdmin amqpAdmin,
+			@Qualifier("reportingStartupTaskExecutor") TaskExecutor executor, MeterRegistry meterRegistry,
+			ReportingTopologyDeclarer reportingTopologyDeclarer, @Qualifier("queues") List<Queue> queues) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		List<CompletableFuture<Integer>> consumerCounts = queues.stream()
+				.map(queue -> CompletableFuture.supplyAsync(() -> getQueueConsumerCount(amqpAdmin, reportingTopologyDeclarer, queue),
+						executor
+				))
+				.collect(Collectors.toList());
+
 		List<AbstractMessageListenerContainer> containers = new ArrayList<>();
-		Channel channel = connectionFactory.createConnection().createChannel(false);
 		int myQueues = 0;
-		for (Queue queue : queues) {
+		for (int i = 0; i < queues.size(); i++) {
+			Queue queue = queues.get(i);
 			try {
-				if (myQueues < queuesPerPod && getQueueConsumerCount(channel, queue) == 0) {
+				if (myQueues < queuesPerPod && consumerCounts.get(i).join() == 0) {
 					SimpleMessageListenerContainer listenerContainer = new SimpleMessageListenerContainer(connectionFactory);
 					containers.add(listenerContainer);
 					listenerContainer.setConnectionFactory(connectionFactory);
@@ -203,11 +267,27 @@ public class ReportingConfiguration {
 		if (containers.size() < queuesPerPod) {
 			logger.error("Started amount of consumers less then configured (or single node start) : {} < {}", containers.size(), queuesPerPod);
 		}
+		sample.stop(startupTimer(meterRegistry, "consumer-probe", containers.size() < queuesPerPod ? "partial" : "complete"));
 		return containers;
 	}
 
-	private int getQueueConsumerCount(Channel channel, Queue queue) throws IOException {
-		return channel.queueDeclarePassive(queue.getName()).getConsumerCount();
+	/**
+	 * @param meterRegistry {@link MeterRegistry}
+	 * @param phase         Startup phase
+	 * @param result        Result of the phase, {@link #METRIC_STARTUP_NO_RESULT} if the phase has no distinct results
+	 * @return {@link Timer} of the startup phase
+	 */
+	public static Timer startupTimer(MeterRegistry meterRegistry, String phase, String result) {
+		return meterRegistry.timer(METRIC_STARTUP, "phase", phase, "result", result);
+	}
+
+	private int getQueueConsumerCount(AmqpAdmin amqpAdmin, ReportingTopologyDeclarer declarer, Queue queue) {
+		Properties properties = amqpAdmin.getQueueProperties(queue.getName());
+		if (properties == null) {
+			declarer.declareGroup(queue.getName());
+			return 0;
+		}
+		return (Integer) properties.get(RabbitAdmin.QUEUE_CONSUMER_COUNT);
 	}
 
 	@Bean
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.startupTimer;
+
+/**
+ * Declares the reporting topology: the shared exchanges and queues and the groups of the reporting queue,
+ * its retry queue and their bindings.
+ * <p>
+ * The topology is declared only if the broker has no marker exchange named after its fingerprint,
+ * so pods starting against the unchanged topology don't redeclare hundreds of queues.
+ * Otherwise the groups are declared in parallel and the marker is declared the last, after all the groups succeeded.
+ * Markers of the other topologies are deleted then, so a rollback to a previous configuration declares its topology again.
+ * Declarations are idempotent, so concurrently starting pods don't conflict.
+ * The topology is checked the same way after the connection to the broker is recovered,
+ * because the marker is lost together with the topology if the broker loses its state.
+ */
+public class ReportingTopologyDeclarer implements ConnectionListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingTopologyDeclarer.class);
+
+	static final String MARKER_EXCHANGE_PREFIX = "reporting.topology.";
+
+	private final AmqpAdmin amqpAdmin;
+
+	private final RabbitTemplate rabbitTemplate;
+
+	private final Executor executor;
+
+	private final MeterRegistry meterRegistry;
+
+	private final List<Declarable> shared;
+
+	private final Map<String, List<Declarable>> groups;
+
+	private final Supplier<Collection<String>> exchanges;
+
+	private final String markerExchange;
+
+	private final AtomicBoolean connectionLost = new AtomicBoolean();
+
+	/**
+	 * @param amqpAdmin      Admin used for the declarations
+	 * @param rabbitTemplate Template used for the passive check of the marker
+	 * @param executor       Executor of the parallel declarations
+	 * @param meterRegistry  Registry of the startup timings
+	 * @param shared         Declarables declared sequentially before the groups
+	 * @param groups         Declarables declared in order within a group, the groups are declared in parallel. Key is the name of the queue
+	 * @param exchanges      Names of the exchanges existing on the broker, used to find the markers of the other topologies
+	 */
+	public ReportingTopologyDeclarer(AmqpAdmin amqpAdmin, RabbitTemplate rabbitTemplate, Executor executor, MeterRegistry meterRegistry,
+			List<Declarable> shared, Map<String, List<Declarable>> groups, Supplier<Collection<String>> exchanges) {
+		this.amqpAdmin = amqpAdmin;
+		this.rabbitTemplate = rabbitTemplate;
+		this.executor = executor;
+		this.meterRegistry = meterRegistry;
+		this.shared = shared;
+		this.groups = groups;
+		this.exchanges = exchanges;
+		this.markerExchange = MARKER_EXCHANGE_PREFIX + fingerprint(shared, groups.values());
+	}
+
+	/**
+	 * Declares the topology unless the marker of the same topology exists on the broker
+	 *
+	 * @return true if the topology was declared
+	 */
+	public boolean declareIfChanged() {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		if (markerExists()) {
+			LOGGER.info("Reporting topology '{}' is already declared", markerExchange);
+			sample.stop(startupTimer(meterRegistry, "declaration", "skipped"));
+			return false;
+		}
+
+		shared.forEach(this::declare);
+		List<CompletableFuture<Void>> declarations = groups.values()
+				.stream()
+				.map(group -> CompletableFuture.runAsync(() -> group.forEach(this::declare), executor))
+				.collect(Collectors.toList());
+		long failed = declarations.stream().filter(ReportingTopologyDeclarer::failed).count();
+		if (failed == 0) {
+			amqpAdmin.declareExchange(ExchangeBuilder.fanoutExchange(markerExchange).durable(true).build());
+			LOGGER.info("Reporting topology '{}' with {} queues is declared", markerExchange, groups.size());
+			deleteOtherMarkers();
+		} else {
+			LOGGER.error("Declaration of {} reporting queues failed, topology will be redeclared on the next start", failed);
+		}
+		sample.stop(startupTimer(meterRegistry, "declaration", "declared"));
+		return true;
+	}
+
+	/**
+	 * Declares the group of the specified queue, e.g. if the queue was removed from the broker
+	 *
+	 * @param queueName Name of the queue
+	 */
+	public void declareGroup(String queueName) {
+		LOGGER.warn("Reporting queue '{}' is missing, declaring it on demand", queueName);
+		groups.getOrDefault(queueName, Collections.emptyList()).forEach(this::declare);
+	}
+
+	@Override
+	public void onCreate(Connection connection) {
+		//declared out of the executor, which runs the groups, and out of the thread creating the connection
+		if (connectionLost.compareAndSet(true, false)) {
+			CompletableFuture.runAsync(this::declareIfChanged).exceptionally(e -> {
+				LOGGER.error("Unable to declare reporting topology after the connection recovery", e);
+				return null;
+			});
+		}
+	}
+
+	@Override
+	public void onClose(Connection connection) {
+		connectionLost.set(true);
+	}
+
+	String getMarkerExchange() {
+		return markerExchange;
+	}
+
+	/**
+	 * Failure to list or delete the markers doesn't fail the declaration, the markers are deleted by the next one
+	 */
+	private void deleteOtherMarkers() {
+		try {
+			exchanges.get()
+					.stream()
+					.filter(name -> name.startsWith(MARKER_EXCHANGE_PREFIX) && !name.equals(markerExchange))
+					.forEach(name -> {
+						amqpAdmin.deleteExchange(name);
+						LOGGER.info("Marker of the previous reporting topology '{}' is deleted", name);
+					});
+		} catch (Exception e) {
+			LOGGER.warn("Unable to delete markers of the previous reporting topologies", e);
+		}
+	}
+
+	private boolean markerExists() {
+		try {
+			rabbitTemplate.execute(channel -> channel.exchangeDeclarePassive(markerExchange));
+			return true;
+		} catch (AmqpException e) {
+			return false;
+		}
+	}
+
+	private void declare(Declarable declarable) {
+		if (declarable instanceof Exchange) {
+			amqpAdmin.declareExchange((Exchange) declarable);
+		} else if (declarable instanceof Queue) {
+			amqpAdmin.declareQueue((Queue) declarable);
+		} else if (declarable instanceof Binding) {
+			amqpAdmin.declareBinding((Binding) declarable);
+		}
+	}
+
+	private static boolean failed(CompletableFuture<Void> declaration) {
+		try {
+			declaration.join();
+			return false;
+		} catch (CompletionException e) {
+			LOGGER.error("Unable to declare reporting queue", e.getCause());
+			return true;
+		}
+	}
+
+	/**
+	 * @return Hash of the names, types, flags and arguments of all the declarables
+	 */
+	static String fingerprint(List<Declarable> shared, Collection<List<Declarable>> groups) {
+		String description = Stream.concat(shared.stream(), groups.stream().flatMap(Collection::stream))
+				.map(ReportingTopologyDeclarer::describe)
+				.collect(Collectors.joining("\n"));
+		return Hashing.sha256().hashString(description, StandardCharsets.UTF_8).toString().substring(0, 16);
+	}
+
+	private static String describe(Declarable declarable) {
+		if (declarable instanceof Exchange) {
+			Exchange exchange = (Exchange) declarable;
+			return String.join(":",
+					"exchange",
+					exchange.getName(),
+					exchange.getType(),
+					String.valueOf(exchange.isDurable()),
+					String.valueOf(exchange.isAutoDelete()),
+					arguments(exchange.getArguments())
+			);
+		}
+		if (declarable instanceof Queue) {
+			Queue queue = (Queue) declarable;
+			return String.join(":",
+					"queue",
+					queue.getName(),
+					String.valueOf(queue.isDurable()),
+					String.valueOf(queue.isExclusive()),
+					String.valueOf(queue.isAutoDelete()),
+					arguments(queue.getArguments())
+			);
+		}
+		if (declarable instanceof Binding) {
+			Binding binding = (Binding) declarable;
+			return String.join(":",
+					"binding",
+					binding.getExchange(),
+					binding.getDestination(),
+					binding.getDestinationType().name(),
+					binding.getRoutingKey(),
+					arguments(binding.getArguments())
+			);
+		}
+		return declarable.toString();
+	}
+
+	private static String arguments(Map<String, Object> arguments) {
+		return String.valueOf(arguments == null ? Collections.emptyMap() : new TreeMap<>(arguments));
+	}
+}
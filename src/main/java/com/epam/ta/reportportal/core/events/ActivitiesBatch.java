@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events;
+
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Lists;
+
+import java.util.List;
+
+/**
+ * Several {@link Activity} sent to the activity queue within a single message
+ */
+public class ActivitiesBatch {
+
+	@JsonProperty(value = "activities")
+	private List<Activity> activities;
+
+	public ActivitiesBatch() {
+		activities = Lists.newArrayList();
+	}
+
+	public ActivitiesBatch(List<Activity> activities) {
+		this.activities = activities;
+	}
+
+	public List<Activity> getActivities() {
+		return activities;
+	}
+
+	public void setActivities(List<Activity> activities) {
+		this.activities = activities;
+	}
+}
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.events;
 
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 
+import java.util.Collection;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -51,6 +52,13 @@ public interface MessageBus {
 	 */
 	void publishActivity(ActivityEvent o);
 
+	/**
+	 * Sends activities in batches, one message per batch
+	 *
+	 * @param events Payload
+	 */
+	void publishActivities(Collection<? extends ActivityEvent> events);
+
 	/**
 	 * Publish event to remove {@link com.epam.ta.reportportal.entity.attachment.Attachment}
 	 * from the database and {@link com.epam.ta.reportportal.filesystem.DataStore}
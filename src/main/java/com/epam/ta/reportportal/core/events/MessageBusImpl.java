@@ -18,12 +18,25 @@ package com.epam.ta.reportportal.core.events;
 
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 import com.epam.ta.reportportal.entity.activity.Activity;
+import com.google.common.collect.Lists;
 import org.springframework.amqp.core.AmqpTemplate;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.*;
 
 public class MessageBusImpl implements MessageBus {
 
+	/**
+	 * Max number of activities sent within a single message
+	 */
+	public static final int ACTIVITIES_BATCH_SIZE = 500;
+
 	private final AmqpTemplate amqpTemplate;
 
 	public MessageBusImpl(AmqpTemplate amqpTemplate) {
@@ -55,15 +68,35 @@ public class MessageBusImpl implements MessageBus {
 	public void publishActivity(ActivityEvent event) {
 		final Activity activity = event.toActivity();
 		if (activity != null) {
-			String key = "activity." + activity.getProjectId() + "." + activity.getActivityEntityType() + "." + activity.getAction();
-			this.amqpTemplate.convertAndSend(EXCHANGE_ACTIVITY, key, activity);
+			this.amqpTemplate.convertAndSend(EXCHANGE_ACTIVITY, routingKey(activity), activity);
 		}
 	}
 
+	/**
+	 * Publishes activities to the queue in batches. Activities are grouped by the routing key of the single activity
+	 * <pre>{@code activity.<project-id>.<entity-type>.<action>}</pre>
+	 * so the bindings of the activity exchange keep receiving only the activities they are interested in
+	 *
+	 * @param events Activity events to be converted to Activity objects
+	 */
+	@Override
+	public void publishActivities(Collection<? extends ActivityEvent> events) {
+		Map<String, List<Activity>> activitiesByKey = events.stream()
+				.map(ActivityEvent::toActivity)
+				.filter(Objects::nonNull)
+				.collect(Collectors.groupingBy(MessageBusImpl::routingKey, LinkedHashMap::new, Collectors.toList()));
+		activitiesByKey.forEach((key, activities) -> Lists.partition(activities, ACTIVITIES_BATCH_SIZE)
+				.forEach(batch -> this.amqpTemplate.convertAndSend(EXCHANGE_ACTIVITY, key, new ActivitiesBatch(batch))));
+	}
+
 	@Override
 	public void publishDeleteAttachmentEvent(DeleteAttachmentEvent event) {
 
 		amqpTemplate.convertAndSend(EXCHANGE_ATTACHMENT, QUEUE_ATTACHMENT_DELETE, event);
 
 	}
+
+	private static String routingKey(Activity activity) {
+		return "activity." + activity.getProjectId() + "." + activity.getActivityEntityType() + "." + activity.getAction();
+	}
 }
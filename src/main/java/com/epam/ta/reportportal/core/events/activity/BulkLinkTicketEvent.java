@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.activity;
+
+import com.epam.ta.reportportal.core.events.ActivityEvent;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.ws.converter.builders.ActivityBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.core.events.activity.util.ActivityDetailsUtil.*;
+import static com.epam.ta.reportportal.entity.activity.Activity.ActivityEntityType.TICKET;
+import static com.epam.ta.reportportal.entity.activity.ActivityAction.LINK_ISSUE;
+import static com.epam.ta.reportportal.entity.activity.ActivityAction.UNLINK_ISSUE;
+
+/**
+ * Single activity of the tickets linked to or unlinked from many test items by one request
+ */
+public class BulkLinkTicketEvent implements ActivityEvent {
+
+	private Long userId;
+
+	private String userLogin;
+
+	private Long projectId;
+
+	private List<Long> itemIds;
+
+	private List<String> ticketIds;
+
+	private ActivityAction activityAction;
+
+	public BulkLinkTicketEvent() {
+	}
+
+	/**
+	 * @param userId         Id of the user
+	 * @param userLogin      Login of the user
+	 * @param projectId      Id of the project
+	 * @param itemIds        Ids of the test items whose tickets were changed
+	 * @param ticketIds      Linked or unlinked tickets
+	 * @param activityAction {@link ActivityAction#LINK_ISSUE} or {@link ActivityAction#UNLINK_ISSUE}
+	 */
+	public BulkLinkTicketEvent(Long userId, String userLogin, Long projectId, List<Long> itemIds, List<String> ticketIds,
+			ActivityAction activityAction) {
+		if (!Arrays.asList(LINK_ISSUE, UNLINK_ISSUE).contains(activityAction)) {
+			throw new IllegalArgumentException("Activity action '" + activityAction + "' is not supported");
+		}
+		this.userId = userId;
+		this.userLogin = userLogin;
+		this.projectId = projectId;
+		this.itemIds = itemIds;
+		this.ticketIds = ticketIds;
+		this.activityAction = activityAction;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public String getUserLogin() {
+		return userLogin;
+	}
+
+	public void setUserLogin(String userLogin) {
+		this.userLogin = userLogin;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public List<Long> getItemIds() {
+		return itemIds;
+	}
+
+	public void setItemIds(List<Long> itemIds) {
+		this.itemIds = itemIds;
+	}
+
+	public List<String> getTicketIds() {
+		return ticketIds;
+	}
+
+	public void setTicketIds(List<String> ticketIds) {
+		this.ticketIds = ticketIds;
+	}
+
+	public ActivityAction getActivityAction() {
+		return activityAction;
+	}
+
+	public void setActivityAction(ActivityAction activityAction) {
+		this.activityAction = activityAction;
+	}
+
+	@Override
+	public Activity toActivity() {
+		//no changes with tickets
+		if (itemIds.isEmpty()) {
+			return null;
+		}
+		String tickets = String.join(",", ticketIds);
+		ActivityBuilder builder = new ActivityBuilder().addCreatedNow()
+				.addAction(activityAction)
+				.addActivityEntityType(TICKET)
+				.addUserId(userId)
+				.addUserName(userLogin)
+				.addObjectId(itemIds.size() == 1 ? itemIds.get(0) : null)
+				.addObjectName(tickets)
+				.addProjectId(projectId)
+				.addHistoryField(ITEMS_COUNT, EMPTY_FIELD, String.valueOf(itemIds.size()))
+				.addHistoryField(ITEM_IDS, EMPTY_FIELD, itemIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+		if (LINK_ISSUE == activityAction) {
+			builder.addHistoryField(TICKET_ID, EMPTY_FIELD, tickets);
+		} else {
+			builder.addHistoryField(TICKET_ID, tickets, EMPTY_FIELD);
+		}
+		return builder.get();
+	}
+}
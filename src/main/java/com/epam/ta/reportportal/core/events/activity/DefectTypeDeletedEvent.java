@@ -20,6 +20,9 @@ import com.epam.ta.reportportal.entity.activity.Activity;
 import com.epam.ta.reportportal.ws.converter.builders.ActivityBuilder;
 import com.epam.ta.reportportal.ws.model.activity.IssueTypeActivityResource;
 
+import java.util.Collections;
+import java.util.List;
+
 import static com.epam.ta.reportportal.entity.activity.Activity.ActivityEntityType.DEFECT_TYPE;
 import static com.epam.ta.reportportal.entity.activity.ActivityAction.DELETE_DEFECT;
 
@@ -30,6 +33,11 @@ public class DefectTypeDeletedEvent extends BeforeEvent<IssueTypeActivityResourc
 
 	private Long projectId;
 
+	/**
+	 * Ids of the test items which issue type was remapped to the default one of the group
+	 */
+	private List<Long> itemIds = Collections.emptyList();
+
 	public DefectTypeDeletedEvent() {
 	}
 
@@ -38,6 +46,11 @@ public class DefectTypeDeletedEvent extends BeforeEvent<IssueTypeActivityResourc
 		this.projectId = projectId;
 	}
 
+	public DefectTypeDeletedEvent(IssueTypeActivityResource before, Long userId, String userLogin, Long projectId, List<Long> itemIds) {
+		this(before, userId, userLogin, projectId);
+		this.itemIds = itemIds;
+	}
+
 	public Long getProjectId() {
 		return projectId;
 	}
@@ -46,6 +59,14 @@ public class DefectTypeDeletedEvent extends BeforeEvent<IssueTypeActivityResourc
 		this.projectId = projectId;
 	}
 
+	public List<Long> getItemIds() {
+		return itemIds;
+	}
+
+	public void setItemIds(List<Long> itemIds) {
+		this.itemIds = itemIds;
+	}
+
 	@Override
 	public Activity toActivity() {
 		return new ActivityBuilder().addCreatedNow()
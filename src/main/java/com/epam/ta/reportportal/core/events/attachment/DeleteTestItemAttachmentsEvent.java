@@ -16,18 +16,28 @@
 
 package com.epam.ta.reportportal.core.events.attachment;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 public class DeleteTestItemAttachmentsEvent {
 
-	private final Long id;
+	private final List<Long> ids;
 
 	public DeleteTestItemAttachmentsEvent(Long id) {
-		this.id = id;
+		this(Collections.singletonList(id));
+	}
+
+	/**
+	 * @param ids Ids of the test items, attachments of all of them are removed with aggregated messages
+	 */
+	public DeleteTestItemAttachmentsEvent(List<Long> ids) {
+		this.ids = ids;
 	}
 
-	public Long getId() {
-		return id;
+	public List<Long> getIds() {
+		return ids;
 	}
 }
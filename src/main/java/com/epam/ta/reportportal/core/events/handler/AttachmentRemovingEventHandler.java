@@ -46,12 +46,12 @@ public class AttachmentRemovingEventHandler {
 	@TransactionalEventListener
 	public void onApplicationEvent(DeleteLaunchAttachmentsEvent event) {
 
-		attachmentEventPublisher.publishDeleteLaunchAttachmentsEvent(event.getId());
+		attachmentEventPublisher.publishDeleteLaunchAttachmentsEvent(event.getIds());
 	}
 
 	@TransactionalEventListener
 	public void onApplicationEvent(DeleteTestItemAttachmentsEvent event) {
 
-		attachmentEventPublisher.publishDeleteItemAttachmentsEvent(event.getId());
+		attachmentEventPublisher.publishDeleteItemAttachmentsEvent(event.getIds());
 	}
 }
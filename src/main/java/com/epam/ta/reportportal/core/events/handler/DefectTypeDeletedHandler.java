@@ -20,7 +20,6 @@ import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeDeletedEvent;
-import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
@@ -33,8 +32,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
-
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
@@ -51,18 +48,15 @@ public class DefectTypeDeletedHandler {
 
 	private final AnalyzerServiceClient analyzerServiceClient;
 
-	private final LaunchRepository launchRepository;
-
 	private final LogIndexer logIndexer;
 
 	private final ProjectRepository projectRepository;
 
 	@Autowired
 	public DefectTypeDeletedHandler(AnalyzerStatusCache analyzerStatusCache, AnalyzerServiceClient analyzerServiceClient,
-			LaunchRepository launchRepository, LogIndexer logIndexer, ProjectRepository projectRepository) {
+			LogIndexer logIndexer, ProjectRepository projectRepository) {
 		this.analyzerStatusCache = analyzerStatusCache;
 		this.analyzerServiceClient = analyzerServiceClient;
-		this.launchRepository = launchRepository;
 		this.logIndexer = logIndexer;
 		this.projectRepository = projectRepository;
 	}
@@ -74,15 +68,14 @@ public class DefectTypeDeletedHandler {
 		Project project = projectRepository.findById(event.getProjectId())
 				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, event.getProjectId()));
 
-		if (analyzerServiceClient.hasClients()) {
+		if (analyzerServiceClient.hasClients() && !event.getItemIds().isEmpty()) {
 			Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
 					.orElseThrow(() -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
 			expect(analyzeStatus.asMap().containsValue(event.getProjectId()), equalTo(false)).verify(ErrorType.FORBIDDEN_OPERATION,
 					"Index can not be removed until auto-analysis proceeds."
 			);
 
-			List<Long> launches = launchRepository.findLaunchIdsByProjectId(event.getProjectId());
-			logIndexer.indexLaunchesLogs(event.getProjectId(), launches, getAnalyzerConfig(project));
+			logIndexer.reindexItemsLogs(event.getProjectId(), event.getItemIds(), getAnalyzerConfig(project));
 		}
 	}
 
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.launch.rerun.RerunItemIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Releases the rerun index of the finished launch. Launches in any mode are handled,
+ * so the handler isn't a {@link com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber}
+ */
+@Component
+public class RerunItemIndexEventHandler {
+
+	private final RerunItemIndex rerunItemIndex;
+
+	@Autowired
+	public RerunItemIndexEventHandler(RerunItemIndex rerunItemIndex) {
+		this.rerunItemIndex = rerunItemIndex;
+	}
+
+	@TransactionalEventListener
+	public void onLaunchFinished(LaunchFinishedEvent event) {
+		rerunItemIndex.release(event.getLaunchActivityResource().getId());
+	}
+}
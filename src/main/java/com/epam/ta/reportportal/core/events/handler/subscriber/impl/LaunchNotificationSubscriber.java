@@ -18,6 +18,7 @@ import com.epam.ta.reportportal.entity.project.email.SenderCase;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.util.email.EmailService;
+import com.epam.ta.reportportal.util.email.MailOutbox;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
 import com.epam.ta.reportportal.ws.converter.converters.NotificationConfigConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
@@ -50,14 +51,16 @@ public class LaunchNotificationSubscriber implements LaunchFinishedEventSubscrib
 	private final MailServiceFactory mailServiceFactory;
 	private final LaunchRepository launchRepository;
 	private final UserRepository userRepository;
+	private final MailOutbox mailOutbox;
 
 	@Autowired
 	public LaunchNotificationSubscriber(GetIntegrationHandler getIntegrationHandler, MailServiceFactory mailServiceFactory,
-			LaunchRepository launchRepository, UserRepository userRepository) {
+			LaunchRepository launchRepository, UserRepository userRepository, MailOutbox mailOutbox) {
 		this.getIntegrationHandler = getIntegrationHandler;
 		this.mailServiceFactory = mailServiceFactory;
 		this.launchRepository = launchRepository;
 		this.userRepository = userRepository;
+		this.mailOutbox = mailOutbox;
 	}
 
 	@Override
@@ -73,20 +76,21 @@ public class LaunchNotificationSubscriber implements LaunchFinishedEventSubscrib
 			Optional<EmailService> emailService = mailServiceFactory.getDefaultEmailService(emailIntegration);
 			emailService.ifPresent(it -> {
 				launchRepository.refresh(launch);
-				sendEmail(launch, project, it, launchFinishedEvent.getBaseUrl());
+				sendEmail(launch, project, it, emailIntegration.getId(), launchFinishedEvent.getBaseUrl());
 			});
 		}
 
 	}
 
 	/**
-	 * Try to send email when it is needed
+	 * Try to send email when it is needed. Emails are only put to the {@link MailOutbox} and sent asynchronously
 	 *
-	 * @param launch       Launch to be used
-	 * @param project      Project
-	 * @param emailService Mail Service
+	 * @param launch        Launch to be used
+	 * @param project       Project
+	 * @param emailService  Mail Service
+	 * @param integrationId Id of the email integration
 	 */
-	private void sendEmail(Launch launch, Project project, EmailService emailService, String baseUrl) {
+	private void sendEmail(Launch launch, Project project, EmailService emailService, Long integrationId, String baseUrl) {
 
 		project.getSenderCases().forEach(ec -> {
 			SendCase sendCase = ec.getSendCase();
@@ -98,12 +102,16 @@ public class LaunchNotificationSubscriber implements LaunchFinishedEventSubscrib
 			if (successRate && matchedNames && matchedTags) {
 				String[] recipientsArray = findRecipients(userRepository.findLoginById(launch.getUserId())
 						.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, launch.getUserId())), recipients);
+				if (recipientsArray.length == 0) {
+					return;
+				}
 				try {
-					emailService.sendLaunchFinishNotification(recipientsArray,
+					mailOutbox.enqueue(emailService.buildLaunchFinishNotification(integrationId,
+							recipientsArray,
 							String.format("%s/ui/#%s", baseUrl, project.getName()),
 							project,
 							launch
-					);
+					));
 				} catch (Exception e) {
 					LOGGER.error("Unable to send email. Error: \n{}", e);
 				}
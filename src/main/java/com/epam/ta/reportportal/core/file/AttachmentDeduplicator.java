@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Content-addressed storing of the attachments: identical files uploaded to the same project
+ * share a single stored object and thumbnail. An object is referenced by all the attachments with its id,
+ * so it can be removed from the data store only when the last of them is removed.
+ * <p>
+ * The content hash travels with the saved binary data to the instance writing the attachment, which persists it.
+ */
+public interface AttachmentDeduplicator {
+
+	/**
+	 * Calculates the content hash of the file. Empty when the deduplication is disabled or not supported by the database schema
+	 *
+	 * @param file Uploaded file
+	 * @return Content hash
+	 */
+	Optional<String> contentHash(MultipartFile file);
+
+	/**
+	 * Saves the file to the data store unless a file with the same content has already been stored in the project.
+	 * The reused object is reserved for the log until its attachment is saved, so it isn't removed by any instance meanwhile
+	 *
+	 * @param projectId   Project id
+	 * @param file        Uploaded file
+	 * @param contentHash Content hash of the file, the file is stored without deduplication if null
+	 * @param logUuid     Uuid of the log the file is attached to
+	 * @return {@link BinaryDataMetaInfo} of the stored or the reused object
+	 */
+	Optional<BinaryDataMetaInfo> saveAttachment(Long projectId, MultipartFile file, @Nullable String contentHash, String logUuid);
+
+	/**
+	 * Stores the content hash with the saved attachment, so its object can be reused by the further uploads,
+	 * drops the reservation of the log and assigns the pending thumbnail of the object. Called after the attachment row is written
+	 *
+	 * @param metaInfo    {@link BinaryDataMetaInfo} of the saved attachment
+	 * @param contentHash Content hash passed to {@link #saveAttachment(Long, MultipartFile, String, String)}
+	 * @param logUuid     Uuid of the log the attachment is saved for
+	 */
+	void onAttachmentSaved(BinaryDataMetaInfo metaInfo, @Nullable String contentHash, String logUuid);
+
+	/**
+	 * Filters the files (attachments or thumbnails) that aren't referenced by any attachment
+	 * except the removed ones nor reserved for a log, so they can be deleted from the data store.
+	 * The removed attachments can't be reused after the call
+	 *
+	 * @param fileIds              Ids of the files of the removed attachments
+	 * @param removedAttachmentIds Ids of the removed attachments
+	 * @return Ids of the files safe to be deleted
+	 */
+	Set<String> releaseFiles(Collection<String> fileIds, Collection<Long> removedAttachmentIds);
+}
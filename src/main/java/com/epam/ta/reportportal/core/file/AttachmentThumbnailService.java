@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+/**
+ * Deferred thumbnails of the image attachments. Only the original is stored on upload,
+ * the thumbnail is generated in background or on the first request, whichever comes first.
+ */
+public interface AttachmentThumbnailService {
+
+	/**
+	 * Saves the file to the data store and schedules generation of its thumbnail if the file is an image
+	 *
+	 * @param projectId Project id
+	 * @param file      Uploaded file
+	 * @return {@link BinaryDataMetaInfo} of the stored file
+	 */
+	Optional<BinaryDataMetaInfo> saveAttachment(Long projectId, MultipartFile file);
+
+	/**
+	 * Loads the thumbnail of the attachment generating it if it doesn't exist yet
+	 *
+	 * @param attachment {@link Attachment}
+	 * @return {@link BinaryData} of the thumbnail or {@link BinaryData} without content if the attachment has no thumbnail
+	 */
+	BinaryData loadThumbnail(Attachment attachment);
+
+	/**
+	 * Assigns the thumbnail generated before the attachment was saved, or the thumbnail of the reused original,
+	 * to the saved attachment. Called after the attachment row is written, within or outside of a transaction
+	 *
+	 * @param metaInfo {@link BinaryDataMetaInfo} of the saved attachment
+	 */
+	void onAttachmentSaved(BinaryDataMetaInfo metaInfo);
+}
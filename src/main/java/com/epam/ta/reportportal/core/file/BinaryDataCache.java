@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file;
+
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Cache of small and frequently requested binary data (user photos, thumbnails, small attachments)
+ * in front of the binary data services
+ */
+public interface BinaryDataCache {
+
+	/**
+	 * Returns cached data with the specified key or loads it with the provided loader.
+	 * Loaded data is cached if its size doesn't exceed the max cacheable object size
+	 *
+	 * @param key    Cache key
+	 * @param loader Loader of the data
+	 * @return {@link BinaryData}
+	 */
+	BinaryData get(String key, Supplier<BinaryData> loader);
+
+	/**
+	 * Removes all the cached photos of the user with the specified login
+	 *
+	 * @param login Login of the user
+	 */
+	void evictUserPhoto(String login);
+
+	/**
+	 * Removes cached attachments with the specified ids
+	 *
+	 * @param attachmentIds Ids of the attachments
+	 */
+	void evictAttachments(Collection<Long> attachmentIds);
+
+	static String userPhotoKey(String login, String photoId, boolean loadThumbnail) {
+		return userPhotoKeyPrefix(login) + photoId + ":" + loadThumbnail;
+	}
+
+	static String userPhotoKeyPrefix(String login) {
+		return "photo:" + login + ":";
+	}
+
+	static String attachmentKey(Long attachmentId, Long projectId) {
+		return attachmentKeyPrefix(attachmentId) + projectId;
+	}
+
+	static String attachmentThumbnailKey(Long attachmentId, Long projectId) {
+		return attachmentKeyPrefix(attachmentId) + "thumbnail:" + projectId;
+	}
+
+	static String attachmentKeyPrefix(Long attachmentId) {
+		return "attachment:" + attachmentId + ":";
+	}
+}
@@ -50,4 +50,12 @@ public interface GetFileHandler {
 	 * @return {@link InputStream}
 	 */
 	BinaryData loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails);
+
+	/**
+	 * Returns thumbnail of the file with the specified id. Thumbnail is generated on the first request if it doesn't exist yet
+	 *
+	 * @param fileId Id of the file which thumbnail to get
+	 * @return {@link BinaryData}, without content if the file has no thumbnail
+	 */
+	BinaryData loadThumbnailById(Long fileId, ReportPortalUser.ProjectDetails projectDetails);
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
+import com.epam.ta.reportportal.core.file.AttachmentThumbnailService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.sql.Types;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AttachmentDeduplicator} looking the stored content up by the hash persisted with the attachments.
+ * The hash is calculated on upload, passed with the saved binary data and written to the attachment by the instance saving it.
+ * Recently stored objects are kept in the in-memory front cache, so a stale entry can only cause an extra lookup.
+ * <p>
+ * An object is reused only after a reservation row referencing it is inserted, which locks an attachment with the object.
+ * Releasing files first clears the hash of the removed attachments, so they can't be reserved anymore, and then looks for
+ * the other attachments and the live reservations, which makes both visible to all the instances.
+ * <p>
+ * The deduplication requires the 'attachment.content_hash' column and the 'attachment_reservation' table
+ * shipped by the migrations. The files are stored without deduplication until the schema contains them.
+ */
+@Service
+public class AttachmentDeduplicatorImpl implements AttachmentDeduplicator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentDeduplicatorImpl.class);
+
+	private static final String METRIC_PREFIX = "rp.attachment.deduplication";
+
+	private static final int CHUNK_SIZE = 500;
+
+	private static final String SCHEMA_QUERY = "SELECT count(*) = 2 FROM information_schema.columns WHERE table_schema = current_schema() "
+			+ "AND ((table_name = 'attachment' AND column_name = 'content_hash') "
+			+ "OR (table_name = 'attachment_reservation' AND column_name = 'log_uuid'))";
+
+	private static final String CLEAR_HASH_QUERY = "UPDATE attachment SET content_hash = NULL WHERE id IN (:ids) "
+			+ "AND content_hash IS NOT NULL";
+
+	private static final String REFERENCED_FILES_QUERY = "SELECT file_id FROM attachment WHERE file_id IN (:fileIds) AND id NOT IN (:ids) "
+			+ "UNION SELECT thumbnail_id FROM attachment WHERE thumbnail_id IN (:fileIds) AND id NOT IN (:ids) "
+			+ "UNION SELECT file_id FROM attachment_reservation WHERE file_id IN (:fileIds) AND expires_at > now() "
+			+ "UNION SELECT thumbnail_id FROM attachment_reservation WHERE thumbnail_id IN (:fileIds) AND expires_at > now()";
+
+	private static final String PURGE_RESERVATIONS_QUERY = "DELETE FROM attachment_reservation WHERE expires_at <= now()";
+
+	private static final String FIND_STORED_QUERY = "SELECT file_id, thumbnail_id, content_type FROM attachment "
+			+ "WHERE project_id = :projectId AND content_hash = :hash AND content_type IS NOT DISTINCT FROM :contentType "
+			+ "AND file_id IS NOT NULL ORDER BY thumbnail_id IS NULL LIMIT 1";
+
+	/**
+	 * The attachment referencing the object is locked, so the reservation and the clearing of its hash on release are serialized.
+	 * The cached thumbnail should still be referenced too, otherwise it could be already released with the original attachment
+	 */
+	private static final String RESERVE_QUERY = "INSERT INTO attachment_reservation (log_uuid, file_id, thumbnail_id, expires_at) "
+			+ "SELECT :logUuid, file_id, thumbnail_id, now() + :lease * INTERVAL '1 second' FROM attachment "
+			+ "WHERE file_id = :fileId AND thumbnail_id IS NOT DISTINCT FROM :thumbnailId AND content_hash IS NOT NULL LIMIT 1 FOR SHARE";
+
+	private static final String RELEASE_RESERVATION_QUERY = "DELETE FROM attachment_reservation WHERE log_uuid = :logUuid";
+
+	private static final String STORE_HASH_QUERY = "UPDATE attachment SET content_hash = :hash WHERE file_id = :fileId "
+			+ "AND content_hash IS NULL";
+
+	private static final RowMapper<BinaryDataMetaInfo> META_INFO_MAPPER = (rs, rowNum) -> {
+		BinaryDataMetaInfo metaInfo = new BinaryDataMetaInfo();
+		metaInfo.setFileId(rs.getString("file_id"));
+		metaInfo.setThumbnailFileId(rs.getString("thumbnail_id"));
+		metaInfo.setContentType(rs.getString("content_type"));
+		return metaInfo;
+	};
+
+	private final AttachmentThumbnailService attachmentThumbnailService;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final boolean enabled;
+
+	private final long leaseSeconds;
+
+	private final Supplier<Boolean> schemaSupported;
+
+	private final Cache<ContentKey, BinaryDataMetaInfo> contentIndex;
+
+	private final Counter reused;
+
+	private final Counter stored;
+
+	@Autowired
+	public AttachmentDeduplicatorImpl(AttachmentThumbnailService attachmentThumbnailService, NamedParameterJdbcTemplate jdbcTemplate,
+			MeterRegistry meterRegistry, @Value("${rp.attachment.deduplication.enabled:true}") boolean enabled,
+			@Value("${rp.attachment.deduplication.cache.size:100000}") long cacheSize,
+			@Value("${rp.attachment.deduplication.lease:600}") long leaseSeconds) {
+		this.attachmentThumbnailService = attachmentThumbnailService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+		this.leaseSeconds = leaseSeconds;
+		this.schemaSupported = Suppliers.memoize(this::checkSchema);
+		this.contentIndex = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, contentIndex, METRIC_PREFIX + ".index");
+		this.reused = meterRegistry.counter(METRIC_PREFIX + ".files", "result", "reused");
+		this.stored = meterRegistry.counter(METRIC_PREFIX + ".files", "result", "stored");
+	}
+
+	@Override
+	public Optional<String> contentHash(MultipartFile file) {
+		if (!isActive()) {
+			return Optional.empty();
+		}
+		try (HashingInputStream inputStream = new HashingInputStream(Hashing.sha256(), file.getInputStream())) {
+			ByteStreams.exhaust(inputStream);
+			return Optional.of(inputStream.hash().toString());
+		} catch (IOException e) {
+			LOGGER.debug("Unable to calculate the hash of the uploaded file, it's stored without deduplication", e);
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public Optional<BinaryDataMetaInfo> saveAttachment(Long projectId, MultipartFile file, @Nullable String contentHash, String logUuid) {
+		if (contentHash == null || !isActive()) {
+			return attachmentThumbnailService.saveAttachment(projectId, file);
+		}
+		ContentKey key = new ContentKey(projectId, contentHash, file.getContentType());
+		Optional<BinaryDataMetaInfo> existing = reserveStored(key, logUuid);
+		if (existing.isPresent()) {
+			reused.increment();
+			return existing;
+		}
+
+		Optional<BinaryDataMetaInfo> metaInfo = attachmentThumbnailService.saveAttachment(projectId, file);
+		stored.increment();
+		metaInfo.ifPresent(it -> contentIndex.put(key, it));
+		return metaInfo;
+	}
+
+	@Override
+	public void onAttachmentSaved(BinaryDataMetaInfo metaInfo, @Nullable String contentHash, String logUuid) {
+		if (contentHash != null && isActive()) {
+			try {
+				Optional.ofNullable(metaInfo.getFileId())
+						.ifPresent(fileId -> jdbcTemplate.update(STORE_HASH_QUERY,
+								new MapSqlParameterSource("fileId", fileId).addValue("hash", contentHash)
+						));
+				jdbcTemplate.update(RELEASE_RESERVATION_QUERY, new MapSqlParameterSource("logUuid", logUuid));
+			} catch (DataAccessException e) {
+				LOGGER.warn("Unable to store the content hash of '{}', it isn't reused", metaInfo.getFileId(), e);
+			}
+		}
+		attachmentThumbnailService.onAttachmentSaved(metaInfo);
+	}
+
+	@Override
+	public Set<String> releaseFiles(Collection<String> fileIds, Collection<Long> removedAttachmentIds) {
+		Set<String> candidates = fileIds.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+		if (candidates.isEmpty() || !isActive()) {
+			return candidates;
+		}
+
+		Lists.partition(new ArrayList<>(removedAttachmentIds), CHUNK_SIZE)
+				.forEach(chunk -> jdbcTemplate.update(CLEAR_HASH_QUERY, new MapSqlParameterSource("ids", chunk)));
+		jdbcTemplate.update(PURGE_RESERVATIONS_QUERY, new MapSqlParameterSource());
+
+		List<Long> excluded = removedAttachmentIds.isEmpty() ? Collections.singletonList(-1L) : new ArrayList<>(removedAttachmentIds);
+		Set<String> referenced = new HashSet<>();
+		Lists.partition(new ArrayList<>(candidates), CHUNK_SIZE)
+				.forEach(chunk -> referenced.addAll(jdbcTemplate.queryForList(REFERENCED_FILES_QUERY,
+						new MapSqlParameterSource("fileIds", chunk).addValue("ids", excluded),
+						String.class
+				)));
+		candidates.removeAll(referenced);
+
+		contentIndex.asMap().values().removeIf(metaInfo -> candidates.contains(metaInfo.getFileId()));
+		return candidates;
+	}
+
+	private boolean isActive() {
+		return enabled && schemaSupported.get();
+	}
+
+	private boolean checkSchema() {
+		try {
+			boolean supported = Boolean.TRUE.equals(jdbcTemplate.queryForObject(SCHEMA_QUERY, new MapSqlParameterSource(), Boolean.class));
+			if (!supported) {
+				LOGGER.info("The attachment content hash isn't supported by the database schema, "
+						+ "the files are stored without deduplication");
+			}
+			return supported;
+		} catch (DataAccessException e) {
+			LOGGER.warn("Unable to check the attachment content hash support, the files are stored without deduplication", e);
+			return false;
+		}
+	}
+
+	private Optional<BinaryDataMetaInfo> reserveStored(ContentKey key, String logUuid) {
+		try {
+			BinaryDataMetaInfo cached = contentIndex.getIfPresent(key);
+			if (cached != null) {
+				if (reserve(cached, logUuid)) {
+					return Optional.of(cached);
+				}
+				contentIndex.invalidate(key);
+			}
+			Optional<BinaryDataMetaInfo> metaInfo = jdbcTemplate.query(FIND_STORED_QUERY,
+					new MapSqlParameterSource("projectId", key.projectId).addValue("hash", key.hash)
+							.addValue("contentType", key.contentType, Types.VARCHAR),
+					META_INFO_MAPPER
+			).stream().findFirst().filter(it -> reserve(it, logUuid));
+			metaInfo.ifPresent(it -> contentIndex.put(key, it));
+			return metaInfo;
+		} catch (DataAccessException e) {
+			LOGGER.warn("Unable to look up the stored content, the file is stored without deduplication", e);
+			return Optional.empty();
+		}
+	}
+
+	private boolean reserve(BinaryDataMetaInfo metaInfo, String logUuid) {
+		return jdbcTemplate.update(RESERVE_QUERY,
+				new MapSqlParameterSource("logUuid", logUuid).addValue("fileId", metaInfo.getFileId())
+						.addValue("thumbnailId", metaInfo.getThumbnailFileId(), Types.VARCHAR)
+						.addValue("lease", leaseSeconds)
+		) > 0;
+	}
+
+	private static final class ContentKey {
+
+		private final Long projectId;
+
+		private final String hash;
+
+		private final String contentType;
+
+		private ContentKey(Long projectId, String hash, String contentType) {
+			this.projectId = projectId;
+			this.hash = hash;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ContentKey that = (ContentKey) o;
+			return Objects.equals(projectId, that.projectId) && Objects.equals(hash, that.hash) && Objects.equals(contentType,
+					that.contentType
+			);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, hash, contentType);
+		}
+	}
+}
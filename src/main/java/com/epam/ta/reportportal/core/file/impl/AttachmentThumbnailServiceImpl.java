@@ -0,0 +1,309 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.file.AttachmentThumbnailService;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AttachmentThumbnailService} generating the thumbnails in the bounded low-priority executor,
+ * so decoding and resizing of the images doesn't slow down the log ingestion. Tasks rejected by the full executor
+ * are dropped, the thumbnail is generated on the first request then. Concurrent generation of the same thumbnail
+ * is collapsed into a single one.
+ * <p>
+ * The thumbnail can be ready before the attachment referencing the original is saved. Such thumbnails are kept
+ * in memory until the attachment is saved, and removed from the data store if it never happens.
+ */
+@Service
+public class AttachmentThumbnailServiceImpl implements AttachmentThumbnailService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentThumbnailServiceImpl.class);
+
+	private static final String METRIC_PREFIX = "rp.attachment.thumbnail";
+
+	private static final String IMAGE_CONTENT_TYPE_PREFIX = "image/";
+
+	private static final String ASSIGN_THUMBNAIL_QUERY = "UPDATE attachment SET thumbnail_id = :thumbnailId WHERE file_id = :fileId "
+			+ "AND thumbnail_id IS NULL";
+
+	private static final String FIND_THUMBNAIL_QUERY = "SELECT thumbnail_id FROM attachment WHERE file_id = :fileId "
+			+ "AND thumbnail_id IS NOT NULL LIMIT 1";
+
+	private static final String IS_THUMBNAIL_REFERENCED_QUERY = "SELECT EXISTS(SELECT 1 FROM attachment WHERE thumbnail_id = :thumbnailId)";
+
+	private final AttachmentBinaryDataService attachmentBinaryDataService;
+
+	private final DataStoreService dataStoreService;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final TaskExecutor thumbnailTaskExecutor;
+
+	private final boolean deferred;
+
+	private final ConcurrentMap<String, CompletableFuture<Optional<String>>> inProgress = new ConcurrentHashMap<>();
+
+	private final Cache<String, String> unassigned;
+
+	private final Timer generationTimer;
+
+	private final Counter background;
+
+	private final Counter onDemand;
+
+	private final Counter rejected;
+
+	@Autowired
+	public AttachmentThumbnailServiceImpl(AttachmentBinaryDataService attachmentBinaryDataService,
+			@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService, NamedParameterJdbcTemplate jdbcTemplate,
+			@Qualifier("thumbnailTaskExecutor") TaskExecutor thumbnailTaskExecutor, MeterRegistry meterRegistry,
+			@Value("${rp.attachment.thumbnail.deferred:true}") boolean deferred,
+			@Value("${rp.attachment.thumbnail.unassignedTtl:3600}") long unassignedTtl) {
+		this.attachmentBinaryDataService = attachmentBinaryDataService;
+		this.dataStoreService = dataStoreService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.thumbnailTaskExecutor = thumbnailTaskExecutor;
+		this.deferred = deferred;
+		this.unassigned = Caffeine.newBuilder()
+				.expireAfterWrite(unassignedTtl, TimeUnit.SECONDS)
+				.removalListener((String fileId, String thumbnailId, RemovalCause cause) -> {
+					if (cause.wasEvicted()) {
+						assignOrDelete(fileId, thumbnailId);
+					}
+				})
+				.build();
+		this.generationTimer = meterRegistry.timer(METRIC_PREFIX + ".generation");
+		this.background = meterRegistry.counter(METRIC_PREFIX + ".requests", "mode", "background");
+		this.onDemand = meterRegistry.counter(METRIC_PREFIX + ".requests", "mode", "on-demand");
+		this.rejected = meterRegistry.counter(METRIC_PREFIX + ".requests", "mode", "rejected");
+	}
+
+	@Override
+	public Optional<BinaryDataMetaInfo> saveAttachment(Long projectId, MultipartFile file) {
+		if (!deferred || !isImage(file.getContentType())) {
+			return attachmentBinaryDataService.saveAttachment(projectId, file);
+		}
+		String fileName = UUID.randomUUID().toString() + Optional.ofNullable(FilenameUtils.getExtension(file.getOriginalFilename()))
+				.filter(StringUtils::isNotEmpty)
+				.map(extension -> "." + extension)
+				.orElse("");
+		try (InputStream inputStream = file.getInputStream()) {
+			BinaryDataMetaInfo metaInfo = new BinaryDataMetaInfo();
+			metaInfo.setFileId(dataStoreService.save(Paths.get(String.valueOf(projectId), YearMonth.now().toString(), fileName).toString(),
+					inputStream
+			));
+			metaInfo.setContentType(file.getContentType());
+			schedule(projectId, metaInfo.getFileId());
+			return Optional.of(metaInfo);
+		} catch (IOException e) {
+			LOGGER.error("Unable to save binary data of the project {}", projectId, e);
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public BinaryData loadThumbnail(Attachment attachment) {
+		Optional<String> thumbnailId = Optional.ofNullable(attachment.getThumbnailId());
+		if (!thumbnailId.isPresent() && isImage(attachment.getContentType()) && attachment.getFileId() != null) {
+			thumbnailId = findGenerated(attachment.getFileId());
+			if (!thumbnailId.isPresent()) {
+				onDemand.increment();
+				thumbnailId = generate(attachment.getProjectId(), attachment.getFileId());
+			}
+		}
+		return thumbnailId.flatMap(dataStoreService::load).map(inputStream -> {
+			try (InputStream thumbnail = inputStream) {
+				byte[] content = IOUtils.toByteArray(thumbnail);
+				return new BinaryData(attachment.getContentType(), (long) content.length, new ByteArrayInputStream(content));
+			} catch (IOException e) {
+				throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
+			}
+		}).orElseGet(() -> new BinaryData(attachment.getContentType(), null, null));
+	}
+
+	@Override
+	public void onAttachmentSaved(BinaryDataMetaInfo metaInfo) {
+		if (!deferred || metaInfo.getThumbnailFileId() != null || metaInfo.getFileId() == null || !isImage(metaInfo.getContentType())) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					assignGenerated(metaInfo.getFileId());
+				}
+			});
+		} else {
+			assignGenerated(metaInfo.getFileId());
+		}
+	}
+
+	/**
+	 * Assigns or removes the thumbnails whose attachments haven't been saved yet, so they don't outlive the instance
+	 */
+	@PreDestroy
+	public void releaseUnassigned() {
+		new ArrayList<>(unassigned.asMap().keySet()).forEach(fileId -> Optional.ofNullable(unassigned.asMap().remove(fileId))
+				.ifPresent(thumbnailId -> assignOrDelete(fileId, thumbnailId)));
+	}
+
+	private void schedule(Long projectId, String fileId) {
+		try {
+			thumbnailTaskExecutor.execute(() -> {
+				background.increment();
+				generate(projectId, fileId);
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			LOGGER.debug("Thumbnail generation of '{}' is postponed until the first request", fileId);
+		}
+	}
+
+	/**
+	 * Assigns the thumbnail generated before the attachment was saved or the thumbnail of the reused original
+	 */
+	private void assignGenerated(String fileId) {
+		try {
+			String thumbnailId = unassigned.asMap().remove(fileId);
+			if (thumbnailId != null) {
+				assignOrDelete(fileId, thumbnailId);
+			} else {
+				findExisting(fileId);
+			}
+		} catch (Exception e) {
+			LOGGER.debug("Unable to assign the generated thumbnail to '{}'", fileId, e);
+		}
+	}
+
+	/**
+	 * @return Id of the thumbnail generated in background or by another attachment with the same original
+	 */
+	private Optional<String> findGenerated(String fileId) {
+		String thumbnailId = unassigned.asMap().remove(fileId);
+		if (thumbnailId != null) {
+			assign(fileId, thumbnailId);
+			return Optional.of(thumbnailId);
+		}
+		return findExisting(fileId);
+	}
+
+	private Optional<String> findExisting(String fileId) {
+		List<String> existing = jdbcTemplate.queryForList(FIND_THUMBNAIL_QUERY, new MapSqlParameterSource("fileId", fileId), String.class);
+		existing.stream().findFirst().ifPresent(id -> assign(fileId, id));
+		return existing.stream().findFirst();
+	}
+
+	private Optional<String> generate(Long projectId, String fileId) {
+		CompletableFuture<Optional<String>> generation = new CompletableFuture<>();
+		CompletableFuture<Optional<String>> running = inProgress.putIfAbsent(fileId, generation);
+		if (running != null) {
+			return running.join();
+		}
+		Optional<String> thumbnailId = Optional.empty();
+		try {
+			thumbnailId = generationTimer.record(() -> dataStoreService.load(fileId).map(original -> {
+				try (InputStream inputStream = original) {
+					return dataStoreService.saveThumbnail(Paths.get(String.valueOf(projectId), "thumbnails", UUID.randomUUID().toString())
+							.toString(), inputStream);
+				} catch (IOException e) {
+					throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
+				}
+			}));
+			// kept as pending before the assignment, so the attachment saved concurrently finds it either here or in the DB
+			thumbnailId.ifPresent(id -> {
+				unassigned.put(fileId, id);
+				if (assign(fileId, id) > 0) {
+					unassigned.asMap().remove(fileId, id);
+				}
+			});
+		} catch (Exception e) {
+			LOGGER.warn("Unable to generate thumbnail of '{}'", fileId, e);
+		} finally {
+			inProgress.remove(fileId);
+			generation.complete(thumbnailId);
+		}
+		return thumbnailId;
+	}
+
+	private int assign(String fileId, String thumbnailId) {
+		return jdbcTemplate.update(ASSIGN_THUMBNAIL_QUERY,
+				new MapSqlParameterSource("fileId", fileId).addValue("thumbnailId", thumbnailId)
+		);
+	}
+
+	private void assignOrDelete(String fileId, String thumbnailId) {
+		try {
+			if (assign(fileId, thumbnailId) == 0 && !isReferenced(thumbnailId)) {
+				dataStoreService.delete(thumbnailId);
+			}
+		} catch (Exception e) {
+			LOGGER.debug("Unable to assign thumbnail '{}' to '{}'", thumbnailId, fileId, e);
+		}
+	}
+
+	private boolean isReferenced(String thumbnailId) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_THUMBNAIL_REFERENCED_QUERY,
+				new MapSqlParameterSource("thumbnailId", thumbnailId),
+				Boolean.class
+		));
+	}
+
+	private static boolean isImage(String contentType) {
+		return contentType != null && contentType.startsWith(IMAGE_CONTENT_TYPE_PREFIX);
+	}
+}
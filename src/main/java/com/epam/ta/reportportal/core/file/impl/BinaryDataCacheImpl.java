@@ -0,0 +1,272 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.core.file.BinaryDataCache;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier {@link BinaryDataCache}: entries evicted from the size-bounded in-memory tier
+ * are spilled to the size-bounded local disk tier. Both tiers are weighted by the size of the data in bytes.
+ * Entries expire after {@link #EXPIRATION_HOURS} to limit the staleness of data removed by another instance.
+ */
+@Service
+public class BinaryDataCacheImpl implements BinaryDataCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BinaryDataCacheImpl.class);
+
+	private static final long EXPIRATION_HOURS = 1L;
+
+	private static final String METRIC_PREFIX = "rp.binary.cache";
+
+	private final long maxObjectSize;
+
+	private final Path diskPath;
+
+	private final Cache<String, DiskEntry> diskCache;
+
+	private final Cache<String, CachedData> memoryCache;
+
+	private final Counter memoryHits;
+
+	private final Counter diskHits;
+
+	private final Counter misses;
+
+	private final Counter servedBytes;
+
+	@Autowired
+	public BinaryDataCacheImpl(MeterRegistry meterRegistry, @Value("${rp.binarystore.cache.maxObjectSize:524288}") long maxObjectSize,
+			@Value("${rp.binarystore.cache.memory.size:33554432}") long memorySize,
+			@Value("${rp.binarystore.cache.disk.size:268435456}") long diskSize,
+			@Value("${rp.binarystore.cache.disk.path:}") String diskPath) {
+		this.maxObjectSize = maxObjectSize;
+		this.diskPath = prepareDiskPath(diskPath, diskSize);
+		this.diskCache = Caffeine.newBuilder()
+				.maximumWeight(this.diskPath == null ? 0 : diskSize)
+				.weigher((String key, DiskEntry entry) -> entry.getWeight())
+				.expireAfterWrite(EXPIRATION_HOURS, TimeUnit.HOURS)
+				.removalListener((String key, DiskEntry entry, RemovalCause cause) -> deleteFile(entry))
+				.build();
+		this.memoryCache = Caffeine.newBuilder()
+				.maximumWeight(memorySize)
+				.weigher((String key, CachedData data) -> data.getWeight())
+				.expireAfterWrite(EXPIRATION_HOURS, TimeUnit.HOURS)
+				.removalListener((String key, CachedData data, RemovalCause cause) -> {
+					if (cause == RemovalCause.SIZE) {
+						spill(key, data);
+					}
+				})
+				.build();
+
+		this.memoryHits = meterRegistry.counter(METRIC_PREFIX + ".requests", "tier", "memory", "result", "hit");
+		this.diskHits = meterRegistry.counter(METRIC_PREFIX + ".requests", "tier", "disk", "result", "hit");
+		this.misses = meterRegistry.counter(METRIC_PREFIX + ".requests", "tier", "none", "result", "miss");
+		this.servedBytes = meterRegistry.counter(METRIC_PREFIX + ".served.bytes");
+		Gauge.builder(METRIC_PREFIX + ".size.bytes", memoryCache, BinaryDataCacheImpl::weightedSize)
+				.tag("tier", "memory")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".size.bytes", diskCache, BinaryDataCacheImpl::weightedSize).tag("tier", "disk").register(meterRegistry);
+	}
+
+	@Override
+	public BinaryData get(String key, Supplier<BinaryData> loader) {
+		CachedData cached = memoryCache.getIfPresent(key);
+		if (cached == null) {
+			cached = readFromDisk(key);
+		} else {
+			memoryHits.increment();
+		}
+		if (cached != null) {
+			servedBytes.increment(cached.getWeight());
+			return cached.toBinaryData();
+		}
+
+		misses.increment();
+		BinaryData binaryData = loader.get();
+		if (binaryData.getInputStream() == null || binaryData.getLength() == null || binaryData.getLength() > maxObjectSize) {
+			return binaryData;
+		}
+		try (InputStream inputStream = binaryData.getInputStream()) {
+			CachedData loaded = new CachedData(binaryData.getContentType(), IOUtils.toByteArray(inputStream));
+			memoryCache.put(key, loaded);
+			return loaded.toBinaryData();
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
+		}
+	}
+
+	@Override
+	public void evictUserPhoto(String login) {
+		evict(key -> key.startsWith(BinaryDataCache.userPhotoKeyPrefix(login)));
+	}
+
+	@Override
+	public void evictAttachments(Collection<Long> attachmentIds) {
+		attachmentIds.forEach(id -> evict(key -> key.startsWith(BinaryDataCache.attachmentKeyPrefix(id))));
+	}
+
+	private void evict(Predicate<String> keyPredicate) {
+		memoryCache.asMap().keySet().removeIf(keyPredicate);
+		diskCache.asMap().keySet().removeIf(keyPredicate);
+	}
+
+	private CachedData readFromDisk(String key) {
+		DiskEntry entry = diskCache.getIfPresent(key);
+		if (entry == null) {
+			return null;
+		}
+		try {
+			CachedData data = new CachedData(entry.getContentType(), Files.readAllBytes(entry.getPath()));
+			diskHits.increment();
+			memoryCache.put(key, data);
+			diskCache.invalidate(key);
+			return data;
+		} catch (IOException e) {
+			LOGGER.debug("Unable to read cached binary data from '{}'", entry.getPath(), e);
+			diskCache.invalidate(key);
+			return null;
+		}
+	}
+
+	private void spill(String key, CachedData data) {
+		if (diskPath == null) {
+			return;
+		}
+		Path path = diskPath.resolve(UUID.randomUUID().toString());
+		try {
+			Files.write(path, data.getContent());
+			diskCache.put(key, new DiskEntry(path, data.getContentType(), data.getWeight()));
+		} catch (IOException e) {
+			LOGGER.debug("Unable to write binary data to the disk cache '{}'", path, e);
+		}
+	}
+
+	private static void deleteFile(DiskEntry entry) {
+		if (entry != null) {
+			try {
+				Files.deleteIfExists(entry.getPath());
+			} catch (IOException e) {
+				LOGGER.debug("Unable to remove binary data from the disk cache '{}'", entry.getPath(), e);
+			}
+		}
+	}
+
+	/**
+	 * Disk tier index isn't persisted, so the content left from the previous run is removed
+	 *
+	 * @return Path to the disk tier directory or null if the disk tier is disabled
+	 */
+	private static Path prepareDiskPath(String diskPath, long diskSize) {
+		if (diskSize <= 0) {
+			return null;
+		}
+		Path path = diskPath.isEmpty() ? Paths.get(System.getProperty("java.io.tmpdir"), "rp-binary-cache") : Paths.get(diskPath);
+		try {
+			Files.createDirectories(path);
+			FileUtils.cleanDirectory(path.toFile());
+			return path;
+		} catch (IOException e) {
+			LOGGER.warn("Disk tier of the binary data cache is disabled. Unable to prepare directory '{}'", path, e);
+			return null;
+		}
+	}
+
+	private static double weightedSize(Cache<?, ?> cache) {
+		return cache.policy().eviction().map(eviction -> (double) eviction.weightedSize().orElse(0L)).orElse(0D);
+	}
+
+	private static class CachedData {
+
+		private final String contentType;
+
+		private final byte[] content;
+
+		CachedData(String contentType, byte[] content) {
+			this.contentType = contentType;
+			this.content = content;
+		}
+
+		String getContentType() {
+			return contentType;
+		}
+
+		byte[] getContent() {
+			return content;
+		}
+
+		int getWeight() {
+			return content.length;
+		}
+
+		BinaryData toBinaryData() {
+			return new BinaryData(contentType, (long) content.length, new ByteArrayInputStream(content));
+		}
+	}
+
+	private static class DiskEntry {
+
+		private final Path path;
+
+		private final String contentType;
+
+		private final int weight;
+
+		DiskEntry(Path path, String contentType, int weight) {
+			this.path = path;
+			this.contentType = contentType;
+			this.weight = weight;
+		}
+
+		Path getPath() {
+			return path;
+		}
+
+		String getContentType() {
+			return contentType;
+		}
+
+		int getWeight() {
+			return weight;
+		}
+	}
+}
@@ -18,8 +18,12 @@ package com.epam.ta.reportportal.core.file.impl;
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.file.AttachmentThumbnailService;
+import com.epam.ta.reportportal.core.file.BinaryDataCache;
 import com.epam.ta.reportportal.core.file.GetFileHandler;
+import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.attachment.BinaryData;
 import com.epam.ta.reportportal.entity.project.ProjectUtils;
 import com.epam.ta.reportportal.entity.user.User;
@@ -28,6 +32,8 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.function.Predicate;
 
@@ -38,6 +44,7 @@ import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSup
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 @Service
+@Transactional(readOnly = true)
 public class GetFileHandlerImpl implements GetFileHandler {
 
 	private final UserRepository userRepository;
@@ -46,19 +53,29 @@ public class GetFileHandlerImpl implements GetFileHandler {
 
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	private final BinaryDataCache binaryDataCache;
+
+	private final AttachmentRepository attachmentRepository;
+
+	private final AttachmentThumbnailService attachmentThumbnailService;
+
 	@Autowired
 	public GetFileHandlerImpl(UserRepository userRepository, UserBinaryDataService userDataStoreService,
-			AttachmentBinaryDataService attachmentBinaryDataService) {
+			AttachmentBinaryDataService attachmentBinaryDataService, BinaryDataCache binaryDataCache,
+			AttachmentRepository attachmentRepository, AttachmentThumbnailService attachmentThumbnailService) {
 		this.userRepository = userRepository;
 		this.userDataStoreService = userDataStoreService;
 		this.attachmentBinaryDataService = attachmentBinaryDataService;
+		this.binaryDataCache = binaryDataCache;
+		this.attachmentRepository = attachmentRepository;
+		this.attachmentThumbnailService = attachmentThumbnailService;
 	}
 
 	@Override
 	public BinaryData getUserPhoto(ReportPortalUser loggedInUser, boolean loadThumbnail) {
 		User user = userRepository.findByLogin(loggedInUser.getUsername())
 				.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, loggedInUser.getUsername()));
-		return userDataStoreService.loadUserPhoto(user, loadThumbnail);
+		return loadUserPhoto(user, loadThumbnail);
 	}
 
 	@Override
@@ -71,11 +88,35 @@ public class GetFileHandlerImpl implements GetFileHandler {
 					Predicate.isEqual(true)
 			).verify(ErrorType.ACCESS_DENIED, formattedSupplier("You are not assigned to project '{}'", projectDetails.getProjectName()));
 		}
-		return userDataStoreService.loadUserPhoto(user, loadThumbnail);
+		return loadUserPhoto(user, loadThumbnail);
 	}
 
 	@Override
 	public BinaryData loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails) {
-		return attachmentBinaryDataService.load(fileId, projectDetails);
+		return binaryDataCache.get(BinaryDataCache.attachmentKey(fileId, projectDetails.getProjectId()),
+				() -> attachmentBinaryDataService.load(fileId, projectDetails)
+		);
+	}
+
+	/**
+	 * Not in the read-only transaction: generated thumbnail is assigned to the attachment
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BinaryData loadThumbnailById(Long fileId, ReportPortalUser.ProjectDetails projectDetails) {
+		return binaryDataCache.get(BinaryDataCache.attachmentThumbnailKey(fileId, projectDetails.getProjectId()), () -> {
+			Attachment attachment = attachmentRepository.findById(fileId)
+					.orElseThrow(() -> new ReportPortalException(ErrorType.ATTACHMENT_NOT_FOUND, fileId));
+			expect(attachment.getProjectId(), Predicate.isEqual(projectDetails.getProjectId())).verify(ErrorType.ACCESS_DENIED,
+					formattedSupplier("You are not assigned to project '{}'", projectDetails.getProjectName())
+			);
+			return attachmentThumbnailService.loadThumbnail(attachment);
+		});
+	}
+
+	private BinaryData loadUserPhoto(User user, boolean loadThumbnail) {
+		return binaryDataCache.get(BinaryDataCache.userPhotoKey(user.getLogin(), user.getAttachment(), loadThumbnail),
+				() -> userDataStoreService.loadUserPhoto(user, loadThumbnail)
+		);
 	}
 }
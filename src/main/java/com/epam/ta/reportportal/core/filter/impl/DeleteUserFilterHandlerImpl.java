@@ -23,6 +23,7 @@ import com.epam.ta.reportportal.core.events.activity.FilterDeletedEvent;
 import com.epam.ta.reportportal.core.filter.DeleteUserFilterHandler;
 import com.epam.ta.reportportal.core.filter.GetUserFilterHandler;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
+import com.epam.ta.reportportal.core.widget.WidgetContentPlanCache;
 import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
@@ -42,14 +43,17 @@ public class DeleteUserFilterHandlerImpl implements DeleteUserFilterHandler {
 	private final GetShareableEntityHandler<UserFilter> getShareableEntityHandler;
 	private final MessageBus messageBus;
 	private final ShareableObjectsHandler aclHandler;
+	private final WidgetContentPlanCache widgetContentPlanCache;
 
 	@Autowired
 	public DeleteUserFilterHandlerImpl(UserFilterRepository userFilterRepository, GetUserFilterHandler getFilterHandler,
-			GetShareableEntityHandler<UserFilter> getShareableEntityHandler, MessageBus messageBus, ShareableObjectsHandler aclHandler) {
+			GetShareableEntityHandler<UserFilter> getShareableEntityHandler, MessageBus messageBus, ShareableObjectsHandler aclHandler,
+			WidgetContentPlanCache widgetContentPlanCache) {
 		this.userFilterRepository = userFilterRepository;
 		this.getShareableEntityHandler = getShareableEntityHandler;
 		this.messageBus = messageBus;
 		this.aclHandler = aclHandler;
+		this.widgetContentPlanCache = widgetContentPlanCache;
 	}
 
 	@Override
@@ -61,6 +65,7 @@ public class DeleteUserFilterHandlerImpl implements DeleteUserFilterHandler {
 				user.getUserId()
 		);
 		userFilterRepository.delete(userFilter);
+		widgetContentPlanCache.evictFilter(id);
 		aclHandler.deleteAclForObject(userFilter);
 		messageBus.publishActivity(new FilterDeletedEvent(TO_ACTIVITY_RESOURCE.apply(userFilter), user.getUserId(), user.getUsername()));
 		return new OperationCompletionRS("User filter with ID = '" + id + "' successfully deleted.");
@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.core.events.activity.FilterCreatedEvent;
 import com.epam.ta.reportportal.core.events.activity.FilterUpdatedEvent;
 import com.epam.ta.reportportal.core.filter.UpdateUserFilterHandler;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
+import com.epam.ta.reportportal.core.widget.WidgetContentPlanCache;
 import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.filter.ObjectType;
@@ -65,16 +66,18 @@ public class UpdateUserFilterHandlerImpl implements UpdateUserFilterHandler {
 	private final WidgetRepository widgetRepository;
 	private final ShareableObjectsHandler aclHandler;
 	private final MessageBus messageBus;
+	private final WidgetContentPlanCache widgetContentPlanCache;
 
 	@Autowired
 	public UpdateUserFilterHandlerImpl(GetShareableEntityHandler<UserFilter> getShareableEntityHandler,
 			UserFilterRepository userFilterRepository, WidgetRepository widgetRepository, ShareableObjectsHandler aclHandler,
-			MessageBus messageBus) {
+			MessageBus messageBus, WidgetContentPlanCache widgetContentPlanCache) {
 		this.getShareableEntityHandler = getShareableEntityHandler;
 		this.userFilterRepository = userFilterRepository;
 		this.widgetRepository = widgetRepository;
 		this.aclHandler = aclHandler;
 		this.messageBus = messageBus;
+		this.widgetContentPlanCache = widgetContentPlanCache;
 	}
 
 	@Override
@@ -126,6 +129,7 @@ public class UpdateUserFilterHandlerImpl implements UpdateUserFilterHandler {
 
 		UserFilterActivityResource before = TO_ACTIVITY_RESOURCE.apply(userFilter);
 		UserFilter updated = new UserFilterBuilder(userFilter).addFilterRq(updateRQ).get();
+		widgetContentPlanCache.evictFilter(updated.getId());
 
 		if (before.isShared() != updated.isShared()) {
 			aclHandler.updateAcl(updated, projectDetails.getProjectId(), updated.isShared());
@@ -29,14 +29,14 @@ import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -45,7 +45,8 @@ import java.util.concurrent.Executors;
 public abstract class AbstractImportStrategy implements ImportStrategy {
 	protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractImportStrategy.class);
 	private static final Date initialStartTime = new Date(0);
-	protected static final ExecutorService service = Executors.newFixedThreadPool(5);
+
+	protected TaskExecutor importTaskExecutor;
 
 	private StartLaunchHandler startLaunchHandler;
 
@@ -53,6 +54,11 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
 
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	public void setImportTaskExecutor(@Qualifier("importTaskExecutor") TaskExecutor importTaskExecutor) {
+		this.importTaskExecutor = importTaskExecutor;
+	}
+
 	@Autowired
 	public void setStartLaunchHandler(StartLaunchHandler startLaunchHandler) {
 		this.startLaunchHandler = startLaunchHandler;
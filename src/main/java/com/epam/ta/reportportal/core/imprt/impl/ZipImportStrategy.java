@@ -26,9 +26,12 @@ import javax.inject.Provider;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
+import java.util.stream.Collectors;
 import java.util.zip.ZipFile;
 
 import static com.epam.ta.reportportal.core.imprt.FileExtensionConstant.XML_EXTENSION;
@@ -42,6 +45,7 @@ import static java.util.Optional.ofNullable;
 public class ZipImportStrategy extends AbstractImportStrategy {
 	private static final Predicate<ZipEntry> isFile = zipEntry -> !zipEntry.isDirectory();
 	private static final Predicate<ZipEntry> isXml = zipEntry -> zipEntry.getName().endsWith(XML_EXTENSION);
+	private static final int PROGRESS_STEPS = 10;
 
 	@Autowired
 	private Provider<XunitParseJob> xmlParseJobProvider;
@@ -65,11 +69,22 @@ public class ZipImportStrategy extends AbstractImportStrategy {
 		try (ZipFile zipFile = new ZipFile(zip)) {
 			String launchId = startLaunch(projectDetails, user, zip.getName().substring(0, zip.getName().indexOf("." + ZIP_EXTENSION)));
 			savedLaunchId = launchId;
-			CompletableFuture[] futures = zipFile.stream().filter(isFile.and(isXml)).map(zipEntry -> {
-				XunitParseJob job = xmlParseJobProvider.get()
-						.withParameters(projectDetails, launchId, user, getEntryStream(zipFile, zipEntry));
-				return CompletableFuture.supplyAsync(job::call, service);
-			}).toArray(CompletableFuture[]::new);
+			List<? extends ZipEntry> entries = zipFile.stream().filter(isFile.and(isXml)).collect(Collectors.toList());
+			AtomicInteger processed = new AtomicInteger();
+			int progressStep = Math.max(entries.size() / PROGRESS_STEPS, 1);
+			CompletableFuture[] futures = entries.stream().map(zipEntry -> CompletableFuture.supplyAsync(() -> {
+				//entry stream is opened by the worker to keep only the processed entries inflated
+				try (InputStream entryStream = getEntryStream(zipFile, zipEntry)) {
+					return xmlParseJobProvider.get().withParameters(projectDetails, launchId, user, entryStream).call();
+				} catch (IOException e) {
+					throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
+				}
+			}, importTaskExecutor).whenComplete((result, error) -> {
+				int count = processed.incrementAndGet();
+				if (count % progressStep == 0 || count == entries.size()) {
+					LOGGER.info("Import of launch '{}': {} of {} files are processed", launchId, count, entries.size());
+				}
+			})).toArray(CompletableFuture[]::new);
 			ParseResults parseResults = processResults(futures);
 			finishLaunch(launchId, projectDetails, user, parseResults, baseUrl);
 			return launchId;
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+
+/**
+ * Item or log parsed from the xunit report, passed from the parser to the writer
+ */
+final class ImportRecord {
+
+	enum Type {
+		START_ROOT,
+		START_CHILD,
+		FINISH,
+		FINISH_ROOT,
+		LOG,
+		END,
+		FAILURE
+	}
+
+	static final ImportRecord END = new ImportRecord(Type.END, null, null, null);
+
+	private final Type type;
+
+	/**
+	 * Uuid of the parent item for {@link Type#START_CHILD}, uuid of the finished item for {@link Type#FINISH}
+	 */
+	private final String itemUuid;
+
+	private final Object request;
+
+	private final Exception error;
+
+	private ImportRecord(Type type, String itemUuid, Object request, Exception error) {
+		this.type = type;
+		this.itemUuid = itemUuid;
+		this.request = request;
+		this.error = error;
+	}
+
+	static ImportRecord startRoot(StartTestItemRQ rq) {
+		return new ImportRecord(Type.START_ROOT, null, rq, null);
+	}
+
+	static ImportRecord startChild(String parentUuid, StartTestItemRQ rq) {
+		return new ImportRecord(Type.START_CHILD, parentUuid, rq, null);
+	}
+
+	static ImportRecord finish(String itemUuid, FinishTestItemRQ rq, boolean root) {
+		return new ImportRecord(root ? Type.FINISH_ROOT : Type.FINISH, itemUuid, rq, null);
+	}
+
+	static ImportRecord log(SaveLogRQ rq) {
+		return new ImportRecord(Type.LOG, rq.getItemUuid(), rq, null);
+	}
+
+	static ImportRecord failure(Exception error) {
+		return new ImportRecord(Type.FAILURE, null, null, error);
+	}
+
+	Type getType() {
+		return type;
+	}
+
+	String getItemUuid() {
+		return itemUuid;
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> T getRequest() {
+		return (T) request;
+	}
+
+	Exception getError() {
+		return error;
+	}
+}
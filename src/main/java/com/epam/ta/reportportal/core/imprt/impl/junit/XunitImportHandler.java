@@ -16,10 +16,6 @@
 package com.epam.ta.reportportal.core.imprt.impl.junit;
 
 import com.epam.ta.reportportal.commons.EntityUtils;
-import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
-import com.epam.ta.reportportal.core.item.StartTestItemHandler;
-import com.epam.ta.reportportal.core.log.CreateLogHandler;
 import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
@@ -29,10 +25,6 @@ import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.google.common.base.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
-import org.springframework.context.annotation.Scope;
-import org.springframework.stereotype.Component;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 
@@ -45,34 +37,29 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.epam.ta.reportportal.core.imprt.impl.DateUtils.toMillis;
 
-@Component
-@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+/**
+ * Parses xunit report. Items get their uuids while parsing, so the parsed items and logs
+ * are emitted to the sink without waiting for them to be persisted
+ */
 public class XunitImportHandler extends DefaultHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(XunitImportHandler.class);
 
-	private final StartTestItemHandler startTestItemHandler;
-
-	private final FinishTestItemHandler finishTestItemHandler;
+	//initial info
+	private final String launchUuid;
 
-	private final CreateLogHandler createLogHandler;
+	private final Consumer<ImportRecord> sink;
 
-	@Autowired
-	public XunitImportHandler(StartTestItemHandler startTestItemHandler, FinishTestItemHandler finishTestItemHandler,
-			CreateLogHandler createLogHandler) {
-		this.startTestItemHandler = startTestItemHandler;
-		this.finishTestItemHandler = finishTestItemHandler;
-		this.createLogHandler = createLogHandler;
+	XunitImportHandler(String launchUuid, Consumer<ImportRecord> sink) {
+		this.launchUuid = launchUuid;
+		this.sink = sink;
 	}
 
-	//initial info
-	private ReportPortalUser.ProjectDetails projectDetails;
-	private ReportPortalUser user;
-	private String launchUuid;
-
 	//need to know item's id to attach System.out/System.err logs
 	private String currentItemUuid;
 
@@ -182,8 +169,8 @@ public class XunitImportHandler extends DefaultHandler {
 			startItemTime = LocalDateTime.now();
 		}
 		StartTestItemRQ rq = buildStartTestRq(name);
-		String id = startTestItemHandler.startRootItem(user, projectDetails, rq).getId();
-		itemUuids.push(id);
+		sink.accept(ImportRecord.startRoot(rq));
+		itemUuids.push(rq.getUuid());
 	}
 
 	private LocalDateTime parseTimeStamp(String timestamp) {
@@ -207,8 +194,8 @@ public class XunitImportHandler extends DefaultHandler {
 
 	private void startTestItem(String name) {
 		StartTestItemRQ rq = buildStartTestRq(name);
-		String id = startTestItemHandler.startChildItem(user, projectDetails, rq, itemUuids.peek()).getId();
-		itemUuids.push(id);
+		sink.accept(ImportRecord.startChild(itemUuids.peek(), rq));
+		itemUuids.push(rq.getUuid());
 	}
 
 	private void startStepItem(String name, String duration) {
@@ -217,16 +204,18 @@ public class XunitImportHandler extends DefaultHandler {
 		rq.setStartTime(EntityUtils.TO_DATE.apply(startItemTime));
 		rq.setType(TestItemTypeEnum.STEP.name());
 		rq.setName(name);
-		String id = startTestItemHandler.startChildItem(user, projectDetails, rq, itemUuids.peek()).getId();
+		rq.setUuid(UUID.randomUUID().toString());
+		sink.accept(ImportRecord.startChild(itemUuids.peek(), rq));
 		currentDuration = toMillis(duration);
-		currentItemUuid = id;
-		itemUuids.push(id);
+		currentItemUuid = rq.getUuid();
+		itemUuids.push(rq.getUuid());
 	}
 
 	private void finishRootItem() {
 		FinishTestItemRQ rq = new FinishTestItemRQ();
 		rq.setEndTime(EntityUtils.TO_DATE.apply(startItemTime));
-		finishTestItemHandler.finishTestItem(user, projectDetails, itemUuids.poll(), rq);
+		String itemUuid = itemUuids.poll();
+		sink.accept(ImportRecord.finish(itemUuid, rq, itemUuids.isEmpty()));
 		status = null;
 	}
 
@@ -237,7 +226,7 @@ public class XunitImportHandler extends DefaultHandler {
 		rq.setEndTime(EntityUtils.TO_DATE.apply(startItemTime));
 		rq.setStatus(Optional.ofNullable(status).orElse(StatusEnum.PASSED).name());
 		currentItemUuid = itemUuids.poll();
-		finishTestItemHandler.finishTestItem(user, projectDetails, currentItemUuid, rq);
+		sink.accept(ImportRecord.finish(currentItemUuid, rq, false));
 		status = null;
 	}
 
@@ -248,23 +237,17 @@ public class XunitImportHandler extends DefaultHandler {
 			saveLogRQ.setLogTime(EntityUtils.TO_DATE.apply(startItemTime));
 			saveLogRQ.setMessage(message.toString().trim());
 			saveLogRQ.setItemUuid(currentItemUuid);
-			createLogHandler.createLog(saveLogRQ, null, projectDetails);
+			sink.accept(ImportRecord.log(saveLogRQ));
 		}
 	}
 
-	XunitImportHandler withParameters(ReportPortalUser.ProjectDetails projectDetails, String launchId, ReportPortalUser user) {
-		this.projectDetails = projectDetails;
-		this.launchUuid = launchId;
-		this.user = user;
-		return this;
-	}
-
 	private StartTestItemRQ buildStartTestRq(String name) {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setLaunchUuid(launchUuid);
 		rq.setStartTime(EntityUtils.TO_DATE.apply(startItemTime));
 		rq.setType(TestItemTypeEnum.TEST.name());
 		rq.setName(Strings.isNullOrEmpty(name) ? "no_name" : name);
+		rq.setUuid(UUID.randomUUID().toString());
 		return rq;
 	}
 
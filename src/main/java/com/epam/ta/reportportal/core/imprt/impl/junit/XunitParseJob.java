@@ -17,43 +17,144 @@ package com.epam.ta.reportportal.core.imprt.impl.junit;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.imprt.impl.ParseResults;
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Imports a single xunit report. The report is parsed in the 'importParserTaskExecutor' and the parsed records
+ * are passed through the bounded queue to the calling thread, which persists them. So the memory consumption
+ * doesn't depend on the size of the report and parsing isn't blocked by the database round trips.
+ */
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class XunitParseJob implements Callable<ParseResults> {
 
+	private static final long OFFER_TIMEOUT_MILLIS = 500L;
+
+	@Autowired
+	private StartTestItemHandler startTestItemHandler;
+
+	@Autowired
+	private FinishTestItemHandler finishTestItemHandler;
+
+	@Autowired
+	private TestItemRepository testItemRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
 	@Autowired
-	private XunitImportHandler handler;
+	@Qualifier("importParserTaskExecutor")
+	private TaskExecutor parserExecutor;
+
+	@Value("${rp.import.bufferSize:1000}")
+	private int bufferSize;
+
+	@Value("${rp.import.logBatchSize:100}")
+	private int logBatchSize;
+
+	private ReportPortalUser.ProjectDetails projectDetails;
+
+	private ReportPortalUser user;
+
+	private String launchId;
 
 	private InputStream xmlInputStream;
 
 	@Override
 	public ParseResults call() {
+		BlockingQueue<ImportRecord> queue = new ArrayBlockingQueue<>(bufferSize);
+		AtomicBoolean cancelled = new AtomicBoolean();
+		XunitImportHandler handler = new XunitImportHandler(launchId, record -> {
+			if (!offer(queue, record, cancelled)) {
+				throw new IllegalStateException("Import is cancelled");
+			}
+		});
+		parserExecutor.execute(() -> {
+			try {
+				SAXParserFactory.newInstance().newSAXParser().parse(xmlInputStream, handler);
+				offer(queue, ImportRecord.END, cancelled);
+			} catch (SAXException | IOException | ParserConfigurationException | RuntimeException e) {
+				offer(queue, ImportRecord.failure(e), cancelled);
+			}
+		});
+
+		XunitRecordWriter writer = new XunitRecordWriter(startTestItemHandler,
+				finishTestItemHandler,
+				testItemRepository,
+				jdbcTemplate,
+				transactionTemplate,
+				projectDetails,
+				user,
+				logBatchSize
+		);
 		try {
-			SAXParserFactory.newInstance().newSAXParser().parse(xmlInputStream, handler);
-		} catch (SAXException | IOException | ParserConfigurationException e) {
-			throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, e.getMessage());
+			for (ImportRecord record = queue.take(); record.getType() != ImportRecord.Type.END; record = queue.take()) {
+				if (record.getType() == ImportRecord.Type.FAILURE) {
+					throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, record.getError().getMessage());
+				}
+				writer.write(record);
+			}
+			writer.flushLogs();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, "Import is interrupted");
+		} finally {
+			cancelled.set(true);
 		}
 		return new ParseResults(handler.getStartSuiteTime(), handler.getCommonDuration());
 	}
 
+	/**
+	 * Waits for the free space in the queue until the import is cancelled
+	 *
+	 * @return true if the record is added to the queue
+	 */
+	private static boolean offer(BlockingQueue<ImportRecord> queue, ImportRecord record, AtomicBoolean cancelled) {
+		try {
+			while (!cancelled.get()) {
+				if (queue.offer(record, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
 	public XunitParseJob withParameters(ReportPortalUser.ProjectDetails projectDetails, String launchId, ReportPortalUser user,
 			InputStream xmlInputStream) {
+		this.projectDetails = projectDetails;
+		this.launchId = launchId;
+		this.user = user;
 		this.xmlInputStream = xmlInputStream;
-		this.handler = handler.withParameters(projectDetails, launchId, user);
 		return this;
 	}
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.converter.builders.LogBuilder;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists the records emitted by {@link XunitImportHandler}. Items are started and finished through the reporting handlers,
+ * logs are buffered and inserted by a single JDBC batch within a single transaction
+ */
+class XunitRecordWriter {
+
+	private static final String INSERT_LOG = "INSERT INTO log (uuid, log_time, log_message, item_id, last_modified, log_level) "
+			+ "VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final StartTestItemHandler startTestItemHandler;
+
+	private final FinishTestItemHandler finishTestItemHandler;
+
+	private final TestItemRepository testItemRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ReportPortalUser.ProjectDetails projectDetails;
+
+	private final ReportPortalUser user;
+
+	private final int logBatchSize;
+
+	private final List<SaveLogRQ> logs;
+
+	XunitRecordWriter(StartTestItemHandler startTestItemHandler, FinishTestItemHandler finishTestItemHandler,
+			TestItemRepository testItemRepository, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, int logBatchSize) {
+		this.startTestItemHandler = startTestItemHandler;
+		this.finishTestItemHandler = finishTestItemHandler;
+		this.testItemRepository = testItemRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.projectDetails = projectDetails;
+		this.user = user;
+		this.logBatchSize = logBatchSize;
+		this.logs = new ArrayList<>(logBatchSize);
+	}
+
+	void write(ImportRecord record) {
+		switch (record.getType()) {
+			case START_ROOT:
+				startTestItemHandler.startRootItem(user, projectDetails, record.getRequest());
+				break;
+			case START_CHILD:
+				startTestItemHandler.startChildItem(user, projectDetails, record.getRequest(), record.getItemUuid());
+				break;
+			case FINISH_ROOT:
+				flushLogs();
+				finishTestItemHandler.finishTestItem(user, projectDetails, record.getItemUuid(), record.getRequest());
+				break;
+			case FINISH:
+				finishTestItemHandler.finishTestItem(user, projectDetails, record.getItemUuid(), record.getRequest());
+				break;
+			case LOG:
+				logs.add(record.getRequest());
+				if (logs.size() >= logBatchSize) {
+					flushLogs();
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Unexpected record type: " + record.getType());
+		}
+	}
+
+	void flushLogs() {
+		if (logs.isEmpty()) {
+			return;
+		}
+		transactionTemplate.execute(status -> {
+			Map<String, TestItem> items = new HashMap<>();
+			List<Log> toSave = new ArrayList<>(logs.size());
+			logs.forEach(rq -> {
+				TestItem item = items.computeIfAbsent(rq.getItemUuid(),
+						uuid -> testItemRepository.findByUuid(uuid)
+								.orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, uuid))
+				);
+				toSave.add(new LogBuilder().addSaveLogRq(rq).addTestItem(item).get());
+			});
+			Timestamp lastModified = Timestamp.valueOf(LocalDateTime.now());
+			return jdbcTemplate.batchUpdate(INSERT_LOG, toSave, toSave.size(), (ps, log) -> {
+				ps.setString(1, log.getUuid());
+				ps.setTimestamp(2, log.getLogTime() == null ? null : Timestamp.valueOf(log.getLogTime()));
+				ps.setString(3, log.getLogMessage());
+				ps.setLong(4, log.getTestItem().getItemId());
+				ps.setTimestamp(5, lastModified);
+				ps.setObject(6, log.getLogLevel(), Types.INTEGER);
+			});
+		});
+		logs.clear();
+	}
+}
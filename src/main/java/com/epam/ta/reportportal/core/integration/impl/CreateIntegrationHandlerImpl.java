@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.integration.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.bts.BtsResponseCache;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.IntegrationCreatedEvent;
 import com.epam.ta.reportportal.core.events.activity.IntegrationUpdatedEvent;
@@ -42,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.Map;
 
 import static com.epam.ta.reportportal.ws.converter.converters.IntegrationConverter.TO_ACTIVITY_RESOURCE;
@@ -65,17 +67,20 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 
 	private final IntegrationService basicIntegrationService;
 
+	private final BtsResponseCache btsResponseCache;
+
 	@Autowired
 	public CreateIntegrationHandlerImpl(@Qualifier("integrationServiceMapping") Map<String, IntegrationService> integrationServiceMapping,
 			IntegrationRepository integrationRepository, ProjectRepository projectRepository, MessageBus messageBus,
 			IntegrationTypeRepository integrationTypeRepository,
-			@Qualifier("basicIntegrationServiceImpl") IntegrationService integrationService) {
+			@Qualifier("basicIntegrationServiceImpl") IntegrationService integrationService, BtsResponseCache btsResponseCache) {
 		this.integrationServiceMapping = integrationServiceMapping;
 		this.integrationRepository = integrationRepository;
 		this.projectRepository = projectRepository;
 		this.messageBus = messageBus;
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.basicIntegrationService = integrationService;
+		this.btsResponseCache = btsResponseCache;
 	}
 
 	@Override
@@ -157,6 +162,7 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 		Integration updatedIntegration = integrationService.updateIntegration(integration, updateRequest);
 		integrationService.checkConnection(integration);
 		integrationRepository.save(updatedIntegration);
+		btsResponseCache.evict(Collections.singletonList(updatedIntegration.getId()));
 
 		return new OperationCompletionRS("Integration with id = " + updatedIntegration.getId() + " has been successfully updated.");
 	}
@@ -187,6 +193,7 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 		integrationService.checkConnection(integration);
 
 		integrationRepository.save(updatedIntegration);
+		btsResponseCache.evict(Collections.singletonList(updatedIntegration.getId()));
 
 		messageBus.publishActivity(new IntegrationUpdatedEvent(user.getUserId(),
 				user.getUsername(),
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.integration.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.bts.BtsResponseCache;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.IntegrationDeletedEvent;
 import com.epam.ta.reportportal.core.integration.DeleteIntegrationHandler;
@@ -35,6 +36,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.ws.converter.converters.IntegrationConverter.TO_ACTIVITY_RESOURCE;
 import static com.epam.ta.reportportal.ws.model.ErrorType.INTEGRATION_NOT_FOUND;
@@ -54,13 +56,16 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 
 	private final MessageBus messageBus;
 
+	private final BtsResponseCache btsResponseCache;
+
 	@Autowired
 	public DeleteIntegrationHandlerImpl(IntegrationRepository integrationRepository, ProjectRepository projectRepository,
-			IntegrationTypeRepository integrationTypeRepository, MessageBus messageBus) {
+			IntegrationTypeRepository integrationTypeRepository, MessageBus messageBus, BtsResponseCache btsResponseCache) {
 		this.integrationRepository = integrationRepository;
 		this.projectRepository = projectRepository;
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.messageBus = messageBus;
+		this.btsResponseCache = btsResponseCache;
 	}
 
 	@Override
@@ -68,6 +73,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 		Integration integration = integrationRepository.findGlobalById(integrationId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, integrationId));
 		integrationRepository.deleteById(integration.getId());
+		btsResponseCache.evict(Collections.singletonList(integration.getId()));
 		return new OperationCompletionRS(Suppliers.formattedSupplier("Global integration with id = {} has been successfully removed",
 				integration.getId()
 		).get());
@@ -78,6 +84,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 		IntegrationType integrationType = integrationTypeRepository.findByName(type)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, type));
 		integrationRepository.deleteAllGlobalByIntegrationTypeId(integrationType.getId());
+		btsResponseCache.evictAll();
 		return new OperationCompletionRS(
 				"All global integrations with type ='" + integrationType.getName() + "' integrations have been successfully removed.");
 	}
@@ -90,6 +97,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 				.orElseThrow(() -> new ReportPortalException(INTEGRATION_NOT_FOUND, integrationId));
 		integration.getProject().getIntegrations().removeIf(it -> it.getId().equals(integration.getId()));
 		integrationRepository.deleteById(integration.getId());
+		btsResponseCache.evict(Collections.singletonList(integration.getId()));
 		messageBus.publishActivity(new IntegrationDeletedEvent(TO_ACTIVITY_RESOURCE.apply(integration),
 				user.getUserId(),
 				user.getUsername()
@@ -108,6 +116,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 				Collections.singletonList(integrationType.getId())
 		);
 		integrationRepository.deleteAllByProjectIdAndIntegrationTypeId(project.getId(), integrationType.getId());
+		btsResponseCache.evict(integrations.stream().map(Integration::getId).collect(Collectors.toList()));
 		integrations.stream()
 				.map(TO_ACTIVITY_RESOURCE)
 				.forEach(it -> messageBus.publishActivity(new IntegrationDeletedEvent(it, user.getUserId(), user.getUsername())));
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item;
+
+import com.epam.ta.reportportal.entity.item.PathName;
+import com.epam.ta.reportportal.entity.item.TestItem;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Cache of the {@link PathName} of test items from the finished launches.
+ * Path names are immutable once the launch is finished, so entries are only evicted
+ * when the launch is deleted or merged or when its items are deleted.
+ */
+public interface PathNameCache {
+
+	/**
+	 * Returns path names of the provided items. Cached entries are served from memory,
+	 * all the missing ones are loaded with a single query.
+	 *
+	 * @param projectId      Id of the project the items belong to
+	 * @param testItems      Items to get path names of
+	 * @param finishedLaunch Whether all the items belong to the finished launches, path names are cached only in that case
+	 * @return Mapping of the item id to its {@link PathName}. Items without path names are absent
+	 */
+	Map<Long, PathName> getPathNames(Long projectId, Collection<TestItem> testItems, boolean finishedLaunch);
+
+	/**
+	 * Same as {@link #getPathNames(Long, Collection, boolean)} for the items which are not loaded as entities
+	 *
+	 * @param projectId      Id of the project the items belong to
+	 * @param launchIds      Mapping of the item id to the id of its launch
+	 * @param finishedLaunch Whether all the items belong to the finished launches, path names are cached only in that case
+	 * @return Mapping of the item id to its {@link PathName}. Items without path names are absent
+	 */
+	Map<Long, PathName> getPathNames(Long projectId, Map<Long, Long> launchIds, boolean finishedLaunch);
+
+	/**
+	 * Removes cached path names of the items of the specified launches
+	 *
+	 * @param launchIds Ids of the launches
+	 */
+	void evictByLaunchIds(Collection<Long> launchIds);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item;
+
+import com.epam.ta.reportportal.entity.bts.Ticket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based linking and unlinking of the external tickets to the issues of many test items at once.
+ * Issue of the test item has the same id as the test item.
+ */
+public interface TicketLinkWriter {
+
+	/**
+	 * Loads the state of the test items required to validate them with a single query
+	 *
+	 * @param itemIds Ids of the test items, missing ids are skipped
+	 * @return {@link List} of the {@link LinkTarget}
+	 */
+	List<LinkTarget> findTargets(Collection<Long> itemIds);
+
+	/**
+	 * Inserts the tickets missing in the database with a single statement, existing tickets are kept as is
+	 *
+	 * @param tickets Tickets to save
+	 * @return Database ids of the tickets by {@link Ticket#getTicketId()}
+	 */
+	Map<String, Long> saveTickets(Collection<Ticket> tickets);
+
+	/**
+	 * Links all the tickets to all the issues with batch inserts skipping existing links,
+	 * the issues are marked as not auto-analyzed
+	 *
+	 * @param issueIds  Ids of the issues
+	 * @param ticketIds Database ids of the tickets
+	 * @return Ids of the issues that got at least one new ticket
+	 */
+	Set<Long> link(Collection<Long> issueIds, Collection<Long> ticketIds);
+
+	/**
+	 * Unlinks the tickets from the issues, the issues that lost a ticket are marked as not auto-analyzed
+	 *
+	 * @param issueIds  Ids of the issues
+	 * @param ticketIds {@link Ticket#getTicketId()} of the tickets
+	 * @return Ids of the issues that lost at least one ticket
+	 */
+	Set<Long> unlink(Collection<Long> issueIds, Collection<String> ticketIds);
+
+	/**
+	 * Test item state checked before the ticket linking
+	 */
+	class LinkTarget {
+
+		private final Long itemId;
+
+		private final boolean hasChildren;
+
+		private final String status;
+
+		private final Long issueId;
+
+		private final Long issueTypeId;
+
+		public LinkTarget(Long itemId, boolean hasChildren, String status, Long issueId, Long issueTypeId) {
+			this.itemId = itemId;
+			this.hasChildren = hasChildren;
+			this.status = status;
+			this.issueId = issueId;
+			this.issueTypeId = issueTypeId;
+		}
+
+		public Long getItemId() {
+			return itemId;
+		}
+
+		public boolean isHasChildren() {
+			return hasChildren;
+		}
+
+		/**
+		 * @return Name of the {@link com.epam.ta.reportportal.entity.enums.StatusEnum} or null if the item has no results
+		 */
+		public String getStatus() {
+			return status;
+		}
+
+		public Long getIssueId() {
+			return issueId;
+		}
+
+		public Long getIssueTypeId() {
+			return issueTypeId;
+		}
+	}
+}
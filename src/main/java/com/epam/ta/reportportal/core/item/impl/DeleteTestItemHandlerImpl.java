@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.attachment.DeleteTestItemAttachmentsEvent;
 import com.epam.ta.reportportal.core.item.DeleteTestItemHandler;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -33,13 +34,15 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import org.springframework.beans.factory.annotation.Autowired;
+import com.google.common.collect.Lists;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
@@ -59,6 +62,13 @@ import static java.util.stream.Collectors.toList;
 @Service
 public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 
+	private static final int DELETE_CHUNK_SIZE = 500;
+
+	/**
+	 * Descendants, logs and the other dependent rows are removed by the database cascades
+	 */
+	private static final String DELETE_ITEMS_SQL = "DELETE FROM test_item WHERE item_id IN (:ids)";
+
 	private final TestItemRepository testItemRepository;
 
 	private final LogRepository logRepository;
@@ -69,14 +79,21 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private final PathNameCache pathNameCache;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
 	@Autowired
 	public DeleteTestItemHandlerImpl(TestItemRepository testItemRepository, LogRepository logRepository, LogIndexer logIndexer,
-			LaunchRepository launchRepository, ApplicationEventPublisher eventPublisher) {
+			LaunchRepository launchRepository, ApplicationEventPublisher eventPublisher, PathNameCache pathNameCache,
+			NamedParameterJdbcTemplate jdbcTemplate) {
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
 		this.logIndexer = logIndexer;
 		this.launchRepository = launchRepository;
 		this.eventPublisher = eventPublisher;
+		this.pathNameCache = pathNameCache;
+		this.jdbcTemplate = jdbcTemplate;
 	}
 
 	@Override
@@ -92,6 +109,7 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 		Optional<TestItem> parent = ofNullable(item.getParent());
 
 		testItemRepository.deleteById(item.getItemId());
+		pathNameCache.evictByLaunchIds(Collections.singletonList(launch.getId()));
 
 		logIndexer.cleanIndex(projectDetails.getProjectId(), logRepository.findIdsByTestItemId(item.getItemId()));
 
@@ -104,10 +122,63 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 		return new OperationCompletionRS("Test Item with ID = '" + itemId + "' has been successfully deleted.");
 	}
 
+	/**
+	 * Loads items and their launches with a single query each, validates all of them before the removal,
+	 * removes only the topmost of the specified items by chunks and recalculates every affected launch and parent once
+	 */
 	@Override
 	public List<OperationCompletionRS> deleteTestItem(Long[] ids, ReportPortalUser.ProjectDetails projectDetails,
 			ReportPortalUser reportPortalUser) {
-		return Stream.of(ids).map(it -> deleteTestItem(it, projectDetails, reportPortalUser)).collect(toList());
+		List<Long> itemIds = Stream.of(ids).distinct().collect(toList());
+		if (itemIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Long, TestItem> items = testItemRepository.findAllById(itemIds)
+				.stream()
+				.collect(Collectors.toMap(TestItem::getItemId, Function.identity()));
+		Map<Long, Launch> launches = launchRepository.findAllById(items.values().stream().map(TestItem::getLaunchId).distinct().collect(toList()))
+				.stream()
+				.collect(Collectors.toMap(Launch::getId, Function.identity()));
+		itemIds.forEach(id -> {
+			TestItem item = ofNullable(items.get(id)).orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, id));
+			Launch launch = ofNullable(launches.get(item.getLaunchId())).orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND,
+					item.getLaunchId()
+			));
+			validate(item, launch, reportPortalUser, projectDetails);
+		});
+
+		Set<Long> deletedIds = items.keySet();
+		List<TestItem> topmostItems = items.values().stream().filter(item -> !hasAncestorIn(item, deletedIds)).collect(toList());
+
+		logIndexer.cleanIndex(projectDetails.getProjectId(), logRepository.findIdsByTestItemIds(itemIds));
+		Lists.partition(topmostItems.stream().map(TestItem::getItemId).collect(toList()), DELETE_CHUNK_SIZE)
+				.forEach(chunk -> jdbcTemplate.update(DELETE_ITEMS_SQL, Collections.singletonMap("ids", chunk)));
+		pathNameCache.evictByLaunchIds(launches.keySet());
+
+		launches.values().forEach(launch -> launch.setHasRetries(launchRepository.hasRetries(launch.getId())));
+		topmostItems.stream()
+				.map(TestItem::getParent)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toMap(TestItem::getItemId, Function.identity(), (first, second) -> first))
+				.values()
+				.forEach(parent -> parent.setHasChildren(testItemRepository.hasChildren(parent.getItemId(), parent.getPath())));
+
+		eventPublisher.publishEvent(new DeleteTestItemAttachmentsEvent(itemIds));
+
+		return itemIds.stream()
+				.map(id -> new OperationCompletionRS("Test Item with ID = '" + id + "' has been successfully deleted."))
+				.collect(toList());
+	}
+
+	/**
+	 * Path of the item consists of the ids of its ancestors and of the item itself
+	 */
+	private static boolean hasAncestorIn(TestItem item, Set<Long> itemIds) {
+		if (item.getPath() == null) {
+			return false;
+		}
+		String[] path = item.getPath().split("\\.");
+		return Arrays.stream(path, 0, path.length - 1).map(Long::valueOf).anyMatch(itemIds::contains);
 	}
 
 	/**
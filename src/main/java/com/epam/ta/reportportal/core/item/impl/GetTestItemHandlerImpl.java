@@ -25,6 +25,7 @@ import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.item.GetTestItemHandler;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
 import com.epam.ta.reportportal.dao.ItemAttributeRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
@@ -37,11 +38,12 @@ import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.entity.item.PathName;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
 import com.epam.ta.reportportal.ws.converter.TestItemResourceAssembler;
+import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
+import com.epam.ta.reportportal.ws.handler.impl.QueryProjectionFinder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
 import com.epam.ta.reportportal.ws.model.launch.Mode;
@@ -55,10 +57,8 @@ import org.springframework.stereotype.Service;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
-import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_PROJECT_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.LaunchCriteriaConstant.CRITERIA_LAUNCH_MODE;
 import static com.epam.ta.reportportal.commons.querygen.constant.LaunchCriteriaConstant.CRITERIA_LAUNCH_STATUS;
@@ -66,6 +66,8 @@ import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.LAUNCHES_COUNT;
 import static com.epam.ta.reportportal.entity.project.ProjectRole.OPERATOR;
+import static com.epam.ta.reportportal.jooq.Tables.LAUNCH;
+import static com.epam.ta.reportportal.jooq.Tables.TEST_ITEM;
 import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
@@ -92,24 +94,37 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 
 	private final GetShareableEntityHandler<UserFilter> getShareableEntityHandler;
 
+	private final PathNameCache pathNameCache;
+
+	private final TestItemProjectionFinder testItemProjectionFinder;
+
+	private final QueryProjectionFinder queryProjectionFinder;
+
 	@Autowired
 	public GetTestItemHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ItemAttributeRepository itemAttributeRepository, TestItemResourceAssembler itemResourceAssembler,
-			TicketRepository ticketRepository, GetShareableEntityHandler<UserFilter> getShareableEntityHandler) {
+			TicketRepository ticketRepository, GetShareableEntityHandler<UserFilter> getShareableEntityHandler,
+			PathNameCache pathNameCache, TestItemProjectionFinder testItemProjectionFinder, QueryProjectionFinder queryProjectionFinder) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.itemAttributeRepository = itemAttributeRepository;
 		this.itemResourceAssembler = itemResourceAssembler;
 		this.ticketRepository = ticketRepository;
 		this.getShareableEntityHandler = getShareableEntityHandler;
+		this.pathNameCache = pathNameCache;
+		this.testItemProjectionFinder = testItemProjectionFinder;
+		this.queryProjectionFinder = queryProjectionFinder;
 	}
 
 	@Override
 	public TestItemResource getTestItem(Long testItemId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
 		TestItem testItem = testItemRepository.findById(testItemId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, testItemId));
-		validate(testItem.getLaunchId(), projectDetails, user);
-		Map<Long, PathName> pathNamesMapping = getPathNamesMapping(Collections.singletonList(testItem), projectDetails.getProjectId());
+		Launch launch = validate(testItem.getLaunchId(), projectDetails, user);
+		Map<Long, PathName> pathNamesMapping = getPathNamesMapping(Collections.singletonList(testItem),
+				projectDetails.getProjectId(),
+				isFinished(launch)
+		);
 		return itemResourceAssembler.toResource(testItem, pathNamesMapping.get(testItem.getItemId()));
 	}
 
@@ -117,8 +132,11 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 	public TestItemResource getTestItem(String testItemId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
 		TestItem testItem = testItemRepository.findByUuid(testItemId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, testItemId));
-		validate(testItem.getLaunchId(), projectDetails, user);
-		Map<Long, PathName> pathNamesMapping = getPathNamesMapping(Collections.singletonList(testItem), projectDetails.getProjectId());
+		Launch launch = validate(testItem.getLaunchId(), projectDetails, user);
+		Map<Long, PathName> pathNamesMapping = getPathNamesMapping(Collections.singletonList(testItem),
+				projectDetails.getProjectId(),
+				isFinished(launch)
+		);
 		return itemResourceAssembler.toResource(testItem, pathNamesMapping.get(testItem.getItemId()));
 	}
 
@@ -129,19 +147,20 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		Optional<Long> launchIdOptional = Optional.ofNullable(launchId);
 		Optional<Long> filterIdOptional = Optional.ofNullable(filterId);
 
-		Page<TestItem> testItemPage = filterIdOptional.map(launchFilterId -> {
+		/* Launches filter excludes launches in progress */
+		boolean finishedLaunch = filterIdOptional.isPresent() || launchIdOptional.map(id -> isFinished(validate(id, projectDetails, user)))
+				.orElse(false);
+
+		Page<Long> itemIdPage = filterIdOptional.map(launchFilterId -> {
 			validateProjectRole(projectDetails, user);
 			return getItemsWithLaunchesFiltering(filter, pageable, projectDetails, launchFilterId, isLatest, launchesLimit);
-		}).orElseGet(() -> launchIdOptional.map(id -> {
-			validate(id, projectDetails, user);
-			return testItemRepository.findByFilter(filter, pageable);
-		}).orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Neither launch nor filter id specified.")));
-
-		Map<Long, PathName> pathNamesMapping = getPathNamesMapping(testItemPage.getContent(), projectDetails.getProjectId());
+		}).orElseGet(() -> launchIdOptional.map(id -> queryProjectionFinder.findIdsPage(filter, pageable, TEST_ITEM.ITEM_ID))
+				.orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Neither launch nor filter id specified.")));
 
-		return PagedResourcesAssembler.<TestItem, TestItemResource>pageConverter(item -> itemResourceAssembler.toResource(item,
-				pathNamesMapping.get(item.getItemId())
-		)).apply(testItemPage);
+		return PagedResourcesAssembler.<Long, TestItemResource>pageContentConverter(itemIds -> toResources(itemIds,
+				projectDetails.getProjectId(),
+				finishedLaunch
+		)).apply(itemIdPage);
 	}
 
 	@Override
@@ -173,16 +192,16 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 
 	@Override
 	public List<TestItemResource> getTestItems(Long[] ids, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
-		List<TestItem> items;
 		if (user.getUserRole() != UserRole.ADMINISTRATOR) {
-			items = testItemRepository.findByFilter(getItemsFilter(ids, projectDetails));
-		} else {
-			items = testItemRepository.findAllById(Arrays.asList(ids));
+			return testItemProjectionFinder.findPermitted(Arrays.asList(ids),
+					projectDetails.getProjectId(),
+					projectDetails.getProjectRole() == OPERATOR
+			);
 		}
-		return items.stream().map(itemResourceAssembler::toResource).collect(toList());
+		return testItemProjectionFinder.findByIds(Arrays.asList(ids));
 	}
 
-	private void validate(Long launchId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
+	private Launch validate(Long launchId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
 		Launch launch = launchRepository.findById(launchId).orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, launchId));
 		if (user.getUserRole() != UserRole.ADMINISTRATOR) {
 			expect(launch.getProjectId(), equalTo(projectDetails.getProjectId())).verify(FORBIDDEN_OPERATION, formattedSupplier(
@@ -194,6 +213,7 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 					Predicate.isEqual(false)
 			).verify(ACCESS_DENIED);
 		}
+		return launch;
 	}
 
 	private void validateProjectRole(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
@@ -202,27 +222,21 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		}
 	}
 
-	private Filter getItemsFilter(Long[] ids, ReportPortalUser.ProjectDetails projectDetails) {
-		final Filter filter = Filter.builder()
-				.withTarget(TestItem.class)
-				.withCondition(FilterCondition.builder().eq(CRITERIA_PROJECT_ID, String.valueOf(projectDetails.getProjectId())).build())
-				.withCondition(FilterCondition.builder()
-						.withSearchCriteria(CRITERIA_ID)
-						.withCondition(Condition.IN)
-						.withValue(Arrays.stream(ids).map(Object::toString).collect(Collectors.joining(",")))
-						.build())
-				.build();
-		return projectDetails.getProjectRole() != ProjectRole.OPERATOR ?
-				filter :
-				filter.withCondition(FilterCondition.builder().eq(CRITERIA_LAUNCH_MODE, LaunchModeEnum.DEFAULT.name()).build());
-	}
-
-	private Page<TestItem> getItemsWithLaunchesFiltering(Queryable testItemFilter, Pageable testItemPageable,
+	private Page<Long> getItemsWithLaunchesFiltering(Queryable testItemFilter, Pageable testItemPageable,
 			ReportPortalUser.ProjectDetails projectDetails, Long launchFilterId, boolean isLatest, int launchesLimit) {
 		UserFilter userFilter = getShareableEntityHandler.getPermitted(launchFilterId, projectDetails);
 		Queryable launchFilter = createLaunchFilter(projectDetails, userFilter);
 		Pageable launchPageable = createLaunchPageable(userFilter, launchesLimit);
-		return testItemRepository.findByFilter(isLatest, launchFilter, testItemFilter, launchPageable, testItemPageable);
+
+		Page<Long> launchIdPage = isLatest ?
+				queryProjectionFinder.findIdsPage(launchFilter,
+						launchPageable,
+						LAUNCH.ID,
+						queryProjectionFinder.latestIdsCondition(launchFilter, LAUNCH.ID, LAUNCH.NAME, LAUNCH.NUMBER)
+				) :
+				queryProjectionFinder.findIdsPage(launchFilter, launchPageable, LAUNCH.ID);
+		List<Long> launchIds = launchIdPage.getContent();
+		return queryProjectionFinder.findIdsPage(testItemFilter, testItemPageable, TEST_ITEM.ITEM_ID, TEST_ITEM.LAUNCH_ID.in(launchIds));
 	}
 
 	private Filter createLaunchFilter(ReportPortalUser.ProjectDetails projectDetails, UserFilter launchFilter) {
@@ -264,7 +278,24 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		return PageRequest.of(0, launchesLimit, sort);
 	}
 
-	private Map<Long, PathName> getPathNamesMapping(List<TestItem> testItems, Long projectId) {
-		return testItemRepository.selectPathNames(testItems.stream().map(TestItem::getItemId).collect(toList()), projectId);
+	/**
+	 * Reads resources of the page items as projections, path names are resolved by the ids of the items and their launches
+	 */
+	private List<TestItemResource> toResources(List<Long> itemIds, Long projectId, boolean finishedLaunch) {
+		List<TestItemResource> resources = testItemProjectionFinder.findByIds(itemIds);
+		Map<Long, Long> launchIds = new LinkedHashMap<>(resources.size());
+		resources.forEach(resource -> launchIds.put(resource.getItemId(), resource.getLaunchId()));
+		Map<Long, PathName> pathNamesMapping = pathNameCache.getPathNames(projectId, launchIds, finishedLaunch);
+		resources.forEach(resource -> ofNullable(pathNamesMapping.get(resource.getItemId())).ifPresent(pathName -> resource.setPathNames(
+				TestItemConverter.PATH_NAME_TO_RESOURCE.apply(pathName))));
+		return resources;
+	}
+
+	private Map<Long, PathName> getPathNamesMapping(List<TestItem> testItems, Long projectId, boolean finishedLaunch) {
+		return pathNameCache.getPathNames(projectId, testItems, finishedLaunch);
+	}
+
+	private static boolean isFinished(Launch launch) {
+		return launch.getStatus() != StatusEnum.IN_PROGRESS;
 	}
 }
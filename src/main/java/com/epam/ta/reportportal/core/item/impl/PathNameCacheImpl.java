@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.core.item.PathNameCache;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.PathName;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine based {@link PathNameCache} bounded by the number of entries.
+ * Items without path names (root items) are cached as well, so a page with all the items cached requires no queries.
+ * Entries expire after TTL to limit the staleness of data removed by another instance.
+ */
+@Service
+public class PathNameCacheImpl implements PathNameCache {
+
+	private static final String METRIC_NAME = "rp.item.pathnames.cache";
+
+	private final TestItemRepository testItemRepository;
+
+	private final Cache<Long, CachedPathName> cache;
+
+	@Autowired
+	public PathNameCacheImpl(TestItemRepository testItemRepository, MeterRegistry meterRegistry,
+			@Value("${rp.item.pathnames.cache.size:100000}") long maximumSize,
+			@Value("${rp.item.pathnames.cache.ttl:3600}") long ttl) {
+		this.testItemRepository = testItemRepository;
+		this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl, TimeUnit.SECONDS).recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+	}
+
+	@Override
+	public Map<Long, PathName> getPathNames(Long projectId, Collection<TestItem> testItems, boolean finishedLaunch) {
+		Map<Long, Long> launchIds = new LinkedHashMap<>(testItems.size());
+		testItems.forEach(item -> launchIds.put(item.getItemId(), item.getLaunchId()));
+		return getPathNames(projectId, launchIds, finishedLaunch);
+	}
+
+	@Override
+	public Map<Long, PathName> getPathNames(Long projectId, Map<Long, Long> launchIds, boolean finishedLaunch) {
+		Map<Long, PathName> result = new HashMap<>(launchIds.size());
+		List<Long> missed = new ArrayList<>();
+		Map<Long, CachedPathName> cached = cache.getAllPresent(launchIds.keySet());
+		launchIds.keySet().forEach(itemId -> {
+			CachedPathName entry = cached.get(itemId);
+			if (entry != null && entry.getProjectId().equals(projectId)) {
+				if (entry.getPathName() != null) {
+					result.put(itemId, entry.getPathName());
+				}
+			} else {
+				missed.add(itemId);
+			}
+		});
+		if (missed.isEmpty()) {
+			return result;
+		}
+
+		Map<Long, PathName> loaded = testItemRepository.selectPathNames(missed, projectId);
+		result.putAll(loaded);
+		if (finishedLaunch) {
+			missed.forEach(itemId -> cache.put(itemId, new CachedPathName(projectId, launchIds.get(itemId), loaded.get(itemId))));
+		}
+		return result;
+	}
+
+	@Override
+	public void evictByLaunchIds(Collection<Long> launchIds) {
+		if (!launchIds.isEmpty()) {
+			Set<Long> ids = new HashSet<>(launchIds);
+			cache.asMap().values().removeIf(entry -> ids.contains(entry.getLaunchId()));
+		}
+	}
+
+	private static final class CachedPathName {
+
+		private final Long projectId;
+
+		private final Long launchId;
+
+		private final PathName pathName;
+
+		private CachedPathName(Long projectId, Long launchId, PathName pathName) {
+			this.projectId = projectId;
+			this.launchId = launchId;
+			this.pathName = pathName;
+		}
+
+		Long getProjectId() {
+			return projectId;
+		}
+
+		Long getLaunchId() {
+			return launchId;
+		}
+
+		PathName getPathName() {
+			return pathName;
+		}
+	}
+}
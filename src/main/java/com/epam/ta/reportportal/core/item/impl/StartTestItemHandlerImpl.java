@@ -99,6 +99,9 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 		TestItem item = new TestItemBuilder().addStartItemRequest(rq).addAttributes(rq.getAttributes()).addLaunchId(launch.getId()).get();
 		testItemRepository.save(item);
 		generateUniqueId(launch, item, String.valueOf(item.getItemId()));
+		if (launch.isRerun()) {
+			rerunHandler.handleNewItem(launch, item);
+		}
 
 		LOGGER.debug("Created new root TestItem {}", item.getUuid());
 		return new ItemCreatedRS(item.getUuid(), item.getUniqueId());
@@ -134,6 +137,9 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 		if (BooleanUtils.toBoolean(rq.isRetry())) {
 			handleRetries(launch, item);
 		}
+		if (launch.isRerun()) {
+			rerunHandler.handleNewItem(launch, item);
+		}
 
 		LOGGER.debug("Created new child TestItem {} with root {}", item.getUuid(), parentId);
 		return new ItemCreatedRS(item.getUuid(), item.getUniqueId());
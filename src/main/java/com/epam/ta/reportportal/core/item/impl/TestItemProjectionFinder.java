@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.commons.EntityUtils;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.converter.converters.StatisticsConverter;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributeResource;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Reads test items of the list views as {@link TestItemResource} projections: columns rendered by the list
+ * together with attributes, parameters, tickets, statistics and pattern names aggregated per row are selected
+ * with a single query for the items and their retries, so no entity graph is loaded.
+ * Single-object reads keep loading the entities.
+ */
+@Component
+public class TestItemProjectionFinder {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private static final String PROJECTION_SQL =
+			"SELECT ti.item_id, ti.uuid, ti.name, ti.code_ref, ti.type, ti.start_time, ti.description, ti.path, ti.unique_id, "
+					+ "ti.test_case_id, ti.test_case_hash, ti.has_children, ti.has_stats, ti.parent_id, ti.retry_of, ti.launch_id, "
+					+ "tir.status, tir.end_time, i.issue_id, it.locator, i.issue_description, i.auto_analyzed, i.ignore_analyzer, "
+					+ "(SELECT json_agg(json_build_object('key', ia.key, 'value', ia.value)) FROM item_attribute ia "
+					+ "WHERE ia.item_id = ti.item_id AND NOT ia.system) AS attributes, "
+					+ "(SELECT json_agg(json_build_object('key', p.key, 'value', p.value)) FROM parameter p "
+					+ "WHERE p.item_id = ti.item_id) AS parameters, "
+					+ "(SELECT json_agg(json_build_object('ticketId', t.ticket_id, 'btsUrl', t.bts_url, 'btsProject', t.bts_project, "
+					+ "'url', t.url)) FROM issue_ticket itk JOIN ticket t ON itk.ticket_id = t.id "
+					+ "WHERE itk.issue_id = i.issue_id) AS tickets, "
+					+ "(SELECT json_object_agg(sf.name, s.s_counter) FROM statistics s "
+					+ "JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id WHERE s.item_id = ti.item_id AND s.s_counter > 0) "
+					+ "AS statistics, "
+					+ "(SELECT array_agg(pt.name) FROM pattern_template_test_item ptti JOIN pattern_template pt ON ptti.pattern_id = pt.id "
+					+ "WHERE ptti.item_id = ti.item_id) AS patterns "
+					+ "FROM test_item ti LEFT JOIN test_item_results tir ON ti.item_id = tir.result_id "
+					+ "LEFT JOIN issue i ON ti.item_id = i.issue_id LEFT JOIN issue_type it ON i.issue_type = it.id "
+					+ "WHERE ti.item_id IN (SELECT item_id FROM requested) OR ti.retry_of IN (SELECT item_id FROM requested) "
+					+ "ORDER BY ti.item_id";
+
+	private static final String REQUESTED_SQL = "WITH requested AS (SELECT item_id FROM test_item WHERE item_id IN (:ids)) ";
+
+	private static final String PERMITTED_SQL =
+			"WITH requested AS (SELECT ti.item_id FROM test_item ti JOIN launch l ON ti.launch_id = l.id WHERE ti.item_id IN (:ids) "
+					+ "AND l.project_id = :projectId AND (NOT :defaultModeOnly OR CAST(l.mode AS VARCHAR) = 'DEFAULT')) ";
+
+	private static final TypeReference<List<Map<String, String>>> PAIRS_TYPE = new TypeReference<List<Map<String, String>>>() {
+	};
+
+	private static final TypeReference<List<Issue.ExternalSystemIssue>> TICKETS_TYPE =
+			new TypeReference<List<Issue.ExternalSystemIssue>>() {
+			};
+
+	private static final TypeReference<Map<String, Integer>> COUNTERS_TYPE = new TypeReference<Map<String, Integer>>() {
+	};
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public TestItemProjectionFinder(NamedParameterJdbcTemplate jdbcTemplate, @Qualifier("objectMapper") ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * @param itemIds Ids of the items
+	 * @return Resources of the existing items with their retries in the order of the provided ids
+	 */
+	public List<TestItemResource> findByIds(List<Long> itemIds) {
+		return find(itemIds, REQUESTED_SQL, new MapSqlParameterSource());
+	}
+
+	/**
+	 * @param itemIds         Ids of the items
+	 * @param projectId       Id of the project the items should belong to
+	 * @param defaultModeOnly Whether items of the launches in the debug mode should be skipped
+	 * @return Resources of the permitted items with their retries in the order of the provided ids
+	 */
+	public List<TestItemResource> findPermitted(List<Long> itemIds, Long projectId, boolean defaultModeOnly) {
+		return find(itemIds,
+				PERMITTED_SQL,
+				new MapSqlParameterSource("projectId", projectId).addValue("defaultModeOnly", defaultModeOnly)
+		);
+	}
+
+	private List<TestItemResource> find(List<Long> itemIds, String requestedSql, MapSqlParameterSource params) {
+		Map<Long, TestItemResource> resources = new HashMap<>(itemIds.size());
+		Map<Long, List<TestItemResource>> retries = new HashMap<>();
+		Set<Long> requested = new LinkedHashSet<>(itemIds);
+		Iterables.partition(requested, CHUNK_SIZE).forEach(chunk -> {
+			MapSqlParameterSource chunkParams = new MapSqlParameterSource(params.getValues()).addValue("ids", chunk);
+			jdbcTemplate.query(requestedSql + PROJECTION_SQL, chunkParams, (RowCallbackHandler) rs -> {
+				TestItemResource resource = toResource(rs);
+				if (requested.contains(resource.getItemId())) {
+					resources.put(resource.getItemId(), resource);
+				}
+				ofNullable(rs.getObject("retry_of", Long.class)).ifPresent(retryOf -> retries.computeIfAbsent(retryOf,
+						id -> new ArrayList<>()
+				).add(resource));
+			});
+		});
+
+		List<TestItemResource> result = new ArrayList<>(resources.size());
+		requested.forEach(id -> ofNullable(resources.get(id)).ifPresent(resource -> {
+			ofNullable(retries.get(id)).ifPresent(resource::setRetries);
+			result.add(resource);
+		}));
+		return result;
+	}
+
+	private TestItemResource toResource(ResultSet rs) throws SQLException {
+		TestItemResource resource = new TestItemResource();
+		resource.setItemId(rs.getLong("item_id"));
+		resource.setUuid(rs.getString("uuid"));
+		resource.setName(rs.getString("name"));
+		resource.setCodeRef(rs.getString("code_ref"));
+		resource.setType(rs.getString("type"));
+		resource.setStartTime(EntityUtils.TO_DATE.apply(rs.getObject("start_time", LocalDateTime.class)));
+		resource.setEndTime(EntityUtils.TO_DATE.apply(rs.getObject("end_time", LocalDateTime.class)));
+		resource.setDescription(rs.getString("description"));
+		resource.setPath(rs.getString("path"));
+		resource.setUniqueId(rs.getString("unique_id"));
+		resource.setTestCaseId(rs.getString("test_case_id"));
+		resource.setTestCaseHash(rs.getInt("test_case_hash"));
+		resource.setHasChildren(rs.getBoolean("has_children"));
+		resource.setHasStats(rs.getBoolean("has_stats"));
+		resource.setParent(rs.getObject("parent_id", Long.class));
+		resource.setLaunchId(rs.getObject("launch_id", Long.class));
+		resource.setStatus(rs.getString("status"));
+
+		Set<ItemAttributeResource> attributes = new HashSet<>();
+		readJson(rs.getString("attributes"), PAIRS_TYPE).ifPresent(pairs -> pairs.forEach(pair -> attributes.add(new ItemAttributeResource(
+				pair.get("key"),
+				pair.get("value")
+		))));
+		resource.setAttributes(attributes);
+
+		List<ParameterResource> parameters = new ArrayList<>();
+		readJson(rs.getString("parameters"), PAIRS_TYPE).ifPresent(pairs -> pairs.forEach(pair -> {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(pair.get("key"));
+			parameter.setValue(pair.get("value"));
+			parameters.add(parameter);
+		}));
+		resource.setParameters(parameters);
+
+		if (rs.getObject("issue_id") != null) {
+			Issue issue = new Issue();
+			issue.setIssueType(rs.getString("locator"));
+			issue.setAutoAnalyzed(rs.getBoolean("auto_analyzed"));
+			issue.setIgnoreAnalyzer(rs.getBoolean("ignore_analyzer"));
+			issue.setComment(rs.getString("issue_description"));
+			issue.setExternalSystemIssues(new HashSet<>(readJson(rs.getString("tickets"), TICKETS_TYPE).orElseGet(Collections::emptyList)));
+			resource.setIssue(issue);
+		}
+
+		resource.setStatisticsResource(StatisticsConverter.COUNTERS_TO_RESOURCE.apply(readJson(rs.getString("statistics"),
+				COUNTERS_TYPE
+		).orElseGet(Collections::emptyMap)));
+
+		Set<String> patterns = new HashSet<>();
+		Array patternsArray = rs.getArray("patterns");
+		if (patternsArray != null) {
+			patterns.addAll(Arrays.asList((String[]) patternsArray.getArray()));
+		}
+		resource.setPatternTemplates(patterns);
+		resource.setRetries(new ArrayList<>());
+		return resource;
+	}
+
+	private <T> Optional<T> readJson(String json, TypeReference<T> type) {
+		if (json == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(json, type));
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to read aggregated values of the test item", e);
+		}
+	}
+}
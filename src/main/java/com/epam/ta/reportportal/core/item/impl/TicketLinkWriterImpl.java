@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.core.item.TicketLinkWriter;
+import com.epam.ta.reportportal.entity.bts.Ticket;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static java.util.Optional.ofNullable;
+
+@Service
+public class TicketLinkWriterImpl implements TicketLinkWriter {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private static final String SELECT_TARGETS =
+			"SELECT ti.item_id, ti.has_children, tir.status, i.issue_id, i.issue_type FROM test_item ti "
+					+ "LEFT JOIN test_item_results tir ON ti.item_id = tir.result_id LEFT JOIN issue i ON ti.item_id = i.issue_id "
+					+ "WHERE ti.item_id IN (:itemIds)";
+
+	private static final String UPSERT_TICKETS =
+			"WITH rq (ticket_id, submitter, submit_date, bts_url, bts_project, url) AS (VALUES :tickets), "
+					+ "inserted AS (INSERT INTO ticket (ticket_id, submitter, submit_date, bts_url, bts_project, url) "
+					+ "SELECT rq.ticket_id, rq.submitter, rq.submit_date, rq.bts_url, rq.bts_project, rq.url FROM rq "
+					+ "WHERE NOT EXISTS (SELECT 1 FROM ticket t WHERE t.ticket_id = rq.ticket_id) RETURNING id, ticket_id) "
+					+ "SELECT id, ticket_id FROM inserted "
+					+ "UNION ALL SELECT id, ticket_id FROM ticket WHERE ticket_id IN (SELECT ticket_id FROM rq)";
+
+	private static final String INSERT_LINK = "INSERT INTO issue_ticket (issue_id, ticket_id) SELECT ?, ? "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM issue_ticket WHERE issue_id = ? AND ticket_id = ?)";
+
+	private static final String RESET_AUTO_ANALYZED = "UPDATE issue SET auto_analyzed = FALSE WHERE issue_id IN (:issueIds)";
+
+	private static final String DELETE_LINKS =
+			"WITH removed AS (DELETE FROM issue_ticket it USING ticket t WHERE it.ticket_id = t.id AND it.issue_id IN (:issueIds) "
+					+ "AND t.ticket_id IN (:ticketIds) RETURNING it.issue_id) "
+					+ "UPDATE issue SET auto_analyzed = FALSE WHERE issue_id IN (SELECT issue_id FROM removed) RETURNING issue_id";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public TicketLinkWriterImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public List<LinkTarget> findTargets(Collection<Long> itemIds) {
+		List<LinkTarget> targets = new ArrayList<>(itemIds.size());
+		Iterables.partition(new LinkedHashSet<>(itemIds), CHUNK_SIZE)
+				.forEach(chunk -> targets.addAll(jdbcTemplate.query(SELECT_TARGETS,
+						new MapSqlParameterSource("itemIds", chunk),
+						(rs, rowNum) -> new LinkTarget(rs.getLong("item_id"),
+								rs.getBoolean("has_children"),
+								rs.getString("status"),
+								rs.getObject("issue_id", Long.class),
+								rs.getObject("issue_type", Long.class)
+						)
+				)));
+		return targets;
+	}
+
+	@Override
+	public Map<String, Long> saveTickets(Collection<Ticket> tickets) {
+		Map<String, Long> ids = new HashMap<>();
+		if (tickets.isEmpty()) {
+			return ids;
+		}
+		List<Object[]> rows = new ArrayList<>(tickets.size());
+		tickets.forEach(ticket -> rows.add(new Object[] { ticket.getTicketId(), ticket.getSubmitter(),
+				Timestamp.valueOf(ofNullable(ticket.getSubmitDate()).orElseGet(LocalDateTime::now)), ticket.getBtsUrl(),
+				ticket.getBtsProject(), ticket.getUrl() }));
+		jdbcTemplate.query(UPSERT_TICKETS,
+				new MapSqlParameterSource("tickets", rows),
+				rs -> {
+					ids.putIfAbsent(rs.getString("ticket_id"), rs.getLong("id"));
+				}
+		);
+		return ids;
+	}
+
+	@Override
+	public Set<Long> link(Collection<Long> issueIds, Collection<Long> ticketIds) {
+		Set<Long> linked = new HashSet<>();
+		if (issueIds.isEmpty() || ticketIds.isEmpty()) {
+			return linked;
+		}
+		List<long[]> links = new ArrayList<>(issueIds.size() * ticketIds.size());
+		issueIds.forEach(issueId -> ticketIds.forEach(ticketId -> links.add(new long[] { issueId, ticketId })));
+		for (List<long[]> chunk : Lists.partition(links, CHUNK_SIZE)) {
+			int[] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_LINK, chunk, chunk.size(), (ps, link) -> {
+				ps.setLong(1, link[0]);
+				ps.setLong(2, link[1]);
+				ps.setLong(3, link[0]);
+				ps.setLong(4, link[1]);
+			})[0];
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+					linked.add(chunk.get(i)[0]);
+				}
+			}
+		}
+		Iterables.partition(issueIds, CHUNK_SIZE)
+				.forEach(chunk -> jdbcTemplate.update(RESET_AUTO_ANALYZED, new MapSqlParameterSource("issueIds", chunk)));
+		return linked;
+	}
+
+	@Override
+	public Set<Long> unlink(Collection<Long> issueIds, Collection<String> ticketIds) {
+		Set<Long> unlinked = new HashSet<>();
+		if (issueIds.isEmpty() || ticketIds.isEmpty()) {
+			return unlinked;
+		}
+		Iterables.partition(issueIds, CHUNK_SIZE)
+				.forEach(chunk -> unlinked.addAll(jdbcTemplate.queryForList(DELETE_LINKS,
+						new MapSqlParameterSource("issueIds", chunk).addValue("ticketIds", ticketIds),
+						Long.class
+				)));
+		return unlinked;
+	}
+}
@@ -22,8 +22,9 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.activity.BulkLinkTicketEvent;
 import com.epam.ta.reportportal.core.events.activity.ItemIssueTypeDefinedEvent;
-import com.epam.ta.reportportal.core.events.activity.LinkTicketEvent;
+import com.epam.ta.reportportal.core.item.TicketLinkWriter;
 import com.epam.ta.reportportal.core.item.UpdateTestItemHandler;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
 import com.epam.ta.reportportal.dao.*;
@@ -70,7 +71,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.*;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
@@ -113,11 +113,13 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 	private final Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping;
 
+	private final TicketLinkWriter ticketLinkWriter;
+
 	@Autowired
 	public UpdateTestItemHandlerImpl(ProjectRepository projectRepository, LaunchRepository launchRepository,
 			TestItemRepository testItemRepository, LogRepository logRepository, TicketRepository ticketRepository,
 			IssueTypeHandler issueTypeHandler, MessageBus messageBus, LogIndexer logIndexer, IssueEntityRepository issueEntityRepository,
-			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping) {
+			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping, TicketLinkWriter ticketLinkWriter) {
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
@@ -128,6 +130,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		this.logIndexer = logIndexer;
 		this.issueEntityRepository = issueEntityRepository;
 		this.statusChangingStrategyMapping = statusChangingStrategyMapping;
+		this.ticketLinkWriter = ticketLinkWriter;
 	}
 
 	@Override
@@ -210,7 +213,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		if (!logIdsToCleanIndex.isEmpty()) {
 			logIndexer.cleanIndex(project.getId(), logIdsToCleanIndex);
 		}
-		events.forEach(messageBus::publishActivity);
+		messageBus.publishActivities(events);
 		return updated;
 	}
 
@@ -240,40 +243,47 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		return new OperationCompletionRS("TestItem with ID = '" + testItem.getItemId() + "' successfully updated.");
 	}
 
+	/**
+	 * Links or unlinks the tickets of all the items with set-based statements and publishes a single activity of the request
+	 */
 	@Override
 	public List<OperationCompletionRS> processExternalIssues(ExternalIssueRQ request, ReportPortalUser.ProjectDetails projectDetails,
 			ReportPortalUser user) {
 		List<String> errors = new ArrayList<>();
+		List<TicketLinkWriter.LinkTarget> targets = ticketLinkWriter.findTargets(request.getTestItemIds());
+		targets.forEach(target -> {
+			try {
+				verifyLinkTarget(target);
+			} catch (BusinessRuleViolationException e) {
+				errors.add(e.getMessage());
+			}
+		});
+		expect(errors.isEmpty(), equalTo(TRUE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
 
-		List<TestItem> testItems = testItemRepository.findAllById(request.getTestItemIds());
-		List<TestItemActivityResource> before = testItems.stream()
-				.map(it -> TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId()))
-				.collect(Collectors.toList());
-
+		List<Long> issueIds = targets.stream().map(TicketLinkWriter.LinkTarget::getIssueId).collect(toList());
+		Set<Long> changedIssueIds = Collections.emptySet();
+		List<String> ticketIds = Collections.emptyList();
+		ActivityAction action = ActivityAction.LINK_ISSUE;
 		if (request.getClass().equals(LinkExternalIssueRQ.class)) {
-			LinkExternalIssueRQ linkRequest = (LinkExternalIssueRQ) request;
-			List<Ticket> existedTickets = collectExistedTickets(linkRequest.getIssues());
-			Set<Ticket> ticketsFromRq = collectTickets(linkRequest.getIssues(), user.getUsername());
-			linkIssues(testItems, existedTickets, ticketsFromRq, errors);
+			Map<String, Ticket> tickets = toTickets(((LinkExternalIssueRQ) request).getIssues(), user.getUsername());
+			ticketIds = new ArrayList<>(tickets.keySet());
+			changedIssueIds = ticketLinkWriter.link(issueIds, ticketLinkWriter.saveTickets(tickets.values()).values());
 		}
-
 		if (request.getClass().equals(UnlinkExternalIssueRQ.class)) {
-			unlinkIssues(testItems, (UnlinkExternalIssueRQ) request, errors);
+			ticketIds = ((UnlinkExternalIssueRQ) request).getTicketIds();
+			changedIssueIds = ticketLinkWriter.unlink(issueIds, ticketIds);
+			action = ActivityAction.UNLINK_ISSUE;
 		}
-		expect(errors.isEmpty(), equalTo(TRUE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
-		testItemRepository.saveAll(testItems);
-		List<TestItemActivityResource> after = testItems.stream()
-				.map(it -> TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId()))
-				.collect(Collectors.toList());
-
-		before.forEach(it -> messageBus.publishActivity(new LinkTicketEvent(it,
-				after.stream().filter(t -> t.getId().equals(it.getId())).findFirst().get(),
-				user.getUserId(),
+
+		messageBus.publishActivity(new BulkLinkTicketEvent(user.getUserId(),
 				user.getUsername(),
-				ActivityAction.LINK_ISSUE
-		)));
-		return testItems.stream()
-				.map(testItem -> new OperationCompletionRS("TestItem with ID = '" + testItem.getItemId() + "' successfully updated."))
+				projectDetails.getProjectId(),
+				changedIssueIds.stream().sorted().collect(toList()),
+				ticketIds,
+				action
+		));
+		return targets.stream()
+				.map(target -> new OperationCompletionRS("TestItem with ID = '" + target.getItemId() + "' successfully updated."))
 				.collect(toList());
 	}
 
@@ -292,36 +302,9 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		}
 	}
 
-	private void linkIssues(List<TestItem> items, List<Ticket> existedTickets, Set<Ticket> ticketsFromRq, List<String> errors) {
-		items.forEach(testItem -> {
-			try {
-				verifyTestItem(testItem, testItem.getItemId());
-				IssueEntity issue = testItem.getItemResults().getIssue();
-				issue.getTickets().addAll(existedTickets);
-				issue.getTickets().addAll(ticketsFromRq);
-				issue.setAutoAnalyzed(false);
-			} catch (Exception e) {
-				errors.add(e.getMessage());
-			}
-		});
-	}
-
-	private void unlinkIssues(List<TestItem> items, UnlinkExternalIssueRQ request, List<String> errors) {
-		items.forEach(testItem -> {
-			try {
-				verifyTestItem(testItem, testItem.getItemId());
-				IssueEntity issue = testItem.getItemResults().getIssue();
-				if (issue.getTickets().removeIf(it -> request.getTicketIds().contains(it.getTicketId()))) {
-					issue.setAutoAnalyzed(false);
-				}
-			} catch (BusinessRuleViolationException e) {
-				errors.add(e.getMessage());
-			}
-		});
-	}
-
 	@Override
 	public void resetItemsIssue(List<Long> itemIds, Long projectId, ReportPortalUser user) {
+		List<ItemIssueTypeDefinedEvent> events = new ArrayList<>(itemIds.size());
 		itemIds.forEach(itemId -> {
 			TestItem item = testItemRepository.findById(itemId).orElseThrow(() -> new ReportPortalException(TEST_ITEM_NOT_FOUND, itemId));
 			TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(item, projectId);
@@ -336,10 +319,10 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 			TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(item, projectId);
 			if (!StringUtils.equalsIgnoreCase(before.getIssueTypeLongName(), after.getIssueTypeLongName())) {
-				ItemIssueTypeDefinedEvent event = new ItemIssueTypeDefinedEvent(before, after, user.getUserId(), user.getUsername());
-				messageBus.publishActivity(event);
+				events.add(new ItemIssueTypeDefinedEvent(before, after, user.getUserId(), user.getUsername()));
 			}
 		});
+		messageBus.publishActivities(events);
 	}
 
 	@Override
@@ -380,21 +363,23 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 	}
 
 	/**
-	 * Finds tickets that are existed in db and removes them from request.
+	 * Converts the requested tickets without querying the database, the last of the duplicated tickets wins
 	 *
 	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
-	 * @return List of existed tickets in db.
+	 * @param username       {@link com.epam.ta.reportportal.entity.user.User#login}
+	 * @return {@link Map} of the {@link Ticket} by {@link Ticket#getTicketId()}
 	 */
-	private List<Ticket> collectExistedTickets(Collection<Issue.ExternalSystemIssue> externalIssues) {
-		if (CollectionUtils.isEmpty(externalIssues)) {
-			return Collections.emptyList();
-		}
-		List<Ticket> existedTickets = ticketRepository.findByTicketIdIn(externalIssues.stream()
-				.map(Issue.ExternalSystemIssue::getTicketId)
-				.collect(toList()));
-		List<String> existedTicketsIds = existedTickets.stream().map(Ticket::getTicketId).collect(toList());
-		externalIssues.removeIf(it -> existedTicketsIds.contains(it.getTicketId()));
-		return existedTickets;
+	private Map<String, Ticket> toTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username) {
+		Map<String, Ticket> tickets = new LinkedHashMap<>();
+		ofNullable(externalIssues).ifPresent(issues -> issues.forEach(it -> {
+			Ticket ticket = TicketConverter.TO_TICKET.apply(it);
+			ticket.setSubmitter(username);
+			ticket.setSubmitDate(ofNullable(it.getSubmitDate()).map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis),
+					ZoneOffset.UTC
+			)).orElse(LocalDateTime.now()));
+			tickets.put(ticket.getTicketId(), ticket);
+		}));
+		return tickets;
 	}
 
 	/**
@@ -488,4 +473,46 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 				)
 		).verify();
 	}
+
+	/**
+	 * Same verification as {@link #verifyTestItem(TestItem, Long)} of the test item state loaded for the ticket linking
+	 *
+	 * @param target Test item state
+	 * @throws BusinessRuleViolationException when business rule violation
+	 */
+	private void verifyLinkTarget(TicketLinkWriter.LinkTarget target) throws BusinessRuleViolationException {
+		Long id = target.getItemId();
+		expect(target.getStatus(),
+				notNull(),
+				Suppliers.formattedSupplier("Test item results were not found for test item with id = '{}", id)
+		).verify();
+
+		expect(target.getStatus(), not(equalTo(StatusEnum.PASSED.name())), Suppliers.formattedSupplier(
+				"Issue status update cannot be applied on {} test items, cause it is not allowed.",
+				StatusEnum.PASSED.name()
+		)).verify();
+
+		expect(target.isHasChildren(),
+				equalTo(FALSE),
+				Suppliers.formattedSupplier(
+						"It is not allowed to update issue type for items with descendants. Test item '{}' has descendants.",
+						id
+				)
+		).verify();
+
+		expect(target.getIssueId(),
+				notNull(),
+				Suppliers.formattedSupplier(
+						"Cannot update issue type for test item '{}', cause there is no info about actual issue type value.",
+						id
+				)
+		).verify();
+
+		expect(target.getIssueTypeId(),
+				notNull(),
+				Suppliers.formattedSupplier("Cannot update issue type for test item {}, cause it's actual issue type value is not provided.",
+						id
+				)
+		).verify();
+	}
 }
@@ -19,9 +19,12 @@ package com.epam.ta.reportportal.core.jasper;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JasperPrint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Get export reports utilities
@@ -55,6 +58,26 @@ public interface GetJasperReportHandler<T> {
 	 */
 	void writeReport(ReportFormat format, OutputStream outputStream, JasperPrint jasperPrint);
 
+	/**
+	 * Renders the report and converts it to output stream. Filled pages are swapped to the disk,
+	 * so the memory consumption doesn't depend on the size of the report.
+	 *
+	 * @param format       Report format
+	 * @param outputStream Stream report should be written to
+	 * @param params       Parameters for Jasper view. Could be null
+	 * @param dataSource   Data for Jasper view
+	 */
+	void exportReport(ReportFormat format, OutputStream outputStream, Map<String, Object> params, JRDataSource dataSource);
+
+	/**
+	 * Writes entities to the output stream in CSV format without rendering the report.
+	 * Entities are loaded page by page and every row is written as soon as it's converted.
+	 *
+	 * @param outputStream Stream report should be written to
+	 * @param pageLoader   Loader of the entities page
+	 */
+	void writeCsv(OutputStream outputStream, Function<Pageable, Page<? extends T>> pageLoader);
+
 	/**
 	 * Convert entity parameters for {@link JasperPrint} creation
 	 *
@@ -19,17 +19,23 @@ import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.google.common.collect.ImmutableMap;
 import net.sf.jasperreports.engine.*;
 import net.sf.jasperreports.engine.design.JasperDesign;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 import net.sf.jasperreports.engine.xml.JRXmlLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -55,10 +61,23 @@ public class JasperReportRender {
 			.put(ReportType.LAUNCH, LAUNCH_REPORT_JRXML_TEMPLATE)
 			.build();
 
+	private static final int SWAP_FILE_BLOCK_SIZE = 4096;
+	private static final int SWAP_FILE_MIN_GROW_COUNT = 100;
+
 	private final Map<ReportType, JasperReport> reportTemplatesMapping;
 
+	/**
+	 * Max number of the filled pages kept in memory by the virtualizer of a single report
+	 */
+	private final int virtualizerMaxPages;
+
+	private final String swapDirectory;
+
 	@Autowired
-	public JasperReportRender(ResourceLoader resourceLoader) throws JRException, IOException {
+	public JasperReportRender(ResourceLoader resourceLoader, @Value("${rp.export.virtualizer.maxPages:50}") int virtualizerMaxPages,
+			@Value("${rp.export.virtualizer.swapDirectory:${java.io.tmpdir}}") String swapDirectory) throws JRException, IOException {
+		this.virtualizerMaxPages = virtualizerMaxPages;
+		this.swapDirectory = swapDirectory;
 
 		ImmutableMap.Builder<ReportType, JasperReport> reportTypeJasperReportBuilder = ImmutableMap.builder();
 
@@ -83,4 +102,25 @@ public class JasperReportRender {
 			return new JasperPrint();
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Creates virtualizer that swaps the filled pages of a report to the temporary file.
+	 * Virtualizer should be passed as {@link JRParameter#REPORT_VIRTUALIZER} and cleaned up after the report export
+	 *
+	 * @return {@link JRSwapFileVirtualizer}
+	 */
+	public JRSwapFileVirtualizer createVirtualizer() {
+		return new JRSwapFileVirtualizer(virtualizerMaxPages,
+				new JRSwapFile(swapDirectory, SWAP_FILE_BLOCK_SIZE, SWAP_FILE_MIN_GROW_COUNT),
+				true
+		);
+	}
+
+	/**
+	 * @param reportType {@link ReportType}
+	 * @return Names of the fields of the report template in the declaration order
+	 */
+	public List<String> getFieldNames(ReportType reportType) {
+		return Arrays.stream(reportTemplatesMapping.get(reportType).getFields()).map(JRField::getName).collect(Collectors.toList());
+	}
+}
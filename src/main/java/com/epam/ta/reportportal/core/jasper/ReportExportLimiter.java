@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper;
+
+import com.epam.ta.reportportal.exception.RetryableException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of the reports exported simultaneously by the instance.
+ * Export waits for a free slot for the configured time and is rejected with the retryable
+ * {@link HttpStatus#SERVICE_UNAVAILABLE} if there is none. The rejection happens before anything is written,
+ * so callers should not close the response stream on failure to keep the response resettable.
+ * The export runs in its own read-only transaction started only after the slot is acquired,
+ * so callers must not be transactional: a waiting export shouldn't hold a database connection.
+ */
+@Component
+public class ReportExportLimiter {
+
+	private final Semaphore permits;
+
+	private final long waitTimeoutSeconds;
+
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public ReportExportLimiter(@Value("${rp.export.maxConcurrent:4}") int maxConcurrent,
+			@Value("${rp.export.waitTimeout:30}") long waitTimeoutSeconds, PlatformTransactionManager transactionManager) {
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.waitTimeoutSeconds = waitTimeoutSeconds;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	public void execute(Runnable export) {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(waitTimeoutSeconds, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			throw new RetryableException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR,
+					HttpStatus.SERVICE_UNAVAILABLE,
+					waitTimeoutSeconds,
+					"Too many reports are being exported. Please try again later."
+			);
+		}
+		try {
+			transactionTemplate.execute(status -> {
+				export.run();
+				return null;
+			});
+		} finally {
+			permits.release();
+		}
+	}
+}
@@ -18,22 +18,37 @@ package com.epam.ta.reportportal.core.jasper.impl;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.JasperReportRender;
+import com.epam.ta.reportportal.core.jasper.util.CsvReportWriter;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
+import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.export.HtmlExporter;
 import net.sf.jasperreports.engine.export.JRCsvExporter;
 import net.sf.jasperreports.engine.export.JRXlsExporter;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
 import net.sf.jasperreports.export.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static com.epam.ta.reportportal.ws.model.ErrorType.BAD_REQUEST_ERROR;
 
 /**
@@ -45,11 +60,26 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.BAD_REQUEST_ERROR;
 public abstract class AbstractJasperReportHandler<T> implements GetJasperReportHandler<T> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJasperReportHandler.class);
 
+	private static final int CSV_PAGE_SIZE = 500;
+
 	private final String unsupportedReportFormatExceptionMessage;
 
-	public AbstractJasperReportHandler(String unsupportedReportFormatExceptionMessage) {
+	private final JasperReportRender reportRender;
+
+	private final ReportType reportType;
+
+	public AbstractJasperReportHandler(String unsupportedReportFormatExceptionMessage, JasperReportRender reportRender,
+			ReportType reportType) {
 
 		this.unsupportedReportFormatExceptionMessage = unsupportedReportFormatExceptionMessage;
+		this.reportRender = reportRender;
+		this.reportType = reportType;
+	}
+
+	@Override
+	public JasperPrint getJasperPrint(Map<String, Object> params, JRDataSource dataSource) {
+
+		return reportRender.generateReportPrint(reportType, params, dataSource);
 	}
 
 	@Override
@@ -123,5 +153,37 @@ public abstract class AbstractJasperReportHandler<T> implements GetJasperReportH
 		}
 	}
 
+	@Override
+	public void exportReport(ReportFormat format, OutputStream outputStream, Map<String, Object> params, JRDataSource dataSource) {
+		JRSwapFileVirtualizer virtualizer = reportRender.createVirtualizer();
+		try {
+			Map<String, Object> reportParams = params == null ? new HashMap<>() : params;
+			reportParams.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+			JasperPrint jasperPrint = getJasperPrint(reportParams, dataSource);
+			writeReport(format, outputStream, jasperPrint);
+		} finally {
+			virtualizer.cleanup();
+		}
+	}
+
+	@Override
+	public void writeCsv(OutputStream outputStream, Function<Pageable, Page<? extends T>> pageLoader) {
+		try {
+			CsvReportWriter writer = new CsvReportWriter(outputStream, reportRender.getFieldNames(reportType));
+			Pageable pageable = PageRequest.of(0, CSV_PAGE_SIZE, Sort.by(Sort.Direction.ASC, CRITERIA_ID));
+			Page<? extends T> page;
+			do {
+				page = pageLoader.apply(pageable);
+				for (T entity : page) {
+					writer.writeRow(convertParams(entity));
+				}
+				pageable = pageable.next();
+			} while (page.hasNext());
+			writer.flush();
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
+		}
+	}
+
 	public abstract Set<ReportFormat> getAvailableReportFormats();
 }
\ No newline at end of file
@@ -24,8 +24,6 @@ import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.google.common.collect.Sets;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -49,21 +47,12 @@ public class LaunchJasperReportHandler extends AbstractJasperReportHandler<Launc
 
 	private final Set<ReportFormat> availableReportFormats;
 
-	private final JasperReportRender reportRender;
-
 	@Autowired
 	public LaunchJasperReportHandler(JasperReportRender reportRender) {
-		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION);
-		this.reportRender = reportRender;
+		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION, reportRender, ReportType.LAUNCH);
 		availableReportFormats = Sets.immutableEnumSet(ReportFormat.HTML, ReportFormat.PDF, ReportFormat.XLS);
 	}
 
-	@Override
-	public JasperPrint getJasperPrint(Map<String, Object> params, JRDataSource dataSource) {
-
-		return reportRender.generateReportPrint(ReportType.LAUNCH, params, dataSource);
-	}
-
 	@Override
 	public Map<String, Object> convertParams(Launch launch) {
 		Map<String, Object> params = new HashMap<>();
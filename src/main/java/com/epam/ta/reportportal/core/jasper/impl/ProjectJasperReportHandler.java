@@ -22,8 +22,6 @@ import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.epam.ta.reportportal.entity.project.ProjectInfo;
 import com.google.common.collect.Sets;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -47,21 +45,12 @@ public class ProjectJasperReportHandler extends AbstractJasperReportHandler<Proj
 
 	private final Set<ReportFormat> availableReportFormats;
 
-	private final JasperReportRender reportRender;
-
 	@Autowired
 	public ProjectJasperReportHandler(JasperReportRender reportRender) {
-		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION);
-		this.reportRender = reportRender;
+		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION, reportRender, ReportType.PROJECT);
 		availableReportFormats = Sets.immutableEnumSet(ReportFormat.CSV);
 	}
 
-	@Override
-	public JasperPrint getJasperPrint(Map<String, Object> params, JRDataSource dataSource) {
-
-		return reportRender.generateReportPrint(ReportType.PROJECT, params, dataSource);
-	}
-
 	@Override
 	public Map<String, Object> convertParams(ProjectInfo project) {
 		Map<String, Object> params = new HashMap<>();
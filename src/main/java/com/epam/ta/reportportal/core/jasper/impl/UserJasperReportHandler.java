@@ -22,8 +22,6 @@ import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.epam.ta.reportportal.entity.user.User;
 import com.google.common.collect.Sets;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -49,21 +47,12 @@ public class UserJasperReportHandler extends AbstractJasperReportHandler<User> {
 
 	private final Set<ReportFormat> availableReportFormats;
 
-	private final JasperReportRender reportRender;
-
 	@Autowired
 	public UserJasperReportHandler(JasperReportRender reportRender) {
-		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION);
-		this.reportRender = reportRender;
+		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION, reportRender, ReportType.USER);
 		availableReportFormats = Sets.immutableEnumSet(ReportFormat.CSV);
 	}
 
-	@Override
-	public JasperPrint getJasperPrint(Map<String, Object> params, JRDataSource dataSource) {
-
-		return reportRender.generateReportPrint(ReportType.USER, params, dataSource);
-	}
-
 	@Override
 	public Map<String, Object> convertParams(User user) {
 		Map<String, Object> params = new HashMap<>();
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes report rows directly to the output stream in the same CSV format as
+ * {@link net.sf.jasperreports.engine.export.JRCsvExporter} does: header row with the field names,
+ * comma as delimiter, values with delimiters, quotes or line breaks are quoted.
+ * The output stream isn't closed by the writer.
+ */
+public class CsvReportWriter {
+
+	private static final char DELIMITER = ',';
+	private static final char QUOTE = '"';
+	private static final String RECORD_DELIMITER = "\n";
+
+	private final Writer writer;
+
+	private final List<String> columns;
+
+	public CsvReportWriter(OutputStream outputStream, List<String> columns) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		this.columns = columns;
+		writeRecord(columns);
+	}
+
+	/**
+	 * @param row Values of the row mapped by column names, missing values are written as empty
+	 */
+	public void writeRow(Map<String, ?> row) throws IOException {
+		for (int i = 0; i < columns.size(); i++) {
+			if (i > 0) {
+				writer.write(DELIMITER);
+			}
+			Object value = row.get(columns.get(i));
+			if (value != null) {
+				writer.write(escape(String.valueOf(value)));
+			}
+		}
+		writer.write(RECORD_DELIMITER);
+	}
+
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	private void writeRecord(List<String> values) throws IOException {
+		writer.write(String.join(String.valueOf(DELIMITER), values.stream().map(CsvReportWriter::escape).toArray(String[]::new)));
+		writer.write(RECORD_DELIMITER);
+	}
+
+	private static String escape(String value) {
+		if (value.indexOf(DELIMITER) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return QUOTE + value.replace(String.valueOf(QUOTE), "" + QUOTE + QUOTE) + QUOTE;
+	}
+}
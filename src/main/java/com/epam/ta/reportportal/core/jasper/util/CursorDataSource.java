@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
+
+/**
+ * {@link JRDataSource} over the forward-only database cursor. Every entity is converted to the bean
+ * with the report fields as properties, and the persistence context is cleared every {@link #clearInterval} rows,
+ * so only the current batch of rows is kept in memory.
+ *
+ * @param <T> Type of the entity
+ */
+public class CursorDataSource<T> implements JRDataSource, AutoCloseable {
+
+	private final ScrollableResults results;
+
+	private final Session session;
+
+	private final Function<T, ?> mapper;
+
+	private final int clearInterval;
+
+	private int position;
+
+	private Object current;
+
+	public CursorDataSource(ScrollableResults results, Session session, Function<T, ?> mapper, int clearInterval) {
+		this.results = results;
+		this.session = session;
+		this.mapper = mapper;
+		this.clearInterval = clearInterval;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean next() {
+		if (!results.next()) {
+			return false;
+		}
+		current = mapper.apply((T) results.get(0));
+		if (++position % clearInterval == 0) {
+			session.clear();
+		}
+		return true;
+	}
+
+	@Override
+	public Object getFieldValue(JRField jrField) throws JRException {
+		try {
+			return PropertyUtils.getProperty(current, jrField.getName());
+		} catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+			throw new JRException("Unable to get value of the field '" + jrField.getName() + "'", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		results.close();
+	}
+}
@@ -16,13 +16,15 @@
 package com.epam.ta.reportportal.core.jasper.util;
 
 import com.epam.ta.reportportal.core.jasper.TestItemPojo;
-import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -34,18 +36,31 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Service("jasperDataProvider")
 public class JasperDataProvider {
 
-	private TestItemRepository testItemRepository;
+	private static final String LAUNCH_ITEMS_QUERY = "SELECT ti FROM TestItem ti WHERE ti.launchId = :launchId ORDER BY ti.startTime ASC";
+
+	private final EntityManager entityManager;
+
+	private final int fetchSize;
 
 	@Autowired
-	public JasperDataProvider(TestItemRepository testItemRepository) {
-		this.testItemRepository = checkNotNull(testItemRepository);
+	public JasperDataProvider(EntityManager entityManager, @Value("${rp.export.fetchSize:500}") int fetchSize) {
+		this.entityManager = checkNotNull(entityManager);
+		this.fetchSize = fetchSize;
 	}
 
-	public List<TestItemPojo> getTestItemsOfLaunch(Launch launch) {
-		/* Get launch referred test items with SORT! */
-		return testItemRepository.findTestItemsByLaunchIdOrderByStartTimeAsc(launch.getId())
-				.stream()
-				.map(TestItemPojo::new)
-				.collect(Collectors.toList());
+	/**
+	 * Test items of the launch sorted by start time and read through the database cursor.
+	 * Should be called within a transaction and closed after the report is filled
+	 *
+	 * @param launch {@link Launch}
+	 * @return {@link CursorDataSource} of the {@link TestItemPojo}
+	 */
+	public CursorDataSource<TestItem> getTestItemsOfLaunch(Launch launch) {
+		Session session = entityManager.unwrap(Session.class);
+		return new CursorDataSource<>(session.createQuery(LAUNCH_ITEMS_QUERY, TestItem.class)
+				.setParameter("launchId", launch.getId())
+				.setFetchSize(fetchSize)
+				.setReadOnly(true)
+				.scroll(ScrollMode.FORWARD_ONLY), session, TestItemPojo::new, fetchSize);
 	}
-}
\ No newline at end of file
+}
@@ -21,7 +21,9 @@ import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchDeletedEvent;
 import com.epam.ta.reportportal.core.events.attachment.DeleteLaunchAttachmentsEvent;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.core.launch.DeleteLaunchHandler;
+import com.epam.ta.reportportal.core.project.ProjectInfoSnapshotService;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -32,10 +34,13 @@ import com.epam.ta.reportportal.ws.model.*;
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -57,6 +62,13 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 @Service
 public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
+	private static final int DELETE_CHUNK_SIZE = 500;
+
+	/**
+	 * Items, logs and the other dependent rows are removed by the database cascades
+	 */
+	private static final String DELETE_LAUNCHES_SQL = "DELETE FROM launch WHERE id IN (:ids)";
+
 	private final LaunchRepository launchRepository;
 
 	private final LogRepository logRepository;
@@ -67,14 +79,24 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private final PathNameCache pathNameCache;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final ProjectInfoSnapshotService projectInfoSnapshotService;
+
 	@Autowired
 	public DeleteLaunchHandlerImpl(LaunchRepository launchRepository, LogRepository logRepository, MessageBus messageBus,
-			LogIndexer logIndexer, ApplicationEventPublisher eventPublisher) {
+			LogIndexer logIndexer, ApplicationEventPublisher eventPublisher, PathNameCache pathNameCache,
+			NamedParameterJdbcTemplate jdbcTemplate, ProjectInfoSnapshotService projectInfoSnapshotService) {
 		this.launchRepository = launchRepository;
 		this.logRepository = logRepository;
 		this.messageBus = messageBus;
 		this.logIndexer = logIndexer;
 		this.eventPublisher = eventPublisher;
+		this.pathNameCache = pathNameCache;
+		this.jdbcTemplate = jdbcTemplate;
+		this.projectInfoSnapshotService = projectInfoSnapshotService;
 	}
 
 	public OperationCompletionRS deleteLaunch(Long launchId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
@@ -84,21 +106,29 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 		logIndexer.cleanIndex(projectDetails.getProjectId(), logRepository.findItemLogIdsByLaunchId(launchId));
 
 		launchRepository.delete(launch);
+		pathNameCache.evictByLaunchIds(Collections.singletonList(launch.getId()));
+		projectInfoSnapshotService.refresh(launch.getProjectId());
 
 		eventPublisher.publishEvent(new DeleteLaunchAttachmentsEvent(launch.getId()));
 		messageBus.publishActivity(new LaunchDeletedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user.getUserId(), user.getUsername()));
 		return new OperationCompletionRS("Launch with ID = '" + launchId + "' successfully deleted.");
 	}
 
+	/**
+	 * Loads and validates all the launches with a single query, removes them by chunks
+	 * and publishes a single batch of activities and aggregated attachments removal
+	 */
 	public DeleteBulkRS deleteLaunches(DeleteBulkRQ deleteBulkRQ, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
 		List<Long> notFound = Lists.newArrayList();
 		List<ReportPortalException> exceptions = Lists.newArrayList();
 		List<Launch> toDelete = Lists.newArrayList();
 
-		deleteBulkRQ.getIds().forEach(id -> {
-			Optional<Launch> optionalLaunch = launchRepository.findById(id);
-			if (optionalLaunch.isPresent()) {
-				Launch launch = optionalLaunch.get();
+		Map<Long, Launch> launches = launchRepository.findAllById(deleteBulkRQ.getIds())
+				.stream()
+				.collect(Collectors.toMap(Launch::getId, Function.identity()));
+		deleteBulkRQ.getIds().stream().distinct().forEach(id -> {
+			Launch launch = launches.get(id);
+			if (launch != null) {
 				try {
 					validate(launch, user, projectDetails);
 					toDelete.add(launch);
@@ -110,16 +140,22 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 			}
 		});
 
-		logIndexer.cleanIndex(projectDetails.getProjectId(),
-				logRepository.findItemLogIdsByLaunchIds(toDelete.stream().map(Launch::getId).collect(Collectors.toList()))
-		);
+		List<Long> deletedIds = toDelete.stream().map(Launch::getId).collect(Collectors.toList());
+		if (!deletedIds.isEmpty()) {
+			logIndexer.cleanIndex(projectDetails.getProjectId(), logRepository.findItemLogIdsByLaunchIds(deletedIds));
 
-		launchRepository.deleteAll(toDelete);
-		toDelete.stream().map(TO_ACTIVITY_RESOURCE).forEach(it -> {
-			eventPublisher.publishEvent(new DeleteLaunchAttachmentsEvent(it.getId()));
-			messageBus.publishActivity(new LaunchDeletedEvent(it, user.getUserId(), user.getUsername()));
-		});
-		return new DeleteBulkRS(toDelete.stream().map(Launch::getId).collect(Collectors.toList()), notFound, exceptions.stream().map(ex -> {
+			Lists.partition(deletedIds, DELETE_CHUNK_SIZE)
+					.forEach(chunk -> jdbcTemplate.update(DELETE_LAUNCHES_SQL, Collections.singletonMap("ids", chunk)));
+			pathNameCache.evictByLaunchIds(deletedIds);
+			toDelete.stream().map(Launch::getProjectId).distinct().forEach(projectInfoSnapshotService::refresh);
+
+			eventPublisher.publishEvent(new DeleteLaunchAttachmentsEvent(deletedIds));
+			messageBus.publishActivities(toDelete.stream()
+					.map(TO_ACTIVITY_RESOURCE)
+					.map(it -> new LaunchDeletedEvent(it, user.getUserId(), user.getUsername()))
+					.collect(Collectors.toList()));
+		}
+		return new DeleteBulkRS(deletedIds, notFound, exceptions.stream().map(ex -> {
 			ErrorRS errorResponse = new ErrorRS();
 			errorResponse.setErrorType(ex.getErrorType());
 			errorResponse.setMessage(ex.getMessage());
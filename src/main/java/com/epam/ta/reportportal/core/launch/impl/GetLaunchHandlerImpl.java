@@ -21,12 +21,15 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.*;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.ReportExportLimiter;
 import com.epam.ta.reportportal.core.jasper.constants.LaunchReportConstants;
+import com.epam.ta.reportportal.core.jasper.util.CursorDataSource;
 import com.epam.ta.reportportal.core.jasper.util.JasperDataProvider;
 import com.epam.ta.reportportal.core.launch.GetLaunchHandler;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
@@ -42,7 +45,6 @@ import com.epam.ta.reportportal.ws.model.launch.Mode;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import net.sf.jasperreports.engine.JREmptyDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
@@ -90,13 +92,14 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 	private final UserRepository userRepository;
 	private final JasperDataProvider dataProvider;
 	private final GetJasperReportHandler<Launch> jasperReportHandler;
+	private final ReportExportLimiter reportExportLimiter;
 	private final LaunchConverter launchConverter;
 
 	@Autowired
 	public GetLaunchHandlerImpl(LaunchRepository launchRepository, ItemAttributeRepository itemAttributeRepository,
 			ProjectRepository projectRepository, WidgetContentRepository widgetContentRepository, UserRepository userRepository,
 			JasperDataProvider dataProvider, @Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> jasperReportHandler,
-			LaunchConverter launchConverter) {
+			ReportExportLimiter reportExportLimiter, LaunchConverter launchConverter) {
 		this.launchRepository = launchRepository;
 		this.itemAttributeRepository = itemAttributeRepository;
 		this.projectRepository = projectRepository;
@@ -104,6 +107,7 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 		this.userRepository = userRepository;
 		this.dataProvider = Preconditions.checkNotNull(dataProvider);
 		this.jasperReportHandler = jasperReportHandler;
+		this.reportExportLimiter = reportExportLimiter;
 		this.launchConverter = launchConverter;
 	}
 
@@ -140,7 +144,7 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 
 		filter = addLaunchCommonCriteria(DEFAULT, filter);
 		Page<Launch> launches = launchRepository.findByFilter(ProjectFilter.of(filter, project.getId()), pageable);
-		return PagedResourcesAssembler.pageConverter(launchConverter.TO_RESOURCE).apply(launches);
+		return PagedResourcesAssembler.pageContentConverter(launchConverter.TO_RESOURCES).apply(launches);
 	}
 
 	/*
@@ -152,7 +156,7 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 		validateModeConditions(filter);
 		filter = addLaunchCommonCriteria(DEBUG, filter);
 		Page<Launch> launches = launchRepository.findByFilter(ProjectFilter.of(filter, projectDetails.getProjectId()), pageable);
-		return PagedResourcesAssembler.pageConverter(launchConverter.TO_RESOURCE).apply(launches);
+		return PagedResourcesAssembler.pageContentConverter(launchConverter.TO_RESOURCES).apply(launches);
 	}
 
 	@Override
@@ -177,7 +181,7 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 		filter = addLaunchCommonCriteria(DEFAULT, filter);
 
 		Page<Launch> launches = launchRepository.findAllLatestByFilter(ProjectFilter.of(filter, project.getId()), pageable);
-		return PagedResourcesAssembler.pageConverter(launchConverter.TO_RESOURCE).apply(launches);
+		return PagedResourcesAssembler.pageContentConverter(launchConverter.TO_RESOURCES).apply(launches);
 	}
 
 	@Override
@@ -265,9 +269,12 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 
 		fillWithAdditionalParams(params, launch, userFullName);
 
-		JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(params, new JREmptyDataSource());
-
-		jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+		reportExportLimiter.execute(() -> {
+			try (CursorDataSource<TestItem> testItems = dataProvider.getTestItemsOfLaunch(launch)) {
+				params.put(LaunchReportConstants.TEST_ITEMS, testItems);
+				jasperReportHandler.exportReport(reportFormat, outputStream, params, new JREmptyDataSource());
+			}
+		});
 
 	}
 
@@ -316,8 +323,6 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 
 		/* Check if launch owner still in system if not - setup principal */
 		params.put(LaunchReportConstants.OWNER, owner.orElse(userFullName));
-
-		params.put(LaunchReportConstants.TEST_ITEMS, dataProvider.getTestItemsOfLaunch(launch));
 	}
 
 }
\ No newline at end of file
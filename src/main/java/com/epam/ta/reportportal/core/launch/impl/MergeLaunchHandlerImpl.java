@@ -22,6 +22,7 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.LaunchMergeFactory;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergeStrategyType;
 import com.epam.ta.reportportal.core.launch.MergeLaunchHandler;
@@ -73,10 +74,12 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
 	private final LogIndexer logIndexer;
 
+	private final PathNameCache pathNameCache;
+
 	@Autowired
 	public MergeLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ProjectRepository projectRepository, LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter,
-			LaunchPreparerService launchPreparerService, LogIndexer logIndexer) {
+			LaunchPreparerService launchPreparerService, LogIndexer logIndexer, PathNameCache pathNameCache) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.projectRepository = projectRepository;
@@ -84,6 +87,7 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		this.launchConverter = launchConverter;
 		this.launchPreparerService = launchPreparerService;
 		this.logIndexer = logIndexer;
+		this.pathNameCache = pathNameCache;
 	}
 
 	@Override
@@ -116,6 +120,8 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		newLaunch.setStatus(StatisticsHelper.getStatusFromStatistics(newLaunch.getStatistics()));
 
 		launchRepository.deleteAll(launchesList);
+		/* Items of the merged launches are moved to the new launch, so their path names are changed */
+		pathNameCache.evictByLaunchIds(launchesIds);
 
 		List<TestItem> newItems = testItemRepository.findTestItemsByLaunchId(newLaunch.getId());
 		launchPreparerService.prepare(newLaunch, newItems, AnalyzerUtils.getAnalyzerConfig(project))
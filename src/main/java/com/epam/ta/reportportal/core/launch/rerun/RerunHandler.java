@@ -58,4 +58,12 @@ public interface RerunHandler {
 	 * @return {@link ItemCreatedRS} if item is rerun, otherwise {@link Optional#empty()}
 	 */
 	Optional<ItemCreatedRS> handleChildItem(StartTestItemRQ request, Launch launch, TestItem parent);
+
+	/**
+	 * Registers {@link TestItem} created in the rerun launch, so the following rerun of the launch could find it
+	 *
+	 * @param launch {@link Launch}
+	 * @param item   Created {@link TestItem}
+	 */
+	void handleNewItem(Launch launch, TestItem item);
 }
@@ -64,15 +64,17 @@ public class RerunHandlerImpl implements RerunHandler {
 	private final UniqueIdGenerator uniqueIdGenerator;
 	private final MessageBus messageBus;
 	private final ApplicationEventPublisher eventPublisher;
+	private final RerunItemIndex rerunItemIndex;
 
 	@Autowired
 	public RerunHandlerImpl(TestItemRepository testItemRepository, LaunchRepository launchRepository, UniqueIdGenerator uniqueIdGenerator,
-			MessageBus messageBus, ApplicationEventPublisher eventPublisher) {
+			MessageBus messageBus, ApplicationEventPublisher eventPublisher, RerunItemIndex rerunItemIndex) {
 		this.testItemRepository = testItemRepository;
 		this.launchRepository = launchRepository;
 		this.uniqueIdGenerator = uniqueIdGenerator;
 		this.messageBus = messageBus;
 		this.eventPublisher = eventPublisher;
+		this.rerunItemIndex = rerunItemIndex;
 	}
 
 	@Override
@@ -103,37 +105,42 @@ public class RerunHandlerImpl implements RerunHandler {
 
 	@Override
 	public Optional<ItemCreatedRS> handleRootItem(StartTestItemRQ request, Launch launch) {
-		Optional<TestItem> itemOptional = testItemRepository.findByNameAndLaunchWithoutParents(request.getName(), launch.getId());
-
-		if (!itemOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		if (!isParametersEqual(request.getParameters(), itemOptional.get().getParameters())) {
-			return Optional.empty();
-		}
-
-		TestItem item = handleRerun(request, launch, itemOptional.get(), null);
-		return Optional.of(new ItemCreatedRS(item.getUuid(), item.getUniqueId()));
+		return findRerunItem(request, launch, null).map(it -> {
+			TestItem item = handleRerun(request, launch, it, null);
+			return new ItemCreatedRS(item.getUuid(), item.getUniqueId());
+		});
 	}
 
 	@Override
 	public Optional<ItemCreatedRS> handleChildItem(StartTestItemRQ request, Launch launch, TestItem parent) {
-		Optional<TestItem> itemOptional = testItemRepository.findByNameAndLaunchUnderPath(request.getName(),
-				launch.getId(),
-				parent.getPath()
-		);
+		return findRerunItem(request, launch, parent).map(it -> {
+			TestItem item = handleRerun(request, launch, it, parent);
+			return new ItemCreatedRS(item.getUuid(), item.getUniqueId());
+		});
+	}
 
-		if (!itemOptional.isPresent()) {
-			return Optional.empty();
-		}
+	@Override
+	public void handleNewItem(Launch launch, TestItem item) {
+		rerunItemIndex.addItem(launch.getId(), ofNullable(item.getParent()).map(TestItem::getItemId).orElse(null), item.getName(),
+				item.getItemId()
+		);
+	}
 
-		if (!isParametersEqual(request.getParameters(), itemOptional.get().getParameters())) {
-			return Optional.empty();
+	/**
+	 * Resolves candidates by the launch index and returns the first one with the same parameters.
+	 * Candidates that were retried or removed after the index was built are skipped.
+	 */
+	private Optional<TestItem> findRerunItem(StartTestItemRQ request, Launch launch, TestItem parent) {
+		Long parentId = ofNullable(parent).map(TestItem::getItemId).orElse(null);
+		for (Long itemId : rerunItemIndex.findItemIds(launch.getId(), parentId, request.getName())) {
+			Optional<TestItem> item = testItemRepository.findById(itemId)
+					.filter(it -> launch.getId().equals(it.getLaunchId()))
+					.filter(it -> isParametersEqual(request.getParameters(), it.getParameters()));
+			if (item.isPresent()) {
+				return item;
+			}
 		}
-
-		TestItem item = handleRerun(request, launch, itemOptional.get(), parent);
-		return Optional.of(new ItemCreatedRS(item.getUuid(), item.getUniqueId()));
+		return Optional.empty();
 	}
 
 	private boolean isParametersEqual(List<ParameterResource> fromRequest, Set<Parameter> stored) {
@@ -149,7 +156,14 @@ public class RerunHandlerImpl implements RerunHandler {
 		item.setDescription(request.getDescription());
 		if (item.getType().sameLevel(STEP)) {
 			eventPublisher.publishEvent(new ItemRetryEvent(launch.getProjectId(), item.getItemId()));
-			item = makeRetry(request, launch, parent);
+			TestItem retry = makeRetry(request, launch, parent);
+			rerunItemIndex.replaceItem(launch.getId(),
+					ofNullable(parent).map(TestItem::getItemId).orElse(null),
+					testItem.getName(),
+					testItem.getItemId(),
+					retry.getItemId()
+			);
+			item = retry;
 		}
 		ofNullable(request.getUuid()).ifPresent(item::setUuid);
 		return item;
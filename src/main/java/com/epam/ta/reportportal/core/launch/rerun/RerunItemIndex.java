@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.rerun;
+
+import java.util.List;
+
+/**
+ * Index of the test items of the rerun launch by the parent and the name,
+ * used to find the item to rerun without querying the launch tree for each started item.
+ * Index of the launch is built on the first lookup and released when the launch is finished.
+ */
+public interface RerunItemIndex {
+
+	/**
+	 * @param launchId Id of the launch
+	 * @param parentId Id of the parent item, null for the root items
+	 * @param name     Name of the item
+	 * @return Ids of the items of the launch with the specified parent and name in the order of their creation
+	 */
+	List<Long> findItemIds(Long launchId, Long parentId, String name);
+
+	/**
+	 * Adds the item started in the launch to its index, if the index is built
+	 *
+	 * @param launchId Id of the launch
+	 * @param parentId Id of the parent item, null for the root items
+	 * @param name     Name of the item
+	 * @param itemId   Id of the item
+	 */
+	void addItem(Long launchId, Long parentId, String name, Long itemId);
+
+	/**
+	 * Replaces the retried item by its retry in the launch index, if the index is built
+	 *
+	 * @param launchId  Id of the launch
+	 * @param parentId  Id of the parent item, null for the root items
+	 * @param name      Name of the item
+	 * @param itemId    Id of the retried item
+	 * @param retryId   Id of the retry
+	 */
+	void replaceItem(Long launchId, Long parentId, String name, Long itemId, Long retryId);
+
+	/**
+	 * Releases the index of the launch
+	 *
+	 * @param launchId Id of the launch
+	 */
+	void release(Long launchId);
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.rerun;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Caffeine based {@link RerunItemIndex}. Indexes are weighted by the number of the indexed items
+ * and re-weighed on each change, an evicted index is rebuilt from the database on the next lookup.
+ * Launches with more items than {@code rp.launch.rerun.index.maxLaunchSize} are not indexed,
+ * their items are looked up in the database directly. Items of a launch are reported through a single queue,
+ * so the index is changed by a single instance, idle indexes of the launches never finished expire after TTL.
+ * Index built or changed within a transaction which is rolled back is released, as it may contain items that were never stored.
+ */
+@Service
+public class RerunItemIndexImpl implements RerunItemIndex {
+
+	private static final String METRIC_NAME = "rp.launch.rerun.index";
+
+	private static final String SELECT_ITEMS = "SELECT item_id, parent_id, name FROM test_item WHERE launch_id = ? AND retry_of IS NULL "
+			+ "ORDER BY item_id LIMIT ?";
+
+	private static final String SELECT_ROOT_ITEM_IDS = "SELECT item_id FROM test_item WHERE launch_id = ? AND parent_id IS NULL "
+			+ "AND name = ? AND retry_of IS NULL ORDER BY item_id";
+
+	private static final String SELECT_CHILD_ITEM_IDS = "SELECT item_id FROM test_item WHERE launch_id = ? AND parent_id = ? AND name = ? "
+			+ "AND retry_of IS NULL ORDER BY item_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final int maxLaunchSize;
+
+	private final Cache<Long, LaunchIndex> indexes;
+
+	/**
+	 * Launches that have too many items to be indexed
+	 */
+	private final Cache<Long, Boolean> oversized;
+
+	@Autowired
+	public RerunItemIndexImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+			@Value("${rp.launch.rerun.index.size:1000000}") long maximumItems,
+			@Value("${rp.launch.rerun.index.maxLaunchSize:100000}") int maxLaunchSize,
+			@Value("${rp.launch.rerun.index.ttl:600}") long ttl) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.maxLaunchSize = maxLaunchSize;
+		this.indexes = Caffeine.newBuilder()
+				.maximumWeight(maximumItems)
+				.weigher((Long launchId, LaunchIndex index) -> index.size())
+				.expireAfterAccess(ttl, TimeUnit.SECONDS)
+				.recordStats()
+				.build();
+		this.oversized = Caffeine.newBuilder().expireAfterAccess(ttl, TimeUnit.SECONDS).build();
+		CaffeineCacheMetrics.monitor(meterRegistry, indexes, METRIC_NAME);
+	}
+
+	@Override
+	public List<Long> findItemIds(Long launchId, Long parentId, String name) {
+		if (oversized.getIfPresent(launchId) == null) {
+			LaunchIndex index = indexes.get(launchId, this::load);
+			if (index != null) {
+				return index.find(new ItemKey(parentId, name));
+			}
+		}
+		return parentId == null ?
+				jdbcTemplate.queryForList(SELECT_ROOT_ITEM_IDS, Long.class, launchId, name) :
+				jdbcTemplate.queryForList(SELECT_CHILD_ITEM_IDS, Long.class, launchId, parentId, name);
+	}
+
+	@Override
+	public void addItem(Long launchId, Long parentId, String name, Long itemId) {
+		update(launchId, index -> index.add(new ItemKey(parentId, name), itemId));
+	}
+
+	@Override
+	public void replaceItem(Long launchId, Long parentId, String name, Long itemId, Long retryId) {
+		update(launchId, index -> index.replace(new ItemKey(parentId, name), itemId, retryId));
+	}
+
+	@Override
+	public void release(Long launchId) {
+		indexes.invalidate(launchId);
+		oversized.invalidate(launchId);
+	}
+
+	/**
+	 * Changes the built index through the map view, so the index is put back and re-weighed after the change.
+	 * Index that has grown over the launch size limit is dropped
+	 */
+	private void update(Long launchId, Consumer<LaunchIndex> change) {
+		boolean[] changed = { false };
+		indexes.asMap().computeIfPresent(launchId, (id, index) -> {
+			change.accept(index);
+			changed[0] = true;
+			if (index.size() > maxLaunchSize) {
+				oversized.put(launchId, Boolean.TRUE);
+				return null;
+			}
+			return index;
+		});
+		if (changed[0]) {
+			releaseOnRollback(launchId);
+		}
+	}
+
+	/**
+	 * @return Index of the launch or null if the launch has too many items to be indexed
+	 */
+	private LaunchIndex load(Long launchId) {
+		LaunchIndex index = new LaunchIndex();
+		jdbcTemplate.query(SELECT_ITEMS,
+				(RowCallbackHandler) rs -> index.add(new ItemKey(rs.getObject("parent_id", Long.class), rs.getString("name")),
+						rs.getLong("item_id")
+				),
+				launchId,
+				maxLaunchSize + 1
+		);
+		if (index.size() > maxLaunchSize) {
+			oversized.put(launchId, Boolean.TRUE);
+			return null;
+		}
+		releaseOnRollback(launchId);
+		return index;
+	}
+
+	private void releaseOnRollback(Long launchId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						release(launchId);
+					}
+				}
+			});
+		}
+	}
+
+	private static final class LaunchIndex {
+
+		private final ConcurrentMap<ItemKey, List<Long>> items = new ConcurrentHashMap<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		List<Long> find(ItemKey key) {
+			return items.getOrDefault(key, Collections.emptyList());
+		}
+
+		void add(ItemKey key, Long itemId) {
+			size.incrementAndGet();
+			items.merge(key, Collections.singletonList(itemId), (ids, added) -> {
+				List<Long> merged = new ArrayList<>(ids.size() + 1);
+				merged.addAll(ids);
+				merged.addAll(added);
+				return Collections.unmodifiableList(merged);
+			});
+		}
+
+		void replace(ItemKey key, Long itemId, Long retryId) {
+			items.computeIfPresent(key, (k, ids) -> {
+				List<Long> replaced = new ArrayList<>(ids);
+				replaced.replaceAll(id -> id.equals(itemId) ? retryId : id);
+				return Collections.unmodifiableList(replaced);
+			});
+		}
+
+		/**
+		 * @return Number of the indexed items
+		 */
+		int size() {
+			return size.get();
+		}
+	}
+
+	private static final class ItemKey {
+
+		private final Long parentId;
+
+		private final String name;
+
+		private ItemKey(Long parentId, String name) {
+			this.parentId = parentId;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ItemKey itemKey = (ItemKey) o;
+			return Objects.equals(parentId, itemKey.parentId) && Objects.equals(name, itemKey.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(parentId, name);
+		}
+	}
+}
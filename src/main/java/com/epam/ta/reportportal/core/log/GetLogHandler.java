@@ -41,6 +41,16 @@ public interface GetLogHandler {
 	 */
 	Iterable<LogResource> getLogs(ReportPortalUser.ProjectDetails projectDetails, Filter filterable, Pageable pageable);
 
+	/**
+	 * Returns logs of the test item by cursor based pagination
+	 *
+	 * @param itemId         - test item ID
+	 * @param projectDetails Project details
+	 * @param request        Page request
+	 * @return {@link KeysetPage} of {@link LogResource}
+	 */
+	KeysetPage<LogResource> getLogsPage(Long itemId, ReportPortalUser.ProjectDetails projectDetails, KeysetRequest request);
+
 	/**
 	 * Returns log by ID
 	 *
@@ -84,4 +94,16 @@ public interface GetLogHandler {
 	 */
 	Iterable<?> getNestedItems(Long parentId, ReportPortalUser.ProjectDetails projectDetails, Map<String, String> params,
 			Queryable queryable, Pageable pageable);
+
+	/**
+	 * Get logs and nested steps as one collection ordered by time by cursor based pagination
+	 *
+	 * @param parentId       {@link Log#testItem} ID or {@link com.epam.ta.reportportal.entity.item.TestItem#parent} ID
+	 * @param projectDetails {@link com.epam.ta.reportportal.commons.ReportPortalUser.ProjectDetails}
+	 * @param params         Request params
+	 * @param request        Page request
+	 * @return {@link KeysetPage} of {@link LogResource} and {@link com.epam.ta.reportportal.ws.model.NestedStepResource} entities
+	 */
+	KeysetPage<Object> getNestedItemsPage(Long parentId, ReportPortalUser.ProjectDetails projectDetails, Map<String, String> params,
+			KeysetRequest request);
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Page of the cursor based pagination. Cursors are absent when there is nothing to traverse in the corresponding direction
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeysetPage<T> {
+
+	@JsonProperty
+	private List<T> content;
+
+	@JsonProperty
+	private String previous;
+
+	@JsonProperty
+	private String next;
+
+	public KeysetPage() {
+	}
+
+	public KeysetPage(List<T> content, String previous, String next) {
+		this.content = content;
+		this.previous = previous;
+		this.next = next;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public void setContent(List<T> content) {
+		this.content = content;
+	}
+
+	public String getPrevious() {
+		return previous;
+	}
+
+	public void setPrevious(String previous) {
+		this.previous = previous;
+	}
+
+	public String getNext() {
+		return next;
+	}
+
+	public void setNext(String next) {
+		this.next = next;
+	}
+}
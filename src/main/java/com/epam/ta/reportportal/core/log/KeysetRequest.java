@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+/**
+ * Parameters of the cursor based page request. If {@link #around} is specified the page is built around the log with this id,
+ * otherwise the page follows (or precedes, see {@link #direction}) the {@link #cursor}.
+ * The first page is returned when neither of them is specified.
+ */
+public class KeysetRequest {
+
+	public static final int DEFAULT_SIZE = 50;
+
+	public static final int MAX_SIZE = 300;
+
+	private String cursor;
+
+	private Direction direction = Direction.NEXT;
+
+	private int size = DEFAULT_SIZE;
+
+	private Long around;
+
+	private String level;
+
+	public String getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(String cursor) {
+		this.cursor = cursor;
+	}
+
+	public Direction getDirection() {
+		return direction;
+	}
+
+	public void setDirection(Direction direction) {
+		this.direction = direction;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	public Long getAround() {
+		return around;
+	}
+
+	public void setAround(Long around) {
+		this.around = around;
+	}
+
+	/**
+	 * @return Min level of the logs to return
+	 */
+	public String getLevel() {
+		return level;
+	}
+
+	public void setLevel(String level) {
+		this.level = level;
+	}
+
+	public enum Direction {
+		NEXT,
+		PREVIOUS
+	}
+}
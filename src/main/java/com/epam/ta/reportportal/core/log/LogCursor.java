@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the row in the sequence of logs (and nested steps) ordered by time, type and id.
+ * Is passed to the clients as an opaque string.
+ */
+public final class LogCursor {
+
+	private static final String SEPARATOR = ":";
+
+	private final Timestamp time;
+
+	private final String type;
+
+	private final Long id;
+
+	public LogCursor(Timestamp time, String type, Long id) {
+		this.time = time;
+		this.type = type;
+		this.id = id;
+	}
+
+	public Timestamp getTime() {
+		return time;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * Time is encoded with the nanoseconds part, so the cursor points exactly to the row
+	 * whatever the precision of the stored time is
+	 *
+	 * @return Opaque string representation of the cursor
+	 */
+	public String encode() {
+		String value = time.getTime() / 1000 + SEPARATOR + time.getNanos() + SEPARATOR + type + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static LogCursor decode(String cursor) {
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+			Timestamp time = new Timestamp(Long.parseLong(parts[0]) * 1000);
+			time.setNanos(Integer.parseInt(parts[1]));
+			return new LogCursor(time, parts[2], Long.parseLong(parts[3]));
+		} catch (RuntimeException e) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Invalid cursor '" + cursor + "'");
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		LogCursor logCursor = (LogCursor) o;
+		return Objects.equals(time, logCursor.time) && Objects.equals(type, logCursor.type) && Objects.equals(id, logCursor.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(time, type, id);
+	}
+}
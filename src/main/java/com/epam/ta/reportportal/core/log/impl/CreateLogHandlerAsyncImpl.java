@@ -78,13 +78,14 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 		request.setUuid(UUID.randomUUID().toString());
 
 		if (file != null) {
-			CompletableFuture.supplyAsync(saveLogBinaryDataTask.get()
+			SaveLogBinaryDataTaskAsync task = saveLogBinaryDataTask.get()
 					.withRequest(request)
 					.withFile(file)
-					.withProjectId(projectDetails.getProjectId()), taskExecutor)
-					.thenAccept(metaInfo -> sendMessage(request, metaInfo, projectDetails.getProjectId()));
+					.withProjectId(projectDetails.getProjectId());
+			CompletableFuture.supplyAsync(task, taskExecutor)
+					.thenAccept(metaInfo -> sendMessage(request, metaInfo, task.getContentHash(), projectDetails.getProjectId()));
 		} else {
-			sendMessage(request, null, projectDetails.getProjectId());
+			sendMessage(request, null, null, projectDetails.getProjectId());
 		}
 
 		EntryCreatedAsyncRS response = new EntryCreatedAsyncRS();
@@ -92,7 +93,7 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 		return response;
 	}
 
-	protected void sendMessage(SaveLogRQ request, BinaryDataMetaInfo metaInfo, Long projectId) {
+	protected void sendMessage(SaveLogRQ request, BinaryDataMetaInfo metaInfo, String contentHash, Long projectId) {
 		amqpTemplate.convertAndSend(
 				EXCHANGE_REPORTING,
 				reportingQueueService.getReportingQueueKey(request.getLaunchUuid()),
@@ -102,6 +103,9 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 					headers.put(MessageHeaders.REQUEST_TYPE, RequestType.LOG);
 					headers.put(MessageHeaders.PROJECT_ID, projectId);
 					headers.put(MessageHeaders.ITEM_ID, request.getItemUuid());
+					if (contentHash != null) {
+						headers.put(MessageHeaders.CONTENT_HASH, contentHash);
+					}
 					return message;
 				}
 		);
@@ -99,18 +99,18 @@ public class CreateLogHandlerImpl implements CreateLogHandler {
 	private EntryCreatedAsyncRS createItemLog(SaveLogRQ request, TestItem item, MultipartFile file, Long projectId) {
 		Log log = new LogBuilder().addSaveLogRq(request).addTestItem(item).get();
 		logRepository.save(log);
-		saveBinaryData(file, projectId, log.getId(), testItemService.getEffectiveLaunch(item).getId(), item.getItemId());
+		saveBinaryData(file, projectId, log, testItemService.getEffectiveLaunch(item).getId(), item.getItemId());
 		return new EntryCreatedAsyncRS(log.getUuid());
 	}
 
 	private EntryCreatedAsyncRS createLaunchLog(SaveLogRQ request, Launch launch, MultipartFile file, Long projectId) {
 		Log log = new LogBuilder().addSaveLogRq(request).addLaunch(launch).get();
 		logRepository.save(log);
-		saveBinaryData(file, projectId, log.getId(), launch.getId(), null);
+		saveBinaryData(file, projectId, log, launch.getId(), null);
 		return new EntryCreatedAsyncRS(log.getUuid());
 	}
 
-	private void saveBinaryData(MultipartFile file, Long projectId, Long logId, Long launchId, Long itemId) {
+	private void saveBinaryData(MultipartFile file, Long projectId, Log log, Long launchId, Long itemId) {
 		if (!Objects.isNull(file)) {
 			SaveLogBinaryDataTask saveLogBinaryDataTask = this.saveLogBinaryDataTask.get()
 					.withFile(file)
@@ -118,8 +118,9 @@ public class CreateLogHandlerImpl implements CreateLogHandler {
 							.withProjectId(projectId)
 							.withLaunchId(launchId)
 							.withItemId(itemId)
-							.withLogId(logId)
-							.build());
+							.withLogId(log.getId())
+							.build())
+					.withLogUuid(log.getUuid());
 
 			taskExecutor.execute(saveLogBinaryDataTask);
 		}
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.log.DeleteLogHandler;
 import com.epam.ta.reportportal.dao.LogRepository;
@@ -35,8 +36,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.epam.ta.reportportal.commons.Preconditions.statusIn;
 import static com.epam.ta.reportportal.commons.Predicates.*;
@@ -44,6 +48,7 @@ import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
 import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Delete Logs handler. Basic implementation of
@@ -63,13 +68,16 @@ public class DeleteLogHandlerImpl implements DeleteLogHandler {
 
 	private final TestItemService testItemService;
 
+	private final AttachmentDeduplicator attachmentDeduplicator;
+
 	@Autowired
 	public DeleteLogHandlerImpl(LogRepository logRepository, AttachmentBinaryDataService attachmentBinaryDataService,
-			ProjectRepository projectRepository, TestItemService testItemService) {
+			ProjectRepository projectRepository, TestItemService testItemService, AttachmentDeduplicator attachmentDeduplicator) {
 		this.logRepository = logRepository;
 		this.attachmentBinaryDataService = attachmentBinaryDataService;
 		this.projectRepository = projectRepository;
 		this.testItemService = testItemService;
+		this.attachmentDeduplicator = attachmentDeduplicator;
 	}
 
 	@Override
@@ -93,12 +101,8 @@ public class DeleteLogHandlerImpl implements DeleteLogHandler {
 
 	private void cleanUpLogData(Log log) {
 		ofNullable(log.getAttachment()).ifPresent(a -> {
-			if (StringUtils.isNotBlank(a.getFileId())) {
-				attachmentBinaryDataService.delete(a.getFileId());
-			}
-			if (StringUtils.isNotBlank(a.getThumbnailId())) {
-				attachmentBinaryDataService.delete(a.getThumbnailId());
-			}
+			List<String> fileIds = Stream.of(a.getFileId(), a.getThumbnailId()).filter(StringUtils::isNotBlank).collect(toList());
+			attachmentDeduplicator.releaseFiles(fileIds, Collections.singletonList(a.getId())).forEach(attachmentBinaryDataService::delete);
 		});
 
 	}
@@ -22,9 +22,13 @@ import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.log.GetLogHandler;
+import com.epam.ta.reportportal.core.log.KeysetPage;
+import com.epam.ta.reportportal.core.log.KeysetRequest;
+import com.epam.ta.reportportal.core.log.LogCursor;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.dao.constant.LogRepositoryConstants;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.item.NestedItem;
 import com.epam.ta.reportportal.entity.item.NestedStep;
@@ -35,6 +39,7 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
 import com.epam.ta.reportportal.ws.converter.converters.LogConverter;
 import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
+import com.epam.ta.reportportal.ws.handler.impl.QueryProjectionFinder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
 import com.google.common.collect.Lists;
@@ -48,12 +53,15 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_ITEM_LAUNCH_ID;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+import static com.epam.ta.reportportal.jooq.Tables.LOG;
 import static com.epam.ta.reportportal.ws.model.ErrorType.FORBIDDEN_OPERATION;
 import static com.epam.ta.reportportal.ws.model.ErrorType.LOG_NOT_FOUND;
 import static java.util.Optional.ofNullable;
@@ -78,17 +86,48 @@ public class GetLogHandlerImpl implements GetLogHandler {
 
 	private final TestItemService testItemService;
 
+	private final LogKeysetFinder logKeysetFinder;
+
+	private final LogProjectionFinder logProjectionFinder;
+
+	private final QueryProjectionFinder queryProjectionFinder;
+
 	@Autowired
-	public GetLogHandlerImpl(LogRepository logRepository, TestItemRepository testItemRepository, TestItemService testItemService) {
+	public GetLogHandlerImpl(LogRepository logRepository, TestItemRepository testItemRepository, TestItemService testItemService,
+			LogKeysetFinder logKeysetFinder, LogProjectionFinder logProjectionFinder, QueryProjectionFinder queryProjectionFinder) {
 		this.logRepository = logRepository;
 		this.testItemRepository = testItemRepository;
 		this.testItemService = testItemService;
+		this.logKeysetFinder = logKeysetFinder;
+		this.logProjectionFinder = logProjectionFinder;
+		this.queryProjectionFinder = queryProjectionFinder;
 	}
 
 	@Override
 	public Iterable<LogResource> getLogs(ReportPortalUser.ProjectDetails projectDetails, Filter filterable, Pageable pageable) {
-		Page<Log> logPage = logRepository.findByFilter(filterable, pageable);
-		return PagedResourcesAssembler.pageConverter(LogConverter.TO_RESOURCE).apply(logPage);
+		Page<Long> logIdPage = queryProjectionFinder.findIdsPage(filterable, pageable, LOG.ID);
+		return PagedResourcesAssembler.<Long, LogResource>pageContentConverter(logIds -> {
+			Map<Long, LogResource> logMap = logProjectionFinder.findByIds(logIds);
+			return logIds.stream().map(logMap::get).filter(Objects::nonNull).collect(Collectors.toList());
+		}).apply(logIdPage);
+	}
+
+	@Override
+	public KeysetPage<LogResource> getLogsPage(Long itemId, ReportPortalUser.ProjectDetails projectDetails, KeysetRequest request) {
+		TestItem item = testItemRepository.findById(itemId).orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, itemId));
+		validate(testItemService.getEffectiveLaunch(item), projectDetails);
+
+		LogKeysetFinder.Slice slice = logKeysetFinder.findLogs(itemId, getLevel(request), request);
+		Map<Long, LogResource> logMap = logProjectionFinder.findByIds(slice.getRows()
+				.stream()
+				.map(LogCursor::getId)
+				.collect(Collectors.toSet()));
+		List<LogResource> content = slice.getRows()
+				.stream()
+				.map(row -> logMap.get(row.getId()))
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		return new KeysetPage<>(content, slice.getPrevious(), slice.getNext());
 	}
 
 	@Override
@@ -129,32 +168,76 @@ public class GetLogHandlerImpl implements GetLogHandler {
 				pageable
 		);
 
-		List<NestedItem> content = nestedItems.getContent();
+		queryable.getFilterConditions().add(getLaunchCondition(launch.getId()));
+		List<Object> resources = toNestedResources(nestedItems.getContent(),
+				NestedItem::getId,
+				NestedItem::getType,
+				queryable,
+				excludePassedLogs
+		);
 
-		Map<String, List<NestedItem>> result = content.stream().collect(groupingBy(NestedItem::getType));
+		return PagedResourcesAssembler.pageConverter()
+				.apply(PageableExecutionUtils.getPage(resources, nestedItems.getPageable(), nestedItems::getTotalElements));
+	}
 
-		Map<Long, Log> logMap = ofNullable(result.get(LogRepositoryConstants.LOG)).map(logs -> logRepository.findAllById(logs.stream()
-				.map(NestedItem::getId)
-				.collect(Collectors.toSet())).stream().collect(toMap(Log::getId, l -> l))).orElseGet(Collections::emptyMap);
+	@Override
+	public KeysetPage<Object> getNestedItemsPage(Long parentId, ReportPortalUser.ProjectDetails projectDetails, Map<String, String> params,
+			KeysetRequest request) {
+		TestItem parentItem = testItemRepository.findById(parentId)
+				.orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, parentId));
+		Launch launch = testItemService.getEffectiveLaunch(parentItem);
+		validate(launch, projectDetails);
+
+		boolean excludeEmptySteps = ofNullable(params.get(EXCLUDE_EMPTY_STEPS)).map(BooleanUtils::toBoolean).orElse(false);
+		boolean excludePassedLogs = ofNullable(params.get(EXCLUDE_PASSED_LOGS)).map(BooleanUtils::toBoolean).orElse(false);
+
+		LogKeysetFinder.Slice slice = logKeysetFinder.findNested(parentId,
+				getLevel(request),
+				excludeEmptySteps,
+				isLogsExclusionRequired(parentItem, excludePassedLogs),
+				request
+		);
+		Filter launchFilter = Filter.builder().withTarget(Log.class).withCondition(getLaunchCondition(launch.getId())).build();
+		List<Object> resources = toNestedResources(slice.getRows(), LogCursor::getId, LogCursor::getType, launchFilter, excludePassedLogs);
+		return new KeysetPage<>(resources, slice.getPrevious(), slice.getNext());
+	}
+
+	/**
+	 * Loads logs and nested steps of the page and converts them to resources keeping the order of the page
+	 *
+	 * @param rows              Rows of the page
+	 * @param idExtractor       Extractor of the id of the row
+	 * @param typeExtractor     Extractor of the type of the row: {@link LogRepositoryConstants#LOG} or {@link LogRepositoryConstants#ITEM}
+	 * @param queryable         {@link Queryable} with the launch condition for the nested steps
+	 * @param excludePassedLogs if 'true' logs of the passed items should be excluded
+	 * @return The {@link List} of {@link LogResource} and {@link com.epam.ta.reportportal.ws.model.NestedStepResource}
+	 */
+	private <T> List<Object> toNestedResources(List<T> rows, Function<T, Long> idExtractor, Function<T, String> typeExtractor,
+			Queryable queryable, boolean excludePassedLogs) {
+		Map<String, List<T>> result = rows.stream().collect(groupingBy(typeExtractor));
+
+		Map<Long, LogResource> logMap = ofNullable(result.get(LogRepositoryConstants.LOG)).map(logs -> logProjectionFinder.findByIds(
+				logs.stream().map(idExtractor).collect(Collectors.toSet()))).orElseGet(Collections::emptyMap);
 
-		queryable.getFilterConditions().add(getLaunchCondition(launch.getId()));
 		Map<Long, NestedStep> nestedStepMap = ofNullable(result.get(LogRepositoryConstants.ITEM)).map(testItems -> testItemRepository.findAllNestedStepsByIds(
-				testItems.stream().map(NestedItem::getId).collect(Collectors.toSet()),
+				testItems.stream().map(idExtractor).collect(Collectors.toSet()),
 				queryable,
 				excludePassedLogs
 		).stream().collect(toMap(NestedStep::getId, i -> i))).orElseGet(Collections::emptyMap);
 
-		List<Object> resources = Lists.newArrayListWithExpectedSize(content.size());
-		content.forEach(nestedItem -> {
-			if (LogRepositoryConstants.LOG.equals(nestedItem.getType())) {
-				ofNullable(logMap.get(nestedItem.getId())).map(LogConverter.TO_RESOURCE).ifPresent(resources::add);
-			} else if (LogRepositoryConstants.ITEM.equals(nestedItem.getType())) {
-				ofNullable(nestedStepMap.get(nestedItem.getId())).map(TestItemConverter.TO_NESTED_STEP_RESOURCE).ifPresent(resources::add);
+		List<Object> resources = Lists.newArrayListWithExpectedSize(rows.size());
+		rows.forEach(row -> {
+			if (LogRepositoryConstants.LOG.equals(typeExtractor.apply(row))) {
+				ofNullable(logMap.get(idExtractor.apply(row))).ifPresent(resources::add);
+			} else if (LogRepositoryConstants.ITEM.equals(typeExtractor.apply(row))) {
+				ofNullable(nestedStepMap.get(idExtractor.apply(row))).map(TestItemConverter.TO_NESTED_STEP_RESOURCE).ifPresent(resources::add);
 			}
 		});
+		return resources;
+	}
 
-		return PagedResourcesAssembler.pageConverter()
-				.apply(PageableExecutionUtils.getPage(resources, nestedItems.getPageable(), nestedItems::getTotalElements));
+	private Integer getLevel(KeysetRequest request) {
+		return ofNullable(request.getLevel()).map(LogLevel::toCustomLogLevel).orElse(null);
 	}
 
 	/**
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.core.log.KeysetRequest;
+import com.epam.ta.reportportal.core.log.LogCursor;
+import com.epam.ta.reportportal.dao.constant.LogRepositoryConstants;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Seeks pages of the logs of the test item and of the logs mixed with the nested steps of the parent test item
+ * by the (time, type, id) key instead of the offset, so the cost of the page doesn't depend on its position.
+ * The key predicate, the order and the limit are applied to each source separately, so each of them is read
+ * by the (item_id, log_time, id) and (parent_id, start_time, item_id) indexes and only the heads are merged.
+ * Only ids of the rows are selected, the entities are loaded by the caller.
+ */
+@Component
+public class LogKeysetFinder {
+
+	private static final String ITEM_LOGS_SOURCE = "SELECT l.id, l.log_time AS time, CAST(:logType AS VARCHAR) AS type FROM log l "
+			+ "WHERE l.item_id = :parentId";
+
+	private static final String NESTED_STEPS_SOURCE = "SELECT ti.item_id AS id, ti.start_time AS time, CAST(:itemType AS VARCHAR) AS type "
+			+ "FROM test_item ti WHERE ti.parent_id = :parentId AND NOT ti.has_stats";
+
+	private static final String LOG_TIME = "l.log_time";
+
+	private static final String LOG_ID = "l.id";
+
+	private static final String STEP_TIME = "ti.start_time";
+
+	private static final String STEP_ID = "ti.item_id";
+
+	private static final String LEVEL_CONDITION = " AND l.log_level >= :level";
+
+	private static final String NOT_EMPTY_STEP_CONDITION = " AND (ti.has_children OR EXISTS(SELECT 1 FROM log WHERE log.item_id = ti.item_id))";
+
+	private static final String ANCHOR_SQL = "SELECT l.id, l.log_time AS time, CAST(:logType AS VARCHAR) AS type FROM log l "
+			+ "WHERE l.id = :anchorId AND l.item_id = :parentId";
+
+	private static final RowMapper<LogCursor> CURSOR_MAPPER = (rs, rowNum) -> new LogCursor(rs.getTimestamp("time"),
+			rs.getString("type"),
+			rs.getLong("id")
+	);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public LogKeysetFinder(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param itemId  Id of the test item
+	 * @param level   Min level of the logs, nullable
+	 * @param request {@link KeysetRequest}
+	 * @return {@link Slice} of the logs
+	 */
+	public Slice findLogs(Long itemId, Integer level, KeysetRequest request) {
+		MapSqlParameterSource params = parameters(itemId, level);
+		return find(Collections.singletonList(logs(level)), params, request);
+	}
+
+	/**
+	 * @param parentId          Id of the parent test item
+	 * @param level             Min level of the logs, nullable
+	 * @param excludeEmptySteps Whether the nested steps without logs and children should be excluded
+	 * @param excludeLogs       Whether the logs of the parent item should be excluded
+	 * @param request           {@link KeysetRequest}
+	 * @return {@link Slice} of the logs and nested steps
+	 */
+	public Slice findNested(Long parentId, Integer level, boolean excludeEmptySteps, boolean excludeLogs, KeysetRequest request) {
+		MapSqlParameterSource params = parameters(parentId, level);
+		Source steps = new Source(NESTED_STEPS_SOURCE + (excludeEmptySteps ? NOT_EMPTY_STEP_CONDITION : ""),
+				LogRepositoryConstants.ITEM,
+				STEP_TIME,
+				STEP_ID
+		);
+		return find(excludeLogs ? Collections.singletonList(steps) : Arrays.asList(logs(level), steps), params, request);
+	}
+
+	private static Source logs(Integer level) {
+		return new Source(ITEM_LOGS_SOURCE + (level == null ? "" : LEVEL_CONDITION), LogRepositoryConstants.LOG, LOG_TIME, LOG_ID);
+	}
+
+	private Slice find(List<Source> sources, MapSqlParameterSource params, KeysetRequest request) {
+		int size = request.getSize();
+		if (size <= 0 || size > KeysetRequest.MAX_SIZE) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Page size should be in range [1, " + KeysetRequest.MAX_SIZE + "]");
+		}
+
+		if (request.getAround() != null) {
+			LogCursor anchor = findAnchor(request.getAround(), params);
+			Seek before = seek(sources, params, anchor, KeysetRequest.Direction.PREVIOUS, false, size / 2);
+			Seek after = seek(sources, params, anchor, KeysetRequest.Direction.NEXT, true, size - before.rows.size());
+			List<LogCursor> rows = new ArrayList<>(before.rows);
+			rows.addAll(after.rows);
+			return new Slice(rows, before.hasMore ? first(rows) : null, after.hasMore ? last(rows) : null);
+		}
+
+		LogCursor cursor = Optional.ofNullable(request.getCursor()).map(LogCursor::decode).orElse(null);
+		if (cursor == null) {
+			Seek page = seek(sources, params, null, KeysetRequest.Direction.NEXT, false, size);
+			return new Slice(page.rows, null, page.hasMore ? last(page.rows) : null);
+		}
+		Seek page = seek(sources, params, cursor, request.getDirection(), false, size);
+		if (KeysetRequest.Direction.NEXT == request.getDirection()) {
+			return new Slice(page.rows, page.rows.isEmpty() ? request.getCursor() : first(page.rows), page.hasMore ? last(page.rows) : null);
+		}
+		return new Slice(page.rows, page.hasMore ? first(page.rows) : null, page.rows.isEmpty() ? request.getCursor() : last(page.rows));
+	}
+
+	private LogCursor findAnchor(Long logId, MapSqlParameterSource params) {
+		List<LogCursor> anchor = jdbcTemplate.query(ANCHOR_SQL,
+				new MapSqlParameterSource(params.getValues()).addValue("anchorId", logId),
+				CURSOR_MAPPER
+		);
+		if (anchor.isEmpty()) {
+			throw new ReportPortalException(ErrorType.LOG_NOT_FOUND, logId);
+		}
+		return anchor.get(0);
+	}
+
+	/**
+	 * Selects one row more than requested to find out whether there are more rows in the direction of traversal.
+	 * Each source is sought and limited on its own, the outer query only merges their heads
+	 *
+	 * @return Rows in ascending order
+	 */
+	private Seek seek(List<Source> sources, MapSqlParameterSource params, LogCursor cursor, KeysetRequest.Direction direction,
+			boolean inclusive, int limit) {
+		if (limit <= 0) {
+			return new Seek(Collections.emptyList(), true);
+		}
+		boolean forward = KeysetRequest.Direction.NEXT == direction;
+		String order = forward ? " ASC" : " DESC";
+		MapSqlParameterSource seekParams = new MapSqlParameterSource(params.getValues()).addValue("limit", limit + 1);
+		if (cursor != null) {
+			seekParams.addValue("cursorTime", cursor.getTime()).addValue("cursorId", cursor.getId());
+		}
+		String union = sources.stream()
+				.map(source -> "(" + source.sql + (cursor == null ? "" : " AND " + source.seekCondition(cursor, forward, inclusive))
+						+ " ORDER BY time" + order + ", id" + order + " LIMIT :limit)")
+				.collect(Collectors.joining(" UNION ALL "));
+		StringBuilder sql = new StringBuilder("SELECT id, time, type FROM (").append(union).append(") nested");
+		sql.append(" ORDER BY time").append(order).append(", type").append(order).append(", id").append(order).append(" LIMIT :limit");
+
+		List<LogCursor> rows = new ArrayList<>(jdbcTemplate.query(sql.toString(), seekParams, CURSOR_MAPPER));
+		boolean hasMore = rows.size() > limit;
+		if (hasMore) {
+			rows.remove(rows.size() - 1);
+		}
+		if (!forward) {
+			Collections.reverse(rows);
+		}
+		return new Seek(rows, hasMore);
+	}
+
+	private static MapSqlParameterSource parameters(Long parentId, Integer level) {
+		return new MapSqlParameterSource().addValue("parentId", parentId)
+				.addValue("level", level)
+				.addValue("logType", LogRepositoryConstants.LOG)
+				.addValue("itemType", LogRepositoryConstants.ITEM);
+	}
+
+	private static String first(List<LogCursor> rows) {
+		return rows.isEmpty() ? null : rows.get(0).encode();
+	}
+
+	private static String last(List<LogCursor> rows) {
+		return rows.isEmpty() ? null : rows.get(rows.size() - 1).encode();
+	}
+
+	/**
+	 * Rows of a single type, ordered by the time and the id columns
+	 */
+	private static final class Source {
+
+		private final String sql;
+
+		private final String type;
+
+		private final String timeColumn;
+
+		private final String idColumn;
+
+		private Source(String sql, String type, String timeColumn, String idColumn) {
+			this.sql = sql;
+			this.type = type;
+			this.timeColumn = timeColumn;
+			this.idColumn = idColumn;
+		}
+
+		/**
+		 * Resolves the (time, type, id) key comparison for the constant type of the source,
+		 * so it's a range condition on the (time, id) columns of the index
+		 */
+		String seekCondition(LogCursor cursor, boolean forward, boolean inclusive) {
+			String comparison = forward ? ">" : "<";
+			int typeComparison = type.compareTo(cursor.getType());
+			if (typeComparison == 0) {
+				return "(" + timeColumn + ", " + idColumn + ") " + comparison + (inclusive ? "=" : "") + " (:cursorTime, :cursorId)";
+			}
+			boolean sameTimeIncluded = forward ? typeComparison > 0 : typeComparison < 0;
+			return timeColumn + " " + comparison + (sameTimeIncluded ? "=" : "") + " :cursorTime";
+		}
+	}
+
+	private static final class Seek {
+
+		private final List<LogCursor> rows;
+
+		private final boolean hasMore;
+
+		private Seek(List<LogCursor> rows, boolean hasMore) {
+			this.rows = rows;
+			this.hasMore = hasMore;
+		}
+	}
+
+	/**
+	 * Rows of the page in ascending order with the cursors of the adjacent pages
+	 */
+	public static final class Slice {
+
+		private final List<LogCursor> rows;
+
+		private final String previous;
+
+		private final String next;
+
+		Slice(List<LogCursor> rows, String previous, String next) {
+			this.rows = rows;
+			this.previous = previous;
+			this.next = next;
+		}
+
+		public List<LogCursor> getRows() {
+			return rows;
+		}
+
+		public String getPrevious() {
+			return previous;
+		}
+
+		public String getNext() {
+			return next;
+		}
+	}
+}
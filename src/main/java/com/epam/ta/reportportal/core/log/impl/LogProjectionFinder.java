@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.commons.EntityUtils;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.ws.model.log.LogResource;
+import com.google.common.collect.Iterables;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+/**
+ * Reads logs of the list views as {@link LogResource} projections: the rendered columns of the logs and their attachments
+ * are selected with a single query, so neither the log entities nor their items, launches and attachments are loaded.
+ */
+@Component
+public class LogProjectionFinder {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private static final String PROJECTION_SQL =
+			"SELECT l.id, l.uuid, l.log_time, l.log_message, l.log_level, l.item_id, l.launch_id, a.id AS attachment_id, a.file_id, "
+					+ "a.thumbnail_id, a.content_type FROM log l LEFT JOIN attachment a ON l.attachment_id = a.id WHERE l.id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public LogProjectionFinder(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param logIds Ids of the logs
+	 * @return Resources of the existing logs mapped by the log id
+	 */
+	public Map<Long, LogResource> findByIds(Collection<Long> logIds) {
+		Map<Long, LogResource> resources = new HashMap<>(logIds.size());
+		Iterables.partition(new LinkedHashSet<>(logIds), CHUNK_SIZE)
+				.forEach(chunk -> jdbcTemplate.query(PROJECTION_SQL, new MapSqlParameterSource("ids", chunk), (RowCallbackHandler) rs -> {
+					LogResource resource = toResource(rs);
+					resources.put(resource.getId(), resource);
+				}));
+		return resources;
+	}
+
+	private static LogResource toResource(ResultSet rs) throws SQLException {
+		LogResource resource = new LogResource();
+		resource.setId(rs.getLong("id"));
+		resource.setUuid(rs.getString("uuid"));
+		resource.setMessage(ofNullable(rs.getString("log_message")).orElse("NULL"));
+		resource.setLogTime(EntityUtils.TO_DATE.apply(rs.getObject("log_time", LocalDateTime.class)));
+
+		String contentType = rs.getString("content_type");
+		String thumbnailId = rs.getString("thumbnail_id");
+		if (rs.getObject("attachment_id") != null && (isNotEmpty(contentType) || isNotEmpty(thumbnailId)
+				|| isNotEmpty(rs.getString("file_id")))) {
+			LogResource.BinaryContent binaryContent = new LogResource.BinaryContent();
+			binaryContent.setBinaryDataId(String.valueOf(rs.getLong("attachment_id")));
+			binaryContent.setContentType(contentType);
+			binaryContent.setThumbnailId(thumbnailId);
+			resource.setBinaryContent(binaryContent);
+		}
+
+		resource.setItemId(rs.getObject("item_id", Long.class));
+		resource.setLaunchId(rs.getObject("launch_id", Long.class));
+		Integer level = rs.getObject("log_level", Integer.class);
+		if (level != null) {
+			resource.setLevel(LogLevel.toLevel(level).toString());
+		}
+		return resource;
+	}
+}
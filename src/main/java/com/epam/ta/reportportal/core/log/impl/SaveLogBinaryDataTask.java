@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
 import com.google.common.base.Preconditions;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,8 @@ public class SaveLogBinaryDataTask implements Runnable {
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private AttachmentDeduplicator attachmentDeduplicator;
 	/**
 	 * Binary data representation
 	 */
@@ -44,9 +47,16 @@ public class SaveLogBinaryDataTask implements Runnable {
 
 	private AttachmentMetaInfo attachmentMetaInfo;
 
+	private String logUuid;
+
 	@Override
 	public void run() {
-		attachmentBinaryDataService.saveFileAndAttachToLog(file, attachmentMetaInfo);
+		String contentHash = attachmentDeduplicator.contentHash(file).orElse(null);
+		attachmentDeduplicator.saveAttachment(attachmentMetaInfo.getProjectId(), file, contentHash, logUuid)
+				.ifPresent(metaInfo -> {
+					attachmentBinaryDataService.attachToLog(metaInfo, attachmentMetaInfo);
+					attachmentDeduplicator.onAttachmentSaved(metaInfo, contentHash, logUuid);
+				});
 	}
 
 	public SaveLogBinaryDataTask withFile(MultipartFile file) {
@@ -60,4 +70,10 @@ public class SaveLogBinaryDataTask implements Runnable {
 		this.attachmentMetaInfo = metaInfo;
 		return this;
 	}
+
+	public SaveLogBinaryDataTask withLogUuid(String logUuid) {
+		Preconditions.checkNotNull(logUuid, "Log uuid shouldn't be null");
+		this.logUuid = logUuid;
+		return this;
+	}
 }
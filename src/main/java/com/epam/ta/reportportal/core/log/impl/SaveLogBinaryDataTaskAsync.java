@@ -16,8 +16,8 @@
 
 package com.epam.ta.reportportal.core.log.impl;
 
-import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
@@ -41,7 +41,7 @@ public class SaveLogBinaryDataTaskAsync implements Supplier<BinaryDataMetaInfo>
 	private static final Logger LOGGER = LoggerFactory.getLogger(SaveLogBinaryDataTaskAsync.class);
 
 	@Autowired
-	private AttachmentBinaryDataService attachmentBinaryDataService;
+	private AttachmentDeduplicator attachmentDeduplicator;
 
 	private SaveLogRQ request;
 
@@ -49,15 +49,29 @@ public class SaveLogBinaryDataTaskAsync implements Supplier<BinaryDataMetaInfo>
 
 	private Long projectId;
 
+	private String contentHash;
+
 	@Override
 	public BinaryDataMetaInfo get() {
-		Optional<BinaryDataMetaInfo> maybeBinaryDataMetaInfo = attachmentBinaryDataService.saveAttachment(projectId, file);
+		contentHash = attachmentDeduplicator.contentHash(file).orElse(null);
+		Optional<BinaryDataMetaInfo> maybeBinaryDataMetaInfo = attachmentDeduplicator.saveAttachment(projectId,
+				file,
+				contentHash,
+				request.getUuid()
+		);
 		return maybeBinaryDataMetaInfo.orElseGet(() -> {
 			LOGGER.error("Failed to save log content data into DataStore, projectId {}, itemId {} ", projectId, request.getItemUuid());
 			throw new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED);
 		});
 	}
 
+	/**
+	 * @return Content hash of the saved file to be passed with the binary data, available once the task is completed
+	 */
+	public String getContentHash() {
+		return contentHash;
+	}
+
 	public SaveLogBinaryDataTaskAsync withRequest(SaveLogRQ request) {
 		Preconditions.checkNotNull(request, "Request shouldn't be null");
 		this.request = request;
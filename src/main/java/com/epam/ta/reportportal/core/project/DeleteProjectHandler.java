@@ -39,6 +39,14 @@ public interface DeleteProjectHandler {
 	 */
 	OperationCompletionRS deleteProject(Long projectId);
 
+	/**
+	 * Get status of the asynchronous deletion of the specified project
+	 *
+	 * @param projectId Project id
+	 * @return {@link ProjectDeletionStatus}
+	 */
+	ProjectDeletionStatus getProjectDeletionStatus(Long projectId);
+
 	/**
 	 * Delete project index
 	 *
@@ -57,4 +57,24 @@ public interface GetProjectInfoHandler {
 	 * @return
 	 */
 	Map<String, ?> getProjectInfoWidgetContent(String projectName, String interval, String widgetCode);
+
+	/**
+	 * Get cached snapshot of the project info
+	 *
+	 * @param projectName Project name
+	 * @param interval    Interval
+	 * @return {@link ProjectInfoSnapshot} of the project info resource
+	 */
+	ProjectInfoSnapshot<ProjectInfoResource> getProjectInfoSnapshot(String projectName, String interval);
+
+	/**
+	 * Get cached snapshot of the widget data content for specified project by specified
+	 * {@link InfoInterval} and {@link com.epam.ta.reportportal.entity.project.email.ProjectInfoWidget}
+	 *
+	 * @param projectName Project name
+	 * @param interval    Interval
+	 * @param widgetCode  Project Info Widget code
+	 * @return {@link ProjectInfoSnapshot} of the widget content
+	 */
+	ProjectInfoSnapshot<Map<String, ?>> getProjectInfoWidgetContentSnapshot(String projectName, String interval, String widgetCode);
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project;
+
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.entity.project.Project;
+
+import java.util.Map;
+
+/**
+ * Deletes projects asynchronously. Project is marked as deleted (tombstoned) immediately,
+ * its dependent data is removed in the background by bounded chunks, each in a separate short transaction.
+ * Unfinished and failed deletions are resumed after restart and retried periodically.
+ * Tombstoned projects are hidden from the listings and the reporting.
+ */
+public interface ProjectDeletionService {
+
+	/**
+	 * Tombstones the project within the current transaction and starts its deletion once the transaction is committed
+	 *
+	 * @param project {@link Project} to delete
+	 * @return Initial {@link ProjectDeletionStatus}
+	 */
+	ProjectDeletionStatus schedule(Project project);
+
+	/**
+	 * @param projectId Id of the project
+	 * @return {@link ProjectDeletionStatus} of the scheduled or recently finished deletion
+	 */
+	ProjectDeletionStatus getStatus(Long projectId);
+
+	/**
+	 * @return Names of the tombstoned projects by their ids
+	 */
+	Map<Long, String> getTombstonedProjects();
+
+	/**
+	 * @param projectId Id of the project
+	 * @return true if the project is scheduled for deletion
+	 */
+	boolean isTombstoned(Long projectId);
+
+	/**
+	 * @param filter {@link com.epam.ta.reportportal.entity.project.ProjectInfo} filter
+	 * @return Filter excluding the tombstoned projects
+	 */
+	Queryable withoutTombstoned(Queryable filter);
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Date;
+
+/**
+ * Progress of the asynchronous project deletion
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectDeletionStatus {
+
+	@JsonProperty
+	private Long projectId;
+
+	@JsonProperty
+	private State state;
+
+	@JsonProperty
+	private Date startedAt;
+
+	@JsonProperty
+	private Date finishedAt;
+
+	@JsonProperty
+	private long deletedLaunches;
+
+	@JsonProperty
+	private long deletedItems;
+
+	@JsonProperty
+	private long deletedLogs;
+
+	@JsonProperty
+	private long deletedActivities;
+
+	@JsonProperty
+	private String error;
+
+	public ProjectDeletionStatus() {
+	}
+
+	public ProjectDeletionStatus(Long projectId, State state, Date startedAt) {
+		this.projectId = projectId;
+		this.state = state;
+		this.startedAt = startedAt;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public void setState(State state) {
+		this.state = state;
+	}
+
+	public Date getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(Date startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public Date getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(Date finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public long getDeletedLaunches() {
+		return deletedLaunches;
+	}
+
+	public void setDeletedLaunches(long deletedLaunches) {
+		this.deletedLaunches = deletedLaunches;
+	}
+
+	public long getDeletedItems() {
+		return deletedItems;
+	}
+
+	public void setDeletedItems(long deletedItems) {
+		this.deletedItems = deletedItems;
+	}
+
+	public long getDeletedLogs() {
+		return deletedLogs;
+	}
+
+	public void setDeletedLogs(long deletedLogs) {
+		this.deletedLogs = deletedLogs;
+	}
+
+	public long getDeletedActivities() {
+		return deletedActivities;
+	}
+
+	public void setDeletedActivities(long deletedActivities) {
+		this.deletedActivities = deletedActivities;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public enum State {
+		IN_PROGRESS,
+		COMPLETED,
+		FAILED
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Precomputed value of the project info statistics
+ *
+ * @param <T> Type of the value
+ */
+public class ProjectInfoSnapshot<T> {
+
+	private final T value;
+
+	private final Date computedAt;
+
+	public ProjectInfoSnapshot(T value, Date computedAt) {
+		this.value = value;
+		this.computedAt = computedAt;
+	}
+
+	public T getValue() {
+		return value;
+	}
+
+	public Date getComputedAt() {
+		return computedAt;
+	}
+
+	/**
+	 * @return Seconds passed since the value has been computed
+	 */
+	public long getAge() {
+		return TimeUnit.MILLISECONDS.toSeconds(Math.max(0, System.currentTimeMillis() - computedAt.getTime()));
+	}
+}
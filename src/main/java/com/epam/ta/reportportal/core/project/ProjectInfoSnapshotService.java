@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project;
+
+import com.epam.ta.reportportal.entity.enums.InfoInterval;
+
+import java.util.function.Supplier;
+
+/**
+ * Per instance cache of the project info statistics by project, {@link InfoInterval} and kind of the statistics.
+ * Snapshot is computed by the first request, then it is refreshed in background when it becomes older than the refresh
+ * interval or when a launch of the project is finished or deleted, and is never served older than the max age.
+ */
+public interface ProjectInfoSnapshotService {
+
+	/**
+	 * Returns the snapshot of the statistics, computing it with the provided loader if it is absent or too old
+	 *
+	 * @param projectId Id of the project
+	 * @param interval  Interval of the statistics
+	 * @param kind      Kind of the statistics
+	 * @param loader    Loader of the statistics, should not depend on the state of the caller
+	 * @param <T>       Type of the statistics
+	 * @return {@link ProjectInfoSnapshot}
+	 */
+	<T> ProjectInfoSnapshot<T> get(Long projectId, InfoInterval interval, String kind, Supplier<T> loader);
+
+	/**
+	 * Recomputes all the snapshots of the project in background after the current transaction is committed
+	 *
+	 * @param projectId Id of the project
+	 */
+	void refresh(Long projectId);
+}
@@ -20,11 +20,14 @@ import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.job.PageUtil;
+import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,13 +38,23 @@ public class AttachmentEventPublisher {
 
 	private static final Integer ATTACHMENTS_BATCH_SIZE = 300;
 
+	private static final String LAUNCH_ATTACHMENT_IDS_SQL = "SELECT id FROM attachment WHERE launch_id IN (:ids) AND id > :lastId "
+			+ "ORDER BY id LIMIT :limit";
+
+	private static final String ITEM_ATTACHMENT_IDS_SQL = "SELECT id FROM attachment WHERE item_id IN (:ids) AND id > :lastId "
+			+ "ORDER BY id LIMIT :limit";
+
 	private final AttachmentRepository attachmentRepository;
 
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
 	private final MessageBus messageBus;
 
 	@Autowired
-	public AttachmentEventPublisher(AttachmentRepository attachmentRepository, MessageBus messageBus) {
+	public AttachmentEventPublisher(AttachmentRepository attachmentRepository, NamedParameterJdbcTemplate jdbcTemplate,
+			MessageBus messageBus) {
 		this.attachmentRepository = attachmentRepository;
+		this.jdbcTemplate = jdbcTemplate;
 		this.messageBus = messageBus;
 	}
 
@@ -54,22 +67,42 @@ public class AttachmentEventPublisher {
 		);
 	}
 
+	/**
+	 * Publishes removal of the attachments of all the specified launches with messages of up to {@link #ATTACHMENTS_BATCH_SIZE} ids
+	 *
+	 * @param launchIds Ids of the launches
+	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
-	public void publishDeleteLaunchAttachmentsEvent(Long launchId) {
-		PageUtil.iterateOverPages(
-				ATTACHMENTS_BATCH_SIZE,
-				pageable -> attachmentRepository.findIdsByLaunchId(launchId, pageable),
-				this::publishDeleteAttachmentEvent
-		);
+	public void publishDeleteLaunchAttachmentsEvent(Collection<Long> launchIds) {
+		publishDeleteAttachmentEvents(LAUNCH_ATTACHMENT_IDS_SQL, launchIds);
 	}
 
+	/**
+	 * Publishes removal of the attachments of all the specified items with messages of up to {@link #ATTACHMENTS_BATCH_SIZE} ids
+	 *
+	 * @param itemIds Ids of the test items
+	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
-	public void publishDeleteItemAttachmentsEvent(Long itemId) {
-		PageUtil.iterateOverPages(
-				ATTACHMENTS_BATCH_SIZE,
-				pageable -> attachmentRepository.findIdsByTestItemId(itemId, pageable),
-				this::publishDeleteAttachmentEvent
-		);
+	public void publishDeleteItemAttachmentsEvent(Collection<Long> itemIds) {
+		publishDeleteAttachmentEvents(ITEM_ATTACHMENT_IDS_SQL, itemIds);
+	}
+
+	private void publishDeleteAttachmentEvents(String sql, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		long lastId = 0L;
+		List<Long> attachmentIds;
+		do {
+			attachmentIds = jdbcTemplate.queryForList(sql,
+					ImmutableMap.of("ids", ids, "lastId", lastId, "limit", ATTACHMENTS_BATCH_SIZE),
+					Long.class
+			);
+			if (!attachmentIds.isEmpty()) {
+				publishDeleteAttachmentEvent(attachmentIds);
+				lastId = attachmentIds.get(attachmentIds.size() - 1);
+			}
+		} while (attachmentIds.size() == ATTACHMENTS_BATCH_SIZE);
 	}
 
 	private void publishDeleteAttachmentEvent(List<Long> ids) {
@@ -22,26 +22,22 @@ import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
-import com.epam.ta.reportportal.core.events.attachment.DeleteProjectAttachmentsEvent;
 import com.epam.ta.reportportal.core.project.DeleteProjectHandler;
-import com.epam.ta.reportportal.dao.IssueTypeRepository;
+import com.epam.ta.reportportal.core.project.ProjectDeletionService;
+import com.epam.ta.reportportal.core.project.ProjectDeletionStatus;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
-import com.epam.ta.reportportal.entity.item.issue.IssueType;
 import com.epam.ta.reportportal.entity.project.Project;
-import com.epam.ta.reportportal.entity.project.ProjectIssueType;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.*;
 import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -66,22 +62,19 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 
 	private final MessageBus messageBus;
 
-	private final ApplicationEventPublisher eventPublisher;
-
-	private final IssueTypeRepository issueTypeRepository;
+	private final ProjectDeletionService projectDeletionService;
 
 	@Autowired
 	public DeleteProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository, LogIndexer logIndexer,
 			AnalyzerServiceClient analyzerServiceClient, AnalyzerStatusCache analyzerStatusCache, MessageBus messageBus,
-			ApplicationEventPublisher eventPublisher, IssueTypeRepository issueTypeRepository) {
+			ProjectDeletionService projectDeletionService) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.logIndexer = logIndexer;
 		this.analyzerServiceClient = analyzerServiceClient;
 		this.analyzerStatusCache = analyzerStatusCache;
 		this.messageBus = messageBus;
-		this.eventPublisher = eventPublisher;
-		this.issueTypeRepository = issueTypeRepository;
+		this.projectDeletionService = projectDeletionService;
 	}
 
 	@Override
@@ -91,6 +84,11 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 		return deleteProject(project);
 	}
 
+	@Override
+	public ProjectDeletionStatus getProjectDeletionStatus(Long projectId) {
+		return projectDeletionService.getStatus(projectId);
+	}
+
 	@Override
 	public OperationCompletionRS deleteProjectIndex(String projectName, String username) {
 		expect(analyzerServiceClient.hasClients(), Predicate.isEqual(true)).verify(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
@@ -144,19 +142,7 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 	}
 
 	private OperationCompletionRS deleteProject(Project project) {
-		Set<Long> defaultIssueTypeIds = issueTypeRepository.getDefaultIssueTypes()
-				.stream()
-				.map(IssueType::getId)
-				.collect(Collectors.toSet());
-		Set<IssueType> issueTypesToRemove = project.getProjectIssueTypes()
-				.stream()
-				.map(ProjectIssueType::getIssueType)
-				.filter(issueType -> !defaultIssueTypeIds.contains(issueType.getId()))
-				.collect(Collectors.toSet());
-		projectRepository.delete(project);
-		issueTypeRepository.deleteAll(issueTypesToRemove);
-		logIndexer.deleteIndex(project.getId());
-		eventPublisher.publishEvent(new DeleteProjectAttachmentsEvent(project.getId()));
-		return new OperationCompletionRS("Project with id = '" + project.getId() + "' has been successfully deleted.");
+		projectDeletionService.schedule(project);
+		return new OperationCompletionRS("Project with id = '" + project.getId() + "' has been scheduled for deletion.");
 	}
 }
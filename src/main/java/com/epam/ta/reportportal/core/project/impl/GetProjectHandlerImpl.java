@@ -25,7 +25,9 @@ import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.ReportExportLimiter;
 import com.epam.ta.reportportal.core.project.GetProjectHandler;
+import com.epam.ta.reportportal.core.project.ProjectDeletionService;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
@@ -39,8 +41,6 @@ import com.epam.ta.reportportal.ws.converter.converters.UserConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.project.ProjectResource;
 import com.epam.ta.reportportal.ws.model.user.UserResource;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.jooq.Operator;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,8 +52,10 @@ import org.springframework.util.CollectionUtils;
 
 import java.io.OutputStream;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_PROJECT_ID;
@@ -72,16 +74,22 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 
 	private final GetJasperReportHandler<ProjectInfo> jasperReportHandler;
 
+	private final ReportExportLimiter reportExportLimiter;
+
 	private final ProjectConverter projectConverter;
 
+	private final ProjectDeletionService projectDeletionService;
+
 	@Autowired
 	public GetProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			@Qualifier("projectJasperReportHandler") GetJasperReportHandler<ProjectInfo> jasperReportHandler,
-			ProjectConverter projectConverter) {
+			ReportExportLimiter reportExportLimiter, ProjectConverter projectConverter, ProjectDeletionService projectDeletionService) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.jasperReportHandler = jasperReportHandler;
+		this.reportExportLimiter = reportExportLimiter;
 		this.projectConverter = projectConverter;
+		this.projectDeletionService = projectDeletionService;
 	}
 
 	@Override
@@ -131,27 +139,30 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 
 	@Override
 	public List<String> getAllProjectNames() {
-		return projectRepository.findAllProjectNames();
+		return withoutTombstoned(projectRepository.findAllProjectNames());
 	}
 
 	@Override
 	public List<String> getAllProjectNamesByTerm(String term) {
-		return projectRepository.findAllProjectNamesByTerm(term);
+		return withoutTombstoned(projectRepository.findAllProjectNamesByTerm(term));
 	}
 
 	@Override
-	public void exportProjects(ReportFormat reportFormat, Queryable filter, OutputStream outputStream) {
-
-		List<ProjectInfo> projects = projectRepository.findProjectInfoByFilter(filter);
-
-		List<? extends Map<String, ?>> data = projects.stream().map(jasperReportHandler::convertParams).collect(Collectors.toList());
-
-		JRDataSource jrDataSource = new JRBeanCollectionDataSource(data);
-
-		//don't provide any params to not overwrite params from the Jasper template
-		JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(null, jrDataSource);
-
-		jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+	public void exportProjects(ReportFormat reportFormat, Queryable projectFilter, OutputStream outputStream) {
+		Queryable filter = projectDeletionService.withoutTombstoned(projectFilter);
+
+		reportExportLimiter.execute(() -> {
+			if (ReportFormat.CSV == reportFormat) {
+				jasperReportHandler.writeCsv(outputStream, pageable -> projectRepository.findProjectInfoByFilter(filter, pageable));
+			} else {
+				List<? extends Map<String, ?>> data = projectRepository.findProjectInfoByFilter(filter)
+						.stream()
+						.map(jasperReportHandler::convertParams)
+						.collect(Collectors.toList());
+				//don't provide any params to not overwrite params from the Jasper template
+				jasperReportHandler.exportReport(reportFormat, outputStream, null, new JRBeanCollectionDataSource(data));
+			}
+		});
 	}
 
 	@Override
@@ -161,4 +172,12 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 				.collect(Collectors.toMap(Project::getName, it -> getAnalyzerConfig(it).isIndexingRunning()));
 	}
 
+	private List<String> withoutTombstoned(List<String> projectNames) {
+		Set<String> tombstoned = new HashSet<>(projectDeletionService.getTombstonedProjects().values());
+		if (tombstoned.isEmpty()) {
+			return projectNames;
+		}
+		return projectNames.stream().filter(name -> !tombstoned.contains(name)).collect(Collectors.toList());
+	}
+
 }
@@ -20,6 +20,9 @@ import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.project.GetProjectInfoHandler;
+import com.epam.ta.reportportal.core.project.ProjectDeletionService;
+import com.epam.ta.reportportal.core.project.ProjectInfoSnapshot;
+import com.epam.ta.reportportal.core.project.ProjectInfoSnapshotService;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.activity.Activity;
 import com.epam.ta.reportportal.entity.activity.ActivityAction;
@@ -81,6 +84,7 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 	private static final Double WEEKS_IN_MONTH = 4.4;
 	private static final int LIMIT = 150;
+	private static final String PROJECT_INFO_SNAPSHOT = "PROJECT_INFO";
 	private static final Predicate<ActivityAction> ACTIVITIES_PROJECT_FILTER = it -> it == UPDATE_DEFECT || it == DELETE_DEFECT
 			|| it == LINK_ISSUE || it == LINK_ISSUE_AA || it == UNLINK_ISSUE || it == UPDATE_ITEM;
 	private final ProjectRepository projectRepository;
@@ -97,12 +101,17 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 	private final TicketRepository ticketRepository;
 
+	private final ProjectInfoSnapshotService projectInfoSnapshotService;
+
+	private final ProjectDeletionService projectDeletionService;
+
 	private DecimalFormat formatter = new DecimalFormat("###.##");
 
 	@Autowired
 	public GetProjectInfoHandlerImpl(ProjectRepository projectRepository, LaunchRepository launchRepository,
 			ActivityRepository activityRepository, ProjectInfoWidgetDataConverter dataConverter, LaunchConverter launchConverter,
-			UserRepository userRepository, TicketRepository ticketRepository) {
+			UserRepository userRepository, TicketRepository ticketRepository, ProjectInfoSnapshotService projectInfoSnapshotService,
+			ProjectDeletionService projectDeletionService) {
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.activityRepository = activityRepository;
@@ -110,6 +119,8 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		this.launchConverter = launchConverter;
 		this.userRepository = userRepository;
 		this.ticketRepository = ticketRepository;
+		this.projectInfoSnapshotService = projectInfoSnapshotService;
+		this.projectDeletionService = projectDeletionService;
 	}
 
 	/**
@@ -144,11 +155,16 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 	@Override
 	public Iterable<ProjectInfoResource> getAllProjectsInfo(Queryable filter, Pageable pageable) {
 		return PagedResourcesAssembler.pageConverter(ProjectSettingsConverter.TO_PROJECT_INFO_RESOURCE)
-				.apply(projectRepository.findProjectInfoByFilter(filter, pageable));
+				.apply(projectRepository.findProjectInfoByFilter(projectDeletionService.withoutTombstoned(filter), pageable));
 	}
 
 	@Override
 	public ProjectInfoResource getProjectInfo(String projectName, String interval) {
+		return getProjectInfoSnapshot(projectName, interval).getValue();
+	}
+
+	@Override
+	public ProjectInfoSnapshot<ProjectInfoResource> getProjectInfoSnapshot(String projectName, String interval) {
 
 		Project project = projectRepository.findByName(normalizeId(projectName))
 				.orElseThrow(() -> new ReportPortalException(PROJECT_NOT_FOUND, projectName));
@@ -156,9 +172,19 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		InfoInterval infoInterval = InfoInterval.findByInterval(interval)
 				.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, interval));
 
+		Long projectId = project.getId();
+		String name = project.getName();
+		return projectInfoSnapshotService.get(projectId,
+				infoInterval,
+				PROJECT_INFO_SNAPSHOT,
+				() -> loadProjectInfo(projectId, name, infoInterval)
+		);
+	}
+
+	private ProjectInfoResource loadProjectInfo(Long projectId, String projectName, InfoInterval infoInterval) {
 		Filter filter = Filter.builder()
 				.withTarget(ProjectInfo.class)
-				.withCondition(FilterCondition.builder().eq(CRITERIA_PROJECT_NAME, project.getName()).build())
+				.withCondition(FilterCondition.builder().eq(CRITERIA_PROJECT_NAME, projectName).build())
 				.build();
 
 		Page<ProjectInfo> result = projectRepository.findProjectInfoByFilter(filter, Pageable.unpaged());
@@ -168,18 +194,19 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 		LocalDateTime startIntervalDate = getStartIntervalDate(infoInterval);
 
-		Map<String, Integer> countPerUser = launchRepository.countLaunchesGroupedByOwner(project.getId(),
+		Map<String, Integer> countPerUser = launchRepository.countLaunchesGroupedByOwner(projectId,
 				LaunchModeEnum.DEFAULT.toString(),
 				startIntervalDate
 		);
 
-		projectInfoResource.setUniqueTickets(ticketRepository.findUniqueCountByProjectBefore(project.getId(), startIntervalDate));
+		projectInfoResource.setUniqueTickets(ticketRepository.findUniqueCountByProjectBefore(projectId, startIntervalDate));
 
 		projectInfoResource.setLaunchesPerUser(countPerUser.entrySet()
 				.stream()
 				.map(e -> new LaunchesPerUser(e.getKey(), e.getValue()))
 				.collect(Collectors.toList()));
 
+		DecimalFormat formatter = (DecimalFormat) this.formatter.clone();
 		if (projectInfoResource.getLaunchesQuantity() != 0) {
 			formatter.setRoundingMode(RoundingMode.HALF_UP);
 			double value = projectInfoResource.getLaunchesQuantity() / (infoInterval.getCount() * WEEKS_IN_MONTH);
@@ -192,6 +219,12 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 	@Override
 	public Map<String, ?> getProjectInfoWidgetContent(String projectName, String interval, String widgetCode) {
+		return getProjectInfoWidgetContentSnapshot(projectName, interval, widgetCode).getValue();
+	}
+
+	@Override
+	public ProjectInfoSnapshot<Map<String, ?>> getProjectInfoWidgetContentSnapshot(String projectName, String interval,
+			String widgetCode) {
 		Project project = projectRepository.findByName(projectName)
 				.orElseThrow(() -> new ReportPortalException(PROJECT_NOT_FOUND, projectName));
 
@@ -201,7 +234,24 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		ProjectInfoWidget widgetType = ProjectInfoWidget.findByCode(widgetCode)
 				.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, widgetCode));
 
-		List<Launch> launches = launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(project.getId(),
+		/* Activities aren't related to the launches, so they are always loaded on demand */
+		if (ProjectInfoWidget.ACTIVITIES == widgetType) {
+			return new ProjectInfoSnapshot<>(getActivities(project, infoInterval), new Date());
+		}
+		Long projectId = project.getId();
+		return projectInfoSnapshotService.get(projectId,
+				infoInterval,
+				widgetType.name(),
+				() -> loadWidgetContent(projectId, infoInterval, widgetType)
+		);
+	}
+
+	private Map<String, ?> loadWidgetContent(Long projectId, InfoInterval infoInterval, ProjectInfoWidget widgetType) {
+		if (ProjectInfoWidget.LAST_LAUNCH == widgetType) {
+			return getLastLaunchStatistics(projectId);
+		}
+
+		List<Launch> launches = launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(projectId,
 				getStartIntervalDate(infoInterval),
 				LaunchModeEnum.DEFAULT
 		);
@@ -221,12 +271,6 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 			case ISSUES_CHART:
 				result = dataConverter.getLaunchesIssues(launches, infoInterval);
 				break;
-			case ACTIVITIES:
-				result = getActivities(project, infoInterval);
-				break;
-			case LAST_LAUNCH:
-				result = getLastLaunchStatistics(project.getId());
-				break;
 			default:
 				// empty result
 				result = Collections.emptyMap();
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.events.attachment.DeleteProjectAttachmentsEvent;
+import com.epam.ta.reportportal.core.project.ProjectDeletionService;
+import com.epam.ta.reportportal.core.project.ProjectDeletionStatus;
+import com.epam.ta.reportportal.dao.IssueTypeRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.entity.item.issue.IssueType;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.ProjectInfo;
+import com.epam.ta.reportportal.entity.project.ProjectIssueType;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.jooq.Operator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+
+/**
+ * Removes the dependent rows of the tombstoned project by chunks ordered by primary key:
+ * logs, test items and the launch itself launch by launch, then activities and finally the project row,
+ * which cascades to the remaining small tables (filters, widgets, dashboards, integrations, etc.).
+ * Every chunk is removed in a separate transaction, so the deletion holds neither long locks nor a huge transaction
+ * and can be resumed from any point: the tombstone is stored in the project metadata and survives restarts.
+ * The deletion of a project runs under a cluster-wide advisory lock held by a dedicated connection,
+ * so the instances resuming the same tombstone don't delete it concurrently and the lock is released if the instance dies.
+ * <p>
+ * The progress is stored in the 'project_deletion' table, which outlives the project row, so every instance reports
+ * the same status. Failed deletions are retried periodically by all the instances, the lock lets only one of them proceed.
+ */
+@Service
+public class ProjectDeletionServiceImpl implements ProjectDeletionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectDeletionServiceImpl.class);
+
+	private static final long STATUS_EXPIRATION_HOURS = 24L;
+
+	/**
+	 * The start time of an already tombstoned project is kept
+	 */
+	private static final String TOMBSTONE_SQL = "UPDATE project SET metadata = COALESCE(metadata, '{}') || jsonb_build_object('metadata', "
+			+ "COALESCE(metadata -> 'metadata', '{}') || jsonb_build_object('deletion', "
+			+ "COALESCE(metadata -> 'metadata' -> 'deletion', jsonb_build_object('startedAt', ?)))) WHERE id = ?";
+
+	private static final String TOMBSTONED_PROJECTS_SQL = "SELECT id, name FROM project "
+			+ "WHERE metadata -> 'metadata' -> 'deletion' IS NOT NULL";
+
+	private static final String IS_TOMBSTONED_SQL = "SELECT EXISTS(SELECT 1 FROM project WHERE id = ? "
+			+ "AND metadata -> 'metadata' -> 'deletion' IS NOT NULL)";
+
+	/**
+	 * Restarts the deletion keeping its start time and progress
+	 */
+	private static final String START_STATUS_SQL = "INSERT INTO project_deletion (project_id, state, started_at) "
+			+ "VALUES (?, 'IN_PROGRESS', ?) ON CONFLICT (project_id) DO UPDATE SET state = 'IN_PROGRESS', finished_at = NULL, error = NULL";
+
+	private static final String UPDATE_STATUS_SQL = "UPDATE project_deletion SET state = ?, finished_at = ?, deleted_launches = ?, "
+			+ "deleted_items = ?, deleted_logs = ?, deleted_activities = ?, error = ? WHERE project_id = ?";
+
+	private static final String STATUS_SQL = "SELECT project_id, state, started_at, finished_at, deleted_launches, deleted_items, "
+			+ "deleted_logs, deleted_activities, error FROM project_deletion WHERE project_id = ?";
+
+	private static final String PURGE_STATUSES_SQL = "DELETE FROM project_deletion WHERE state = 'COMPLETED' AND finished_at < ?";
+
+	/**
+	 * The single bigint key of the lock is the id of the project
+	 */
+	private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+
+	private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+	private static final String DELETE_PROJECT_USERS_SQL = "DELETE FROM project_user WHERE project_id = ?";
+
+	private static final String LAUNCHES_SQL = "SELECT id FROM launch WHERE project_id = ? ORDER BY id LIMIT ?";
+
+	private static final String DELETE_ITEM_LOGS_SQL = "DELETE FROM log WHERE id IN (SELECT l.id FROM log l JOIN test_item ti ON l.item_id = ti.item_id "
+			+ "WHERE ti.launch_id = ? ORDER BY l.id LIMIT ?)";
+
+	private static final String DELETE_LAUNCH_LOGS_SQL = "DELETE FROM log WHERE id IN (SELECT id FROM log WHERE launch_id = ? ORDER BY id LIMIT ?)";
+
+	/**
+	 * Children have greater ids than their parents, so the descending order keeps the cascades of the parent removal small
+	 */
+	private static final String DELETE_ITEMS_SQL = "DELETE FROM test_item WHERE item_id IN (SELECT item_id FROM test_item WHERE launch_id = ? "
+			+ "ORDER BY item_id DESC LIMIT ?)";
+
+	private static final String DELETE_LAUNCH_SQL = "DELETE FROM launch WHERE id = ?";
+
+	private static final String DELETE_ACTIVITIES_SQL = "DELETE FROM activity WHERE id IN (SELECT id FROM activity WHERE project_id = ? "
+			+ "ORDER BY id LIMIT ?)";
+
+	private static final RowMapper<ProjectDeletionStatus> STATUS_MAPPER = (rs, rowNum) -> {
+		ProjectDeletionStatus status = new ProjectDeletionStatus(rs.getLong("project_id"),
+				ProjectDeletionStatus.State.valueOf(rs.getString("state")),
+				rs.getTimestamp("started_at")
+		);
+		status.setFinishedAt(rs.getTimestamp("finished_at"));
+		status.setDeletedLaunches(rs.getLong("deleted_launches"));
+		status.setDeletedItems(rs.getLong("deleted_items"));
+		status.setDeletedLogs(rs.getLong("deleted_logs"));
+		status.setDeletedActivities(rs.getLong("deleted_activities"));
+		status.setError(rs.getString("error"));
+		return status;
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final TaskExecutor projectDeletionTaskExecutor;
+
+	private final ProjectRepository projectRepository;
+
+	private final IssueTypeRepository issueTypeRepository;
+
+	private final LogIndexer logIndexer;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final int chunkSize;
+
+	private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+	@Autowired
+	public ProjectDeletionServiceImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			@Qualifier("projectDeletionTaskExecutor") TaskExecutor projectDeletionTaskExecutor, ProjectRepository projectRepository,
+			IssueTypeRepository issueTypeRepository, LogIndexer logIndexer, ApplicationEventPublisher eventPublisher,
+			@Value("${rp.project.deletion.chunkSize:1000}") int chunkSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.projectDeletionTaskExecutor = projectDeletionTaskExecutor;
+		this.projectRepository = projectRepository;
+		this.issueTypeRepository = issueTypeRepository;
+		this.logIndexer = logIndexer;
+		this.eventPublisher = eventPublisher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public ProjectDeletionStatus schedule(Project project) {
+		Long projectId = project.getId();
+		Date startedAt = new Date();
+		jdbcTemplate.update(TOMBSTONE_SQL, startedAt.getTime(), projectId);
+		jdbcTemplate.update(DELETE_PROJECT_USERS_SQL, projectId);
+		jdbcTemplate.update(START_STATUS_SQL, projectId, new Timestamp(startedAt.getTime()));
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					submit(projectId);
+				}
+			});
+		} else {
+			submit(projectId);
+		}
+		return loadStatus(projectId).orElseGet(() -> new ProjectDeletionStatus(projectId,
+				ProjectDeletionStatus.State.IN_PROGRESS,
+				startedAt
+		));
+	}
+
+	@Override
+	public ProjectDeletionStatus getStatus(Long projectId) {
+		return loadStatus(projectId).orElseThrow(() -> {
+			if (projectRepository.existsById(projectId)) {
+				return new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+						"Deletion of the project with id = '" + projectId + "' is not scheduled"
+				);
+			}
+			return new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectId);
+		});
+	}
+
+	@Override
+	public Map<Long, String> getTombstonedProjects() {
+		Map<Long, String> projects = new LinkedHashMap<>();
+		jdbcTemplate.query(TOMBSTONED_PROJECTS_SQL, rs -> {
+			projects.put(rs.getLong("id"), rs.getString("name"));
+		});
+		return projects;
+	}
+
+	@Override
+	public boolean isTombstoned(Long projectId) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_TOMBSTONED_SQL, Boolean.class, projectId));
+	}
+
+	@Override
+	public Queryable withoutTombstoned(Queryable filter) {
+		Set<Long> tombstoned = getTombstonedProjects().keySet();
+		if (tombstoned.isEmpty()) {
+			return filter;
+		}
+		return new CompositeFilter(Operator.AND,
+				filter,
+				Filter.builder()
+						.withTarget(ProjectInfo.class)
+						.withCondition(FilterCondition.builder()
+								.withCondition(Condition.IN)
+								.withNegative(true)
+								.withSearchCriteria(CRITERIA_ID)
+								.withValue(tombstoned.stream().map(String::valueOf).collect(Collectors.joining(",")))
+								.build())
+						.build()
+		);
+	}
+
+	/**
+	 * Resumes the deletion of the projects tombstoned before the restart. Every instance tries to resume,
+	 * projects locked by another instance are skipped
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resume() {
+		try {
+			getTombstonedProjects().keySet().forEach(this::submit);
+		} catch (Exception e) {
+			LOGGER.error("Unable to resume deletion of the tombstoned projects", e);
+		}
+	}
+
+	/**
+	 * Retries the failed deletions and the ones abandoned by a stopped instance, and removes the expired statuses
+	 * of the completed deletions
+	 */
+	@Scheduled(fixedDelayString = "${rp.project.deletion.retry:PT10M}", initialDelayString = "${rp.project.deletion.retry:PT10M}")
+	public void retry() {
+		resume();
+		try {
+			jdbcTemplate.update(PURGE_STATUSES_SQL,
+					new Timestamp(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(STATUS_EXPIRATION_HOURS))
+			);
+		} catch (Exception e) {
+			LOGGER.error("Unable to remove the expired project deletion statuses", e);
+		}
+	}
+
+	private void submit(Long projectId) {
+		if (running.add(projectId)) {
+			projectDeletionTaskExecutor.execute(() -> {
+				try {
+					deleteLocked(projectId);
+				} catch (Exception e) {
+					LOGGER.error("Unable to lock deletion of the project with id = '{}'", projectId, e);
+				} finally {
+					running.remove(projectId);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Deletes the project if no other instance holds the lock of its deletion. The lock is held by the connection
+	 * of the callback, while the chunks are removed through the other connections of the pool
+	 */
+	private void deleteLocked(Long projectId) {
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			if (!advisoryLock(connection, TRY_LOCK_SQL, projectId)) {
+				LOGGER.info("Deletion of the project with id = '{}' is performed by another instance", projectId);
+				return null;
+			}
+			try {
+				if (isTombstoned(projectId)) {
+					LOGGER.info("Deleting the project with id = '{}'", projectId);
+					jdbcTemplate.update(START_STATUS_SQL, projectId, new Timestamp(System.currentTimeMillis()));
+					loadStatus(projectId).ifPresent(this::delete);
+				}
+			} finally {
+				advisoryLock(connection, UNLOCK_SQL, projectId);
+			}
+			return null;
+		});
+	}
+
+	private static boolean advisoryLock(Connection connection, String sql, Long projectId) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setLong(1, projectId);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() && resultSet.getBoolean(1);
+			}
+		}
+	}
+
+	private Optional<ProjectDeletionStatus> loadStatus(Long projectId) {
+		return jdbcTemplate.query(STATUS_SQL, STATUS_MAPPER, projectId).stream().findFirst();
+	}
+
+	private void saveStatus(ProjectDeletionStatus status) {
+		jdbcTemplate.update(UPDATE_STATUS_SQL,
+				status.getState().name(),
+				Optional.ofNullable(status.getFinishedAt()).map(it -> new Timestamp(it.getTime())).orElse(null),
+				status.getDeletedLaunches(),
+				status.getDeletedItems(),
+				status.getDeletedLogs(),
+				status.getDeletedActivities(),
+				status.getError(),
+				status.getProjectId()
+		);
+	}
+
+	private void delete(ProjectDeletionStatus status) {
+		Long projectId = status.getProjectId();
+		try {
+			List<Long> launches;
+			while (!(launches = jdbcTemplate.queryForList(LAUNCHES_SQL, Long.class, projectId, chunkSize)).isEmpty()) {
+				for (Long launchId : launches) {
+					status.setDeletedLogs(status.getDeletedLogs() + deleteByChunks(DELETE_ITEM_LOGS_SQL, launchId));
+					status.setDeletedLogs(status.getDeletedLogs() + deleteByChunks(DELETE_LAUNCH_LOGS_SQL, launchId));
+					status.setDeletedItems(status.getDeletedItems() + deleteByChunks(DELETE_ITEMS_SQL, launchId));
+					jdbcTemplate.update(DELETE_LAUNCH_SQL, launchId);
+					status.setDeletedLaunches(status.getDeletedLaunches() + 1);
+				}
+				saveStatus(status);
+			}
+			status.setDeletedActivities(status.getDeletedActivities() + deleteByChunks(DELETE_ACTIVITIES_SQL, projectId));
+
+			transactionTemplate.execute(transactionStatus -> {
+				projectRepository.findById(projectId).ifPresent(this::deleteProject);
+				return null;
+			});
+			logIndexer.deleteIndex(projectId);
+
+			status.setState(ProjectDeletionStatus.State.COMPLETED);
+			LOGGER.info("Project with id = '{}' has been deleted", projectId);
+		} catch (Exception e) {
+			LOGGER.error("Deletion of the project with id = '{}' has failed", projectId, e);
+			status.setState(ProjectDeletionStatus.State.FAILED);
+			status.setError(e.getMessage());
+		} finally {
+			status.setFinishedAt(new Date());
+			saveStatus(status);
+		}
+	}
+
+	/**
+	 * Executes the chunk delete statement until nothing is removed. Every statement is committed separately
+	 *
+	 * @return Count of the removed rows
+	 */
+	private long deleteByChunks(String sql, Long id) {
+		long deleted = 0;
+		int chunk;
+		do {
+			chunk = jdbcTemplate.update(sql, id, chunkSize);
+			deleted += chunk;
+		} while (chunk > 0);
+		return deleted;
+	}
+
+	private void deleteProject(Project project) {
+		Set<Long> defaultIssueTypeIds = issueTypeRepository.getDefaultIssueTypes()
+				.stream()
+				.map(IssueType::getId)
+				.collect(Collectors.toSet());
+		Set<IssueType> issueTypesToRemove = project.getProjectIssueTypes()
+				.stream()
+				.map(ProjectIssueType::getIssueType)
+				.filter(issueType -> !defaultIssueTypeIds.contains(issueType.getId()))
+				.collect(Collectors.toSet());
+		projectRepository.delete(project);
+		issueTypeRepository.deleteAll(issueTypesToRemove);
+		eventPublisher.publishEvent(new DeleteProjectAttachmentsEvent(project.getId()));
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.core.project.ProjectInfoSnapshot;
+import com.epam.ta.reportportal.core.project.ProjectInfoSnapshotService;
+import com.epam.ta.reportportal.entity.enums.InfoInterval;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine based {@link ProjectInfoSnapshotService}. Snapshots expire after the max age, so a request never gets
+ * statistics older than {@code rp.project.info.snapshot.maxAge} seconds. Snapshots older than
+ * {@code rp.project.info.snapshot.refresh} seconds are served as is and recomputed in background in a read-only transaction.
+ * Non-positive max age disables the snapshots.
+ */
+@Service
+public class ProjectInfoSnapshotServiceImpl implements ProjectInfoSnapshotService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectInfoSnapshotServiceImpl.class);
+
+	private static final String METRIC_NAME = "rp.project.info.snapshot";
+
+	private static final int MAXIMUM_SIZE = 10000;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final TaskExecutor snapshotTaskExecutor;
+
+	private final long refreshMillis;
+
+	private final long maxAge;
+
+	private final Cache<SnapshotKey, SnapshotEntry> snapshots;
+
+	private final Set<SnapshotKey> refreshing = ConcurrentHashMap.newKeySet();
+
+	@Autowired
+	public ProjectInfoSnapshotServiceImpl(PlatformTransactionManager transactionManager,
+			@Qualifier("projectInfoSnapshotTaskExecutor") TaskExecutor snapshotTaskExecutor, MeterRegistry meterRegistry,
+			@Value("${rp.project.info.snapshot.refresh:60}") long refresh, @Value("${rp.project.info.snapshot.maxAge:600}") long maxAge) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.snapshotTaskExecutor = snapshotTaskExecutor;
+		this.refreshMillis = TimeUnit.SECONDS.toMillis(refresh);
+		this.maxAge = maxAge;
+		this.snapshots = Caffeine.newBuilder()
+				.maximumSize(MAXIMUM_SIZE)
+				.expireAfterWrite(Math.max(maxAge, 0), TimeUnit.SECONDS)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, snapshots, METRIC_NAME);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ProjectInfoSnapshot<T> get(Long projectId, InfoInterval interval, String kind, Supplier<T> loader) {
+		if (maxAge <= 0) {
+			return new ProjectInfoSnapshot<>(loader.get(), new Date());
+		}
+		SnapshotKey key = new SnapshotKey(projectId, interval, kind);
+		SnapshotEntry entry = snapshots.getIfPresent(key);
+		if (entry == null) {
+			entry = new SnapshotEntry(new ProjectInfoSnapshot<>(loader.get(), new Date()), loader);
+			snapshots.put(key, entry);
+		} else if (System.currentTimeMillis() - entry.getSnapshot().getComputedAt().getTime() >= refreshMillis) {
+			scheduleRefresh(key, loader);
+		}
+		return (ProjectInfoSnapshot<T>) entry.getSnapshot();
+	}
+
+	@Override
+	public void refresh(Long projectId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					refreshProject(projectId);
+				}
+			});
+		} else {
+			refreshProject(projectId);
+		}
+	}
+
+	private void refreshProject(Long projectId) {
+		snapshots.asMap().forEach((key, entry) -> {
+			if (key.projectId.equals(projectId)) {
+				scheduleRefresh(key, entry.getLoader());
+			}
+		});
+	}
+
+	private void scheduleRefresh(SnapshotKey key, Supplier<?> loader) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		try {
+			snapshotTaskExecutor.execute(() -> {
+				try {
+					Object value = transactionTemplate.execute(status -> loader.get());
+					snapshots.put(key, new SnapshotEntry(new ProjectInfoSnapshot<>(value, new Date()), loader));
+				} catch (Exception e) {
+					LOGGER.warn("Unable to refresh '{}' info snapshot of the project with id = '{}'", key.kind, key.projectId, e);
+				} finally {
+					refreshing.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(key);
+		}
+	}
+
+	private static final class SnapshotEntry {
+
+		private final ProjectInfoSnapshot<?> snapshot;
+
+		private final Supplier<?> loader;
+
+		private SnapshotEntry(ProjectInfoSnapshot<?> snapshot, Supplier<?> loader) {
+			this.snapshot = snapshot;
+			this.loader = loader;
+		}
+
+		ProjectInfoSnapshot<?> getSnapshot() {
+			return snapshot;
+		}
+
+		Supplier<?> getLoader() {
+			return loader;
+		}
+	}
+
+	private static final class SnapshotKey {
+
+		private final Long projectId;
+
+		private final InfoInterval interval;
+
+		private final String kind;
+
+		private SnapshotKey(Long projectId, InfoInterval interval, String kind) {
+			this.projectId = projectId;
+			this.interval = interval;
+			this.kind = kind;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			SnapshotKey that = (SnapshotKey) o;
+			return Objects.equals(projectId, that.projectId) && interval == that.interval && Objects.equals(kind, that.kind);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, interval, kind);
+		}
+	}
+}
@@ -134,7 +134,8 @@ public class DeleteProjectSettingsHandlerImpl implements DeleteProjectSettingsHa
 		DefectTypeDeletedEvent defectTypeDeletedEvent = new DefectTypeDeletedEvent(TO_ACTIVITY_RESOURCE.apply(type.getIssueType()),
 				user.getUserId(),
 				user.getUsername(),
-				project.getId()
+				project.getId(),
+				allByIssueTypeId.stream().map(IssueEntity::getIssueId).collect(Collectors.toList())
 		);
 		messageBus.publishActivity(defectTypeDeletedEvent);
 		eventPublisher.publishEvent(defectTypeDeletedEvent);
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.file.BinaryDataCache;
 import com.epam.ta.reportportal.core.user.EditUserHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
@@ -72,12 +73,15 @@ public class EditUserHandlerImpl implements EditUserHandler {
 
 	private final UserBinaryDataService userBinaryDataService;
 
+	private final BinaryDataCache binaryDataCache;
+
 	@Autowired
 	public EditUserHandlerImpl(UserRepository userRepository, ProjectRepository projectRepository,
-			UserBinaryDataService userBinaryDataService) {
+			UserBinaryDataService userBinaryDataService, BinaryDataCache binaryDataCache) {
 		this.userRepository = userRepository;
 		this.projectRepository = projectRepository;
 		this.userBinaryDataService = userBinaryDataService;
+		this.binaryDataCache = binaryDataCache;
 	}
 
 	@Override
@@ -135,6 +139,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
 		try {
 			validatePhoto(file);
 			userBinaryDataService.saveUserPhoto(user, file);
+			binaryDataCache.evictUserPhoto(user.getLogin());
 		} catch (IOException e) {
 			fail().withError(BINARY_DATA_CANNOT_BE_SAVED);
 		}
@@ -146,6 +151,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
 		User user = userRepository.findByLogin(login).orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, login));
 		expect(user.getUserType(), equalTo(INTERNAL)).verify(ACCESS_DENIED, "Unable to change photo for external user");
 		userBinaryDataService.deleteUserPhoto(user);
+		binaryDataCache.evictUserPhoto(user.getLogin());
 		return new OperationCompletionRS("Profile photo has been deleted successfully");
 	}
 
@@ -23,6 +23,7 @@ import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.ReportExportLimiter;
 import com.epam.ta.reportportal.core.user.GetUserHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserCreationBidRepository;
@@ -43,8 +44,6 @@ import com.epam.ta.reportportal.ws.model.YesNoRS;
 import com.epam.ta.reportportal.ws.model.user.UserBidRS;
 import com.epam.ta.reportportal.ws.model.user.UserResource;
 import com.google.common.base.Preconditions;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.apache.commons.collections.CollectionUtils;
 import org.jooq.Operator;
@@ -83,15 +82,19 @@ public class GetUserHandlerImpl implements GetUserHandler {
 
 	private final GetJasperReportHandler<User> jasperReportHandler;
 
+	private final ReportExportLimiter reportExportLimiter;
+
 	@Autowired
 	public GetUserHandlerImpl(UserRepository userRepo, UserCreationBidRepository userCreationBidRepository,
 			ProjectRepository projectRepository, PersonalProjectService personalProjectService,
-			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler) {
+			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler,
+			ReportExportLimiter reportExportLimiter) {
 		this.userRepository = Preconditions.checkNotNull(userRepo);
 		this.userCreationBidRepository = Preconditions.checkNotNull(userCreationBidRepository);
 		this.projectRepository = projectRepository;
 		this.personalProjectService = personalProjectService;
 		this.jasperReportHandler = jasperReportHandler;
+		this.reportExportLimiter = reportExportLimiter;
 	}
 
 	@Override
@@ -180,16 +183,18 @@ public class GetUserHandlerImpl implements GetUserHandler {
 	@Override
 	public void exportUsers(ReportFormat reportFormat, OutputStream outputStream, Queryable filter) {
 
-		final List<User> users = userRepository.findByFilter(filter);
-
-		List<? extends Map<String, ?>> data = users.stream().map(jasperReportHandler::convertParams).collect(Collectors.toList());
-
-		JRDataSource jrDataSource = new JRBeanCollectionDataSource(data);
-
-		//don't provide any params to not overwrite params from the Jasper template
-		JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(null, jrDataSource);
-
-		jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+		reportExportLimiter.execute(() -> {
+			if (ReportFormat.CSV == reportFormat) {
+				jasperReportHandler.writeCsv(outputStream, pageable -> userRepository.findByFilter(filter, pageable));
+			} else {
+				List<? extends Map<String, ?>> data = userRepository.findByFilter(filter)
+						.stream()
+						.map(jasperReportHandler::convertParams)
+						.collect(Collectors.toList());
+				//don't provide any params to not overwrite params from the Jasper template
+				jasperReportHandler.exportReport(reportFormat, outputStream, null, new JRBeanCollectionDataSource(data));
+			}
+		});
 	}
 
 	@Override
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.widget;
+
+import com.epam.ta.reportportal.core.widget.content.WidgetContentPlan;
+import com.epam.ta.reportportal.entity.widget.Widget;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache of the prepared {@link WidgetContentPlan} of the saved widgets,
+ * so the widget filters aren't loaded and converted on every content request
+ */
+public interface WidgetContentPlanCache {
+
+	/**
+	 * Returns the cached plan of the widget version or builds it with the provided builder
+	 *
+	 * @param widget    {@link Widget}
+	 * @param projectId Project id
+	 * @param builder   Builder of the plan
+	 * @return {@link WidgetContentPlan}
+	 */
+	WidgetContentPlan getPlan(Widget widget, Long projectId, Supplier<WidgetContentPlan> builder);
+
+	/**
+	 * Removes the plans of the widget
+	 *
+	 * @param widgetId Widget id
+	 */
+	void evictWidget(Long widgetId);
+
+	/**
+	 * Removes the plans of the widgets using the filter
+	 *
+	 * @param filterId Filter id
+	 */
+	void evictFilter(Long filterId);
+}
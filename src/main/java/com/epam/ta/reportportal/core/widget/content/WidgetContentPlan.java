@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.widget.content;
+
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.springframework.data.domain.Sort;
+
+import java.util.*;
+
+/**
+ * Prepared part of the widget content query: filters and sorts built by {@link BuildFilterStrategy} and the content fields.
+ * Loaders modify the provided filters, so every request is bound to its own copy of the filters.
+ */
+public class WidgetContentPlan {
+
+	private final boolean filtered;
+
+	private final List<String> contentFields;
+
+	private final Set<Long> filterIds;
+
+	private final List<Filter> filters;
+
+	private final List<Sort> sorts;
+
+	public WidgetContentPlan(boolean filtered, Collection<String> contentFields, Map<Filter, Sort> filterSortMapping) {
+		this.filtered = filtered;
+		this.contentFields = ImmutableList.copyOf(contentFields);
+		this.filters = new ArrayList<>(filterSortMapping.size());
+		this.sorts = new ArrayList<>(filterSortMapping.size());
+		this.filterIds = new HashSet<>();
+		filterSortMapping.forEach((filter, sort) -> {
+			filters.add(copy(filter));
+			sorts.add(sort);
+			Optional.ofNullable(filter.getId()).ifPresent(filterIds::add);
+		});
+	}
+
+	/**
+	 * @return true if the widget has user filters
+	 */
+	public boolean isFiltered() {
+		return filtered;
+	}
+
+	public List<String> getContentFields() {
+		return Lists.newArrayList(contentFields);
+	}
+
+	public Set<Long> getFilterIds() {
+		return filterIds;
+	}
+
+	/**
+	 * @return New filter-sort mapping of the request
+	 */
+	public Map<Filter, Sort> bindFilterSortMapping() {
+		Map<Filter, Sort> filterSortMapping = Maps.newLinkedHashMapWithExpectedSize(filters.size());
+		for (int i = 0; i < filters.size(); i++) {
+			filterSortMapping.put(copy(filters.get(i)), sorts.get(i));
+		}
+		return filterSortMapping;
+	}
+
+	private static Filter copy(Filter filter) {
+		return new Filter(filter.getId(), filter.getTarget().getClazz(), Lists.newArrayList(filter.getFilterConditions()));
+	}
+}
@@ -21,9 +21,11 @@ import com.epam.ta.reportportal.commons.querygen.*;
 import com.epam.ta.reportportal.core.filter.GetUserFilterHandler;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
 import com.epam.ta.reportportal.core.widget.GetWidgetHandler;
+import com.epam.ta.reportportal.core.widget.WidgetContentPlanCache;
 import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
 import com.epam.ta.reportportal.core.widget.content.LoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MultilevelLoadContentStrategy;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentPlan;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.entity.widget.Widget;
@@ -42,6 +44,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
@@ -78,6 +81,9 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 	@Autowired
 	private GetUserFilterHandler getUserFilterHandler;
 
+	@Autowired
+	private WidgetContentPlanCache widgetContentPlanCache;
+
 	@Autowired
 	@Qualifier("buildFilterStrategy")
 	public void setBuildFilterStrategy(Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping) {
@@ -117,11 +123,12 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
 		Map<String, ?> content;
 
-		if (!unfilteredWidgetTypes.contains(widgetType) && CollectionUtils.isEmpty(widget.getFilters())) {
+		WidgetContentPlan plan = getContentPlan(widget, widgetType, projectDetails);
+		if (!unfilteredWidgetTypes.contains(widgetType) && !plan.isFiltered()) {
 			content = Collections.emptyMap();
 		} else {
-			content = loadContentStrategy.get(widgetType).loadContent(Lists.newArrayList(widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
+			content = loadContentStrategy.get(widgetType).loadContent(plan.getContentFields(),
+					plan.bindFilterSortMapping(),
 					widget.getWidgetOptions(),
 					widget.getItemsCount()
 			);
@@ -147,11 +154,12 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		);
 		Map<String, ?> content;
 
-		if (!unfilteredWidgetTypes.contains(widgetType) && CollectionUtils.isEmpty(widget.getFilters())) {
+		WidgetContentPlan plan = getContentPlan(widget, widgetType, projectDetails);
+		if (!unfilteredWidgetTypes.contains(widgetType) && !plan.isFiltered()) {
 			content = Collections.emptyMap();
 		} else {
-			content = multilevelLoadContentStrategy.get(widgetType).loadContent(Lists.newArrayList(widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
+			content = multilevelLoadContentStrategy.get(widgetType).loadContent(plan.getContentFields(),
+					plan.bindFilterSortMapping(),
 					widget.getWidgetOptions(),
 					attributes,
 					params,
@@ -204,6 +212,19 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		}
 	}
 
+	/**
+	 * Filters are built only for the widgets with content, as the filter strategies expect the widget to be configured
+	 */
+	private WidgetContentPlan getContentPlan(Widget widget, WidgetType widgetType, ReportPortalUser.ProjectDetails projectDetails) {
+		return widgetContentPlanCache.getPlan(widget, projectDetails.getProjectId(), () -> {
+			boolean filtered = CollectionUtils.isNotEmpty(widget.getFilters());
+			Map<Filter, Sort> filterSortMapping = filtered || unfilteredWidgetTypes.contains(widgetType) ?
+					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget) :
+					Collections.emptyMap();
+			return new WidgetContentPlan(filtered, widget.getContentFields(), filterSortMapping);
+		});
+	}
+
 	@Override
 	public Iterable<Object> getOwnNames(ReportPortalUser.ProjectDetails projectDetails, Pageable pageable, Filter filter,
 			ReportPortalUser user) {
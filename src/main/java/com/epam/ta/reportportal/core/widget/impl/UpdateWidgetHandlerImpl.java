@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.core.events.activity.WidgetUpdatedEvent;
 import com.epam.ta.reportportal.core.filter.UpdateUserFilterHandler;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
 import com.epam.ta.reportportal.core.widget.UpdateWidgetHandler;
+import com.epam.ta.reportportal.core.widget.WidgetContentPlanCache;
 import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
@@ -68,11 +69,13 @@ public class UpdateWidgetHandlerImpl implements UpdateWidgetHandler {
 	private final ObjectMapper objectMapper;
 	private final GetShareableEntityHandler<Widget> getShareableEntityHandler;
 	private final ShareableObjectsHandler aclHandler;
+	private final WidgetContentPlanCache widgetContentPlanCache;
 
 	@Autowired
 	public UpdateWidgetHandlerImpl(UpdateUserFilterHandler updateUserFilterHandler, WidgetRepository widgetRepository,
 			UserFilterRepository filterRepository, MessageBus messageBus, ObjectMapper objectMapper,
-			GetShareableEntityHandler<Widget> getShareableEntityHandler, ShareableObjectsHandler aclHandler) {
+			GetShareableEntityHandler<Widget> getShareableEntityHandler, ShareableObjectsHandler aclHandler,
+			WidgetContentPlanCache widgetContentPlanCache) {
 		this.updateUserFilterHandler = updateUserFilterHandler;
 		this.widgetRepository = widgetRepository;
 		this.filterRepository = filterRepository;
@@ -80,6 +83,7 @@ public class UpdateWidgetHandlerImpl implements UpdateWidgetHandler {
 		this.objectMapper = objectMapper;
 		this.getShareableEntityHandler = getShareableEntityHandler;
 		this.aclHandler = aclHandler;
+		this.widgetContentPlanCache = widgetContentPlanCache;
 	}
 
 	@Override
@@ -102,6 +106,7 @@ public class UpdateWidgetHandlerImpl implements UpdateWidgetHandler {
 
 		widget = new WidgetBuilder(widget).addWidgetRq(updateRQ).addFilters(userFilter).get();
 		widgetRepository.save(widget);
+		widgetContentPlanCache.evictWidget(widget.getId());
 
 		updateSharing(widget, projectDetails.getProjectId(), updateRQ.getShare());
 
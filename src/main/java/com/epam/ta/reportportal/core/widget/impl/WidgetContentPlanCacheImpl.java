@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.widget.impl;
+
+import com.epam.ta.reportportal.core.widget.WidgetContentPlanCache;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentPlan;
+import com.epam.ta.reportportal.entity.filter.UserFilter;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caffeine based {@link WidgetContentPlanCache}. Plans are keyed by the widget id and the version of the widget,
+ * calculated from its type, items count, options, content fields and ids of the filters, so a widget changed
+ * by another instance gets a new plan. Changes of the filters are applied by eviction locally and after TTL on other instances.
+ * Plan built within a transaction which is rolled back is evicted, as it may be built from the state that was never stored.
+ */
+@Service
+public class WidgetContentPlanCacheImpl implements WidgetContentPlanCache {
+
+	private static final String METRIC_NAME = "rp.widget.plan.cache";
+
+	private final Cache<PlanKey, WidgetContentPlan> cache;
+
+	@Autowired
+	public WidgetContentPlanCacheImpl(MeterRegistry meterRegistry, @Value("${rp.widget.plan.cache.size:10000}") long maximumSize,
+			@Value("${rp.widget.plan.cache.ttl:60}") long ttl) {
+		this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl, TimeUnit.SECONDS).recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+	}
+
+	@Override
+	public WidgetContentPlan getPlan(Widget widget, Long projectId, Supplier<WidgetContentPlan> builder) {
+		return cache.get(new PlanKey(widget.getId(), projectId, version(widget)), key -> {
+			evictOnRollback(key);
+			return builder.get();
+		});
+	}
+
+	@Override
+	public void evictWidget(Long widgetId) {
+		cache.asMap().keySet().removeIf(key -> key.widgetId.equals(widgetId));
+	}
+
+	@Override
+	public void evictFilter(Long filterId) {
+		cache.asMap().values().removeIf(plan -> plan.getFilterIds().contains(filterId));
+	}
+
+	private void evictOnRollback(PlanKey key) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						cache.invalidate(key);
+					}
+				}
+			});
+		}
+	}
+
+	private static int version(Widget widget) {
+		return Objects.hash(widget.getWidgetType(),
+				widget.getItemsCount(),
+				Optional.ofNullable(widget.getWidgetOptions()).map(WidgetOptions::getOptions).orElse(null),
+				Optional.ofNullable(widget.getContentFields()).map(ArrayList::new).orElse(null),
+				Optional.ofNullable(widget.getFilters())
+						.map(filters -> filters.stream().map(UserFilter::getId).collect(Collectors.toCollection(TreeSet::new)))
+						.orElse(null)
+		);
+	}
+
+	private static final class PlanKey {
+
+		private final Long widgetId;
+
+		private final Long projectId;
+
+		private final int version;
+
+		private PlanKey(Long widgetId, Long projectId, int version) {
+			this.widgetId = widgetId;
+			this.projectId = projectId;
+			this.version = version;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			PlanKey planKey = (PlanKey) o;
+			return version == planKey.version && Objects.equals(widgetId, planKey.widgetId) && Objects.equals(projectId, planKey.projectId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(widgetId, projectId, version);
+		}
+	}
+}
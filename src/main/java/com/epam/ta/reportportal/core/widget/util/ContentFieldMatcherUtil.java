@@ -17,6 +17,8 @@
 package com.epam.ta.reportportal.core.widget.util;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,12 +27,17 @@ import java.util.regex.Pattern;
  */
 public final class ContentFieldMatcherUtil {
 
+	/**
+	 * Compiled patterns. Patterns are the constants of {@link ContentFieldPatternConstants}, so the map is bounded
+	 */
+	private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
 	private ContentFieldMatcherUtil() {
 		//static only
 	}
 
 	public static boolean match(final String patternValue, Collection<String> contentFields) {
-		Pattern pattern = Pattern.compile(patternValue);
+		Pattern pattern = PATTERNS.computeIfAbsent(patternValue, Pattern::compile);
 		return contentFields.stream().map(pattern::matcher).allMatch(Matcher::matches);
 
 	}
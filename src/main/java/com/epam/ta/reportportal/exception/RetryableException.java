@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.exception;
+
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Request cannot be served at the moment because of a temporary condition (e.g. exhausted capacity).
+ * Client may repeat the request after {@link #getRetryAfterSeconds()} seconds.
+ */
+public class RetryableException extends ReportPortalException {
+
+	private static final long serialVersionUID = 3415027623849112471L;
+
+	private final HttpStatus status;
+
+	private final long retryAfterSeconds;
+
+	public RetryableException(ErrorType errorType, HttpStatus status, long retryAfterSeconds, Object... parameters) {
+		super(errorType, parameters);
+		this.status = status;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public HttpStatus getStatus() {
+		return status;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.dao.UserCreationBidRepository;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -34,6 +35,7 @@ import java.time.ZoneOffset;
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
  */
 @Service
+@DisallowConcurrentExecution
 public class CleanExpiredCreationBidsJob implements Job {
 	private static final Logger LOGGER = LoggerFactory.getLogger(CleanExpiredCreationBidsJob.class);
 
@@ -26,6 +26,7 @@ import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -49,6 +50,7 @@ import static com.epam.ta.reportportal.job.PageUtil.iterateOverPages;
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 @Service
+@DisallowConcurrentExecution
 public class CleanLaunchesJob implements Job {
 
 	public static final int DEFAULT_THREAD_COUNT = 5;
@@ -63,7 +65,7 @@ public class CleanLaunchesJob implements Job {
 
 	private final LaunchCleanerService launchCleaner;
 
-	@Value("5")
+	@Value("${com.ta.reportportal.job.clean.launches.threads:5}")
 	private Integer threadsCount;
 
 	@Autowired
@@ -26,6 +26,7 @@ import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -53,6 +54,7 @@ import static java.time.Duration.ofDays;
  * @author Pavel Borntik
  */
 @Service
+@DisallowConcurrentExecution
 public class CleanLogsJob implements Job {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CleanLogsJob.class);
@@ -60,7 +62,7 @@ public class CleanLogsJob implements Job {
 	public static final long JOB_EXECUTION_TIMEOUT = 1L;
 	public static final Duration MIN_DELAY = Duration.ofDays(KeepLogsDelay.TWO_WEEKS.getDays() - 1);
 
-	@Value("5")
+	@Value("${com.ta.reportportal.job.clean.logs.threads:5}")
 	private Integer threadsCount;
 
 	private final ProjectRepository projectRepository;
@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,6 +54,7 @@ import static java.time.Duration.ofHours;
  * @author Andrei Varabyeu
  */
 @Service
+@DisallowConcurrentExecution
 public class InterruptBrokenLaunchesJob implements Job {
 
 	private final LaunchRepository launchRepository;
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the queue delay (time between the scheduled and the actual fire time) and the run duration
+ * of every executed Quartz job, tagged by the job class
+ */
+@Component
+public class JobExecutionMetricsListener implements JobListener {
+
+	private static final String METRIC_PREFIX = "rp.job";
+
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public JobExecutionMetricsListener(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public String getName() {
+		return JobExecutionMetricsListener.class.getSimpleName();
+	}
+
+	@Override
+	public void jobToBeExecuted(JobExecutionContext context) {
+		Date scheduledFireTime = context.getScheduledFireTime();
+		Date fireTime = context.getFireTime();
+		if (scheduledFireTime != null && fireTime != null) {
+			Timer.builder(METRIC_PREFIX + ".queue.delay")
+					.tag("job", jobName(context))
+					.register(meterRegistry)
+					.record(Math.max(0L, fireTime.getTime() - scheduledFireTime.getTime()), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void jobExecutionVetoed(JobExecutionContext context) {
+		meterRegistry.counter(METRIC_PREFIX + ".vetoed", "job", jobName(context)).increment();
+	}
+
+	@Override
+	public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+		Timer.builder(METRIC_PREFIX + ".duration")
+				.tag("job", jobName(context))
+				.tag("result", jobException == null ? "success" : "failure")
+				.register(meterRegistry)
+				.record(Math.max(0L, context.getJobRunTime()), TimeUnit.MILLISECONDS);
+	}
+
+	private static String jobName(JobExecutionContext context) {
+		return context.getJobDetail().getJobClass().getSimpleName();
+	}
+}
@@ -17,7 +17,9 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.dao.*;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.entity.project.Project;
 import org.slf4j.Logger;
@@ -33,6 +35,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -61,16 +65,19 @@ public class LogCleanerServiceImpl implements LogCleanerService {
 
 	private final DataStoreService dataStoreService;
 
+	private final AttachmentDeduplicator attachmentDeduplicator;
+
 	@Autowired
 	public LogCleanerServiceImpl(LogRepository logRepository, LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ActivityRepository activityRepository, @Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
-			AttachmentRepository attachmentRepository) {
+			AttachmentRepository attachmentRepository, AttachmentDeduplicator attachmentDeduplicator) {
 		this.logRepository = logRepository;
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.activityRepository = activityRepository;
 		this.dataStoreService = dataStoreService;
 		this.attachmentRepository = attachmentRepository;
+		this.attachmentDeduplicator = attachmentDeduplicator;
 	}
 
 	@Override
@@ -136,20 +143,23 @@ public class LogCleanerServiceImpl implements LogCleanerService {
 	}
 
 	private void removeAttachmentsOfLogs(Collection<Log> logs, AtomicLong attachmentsCount, AtomicLong thumbnailsCount) {
+		List<Attachment> attachments = logs.stream().map(Log::getAttachment).filter(Objects::nonNull).collect(Collectors.toList());
+		Set<String> releasedFiles = attachmentDeduplicator.releaseFiles(attachments.stream()
+				.flatMap(a -> Stream.of(a.getFileId(), a.getThumbnailId()))
+				.collect(Collectors.toList()), attachments.stream().map(Attachment::getId).collect(Collectors.toList()));
+
 		List<Long> attachmentIds = new ArrayList<>();
-		logs.forEach(log -> {
+		attachments.forEach(attachment -> {
 			try {
-				ofNullable(log.getAttachment()).ifPresent(attachment -> {
-					ofNullable(attachment.getFileId()).ifPresent(fileId -> {
-						dataStoreService.delete(fileId);
-						attachmentsCount.addAndGet(1L);
-					});
-					ofNullable(attachment.getThumbnailId()).ifPresent(thumbnailId -> {
-						dataStoreService.delete(thumbnailId);
-						thumbnailsCount.addAndGet(1L);
-					});
-					attachmentIds.add(attachment.getId());
+				ofNullable(attachment.getFileId()).filter(releasedFiles::contains).ifPresent(fileId -> {
+					dataStoreService.delete(fileId);
+					attachmentsCount.addAndGet(1L);
+				});
+				ofNullable(attachment.getThumbnailId()).filter(releasedFiles::contains).ifPresent(thumbnailId -> {
+					dataStoreService.delete(thumbnailId);
+					thumbnailsCount.addAndGet(1L);
 				});
+				attachmentIds.add(attachment.getId());
 			} catch (Exception ex) {
 				LOGGER.debug("Error has occurred during the attachments removing", ex);
 				//do nothing, because error that has occurred during the removing of current attachment shouldn't affect others
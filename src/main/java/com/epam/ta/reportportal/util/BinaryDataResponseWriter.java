@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import org.apache.commons.io.IOUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes {@link BinaryData} to the {@link HttpServletResponse} honoring HTTP range requests
+ * (single and multiple byte ranges, see RFC 7233) and setting Content-Length when the size of the data is known.
+ * Filesystem-backed streams are transferred through {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+ * all the others are copied with a large reusable buffer.
+ */
+public final class BinaryDataResponseWriter {
+
+	private static final String BYTES_UNIT = "bytes";
+
+	private static final String CRLF = "\r\n";
+
+	/**
+	 * Max number of ranges served for a single request. Requests with more ranges are answered with the whole content
+	 */
+	private static final int MAX_RANGES = 16;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+	private BinaryDataResponseWriter() {
+		//static only
+	}
+
+	/**
+	 * Copies data from provided {@link BinaryData} to the response and closes the underlying {@link InputStream}
+	 *
+	 * @param request    Request
+	 * @param response   Response
+	 * @param binaryData Stored data
+	 * @param eTag       Entity tag of the data, used to validate 'If-Range' header. Could be null
+	 */
+	public static void write(HttpServletRequest request, HttpServletResponse response, BinaryData binaryData, String eTag) {
+		if (binaryData.getInputStream() == null) {
+			response.setStatus(HttpStatus.NO_CONTENT.value());
+			return;
+		}
+		try (InputStream inputStream = binaryData.getInputStream()) {
+			response.setContentType(binaryData.getContentType());
+			Long length = binaryData.getLength();
+			if (length == null || length < 0) {
+				IOUtils.copyLarge(inputStream, response.getOutputStream(), BUFFER.get());
+				return;
+			}
+
+			response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+			Optional<List<Region>> regions = resolveRegions(request, length, eTag);
+			if (!regions.isPresent()) {
+				response.setContentLengthLong(length);
+				copy(inputStream, response.getOutputStream(), new Region(0, length - 1), 0);
+			} else if (regions.get().isEmpty()) {
+				response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + length);
+			} else if (regions.get().size() == 1) {
+				Region region = regions.get().get(0);
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, region.toContentRange(length));
+				response.setContentLengthLong(region.length());
+				copy(inputStream, response.getOutputStream(), region, 0);
+			} else {
+				writeMultipart(inputStream, response, binaryData.getContentType(), regions.get(), length);
+			}
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
+		}
+	}
+
+	/**
+	 * @return {@link Optional#empty()} if the whole content should be returned,
+	 * empty list if none of the requested ranges is satisfiable, sorted and coalesced regions otherwise
+	 */
+	private static Optional<List<Region>> resolveRegions(HttpServletRequest request, long length, String eTag) {
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader == null || !"GET".equals(request.getMethod())) {
+			return Optional.empty();
+		}
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange != null && !ifRange.equals(eTag)) {
+			return Optional.empty();
+		}
+
+		List<HttpRange> ranges;
+		try {
+			ranges = HttpRange.parseRanges(rangeHeader);
+		} catch (IllegalArgumentException e) {
+			return Optional.of(new ArrayList<>());
+		}
+		if (ranges.isEmpty() || ranges.size() > MAX_RANGES) {
+			return Optional.empty();
+		}
+
+		List<Region> regions = new ArrayList<>(ranges.size());
+		for (HttpRange range : ranges) {
+			try {
+				long start = range.getRangeStart(length);
+				long end = range.getRangeEnd(length);
+				if (start < length && start <= end) {
+					regions.add(new Region(start, end));
+				}
+			} catch (IllegalArgumentException ignored) {
+				//unsatisfiable range is skipped
+			}
+		}
+		regions.sort(Comparator.comparingLong(Region::getStart));
+
+		List<Region> coalesced = new ArrayList<>(regions.size());
+		for (Region region : regions) {
+			Region last = coalesced.isEmpty() ? null : coalesced.get(coalesced.size() - 1);
+			if (last != null && region.getStart() <= last.getEnd() + 1) {
+				coalesced.set(coalesced.size() - 1, new Region(last.getStart(), Math.max(last.getEnd(), region.getEnd())));
+			} else {
+				coalesced.add(region);
+			}
+		}
+		return Optional.of(coalesced);
+	}
+
+	private static void writeMultipart(InputStream inputStream, HttpServletResponse response, String contentType, List<Region> regions,
+			long length) throws IOException {
+		String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+		response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+		response.setContentType("multipart/byteranges; boundary=" + boundary);
+
+		OutputStream outputStream = response.getOutputStream();
+		long position = 0;
+		for (Region region : regions) {
+			String partHeader = CRLF + "--" + boundary + CRLF + HttpHeaders.CONTENT_TYPE + ": " + contentType + CRLF
+					+ HttpHeaders.CONTENT_RANGE + ": " + region.toContentRange(length) + CRLF + CRLF;
+			outputStream.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+			position = copy(inputStream, outputStream, region, position);
+		}
+		outputStream.write((CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Copies the region of the stream to the output
+	 *
+	 * @param inputStream  Source stream
+	 * @param outputStream Target stream
+	 * @param region       Region to copy
+	 * @param position     Current position of the source stream
+	 * @return Position of the source stream after the copying
+	 */
+	private static long copy(InputStream inputStream, OutputStream outputStream, Region region, long position) throws IOException {
+		if (FileInputStream.class.equals(inputStream.getClass())) {
+			FileChannel fileChannel = ((FileInputStream) inputStream).getChannel();
+			WritableByteChannel target = Channels.newChannel(outputStream);
+			long transferred = 0;
+			while (transferred < region.length()) {
+				long count = fileChannel.transferTo(region.getStart() + transferred, region.length() - transferred, target);
+				if (count <= 0) {
+					break;
+				}
+				transferred += count;
+			}
+			outputStream.flush();
+			return region.getStart() + transferred;
+		}
+		long copied = IOUtils.copyLarge(inputStream, outputStream, region.getStart() - position, region.length(), BUFFER.get());
+		return region.getStart() + copied;
+	}
+
+	private static final class Region {
+
+		private final long start;
+
+		private final long end;
+
+		private Region(long start, long end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		long getStart() {
+			return start;
+		}
+
+		long getEnd() {
+			return end;
+		}
+
+		long length() {
+			return end - start + 1;
+		}
+
+		String toContentRange(long totalLength) {
+			return BYTES_UNIT + " " + start + "-" + end + "/" + totalLength;
+		}
+	}
+}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.util;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.project.ProjectDeletionService;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
@@ -39,6 +40,9 @@ public class ProjectExtractor {
 	@Autowired
 	private ProjectRepository projectRepository;
 
+	@Autowired
+	private ProjectDeletionService projectDeletionService;
+
 	/**
 	 * Extracts project details for specified user by specified project name
 	 *
@@ -53,7 +57,7 @@ public class ProjectExtractor {
 
 	/**
 	 * Extracts project details for specified user by specified project name
-	 * If user is ADMINISTRATOR - he is added as a PROJECT_MANAGER to the project
+	 * If user is ADMINISTRATOR - he is added as a PROJECT_MANAGER to the project unless it is scheduled for deletion
 	 *
 	 * @param user        User
 	 * @param projectName Project name
@@ -64,6 +68,7 @@ public class ProjectExtractor {
 		//dirty hack to allow everything for user with 'admin' authority
 		if (user.getUserRole().getAuthority().equals(ADMINISTRATOR.getAuthority())) {
 			Project project = projectRepository.findByName(normalizeId(projectName))
+					.filter(it -> !projectDeletionService.isTombstoned(it.getId()))
 					.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectName));
 			user.getProjectDetails()
 					.put(projectName, new ReportPortalUser.ProjectDetails(project.getId(), project.getName(), ProjectRole.PROJECT_MANAGER));
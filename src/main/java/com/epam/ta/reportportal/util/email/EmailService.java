@@ -21,13 +21,24 @@ import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectIssueType;
 import com.epam.ta.reportportal.entity.statistics.Statistics;
+import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.util.UserUtils;
 import com.epam.ta.reportportal.util.email.constant.IssueRegexConstant;
 import com.epam.ta.reportportal.ws.model.user.CreateUserRQFull;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import com.sun.mail.smtp.SMTPSendFailedException;
+import com.sun.mail.smtp.SMTPSenderFailedException;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -36,8 +47,12 @@ import org.springframework.mail.javamail.MimeMessagePreparator;
 import javax.mail.MessagingException;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -55,11 +70,22 @@ import static java.util.stream.Collectors.toMap;
  */
 public class EmailService extends JavaMailSenderImpl {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(EmailService.class);
 	private static final String FINISH_LAUNCH_EMAIL_SUBJECT = " Report Portal Notification: [%s] launch '%s' #%s finished";
 	private static final String URL_FORMAT = "%s/launches/all";
 	private static final String FULL_ATTRIBUTE_FILTER_FORMAT = "%s?filter.has.key=%s&filter.has.value=%s";
 	private static final String VALUE_ATTRIBUTE_FILTER_FORMAT = "%s?filter.has.value=%s";
 	private static final String EMAIL_TEMPLATE_PREFIX = "templates/email/";
+	private static final String FINISH_LAUNCH_TEMPLATE = "finish-launch-template.ftl";
+	private static final List<String> SOCIAL_IMAGES = ImmutableList.of("ic-github.png",
+			"ic-fb.png",
+			"ic-twitter.png",
+			"ic-youtube.png",
+			"ic-vk.png",
+			"ic-slack.png"
+	);
+	/* Inline images are loaded from the classpath once and shared by all the services */
+	private static final Map<String, ByteArrayResource> INLINE_RESOURCES = new ConcurrentHashMap<>();
 	private TemplateEngine templateEngine;
 	/* Default value for FROM project notifications field */
 	private String from;
@@ -87,7 +113,7 @@ public class EmailService extends JavaMailSenderImpl {
 			String text = templateEngine.merge("registration-template.ftl", email);
 			message.setText(text, true);
 
-			message.addInline("create-user.png", emailTemplateResource("create-user.png"));
+			addInline(message, "create-user.png");
 
 			attachSocialImages(message);
 		};
@@ -102,23 +128,115 @@ public class EmailService extends JavaMailSenderImpl {
 	 * @param launch     Launch
 	 */
 	public void sendLaunchFinishNotification(final String[] recipients, final String url, final Project project, final Launch launch) {
-		String subject = format(FINISH_LAUNCH_EMAIL_SUBJECT, project.getName().toUpperCase(), launch.getName(), launch.getNumber());
-		MimeMessagePreparator preparator = mimeMessage -> {
-			MimeMessageHelper message = new MimeMessageHelper(mimeMessage, true, "utf-8");
-			message.setSubject(subject);
-			message.setTo(recipients);
-			setFrom(message);
+		MailMessage mailMessage = buildLaunchFinishNotification(null, recipients, url, project, launch);
+		MimeMessagePreparator preparator = mimeMessage -> prepare(mimeMessage, mailMessage);
+		this.send(preparator);
+	}
 
-			String text = mergeFinishLaunchText(url, launch, project.getProjectIssueTypes());
-			message.setText(text, true);
+	/**
+	 * Finish launch notification to be sent asynchronously through the {@link MailOutbox}
+	 *
+	 * @param integrationId Id of the email integration
+	 * @param recipients    List of recipients
+	 * @param url           ReportPortal URL
+	 * @param project       Project
+	 * @param launch        Launch
+	 * @return {@link MailMessage}
+	 */
+	public MailMessage buildLaunchFinishNotification(Long integrationId, String[] recipients, String url, Project project,
+			Launch launch) {
+		MailMessage message = new MailMessage();
+		message.setIntegrationId(integrationId);
+		message.setRecipients(Arrays.asList(recipients));
+		message.setSubject(format(FINISH_LAUNCH_EMAIL_SUBJECT, project.getName().toUpperCase(), launch.getName(), launch.getNumber()));
+		message.setTemplate(FINISH_LAUNCH_TEMPLATE);
+		message.setModel(buildFinishLaunchModel(url, launch, project.getProjectIssueTypes()));
+		message.setInlines(SOCIAL_IMAGES);
+		return message;
+	}
 
-			attachSocialImages(message);
-		};
-		this.send(preparator);
+	/**
+	 * Sends the messages over a single SMTP connection
+	 *
+	 * @param messages Messages to send
+	 * @return Messages failed to be sent because of a transient error. The ones that couldn't be built
+	 * or were rejected by the server permanently (SMTP 5xx) are dropped
+	 */
+	public List<MailMessage> sendBatch(List<MailMessage> messages) {
+		Map<MimeMessage, MailMessage> prepared = new LinkedHashMap<>();
+		messages.forEach(message -> {
+			try {
+				MimeMessage mimeMessage = createMimeMessage();
+				prepare(mimeMessage, message);
+				prepared.put(mimeMessage, message);
+			} catch (Exception e) {
+				LOGGER.error("Unable to build email '{}'", message.getSubject(), e);
+			}
+		});
+		if (prepared.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			send(prepared.keySet().toArray(new MimeMessage[0]));
+			return Collections.emptyList();
+		} catch (MailSendException e) {
+			LOGGER.warn("Unable to send {} of {} emails", e.getFailedMessages().size(), prepared.size(), e);
+			if (e.getFailedMessages().isEmpty()) {
+				return new ArrayList<>(prepared.values());
+			}
+			List<MailMessage> failed = new ArrayList<>(e.getFailedMessages().size());
+			e.getFailedMessages().forEach((mimeMessage, exception) -> ofNullable(prepared.get(mimeMessage)).ifPresent(message -> {
+				if (isPermanentFailure(exception)) {
+					LOGGER.error("Email '{}' to {} is rejected permanently and dropped", message.getSubject(), message.getRecipients());
+				} else {
+					failed.add(message);
+				}
+			}));
+			return failed;
+		} catch (MailException e) {
+			LOGGER.warn("Unable to send {} emails", prepared.size(), e);
+			return new ArrayList<>(prepared.values());
+		}
+	}
+
+	/**
+	 * Failure is permanent when all the SMTP replies in the exception chain are 5xx ones. Failures without an SMTP reply
+	 * (e.g. the connection is lost) are considered transient
+	 */
+	@VisibleForTesting
+	static boolean isPermanentFailure(Exception exception) {
+		List<Integer> returnCodes = new ArrayList<>();
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Throwable current = exception; current != null && visited.add(current); current = current.getCause()) {
+			if (current instanceof SMTPAddressFailedException) {
+				returnCodes.add(((SMTPAddressFailedException) current).getReturnCode());
+			} else if (current instanceof SMTPSenderFailedException) {
+				returnCodes.add(((SMTPSenderFailedException) current).getReturnCode());
+			} else if (current instanceof SMTPSendFailedException) {
+				returnCodes.add(((SMTPSendFailedException) current).getReturnCode());
+			}
+		}
+		return !returnCodes.isEmpty() && returnCodes.stream().allMatch(code -> code >= 500 && code < 600);
+	}
+
+	private void prepare(MimeMessage mimeMessage, MailMessage mailMessage) throws MessagingException, UnsupportedEncodingException {
+		MimeMessageHelper message = new MimeMessageHelper(mimeMessage, true, "utf-8");
+		message.setSubject(mailMessage.getSubject());
+		message.setTo(mailMessage.getRecipients().toArray(new String[0]));
+		setFrom(message);
+		message.setText(templateEngine.merge(mailMessage.getTemplate(), mailMessage.getModel()), true);
+		for (String inline : mailMessage.getInlines()) {
+			addInline(message, inline);
+		}
 	}
 
 	@VisibleForTesting
 	String mergeFinishLaunchText(String url, Launch launch, Set<ProjectIssueType> projectIssueTypes) {
+		return templateEngine.merge(FINISH_LAUNCH_TEMPLATE, buildFinishLaunchModel(url, launch, projectIssueTypes));
+	}
+
+	private Map<String, Object> buildFinishLaunchModel(String url, Launch launch, Set<ProjectIssueType> projectIssueTypes) {
 		Map<String, Object> email = new HashMap<>();
 		/* Email fields values */
 		String basicUrl = format(URL_FORMAT, url);
@@ -169,7 +287,7 @@ public class EmailService extends JavaMailSenderImpl {
 		fillEmail(email, "ndInfo", statistics, locatorsMapping, IssueRegexConstant.NO_DEFECT_ISSUE_REGEX);
 		fillEmail(email, "tiInfo", statistics, locatorsMapping, IssueRegexConstant.TO_INVESTIGATE_ISSUE_REGEX);
 
-		return templateEngine.merge("finish-launch-template.ftl", email);
+		return email;
 	}
 
 	private String buildAttributesLink(String basicUrl, ItemAttribute attribute) {
@@ -221,7 +339,7 @@ public class EmailService extends JavaMailSenderImpl {
 			String text = templateEngine.merge("restore-password-template.ftl", email);
 			message.setText(text, true);
 
-			message.addInline("restore-password.png", emailTemplateResource("restore-password.png"));
+			addInline(message, "restore-password.png");
 			attachSocialImages(message);
 		};
 		this.send(preparator);
@@ -263,7 +381,7 @@ public class EmailService extends JavaMailSenderImpl {
 			String text = templateEngine.merge("create-user-template.ftl", email);
 			message.setText(text, true);
 
-			message.addInline("create-user.png", emailTemplateResource("create-user.png"));
+			addInline(message, "create-user.png");
 			attachSocialImages(message);
 		};
 		this.send(preparator);
@@ -311,15 +429,22 @@ public class EmailService extends JavaMailSenderImpl {
 	}
 
 	private void attachSocialImages(MimeMessageHelper message) throws MessagingException {
-		message.addInline("ic-github.png", emailTemplateResource("ic-github.png"));
-		message.addInline("ic-fb.png", emailTemplateResource("ic-fb.png"));
-		message.addInline("ic-twitter.png", emailTemplateResource("ic-twitter.png"));
-		message.addInline("ic-youtube.png", emailTemplateResource("ic-youtube.png"));
-		message.addInline("ic-vk.png", emailTemplateResource("ic-vk.png"));
-		message.addInline("ic-slack.png", emailTemplateResource("ic-slack.png"));
+		for (String image : SOCIAL_IMAGES) {
+			addInline(message, image);
+		}
 	}
 
-	private ClassPathResource emailTemplateResource(String resource) {
-		return new ClassPathResource(EMAIL_TEMPLATE_PREFIX + resource);
+	private void addInline(MimeMessageHelper message, String resource) throws MessagingException {
+		message.addInline(resource, emailTemplateResource(resource), message.getFileTypeMap().getContentType(resource));
+	}
+
+	private static ByteArrayResource emailTemplateResource(String resource) {
+		return INLINE_RESOURCES.computeIfAbsent(resource, name -> {
+			try (InputStream inputStream = new ClassPathResource(EMAIL_TEMPLATE_PREFIX + name).getInputStream()) {
+				return new ByteArrayResource(IOUtils.toByteArray(inputStream));
+			} catch (IOException e) {
+				throw new ReportPortalException("Unable to load email resource " + name, e);
+			}
+		});
 	}
 }
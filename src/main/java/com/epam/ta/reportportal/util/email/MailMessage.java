@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.email;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Email waiting in the {@link MailOutbox}. The text is rendered from the template with the model when the email is sent
+ */
+public class MailMessage {
+
+	/**
+	 * Id of the email integration used to send the message
+	 */
+	private Long integrationId;
+
+	private List<String> recipients = new ArrayList<>();
+
+	private String subject;
+
+	private String template;
+
+	private Map<String, Object> model = new HashMap<>();
+
+	/**
+	 * Names of the email template resources attached inline
+	 */
+	private List<String> inlines = new ArrayList<>();
+
+	/**
+	 * Number of the failed attempts to send the message
+	 */
+	private int attempt;
+
+	public Long getIntegrationId() {
+		return integrationId;
+	}
+
+	public void setIntegrationId(Long integrationId) {
+		this.integrationId = integrationId;
+	}
+
+	public List<String> getRecipients() {
+		return recipients;
+	}
+
+	public void setRecipients(List<String> recipients) {
+		this.recipients = recipients;
+	}
+
+	public String getSubject() {
+		return subject;
+	}
+
+	public void setSubject(String subject) {
+		this.subject = subject;
+	}
+
+	public String getTemplate() {
+		return template;
+	}
+
+	public void setTemplate(String template) {
+		this.template = template;
+	}
+
+	public Map<String, Object> getModel() {
+		return model;
+	}
+
+	public void setModel(Map<String, Object> model) {
+		this.model = model;
+	}
+
+	public List<String> getInlines() {
+		return inlines;
+	}
+
+	public void setInlines(List<String> inlines) {
+		this.inlines = inlines;
+	}
+
+	public int getAttempt() {
+		return attempt;
+	}
+
+	public void setAttempt(int attempt) {
+		this.attempt = attempt;
+	}
+}
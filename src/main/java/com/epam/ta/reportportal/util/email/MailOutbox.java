@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_EMAIL_OUTBOX;
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_EMAIL_OUTBOX_RETRY;
+
+/**
+ * Durable queue of the emails sent asynchronously in batches
+ * by {@link com.epam.ta.reportportal.ws.rabbit.MailOutboxConsumer}
+ */
+@Service
+public class MailOutbox {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MailOutbox.class);
+
+	private final AmqpTemplate amqpTemplate;
+
+	private final int maxAttempts;
+
+	@Autowired
+	public MailOutbox(@Qualifier("rabbitTemplate") AmqpTemplate amqpTemplate, @Value("${rp.email.outbox.maxAttempts:5}") int maxAttempts) {
+		this.amqpTemplate = amqpTemplate;
+		this.maxAttempts = maxAttempts;
+	}
+
+	public void enqueue(MailMessage message) {
+		amqpTemplate.convertAndSend(QUEUE_EMAIL_OUTBOX, message);
+	}
+
+	/**
+	 * Puts the messages that failed to be sent to the retry queue, they return to the outbox after the retry delay.
+	 * Messages that have run out of attempts are dropped
+	 *
+	 * @param messages Failed messages
+	 */
+	public void retry(Collection<MailMessage> messages) {
+		messages.forEach(message -> {
+			message.setAttempt(message.getAttempt() + 1);
+			if (message.getAttempt() < maxAttempts) {
+				amqpTemplate.convertAndSend(QUEUE_EMAIL_OUTBOX_RETRY, message);
+			} else {
+				LOGGER.error("Email '{}' has not been sent after {} attempts and is dropped", message.getSubject(), message.getAttempt());
+			}
+		});
+	}
+}
@@ -21,22 +21,22 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.file.GetFileHandler;
 import com.epam.ta.reportportal.core.user.EditUserHandler;
 import com.epam.ta.reportportal.entity.attachment.BinaryData;
-import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.BinaryDataResponseWriter;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import io.swagger.annotations.ApiOperation;
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.ASSIGNED_TO_PROJECT;
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
@@ -48,6 +48,12 @@ import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetai
 @RequestMapping("/v1/data")
 public class FileStorageController {
 
+	/**
+	 * Attachment with the specified id is never modified after creation,
+	 * so it could be cached by the browser without revalidation
+	 */
+	private static final String ATTACHMENT_CACHE_CONTROL = "private, max-age=" + TimeUnit.DAYS.toSeconds(365) + ", immutable";
+
 	private final EditUserHandler editUserHandler;
 
 	private final GetFileHandler getFileHandler;
@@ -58,41 +64,66 @@ public class FileStorageController {
 		this.getFileHandler = getFileHandler;
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Not transactional: the data is loaded by the handler in a short read-only transaction,
+	 * so no database connection is held while the content is streamed to the client
+	 */
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping(value = "/{projectName}/{dataId}")
-	public void getFile(@PathVariable String projectName, @PathVariable("dataId") Long dataId, HttpServletResponse response,
-			@AuthenticationPrincipal ReportPortalUser user) {
-		toResponse(response, getFileHandler.loadFileById(dataId, extractProjectDetails(user, projectName)));
+	public void getFile(@PathVariable String projectName, @PathVariable("dataId") Long dataId, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
+		ReportPortalUser.ProjectDetails projectDetails = extractProjectDetails(user, projectName);
+		String eTag = "\"" + projectDetails.getProjectId() + "-" + dataId + "\"";
+		if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+			return;
+		}
+		BinaryData file = getFileHandler.loadFileById(dataId, projectDetails);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, ATTACHMENT_CACHE_CONTROL);
+		toResponse(request, response, file, eTag);
+	}
+
+	@PreAuthorize(ASSIGNED_TO_PROJECT)
+	@GetMapping(value = "/{projectName}/{dataId}/thumbnail")
+	@ApiOperation("Get thumbnail of the attachment")
+	public void getThumbnail(@PathVariable String projectName, @PathVariable("dataId") Long dataId, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
+		ReportPortalUser.ProjectDetails projectDetails = extractProjectDetails(user, projectName);
+		String eTag = "\"" + projectDetails.getProjectId() + "-" + dataId + "-thumbnail\"";
+		if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+			return;
+		}
+		BinaryData thumbnail = getFileHandler.loadThumbnailById(dataId, projectDetails);
+		if (thumbnail.getInputStream() != null) {
+			response.setHeader(HttpHeaders.CACHE_CONTROL, ATTACHMENT_CACHE_CONTROL);
+		}
+		toResponse(request, response, thumbnail, eTag);
 	}
 
 	/**
 	 * (non-Javadoc)
 	 */
-	@Transactional(readOnly = true)
 	@GetMapping(value = "/photo")
 	@ApiOperation("Get photo of current user")
-	public void getMyPhoto(@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response,
+	public void getMyPhoto(@AuthenticationPrincipal ReportPortalUser user, HttpServletRequest request, HttpServletResponse response,
 			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail) {
-		toResponse(response, getFileHandler.getUserPhoto(user, loadThumbnail));
+		toResponse(request, response, getFileHandler.getUserPhoto(user, loadThumbnail), null);
 	}
 
 	/**
 	 * (non-Javadoc)
 	 */
-	@Transactional(readOnly = true)
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping(value = "/{projectName}/userphoto")
 	@ApiOperation("Get user's photo")
 	public void getUserPhoto(@PathVariable String projectName, @RequestParam(value = "id") String username,
-			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletResponse response,
-			@AuthenticationPrincipal ReportPortalUser user) {
+			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
 		BinaryData userPhoto = getFileHandler.getUserPhoto(EntityUtils.normalizeId(username),
 				user,
 				extractProjectDetails(user, projectName),
 				loadThumbnail
 		);
-		toResponse(response, userPhoto);
+		toResponse(request, response, userPhoto, null);
 	}
 
 	@Transactional
@@ -110,21 +141,14 @@ public class FileStorageController {
 	}
 
 	/**
-	 * Copies data from provided {@link InputStream} to Response
+	 * Copies data from provided {@link BinaryData} to Response
 	 *
+	 * @param request    Request
 	 * @param response   Response
 	 * @param binaryData Stored data
+	 * @param eTag       Entity tag of the data
 	 */
-	private void toResponse(HttpServletResponse response, BinaryData binaryData) {
-		if (binaryData.getInputStream() != null) {
-			try {
-				response.setContentType(binaryData.getContentType());
-				IOUtils.copy(binaryData.getInputStream(), response.getOutputStream());
-			} catch (IOException e) {
-				throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
-			}
-		} else {
-			response.setStatus(HttpStatus.NO_CONTENT.value());
-		}
+	private void toResponse(HttpServletRequest request, HttpServletResponse response, BinaryData binaryData, String eTag) {
+		BinaryDataResponseWriter.write(request, response, binaryData, eTag);
 	}
 }
@@ -312,7 +312,10 @@ public class LaunchController {
 		return getLaunchMessageHandler.getStatuses(extractProjectDetails(user, normalizeId(projectName)), ids);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Not transactional: the report is exported in a read-only transaction
+	 * started after the {@link com.epam.ta.reportportal.core.jasper.ReportExportLimiter} slot is acquired
+	 */
 	@GetMapping(value = "/{launchId}/report")
 	@ResponseStatus(OK)
 	@ApiOperation(value = "Export specified launch", notes = "Only following formats are supported: pdf (by default), xls, html.")
@@ -327,8 +330,10 @@ public class LaunchController {
 				String.format("attachment; filename=RP_LAUNCH_%s_Report.%s", format.name(), format.getValue())
 		);
 
-		try (OutputStream outputStream = response.getOutputStream()) {
+		try {
+			OutputStream outputStream = response.getOutputStream();
 			getLaunchMessageHandler.exportLaunch(launchId, format, outputStream, user);
+			outputStream.flush();
 		} catch (IOException e) {
 			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
 		}
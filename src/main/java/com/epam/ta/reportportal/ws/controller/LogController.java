@@ -25,6 +25,8 @@ import com.epam.ta.reportportal.core.analyzer.auto.SearchLogService;
 import com.epam.ta.reportportal.core.log.CreateLogHandler;
 import com.epam.ta.reportportal.core.log.DeleteLogHandler;
 import com.epam.ta.reportportal.core.log.GetLogHandler;
+import com.epam.ta.reportportal.core.log.KeysetPage;
+import com.epam.ta.reportportal.core.log.KeysetRequest;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
@@ -168,6 +170,14 @@ public class LogController {
 		return getLogHandler.getLogs(extractProjectDetails(user, projectName), filter, pageable);
 	}
 
+	@GetMapping(value = "/item/{itemId}/cursor")
+	@ApiOperation("Get logs of the test item by cursor")
+	@Transactional(readOnly = true)
+	public KeysetPage<LogResource> getLogsPage(@PathVariable String projectName, @PathVariable Long itemId, KeysetRequest request,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return getLogHandler.getLogsPage(itemId, extractProjectDetails(user, projectName), request);
+	}
+
 	@GetMapping(value = "/{logId}/page")
 	@ApiOperation("Get logs by filter")
 	@Transactional(readOnly = true)
@@ -202,6 +212,15 @@ public class LogController {
 		return getLogHandler.getNestedItems(parentId, extractProjectDetails(user, projectName), params, filter, pageable);
 	}
 
+	@GetMapping(value = "/nested/{parentId}/cursor")
+	@ApiOperation("Get nested steps with logs for the parent Test Item by cursor")
+	@Transactional(readOnly = true)
+	public KeysetPage<Object> getNestedItemsPage(@PathVariable String projectName, @PathVariable Long parentId,
+			@ApiParam(required = false) @RequestParam Map<String, String> params, KeysetRequest request,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return getLogHandler.getNestedItemsPage(parentId, extractProjectDetails(user, projectName), params, request);
+	}
+
 	@PostMapping("search/{itemId}")
 	@ResponseStatus(OK)
 	@ApiOperation("Search test items with similar error logs")
@@ -62,6 +62,7 @@ import java.util.Map;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.*;
 import static com.epam.ta.reportportal.commons.EntityUtils.normalizeId;
+import static com.google.common.net.HttpHeaders.AGE;
 import static com.google.common.net.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
@@ -148,6 +149,15 @@ public class ProjectController {
 		return deleteProjectHandler.deleteProject(projectId);
 	}
 
+	@Transactional(readOnly = true)
+	@GetMapping("/{projectId}/deletion")
+	@ResponseStatus(OK)
+	@PreAuthorize(ADMIN_ONLY)
+	@ApiOperation(value = "Get status of the project deletion", notes = "Only for users with administrator role")
+	public ProjectDeletionStatus getProjectDeletionStatus(@PathVariable Long projectId, @AuthenticationPrincipal ReportPortalUser user) {
+		return deleteProjectHandler.getProjectDeletionStatus(projectId);
+	}
+
 	@Transactional
 	@DeleteMapping("/{projectName}/index")
 	@ResponseStatus(OK)
@@ -272,7 +282,9 @@ public class ProjectController {
 		return projectInfoHandler.getAllProjectsInfo(new CompositeFilter(Operator.AND, filter, predefinedFilter), pageable);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Not transactional, the transaction is started by {@link com.epam.ta.reportportal.core.jasper.ReportExportLimiter}
+	 */
 	@PreAuthorize(ADMIN_ONLY)
 	@GetMapping(value = "/export")
 	@ResponseStatus(HttpStatus.OK)
@@ -289,8 +301,10 @@ public class ProjectController {
 				String.format("attachment; filename=RP_PROJECTS_%s_Report.%s", format.name(), format.getValue())
 		);
 
-		try (OutputStream outputStream = response.getOutputStream()) {
+		try {
+			OutputStream outputStream = response.getOutputStream();
 			getProjectHandler.exportProjects(format, new CompositeFilter(Operator.AND, filter, predefinedFilter), outputStream);
+			outputStream.flush();
 		} catch (IOException e) {
 			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
 		}
@@ -301,20 +315,26 @@ public class ProjectController {
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping("/list/{projectName}")
 	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Get project info statistics",
+			notes = "Statistics are cached by the instance on the first request and refreshed in background, "
+					+ "their age in seconds is returned in the 'Age' header")
 	public ProjectInfoResource getProjectInfo(@PathVariable String projectName,
 			@RequestParam(value = "interval", required = false, defaultValue = "3M") String interval,
-			@AuthenticationPrincipal ReportPortalUser user) {
-		return projectInfoHandler.getProjectInfo(projectName, interval);
+			@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response) {
+		return withAge(projectInfoHandler.getProjectInfoSnapshot(projectName, interval), response);
 	}
 
 	@Transactional(readOnly = true)
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping("/{projectName}/widget/{widgetCode}")
 	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Get project info widget content",
+			notes = "Content is cached by the instance on the first request and refreshed in background, "
+					+ "its age in seconds is returned in the 'Age' header")
 	public Map<String, ?> getProjectWidget(@PathVariable String projectName,
 			@RequestParam(value = "interval", required = false, defaultValue = "3M") String interval, @PathVariable String widgetCode,
-			@AuthenticationPrincipal ReportPortalUser user) {
-		return projectInfoHandler.getProjectInfoWidgetContent(projectName, interval, widgetCode);
+			@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response) {
+		return withAge(projectInfoHandler.getProjectInfoWidgetContentSnapshot(projectName, interval, widgetCode), response);
 	}
 
 	@Transactional(readOnly = true)
@@ -342,4 +362,8 @@ public class ProjectController {
 		return getProjectHandler.getAnalyzerIndexingStatus();
 	}
 
+	private static <T> T withAge(ProjectInfoSnapshot<T> snapshot, HttpServletResponse response) {
+		response.setHeader(AGE, String.valueOf(snapshot.getAge()));
+		return snapshot.getValue();
+	}
 }
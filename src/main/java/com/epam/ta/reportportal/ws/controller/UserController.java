@@ -251,7 +251,9 @@ public class UserController {
 		return getUserHandler.searchUsers(term, pageable);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Not transactional, the transaction is started by {@link com.epam.ta.reportportal.core.jasper.ReportExportLimiter}
+	 */
 	@GetMapping(value = "/export")
 	@PreAuthorize(ADMIN_ONLY)
 	@ApiOperation(value = "Exports information about all users", notes = "Allowable only for users with administrator role")
@@ -267,8 +269,10 @@ public class UserController {
 				String.format("attachment; filename=RP_USERS_%s_Report.%s", format.name(), format.getValue())
 		);
 
-		try (OutputStream outputStream = response.getOutputStream()) {
+		try {
+			OutputStream outputStream = response.getOutputStream();
 			getUserHandler.exportUsers(format, outputStream, new CompositeFilter(Operator.AND, filter, queryable));
+			outputStream.flush();
 		} catch (IOException e) {
 			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
 		}
@@ -20,6 +20,7 @@ package com.epam.ta.reportportal.ws.converter;
 import com.google.common.base.Preconditions;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -45,6 +46,24 @@ public abstract class PagedResourcesAssembler<T, R> extends ResourceAssembler<T,
 		return page -> PagedResourcesAssembler.<R>pageConverter().apply(page.map(modelConverter));
 	}
 
+	/**
+	 * Converts the whole content of the page at once, so the converter is able to load related data
+	 * for all the entities of the page with a single query
+	 *
+	 * @param contentConverter Converter of the page content
+	 * @param <T>              Type of Entity to be converted
+	 * @param <R>              Type of Resource to be created from entity
+	 * @return Page converter
+	 */
+	public static <T, R> Function<Page<T>, com.epam.ta.reportportal.ws.model.Page<R>> pageContentConverter(
+			Function<List<T>, List<R>> contentConverter) {
+		return page -> new com.epam.ta.reportportal.ws.model.Page<>(contentConverter.apply(page.getContent()),
+				new com.epam.ta.reportportal.ws.model.Page.PageMetadata(page.getSize(), page.getNumber() + 1, page.getTotalElements(),
+						page.getTotalPages()
+				)
+		);
+	}
+
 	/**
 	 * Creates {@link com.epam.ta.reportportal.ws.model.Page} from {@link Page} DB query result
 	 *
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.ws.model.activity.LaunchActivityResource;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributeResource;
 import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
@@ -29,10 +30,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -54,7 +61,24 @@ public class LaunchConverter {
 		resource.setName(launch.getName() + " #" + launch.getNumber());
 		return resource;
 	};
-	public Function<Launch, LaunchResource> TO_RESOURCE = db -> {
+	public Function<Launch, LaunchResource> TO_RESOURCE = db -> toResource(db,
+			ofNullable(db.getUserId()).flatMap(id -> userRepository.findLoginById(id))
+	);
+
+	/**
+	 * Converts several launches, e.g. a page, resolving the logins of all the owners with a single query
+	 */
+	public Function<List<Launch>, List<LaunchResource>> TO_RESOURCES = launches -> {
+		Map<Long, String> userIdLoginMapping = userRepository.findAllById(launches.stream()
+				.map(Launch::getUserId)
+				.filter(Objects::nonNull)
+				.collect(toSet())).stream().collect(toMap(User::getId, User::getLogin));
+		return launches.stream()
+				.map(launch -> toResource(launch, ofNullable(launch.getUserId()).map(userIdLoginMapping::get)))
+				.collect(toList());
+	};
+
+	private LaunchResource toResource(Launch db, Optional<String> owner) {
 
 		Preconditions.checkNotNull(db);
 
@@ -74,10 +98,10 @@ public class LaunchConverter {
 		resource.setStatisticsResource(StatisticsConverter.TO_RESOURCE.apply(db.getStatistics()));
 		resource.setApproximateDuration(db.getApproximateDuration());
 		resource.setHasRetries(db.isHasRetries());
-		ofNullable(db.getUserId()).flatMap(id -> userRepository.findLoginById(id)).ifPresent(resource::setOwner);
+		owner.ifPresent(resource::setOwner);
 		resource.setRerun(db.isRerun());
 		return resource;
-	};
+	}
 
 	private static Set<ItemAttributeResource> getAttributes(Launch launch) {
 		return ofNullable(launch.getAttributes()).map(tags -> tags.stream()
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.ws.converter.converters;
 
 import com.epam.ta.reportportal.commons.EntityUtils;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
@@ -27,6 +28,7 @@ import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.apache.commons.lang3.StringUtils.startsWith;
 
 /**
  * Converts internal DB model to DTO
@@ -35,6 +37,10 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  */
 public final class LogConverter {
 
+	private static final String IMAGE_CONTENT_TYPE_PREFIX = "image/";
+
+	private static final String ON_DEMAND_THUMBNAIL_SUFFIX = "/thumbnail";
+
 	private LogConverter() {
 		//static only
 	}
@@ -55,7 +61,7 @@ public final class LogConverter {
 
 			binaryContent.setBinaryDataId(String.valueOf(model.getAttachment().getId()));
 			binaryContent.setContentType(model.getAttachment().getContentType());
-			binaryContent.setThumbnailId(model.getAttachment().getThumbnailId());
+			binaryContent.setThumbnailId(thumbnailId(model.getAttachment()));
 			resource.setBinaryContent(binaryContent);
 		}
 
@@ -72,6 +78,23 @@ public final class LogConverter {
 		return logEntry;
 	};
 
+	/**
+	 * Thumbnail of an image is generated in background, so until it is assigned to the attachment
+	 * the on-demand reference '{attachmentId}/thumbnail' is returned. It is resolved relative to
+	 * '/v1/data/{projectName}/' the same way as the binary data id and generates the thumbnail on the first request.
+	 *
+	 * @param attachment {@link Attachment}
+	 * @return Thumbnail id or on-demand thumbnail reference
+	 */
+	private static String thumbnailId(Attachment attachment) {
+		if (attachment.getThumbnailId() == null && attachment.getId() != null && startsWith(attachment.getContentType(),
+				IMAGE_CONTENT_TYPE_PREFIX
+		)) {
+			return attachment.getId() + ON_DEMAND_THUMBNAIL_SUFFIX;
+		}
+		return attachment.getThumbnailId();
+	}
+
 	private static boolean isBinaryDataExists(Log log) {
 		return ofNullable(log.getAttachment()).map(a -> isNotEmpty(a.getContentType()) || isNotEmpty(a.getThumbnailId())
 				|| isNotEmpty(a.getFileId())).orElse(false);
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.ws.model.statistics.StatisticsResource;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -37,23 +38,27 @@ public final class StatisticsConverter {
 		//static only
 	}
 
-	public static final Function<Set<Statistics>, StatisticsResource> TO_RESOURCE = statistics -> {
+	/**
+	 * Converts counters of the statistics fields mapped by the field name
+	 */
+	public static final Function<Map<String, Integer>, StatisticsResource> COUNTERS_TO_RESOURCE = counters -> {
 		StatisticsResource statisticsResource = new StatisticsResource();
-		statisticsResource.setDefects(statistics.stream()
-				.filter(it -> ofNullable(it.getStatisticsField()).isPresent() && StringUtils.isNotEmpty(it.getStatisticsField().getName()))
-				.filter(it -> it.getCounter() > 0 && it.getStatisticsField().getName().contains(DEFECTS_KEY))
-				.collect(Collectors.groupingBy(it -> it.getStatisticsField().getName().split("\\$")[2],
-						Collectors.groupingBy(it -> it.getStatisticsField().getName().split("\\$")[3],
-								Collectors.summingInt(Statistics::getCounter)
-						)
-				)));
-		statisticsResource.setExecutions(statistics.stream()
-				.filter(it -> ofNullable(it.getStatisticsField()).isPresent() && StringUtils.isNotEmpty(it.getStatisticsField().getName()))
-				.filter(it -> it.getCounter() > 0 && it.getStatisticsField().getName().contains(EXECUTIONS_KEY))
-				.collect(Collectors.groupingBy(it -> it.getStatisticsField().getName().split("\\$")[2],
-						Collectors.summingInt(Statistics::getCounter)
+		statisticsResource.setDefects(counters.entrySet()
+				.stream()
+				.filter(it -> it.getValue() > 0 && it.getKey().contains(DEFECTS_KEY))
+				.collect(Collectors.groupingBy(it -> it.getKey().split("\\$")[2],
+						Collectors.groupingBy(it -> it.getKey().split("\\$")[3], Collectors.summingInt(Map.Entry::getValue))
 				)));
+		statisticsResource.setExecutions(counters.entrySet()
+				.stream()
+				.filter(it -> it.getValue() > 0 && it.getKey().contains(EXECUTIONS_KEY))
+				.collect(Collectors.groupingBy(it -> it.getKey().split("\\$")[2], Collectors.summingInt(Map.Entry::getValue))));
 		return statisticsResource;
-
 	};
+
+	public static final Function<Set<Statistics>, StatisticsResource> TO_RESOURCE = statistics -> COUNTERS_TO_RESOURCE.apply(
+			statistics.stream()
+					.filter(it -> ofNullable(it.getStatisticsField()).isPresent())
+					.filter(it -> StringUtils.isNotEmpty(it.getStatisticsField().getName()) && it.getCounter() > 0)
+					.collect(Collectors.toMap(it -> it.getStatisticsField().getName(), Statistics::getCounter, Integer::sum)));
 }
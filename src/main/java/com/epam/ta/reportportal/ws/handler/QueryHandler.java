@@ -16,6 +16,8 @@
 
 package com.epam.ta.reportportal.ws.handler;
 
+import com.epam.ta.reportportal.ws.rabbit.QueryPageRQ;
+import com.epam.ta.reportportal.ws.rabbit.QueryPageRS;
 import com.epam.ta.reportportal.ws.rabbit.QueryRQ;
 
 /**
@@ -24,4 +26,12 @@ import com.epam.ta.reportportal.ws.rabbit.QueryRQ;
 public interface QueryHandler {
 
 	Object find(QueryRQ queryRQ);
+
+	/**
+	 * Finds a single page of the entities ordered by id, starting after the continuation token of the request
+	 *
+	 * @param queryPageRQ {@link QueryPageRQ}
+	 * @return {@link QueryPageRS} with the entities (only the requested fields if any) and the token of the next page
+	 */
+	QueryPageRS findPage(QueryPageRQ queryPageRQ);
 }
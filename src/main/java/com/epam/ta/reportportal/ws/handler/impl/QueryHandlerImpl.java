@@ -16,6 +16,9 @@
 
 package com.epam.ta.reportportal.ws.handler.impl;
 
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.integration.Integration;
 import com.epam.ta.reportportal.entity.item.TestItem;
@@ -23,12 +26,28 @@ import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.handler.QueryHandler;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.rabbit.QueryPageRQ;
+import com.epam.ta.reportportal.ws.rabbit.QueryPageRS;
 import com.epam.ta.reportportal.ws.rabbit.QueryRQ;
 import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.collections.CollectionUtils;
+import org.jooq.Record;
+import org.jooq.TableField;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+import static com.epam.ta.reportportal.jooq.Tables.*;
 
 /**
  * @author Yauheni_Martynau
@@ -36,20 +55,35 @@ import java.util.Optional;
 @Service
 public class QueryHandlerImpl implements QueryHandler {
 
+	private static final String METRIC_RESULT_SIZE = "rp.amqp.query.result.size";
+
 	private final ProjectRepository projectRepository;
 	private final IntegrationRepository integrationRepository;
 	private final TestItemRepository testItemRepository;
 	private final LogRepository logRepository;
 
+	private final QueryProjectionFinder queryProjectionFinder;
+	private final MeterRegistry meterRegistry;
+	private final int maxLimit;
+
 	private Map<String, FilterableRepository> repositories;
 
+	private Map<String, Function<Object, Long>> idExtractors;
+
+	private Map<String, TableField<? extends Record, Long>> idFields;
+
+	@Autowired
 	public QueryHandlerImpl(ProjectRepository projectRepository, IntegrationRepository integrationRepository,
-			TestItemRepository testItemRepository, LogRepository logRepository) {
+			TestItemRepository testItemRepository, LogRepository logRepository, QueryProjectionFinder queryProjectionFinder,
+			MeterRegistry meterRegistry, @Value("${rp.amqp.query.maxLimit:1000}") int maxLimit) {
 
 		this.projectRepository = projectRepository;
 		this.integrationRepository = integrationRepository;
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
+		this.queryProjectionFinder = queryProjectionFinder;
+		this.meterRegistry = meterRegistry;
+		this.maxLimit = maxLimit;
 
 		repositories = ImmutableMap.<String, FilterableRepository>builder()
 				.put(Project.class.getSimpleName(), projectRepository)
@@ -57,13 +91,96 @@ public class QueryHandlerImpl implements QueryHandler {
 				.put(TestItem.class.getSimpleName(), testItemRepository)
 				.put(Log.class.getSimpleName(), logRepository)
 				.build();
+
+		idExtractors = ImmutableMap.<String, Function<Object, Long>>builder()
+				.put(Project.class.getSimpleName(), it -> ((Project) it).getId())
+				.put(Integration.class.getSimpleName(), it -> ((Integration) it).getId())
+				.put(TestItem.class.getSimpleName(), it -> ((TestItem) it).getItemId())
+				.put(Log.class.getSimpleName(), it -> ((Log) it).getId())
+				.build();
+
+		idFields = ImmutableMap.<String, TableField<? extends Record, Long>>builder()
+				.put(Project.class.getSimpleName(), PROJECT.ID)
+				.put(Integration.class.getSimpleName(), INTEGRATION.ID)
+				.put(TestItem.class.getSimpleName(), TEST_ITEM.ITEM_ID)
+				.put(Log.class.getSimpleName(), LOG.ID)
+				.build();
 	}
 
 	@Override
 	public Object find(QueryRQ queryRQ) {
 
-		return Optional.ofNullable(repositories.get(queryRQ.getEntity()))
-				.map(repository -> repository.findByFilter(queryRQ.getFilter()))
+		List<?> result = Optional.ofNullable(repositories.get(queryRQ.getEntity()))
+				.map(repository -> (List<?>) repository.findByFilter(queryRQ.getFilter()))
+				.orElseThrow(() -> new ReportPortalException("Repository not found"));
+		resultSize(queryRQ.getEntity(), "full").record(result.size());
+		return result;
+	}
+
+	@Override
+	public QueryPageRS findPage(QueryPageRQ queryPageRQ) {
+
+		FilterableRepository repository = Optional.ofNullable(repositories.get(queryPageRQ.getEntity()))
 				.orElseThrow(() -> new ReportPortalException("Repository not found"));
+		if (queryPageRQ.getFilter() == null) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Filter is mandatory");
+		}
+		if (queryPageRQ.getLimit() == null || queryPageRQ.getLimit() <= 0) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Limit should be a positive number");
+		}
+		int limit = Math.min(queryPageRQ.getLimit(), maxLimit);
+
+		Filter filter = queryPageRQ.getFilter();
+		Optional.ofNullable(queryPageRQ.getContinuationToken())
+				.map(QueryHandlerImpl::decodeToken)
+				.ifPresent(lastId -> filter.withCondition(FilterCondition.builder()
+						.withCondition(Condition.GREATER_THAN)
+						.withSearchCriteria(CRITERIA_ID)
+						.withValue(String.valueOf(lastId))
+						.build()));
+
+		if (CollectionUtils.isNotEmpty(queryPageRQ.getFields())) {
+			return findProjectionPage(queryPageRQ.getEntity(), filter, limit, queryPageRQ.getFields());
+		}
+
+		List<?> page = repository.findByFilter(filter, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, CRITERIA_ID)))
+				.getContent();
+		resultSize(queryPageRQ.getEntity(), "page").record(page.size());
+
+		String nextToken = page.size() < limit ?
+				null :
+				encodeToken(idExtractors.get(queryPageRQ.getEntity()).apply(page.get(page.size() - 1)));
+		return new QueryPageRS(new ArrayList<>(page), nextToken);
+	}
+
+	/**
+	 * Selects only the requested columns of the page instead of loading the entities
+	 */
+	private QueryPageRS findProjectionPage(String entity, Filter filter, int limit, List<String> fields) {
+		TableField<? extends Record, Long> idField = idFields.get(entity);
+		List<Long> ids = queryProjectionFinder.findIds(filter, idField, limit);
+		resultSize(entity, "page").record(ids.size());
+
+		String nextToken = ids.size() < limit ? null : encodeToken(ids.get(ids.size() - 1));
+		return new QueryPageRS(new ArrayList<>(queryProjectionFinder.findFields(idField, ids, fields)), nextToken);
+	}
+
+	private DistributionSummary resultSize(String entity, String type) {
+		return DistributionSummary.builder(METRIC_RESULT_SIZE)
+				.tag("entity", entity)
+				.tag("type", type)
+				.register(meterRegistry);
+	}
+
+	private static String encodeToken(Long lastId) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Long decodeToken(String token) {
+		try {
+			return Long.valueOf(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+		} catch (IllegalArgumentException e) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Invalid continuation token");
+		}
 	}
 }
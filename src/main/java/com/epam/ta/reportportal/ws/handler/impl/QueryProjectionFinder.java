@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.handler.impl;
+
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.QueryBuilder;
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.base.CaseFormat;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SelectQuery;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Reads the requested columns of the filtered entities without loading the entities themselves.
+ * The page of ids is selected by the query built from the filter, the columns are selected from the table of the entity by these ids
+ */
+@Component
+public class QueryProjectionFinder {
+
+	private static final String LATEST_TABLE = "latest";
+
+	private static final String LATEST_COLUMN = "c";
+
+	private final DSLContext dsl;
+
+	@Autowired
+	public QueryProjectionFinder(DSLContext dsl) {
+		this.dsl = dsl;
+	}
+
+	/**
+	 * @param filter  {@link Filter} of the entities
+	 * @param idField Primary key of the table of the entity
+	 * @param limit   Max number of the ids
+	 * @return Ids of the page of the filtered entities in ascending order
+	 */
+	public List<Long> findIds(Filter filter, TableField<? extends Record, Long> idField, int limit) {
+		return dsl.fetch(QueryBuilder.newBuilder(filter).with(PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, CRITERIA_ID))).build())
+				.getValues(idField)
+				.stream()
+				.distinct()
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @param filter     {@link Queryable} of the entities
+	 * @param pageable   Page and sort of the entities
+	 * @param idField    Primary key of the table of the entity
+	 * @param conditions Additional conditions of the entities
+	 * @return Page of the ids of the filtered entities in the order of the page sort, the total is counted only when required
+	 */
+	public Page<Long> findIdsPage(Queryable filter, Pageable pageable, TableField<? extends Record, Long> idField,
+			Condition... conditions) {
+		SelectQuery<? extends Record> pageQuery = QueryBuilder.newBuilder(filter).with(pageable).build();
+		pageQuery.addConditions(conditions);
+		List<Long> ids = dsl.fetch(pageQuery).getValues(idField).stream().distinct().collect(Collectors.toList());
+		return PageableExecutionUtils.getPage(ids, pageable, () -> {
+			SelectQuery<? extends Record> countQuery = QueryBuilder.newBuilder(filter).build();
+			countQuery.addConditions(conditions);
+			return dsl.fetchCount(countQuery);
+		});
+	}
+
+	/**
+	 * The ids are selected by the 'DISTINCT ON' subquery of the condition, so they are not fetched to the application.
+	 * Columns of the filter query are renamed by their positions, as the joined tables may have columns of the same name
+	 *
+	 * @param filter      {@link Queryable} of the entities
+	 * @param idField     Primary key of the table of the entity
+	 * @param nameField   Field the entities are grouped by
+	 * @param numberField Field the latest entity of the group has the greatest value of
+	 * @return Condition matching the latest filtered entity of every group
+	 */
+	public Condition latestIdsCondition(Queryable filter, TableField<? extends Record, Long> idField, Field<?> nameField,
+			Field<? extends Number> numberField) {
+		SelectQuery<? extends Record> query = QueryBuilder.newBuilder(filter).build();
+		query.addDistinctOn(nameField);
+		query.addOrderBy(nameField.asc(), numberField.desc());
+		List<Field<?>> select = query.getSelect();
+		int idIndex = select.indexOf(idField);
+		if (idIndex < 0) {
+			throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR,
+					"Field '" + idField.getName() + "' is not selected by the filter query"
+			);
+		}
+		String[] columns = IntStream.range(0, select.size()).mapToObj(i -> LATEST_COLUMN + i).toArray(String[]::new);
+		Table<? extends Record> latest = query.asTable(LATEST_TABLE, columns);
+		return idField.in(DSL.select(latest.field(columns[idIndex], Long.class)).from(latest));
+	}
+
+	/**
+	 * @param idField Primary key of the table of the entity
+	 * @param ids     Ids of the entities
+	 * @param fields  Names of the fields of the entity, every field is mapped to the column of the same name in snake case
+	 * @return Values of the requested fields by the names of the fields in the order of the ids
+	 */
+	public List<Map<String, Object>> findFields(TableField<? extends Record, Long> idField, List<Long> ids, Collection<String> fields) {
+		Table<? extends Record> table = idField.getTable();
+		List<Field<?>> columns = fields.stream().distinct().map(name -> column(table, name)).collect(Collectors.toList());
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return dsl.select(columns).from(table).where(idField.in(ids)).orderBy(idField).fetchMaps();
+	}
+
+	private static Field<?> column(Table<? extends Record> table, String name) {
+		return ofNullable(table.field(CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))).<Field<?>>map(field -> field.as(name))
+				.orElseThrow(() -> new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+						"Field '" + name + "' is not a column of the table '" + table.getName() + "'"
+				));
+	}
+}
@@ -16,32 +16,59 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityBatchWriter;
+import com.epam.ta.reportportal.core.events.ActivitiesBatch;
 import com.epam.ta.reportportal.entity.activity.Activity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
+ * Consumes activity messages in batches. A message contains either a single {@link Activity}
+ * or an {@link ActivitiesBatch}, all the activities of the consumed messages are persisted at once.
+ *
  * @author Andrei Varabyeu
  */
 @Component
-@Transactional
 public class ActivityConsumer {
 
-	private final ActivityRepository activityRepository;
+	private static final Logger LOGGER = LoggerFactory.getLogger(ActivityConsumer.class);
+
+	private final ActivityBatchWriter activityBatchWriter;
+
+	private final MessageConverter messageConverter;
 
 	@Autowired
-	public ActivityConsumer(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public ActivityConsumer(ActivityBatchWriter activityBatchWriter, MessageConverter messageConverter) {
+		this.activityBatchWriter = activityBatchWriter;
+		this.messageConverter = messageConverter;
+	}
+
+	@RabbitListener(queues = "#{ @activityQueue.name }", containerFactory = "activityListenerContainerFactory")
+	public void onEvents(List<Message> messages) {
+		List<Activity> activities = new ArrayList<>(messages.size());
+		messages.forEach(message -> collect(message, activities));
+		activityBatchWriter.write(activities);
 	}
 
-	@RabbitListener(queues = "#{ @activityQueue.name }", containerFactory = "rabbitListenerContainerFactory")
-	public void onEvent(@Payload Activity rq) {
-		Optional.ofNullable(rq).ifPresent(activityRepository::save);
+	private void collect(Message message, List<Activity> activities) {
+		try {
+			Object payload = messageConverter.fromMessage(message);
+			if (payload instanceof ActivitiesBatch) {
+				activities.addAll(((ActivitiesBatch) payload).getActivities());
+			} else if (payload instanceof Activity) {
+				activities.add((Activity) payload);
+			}
+		} catch (MessageConversionException e) {
+			LOGGER.error("Unable to convert activity message", e);
+		}
 	}
 }
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.configs.rabbit.DeserializablePair;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
 import com.epam.ta.reportportal.core.item.StartTestItemHandler;
 import com.epam.ta.reportportal.core.item.TestItemService;
@@ -51,12 +52,13 @@ import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageListener;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
-import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -72,7 +74,7 @@ public class AsyncReportingListener implements MessageListener {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncReportingListener.class);
 
 	@Autowired
-	private MessageConverter messageConverter;
+	private SmartMessageConverter messageConverter;
 
 	@Autowired
 	@Qualifier("rabbitTemplate")
@@ -108,6 +110,8 @@ public class AsyncReportingListener implements MessageListener {
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private AttachmentDeduplicator attachmentDeduplicator;
 	@Override
 	@RabbitMessageLogging
 	public void onMessage(Message message) {
@@ -150,11 +154,10 @@ public class AsyncReportingListener implements MessageListener {
 					);
 					break;
 				case LOG:
-					Jackson2JsonMessageConverter converter = (Jackson2JsonMessageConverter) messageConverter;
-					onLogCreate((DeserializablePair) converter.fromMessage(message,
+					onLogCreate((DeserializablePair) messageConverter.fromMessage(message,
 							new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
 							}
-					), (Long) headers.get(MessageHeaders.PROJECT_ID));
+					), (Long) headers.get(MessageHeaders.PROJECT_ID), (String) headers.get(MessageHeaders.CONTENT_HASH));
 					break;
 				default:
 					LOGGER.error("Unknown message type");
@@ -204,7 +207,7 @@ public class AsyncReportingListener implements MessageListener {
 		finishTestItemHandler.finishTestItem(user, ProjectExtractor.extractProjectDetails(user, normalizeId(projectName)), itemId, rq);
 	}
 
-	public void onLogCreate(DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload, Long projectId) {
+	public void onLogCreate(DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload, Long projectId, String contentHash) {
 		SaveLogRQ request = payload.getLeft();
 		BinaryDataMetaInfo metaInfo = payload.getRight();
 
@@ -215,11 +218,11 @@ public class AsyncReportingListener implements MessageListener {
 		}
 
 		if (itemOptional.isPresent()) {
-			createItemLog(request, itemOptional.get(), metaInfo, projectId);
+			createItemLog(request, itemOptional.get(), metaInfo, contentHash, projectId);
 		} else {
 			Launch launch = launchRepository.findByUuid(request.getLaunchUuid())
 					.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid()));
-			createLaunchLog(request, launch, metaInfo, projectId);
+			createLaunchLog(request, launch, metaInfo, contentHash, projectId);
 		}
 	}
 
@@ -262,8 +265,7 @@ public class AsyncReportingListener implements MessageListener {
 				case FINISH_TEST:
 					return (String) message.getMessageProperties().getHeaders().get(MessageHeaders.ITEM_ID);
 				case LOG:
-					Jackson2JsonMessageConverter converter = (Jackson2JsonMessageConverter) messageConverter;
-					return ((SaveLogRQ) ((DeserializablePair) converter.fromMessage(message,
+					return ((SaveLogRQ) ((DeserializablePair) messageConverter.fromMessage(message,
 							new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
 							}
 					)).getLeft()).getUuid();
@@ -275,23 +277,29 @@ public class AsyncReportingListener implements MessageListener {
 		}
 	}
 
-	private void createItemLog(SaveLogRQ request, TestItem item, BinaryDataMetaInfo metaInfo, Long projectId) {
+	private void createItemLog(SaveLogRQ request, TestItem item, BinaryDataMetaInfo metaInfo, String contentHash, Long projectId) {
 		Log log = new LogBuilder().addSaveLogRq(request).addTestItem(item).get();
 		logRepository.save(log);
-		saveAttachment(metaInfo, log.getId(), projectId, testItemService.getEffectiveLaunch(item).getId(), item.getItemId());
+		saveAttachment(metaInfo, contentHash, log, projectId, testItemService.getEffectiveLaunch(item).getId(), item.getItemId());
 	}
 
-	private void createLaunchLog(SaveLogRQ request, Launch launch, BinaryDataMetaInfo metaInfo, Long projectId) {
+	private void createLaunchLog(SaveLogRQ request, Launch launch, BinaryDataMetaInfo metaInfo, String contentHash, Long projectId) {
 		Log log = new LogBuilder().addSaveLogRq(request).addLaunch(launch).get();
 		logRepository.save(log);
-		saveAttachment(metaInfo, log.getId(), projectId, launch.getId(), null);
+		saveAttachment(metaInfo, contentHash, log, projectId, launch.getId(), null);
 	}
 
-	private void saveAttachment(BinaryDataMetaInfo metaInfo, Long logId, Long projectId, Long launchId, Long itemId) {
+	private void saveAttachment(BinaryDataMetaInfo metaInfo, String contentHash, Log log, Long projectId, Long launchId, Long itemId) {
 		if (!Objects.isNull(metaInfo)) {
 			attachmentBinaryDataService.attachToLog(metaInfo,
-					AttachmentMetaInfo.builder().withProjectId(projectId).withLaunchId(launchId).withItemId(itemId).withLogId(logId).build()
+					AttachmentMetaInfo.builder()
+							.withProjectId(projectId)
+							.withLaunchId(launchId)
+							.withItemId(itemId)
+							.withLogId(log.getId())
+							.build()
 			);
+			attachmentDeduplicator.onAttachmentSaved(metaInfo, contentHash, log.getUuid());
 		}
 	}
 
@@ -307,8 +315,8 @@ public class AsyncReportingListener implements MessageListener {
 		// we need to delete only binary data, log and attachment shouldn't be dirty created
 		if (payload.getRight() != null) {
 			BinaryDataMetaInfo metaInfo = payload.getRight();
-			attachmentBinaryDataService.delete(metaInfo.getFileId());
-			attachmentBinaryDataService.delete(metaInfo.getThumbnailFileId());
+			attachmentDeduplicator.releaseFiles(Arrays.asList(metaInfo.getFileId(), metaInfo.getThumbnailFileId()), Collections.emptyList())
+					.forEach(attachmentBinaryDataService::delete);
 		}
 	}
 
@@ -18,8 +18,11 @@ package com.epam.ta.reportportal.ws.rabbit;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
+import com.epam.ta.reportportal.core.file.BinaryDataCache;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +33,9 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
@@ -45,26 +51,40 @@ public class AttachmentConsumer {
 
 	private final AttachmentRepository attachmentRepository;
 
+	private final BinaryDataCache binaryDataCache;
+
+	private final AttachmentDeduplicator attachmentDeduplicator;
+
 	@Autowired
 	public AttachmentConsumer(@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
-			AttachmentRepository attachmentRepository) {
+			AttachmentRepository attachmentRepository, BinaryDataCache binaryDataCache, AttachmentDeduplicator attachmentDeduplicator) {
 		this.dataStoreService = dataStoreService;
 		this.attachmentRepository = attachmentRepository;
+		this.binaryDataCache = binaryDataCache;
+		this.attachmentDeduplicator = attachmentDeduplicator;
 	}
 
 	@RabbitListener(queues = "#{ @deleteAttachmentQueue.name }")
 	public void onEvent(@Payload DeleteAttachmentEvent event) {
 
-		List<Long> ids = Lists.newArrayListWithExpectedSize(event.getIds().size());
-		event.getIds().forEach(id -> attachmentRepository.findById(id).ifPresent(a -> {
+		List<Attachment> attachments = Lists.newArrayListWithExpectedSize(event.getIds().size());
+		event.getIds().forEach(id -> attachmentRepository.findById(id).ifPresent(attachments::add));
+		List<Long> removedIds = attachments.stream().map(Attachment::getId).collect(Collectors.toList());
+		Set<String> releasedFiles = attachmentDeduplicator.releaseFiles(attachments.stream()
+				.flatMap(a -> Stream.of(a.getFileId(), a.getThumbnailId()))
+				.collect(Collectors.toList()), removedIds);
+
+		List<Long> ids = Lists.newArrayListWithExpectedSize(attachments.size());
+		attachments.forEach(a -> {
 			try {
-				ofNullable(a.getFileId()).ifPresent(dataStoreService::delete);
-				ofNullable(a.getThumbnailId()).ifPresent(dataStoreService::delete);
-				ids.add(id);
+				ofNullable(a.getFileId()).filter(releasedFiles::contains).ifPresent(dataStoreService::delete);
+				ofNullable(a.getThumbnailId()).filter(releasedFiles::contains).ifPresent(dataStoreService::delete);
+				ids.add(a.getId());
 			} catch (Exception e) {
-				LOGGER.error(Suppliers.formattedSupplier("Error during removing attachment with id = {}", id).get());
+				LOGGER.error(Suppliers.formattedSupplier("Error during removing attachment with id = {}", a.getId()).get());
 			}
-		}));
+		});
 		attachmentRepository.deleteAllByIds(ids);
+		binaryDataCache.evictAttachments(ids);
 	}
 }
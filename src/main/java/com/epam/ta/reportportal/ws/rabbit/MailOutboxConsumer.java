@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.dao.IntegrationRepository;
+import com.epam.ta.reportportal.util.email.EmailService;
+import com.epam.ta.reportportal.util.email.MailMessage;
+import com.epam.ta.reportportal.util.email.MailOutbox;
+import com.epam.ta.reportportal.util.email.MailServiceFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_EMAIL_OUTBOX;
+
+/**
+ * Consumes the {@link MailOutbox} in batches. Emails of the same integration are sent over a single SMTP connection,
+ * the ones failed because of a transient error are returned to the outbox for a retry
+ */
+@Component
+public class MailOutboxConsumer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MailOutboxConsumer.class);
+
+	private final IntegrationRepository integrationRepository;
+
+	private final MailServiceFactory mailServiceFactory;
+
+	private final MailOutbox mailOutbox;
+
+	private final MessageConverter messageConverter;
+
+	@Autowired
+	public MailOutboxConsumer(IntegrationRepository integrationRepository, MailServiceFactory mailServiceFactory, MailOutbox mailOutbox,
+			MessageConverter messageConverter) {
+		this.integrationRepository = integrationRepository;
+		this.mailServiceFactory = mailServiceFactory;
+		this.mailOutbox = mailOutbox;
+		this.messageConverter = messageConverter;
+	}
+
+	@RabbitListener(queues = QUEUE_EMAIL_OUTBOX, containerFactory = "mailOutboxListenerContainerFactory")
+	public void onMessages(List<Message> messages) {
+		Map<Long, List<MailMessage>> byIntegration = new LinkedHashMap<>();
+		messages.forEach(message -> convert(message).ifPresent(mail -> byIntegration.computeIfAbsent(mail.getIntegrationId(),
+				id -> new ArrayList<>()
+		).add(mail)));
+		byIntegration.forEach(this::send);
+	}
+
+	/**
+	 * Failure of a single integration doesn't affect the other ones of the batch: its emails are returned to the outbox
+	 * for a retry. If even the retry can't be published, the exception is propagated and the whole batch is requeued
+	 */
+	private void send(Long integrationId, List<MailMessage> mails) {
+		List<MailMessage> failed;
+		try {
+			Optional<EmailService> emailService = integrationRepository.findById(integrationId)
+					.flatMap(mailServiceFactory::getEmailService);
+			if (!emailService.isPresent()) {
+				LOGGER.warn("Email integration with id '{}' is not available. {} emails are dropped", integrationId, mails.size());
+				return;
+			}
+			failed = emailService.get().sendBatch(mails);
+		} catch (Exception e) {
+			LOGGER.error("Unable to send {} emails of the integration with id '{}'", mails.size(), integrationId, e);
+			failed = mails;
+		}
+		mailOutbox.retry(failed);
+	}
+
+	private Optional<MailMessage> convert(Message message) {
+		try {
+			Object payload = messageConverter.fromMessage(message);
+			if (payload instanceof MailMessage && ((MailMessage) payload).getIntegrationId() != null) {
+				return Optional.of((MailMessage) payload);
+			}
+			LOGGER.error("Unexpected email outbox message is skipped");
+		} catch (MessageConversionException e) {
+			LOGGER.error("Unable to convert email outbox message", e);
+		}
+		return Optional.empty();
+	}
+}
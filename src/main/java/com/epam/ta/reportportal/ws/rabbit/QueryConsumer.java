@@ -22,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_QUERY_PAGE_RQ;
 import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_QUERY_RQ;
 
 @Component
@@ -35,4 +36,10 @@ public class QueryConsumer {
 
 		return queryHandler.find(queryRQ);
 	}
+
+	@RabbitListener(queues = QUEUE_QUERY_PAGE_RQ)
+	public QueryPageRS findPage(@Payload QueryPageRQ queryPageRQ) {
+
+		return queryHandler.findPage(queryPageRQ);
+	}
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.commons.querygen.Filter;
+
+import java.util.List;
+
+/**
+ * Request of a single page of the entities ordered by id.
+ * The next page is requested with the continuation token of the previous {@link QueryPageRS}
+ */
+public class QueryPageRQ {
+
+	private String entity;
+
+	private Filter filter;
+
+	/**
+	 * Mandatory max number of the entities in the page, capped on the server side
+	 */
+	private Integer limit;
+
+	private String continuationToken;
+
+	/**
+	 * Names of the fields of the entity to return, all the fields are returned if empty.
+	 * Only the fields stored in the table of the entity can be requested
+	 */
+	private List<String> fields;
+
+	public String getEntity() {
+		return entity;
+	}
+
+	public void setEntity(String entity) {
+		this.entity = entity;
+	}
+
+	public Filter getFilter() {
+		return filter;
+	}
+
+	public void setFilter(Filter filter) {
+		this.filter = filter;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public void setContinuationToken(String continuationToken) {
+		this.continuationToken = continuationToken;
+	}
+
+	public List<String> getFields() {
+		return fields;
+	}
+
+	public void setFields(List<String> fields) {
+		this.fields = fields;
+	}
+}
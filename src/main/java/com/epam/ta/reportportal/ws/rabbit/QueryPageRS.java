@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import java.util.List;
+
+/**
+ * Page of the entities requested with {@link QueryPageRQ}
+ */
+public class QueryPageRS {
+
+	private List<Object> content;
+
+	/**
+	 * Token of the next page, null if the page is the last one
+	 */
+	private String continuationToken;
+
+	public QueryPageRS() {
+	}
+
+	public QueryPageRS(List<Object> content, String continuationToken) {
+		this.content = content;
+		this.continuationToken = continuationToken;
+	}
+
+	public List<Object> getContent() {
+		return content;
+	}
+
+	public void setContent(List<Object> content) {
+		this.content = content;
+	}
+
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public void setContinuationToken(String continuationToken) {
+		this.continuationToken = continuationToken;
+	}
+}
@@ -17,32 +17,59 @@
 package com.epam.ta.reportportal.ws.rabbit;
 
 import com.epam.ta.reportportal.core.configs.Conditions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.METRIC_STARTUP_NO_RESULT;
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.startupTimer;
 
 /**
+ * Starts the reporting listener containers in parallel,
+ * each start waits for the exclusive consumer to be registered by the broker
+ *
  * @author Konstantin Antipin
  */
 @Component
 @Conditional(Conditions.NotTestCondition.class)
 public class ReportingStartupService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportingStartupService.class);
+
     @Autowired
     @Qualifier("reportingListenerContainers")
     private List<AbstractMessageListenerContainer> listenerContainers;
 
+    @Autowired
+    @Qualifier("reportingStartupTaskExecutor")
+    private TaskExecutor reportingStartupTaskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @PostConstruct
     public void init() {
-        for (AbstractMessageListenerContainer listenerContainer : listenerContainers) {
-            listenerContainer.start();
-        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture.allOf(listenerContainers.stream()
+                .map(listenerContainer -> CompletableFuture.runAsync(listenerContainer::start, reportingStartupTaskExecutor)
+                        .exceptionally(e -> {
+                            LOGGER.error("Unable to start reporting listener container {}", listenerContainer.getQueueNames(), e);
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new)).join();
+        sample.stop(startupTimer(meterRegistry, "container-start", METRIC_STARTUP_NO_RESULT));
     }
 
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import com.epam.ta.reportportal.exception.RetryableException;
+import com.epam.ta.reportportal.ws.model.ErrorRS;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Renders {@link RetryableException} with its own status (429/503) and the 'Retry-After' header,
+ * so clients are able to distinguish a temporary rejection from a permanent one.
+ */
+public class RetryableExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RetryableExceptionResolver.class);
+
+	private final HttpMessageConverter<Object> messageConverter;
+
+	private int order = Ordered.HIGHEST_PRECEDENCE;
+
+	public RetryableExceptionResolver(HttpMessageConverter<Object> messageConverter) {
+		this.messageConverter = messageConverter;
+	}
+
+	@Override
+	public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (!(ex instanceof RetryableException) || response.isCommitted()) {
+			return null;
+		}
+		RetryableException exception = (RetryableException) ex;
+
+		response.reset();
+		response.setStatus(exception.getStatus().value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+
+		ErrorRS errorRS = new ErrorRS();
+		errorRS.setErrorType(exception.getErrorType());
+		errorRS.setMessage(exception.getMessage());
+
+		try (ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response)) {
+			messageConverter.write(errorRS, MediaType.APPLICATION_JSON, outputMessage);
+		} catch (IOException e) {
+			LOGGER.error("Unable to write the error response", e);
+		}
+		return new ModelAndView();
+	}
+
+	@Override
+	public int getOrder() {
+		return order;
+	}
+
+	public void setOrder(int order) {
+		this.order = order;
+	}
+}
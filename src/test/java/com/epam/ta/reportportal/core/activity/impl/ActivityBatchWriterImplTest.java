@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.activity.impl;
+
+import com.epam.ta.reportportal.core.activity.ActivityBatchWriter;
+import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.epam.ta.reportportal.ws.converter.builders.ActivityBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.entity.activity.Activity.ActivityEntityType.DASHBOARD;
+import static com.epam.ta.reportportal.entity.activity.Activity.ActivityEntityType.LAUNCH;
+import static com.epam.ta.reportportal.entity.activity.ActivityAction.FINISH_LAUNCH;
+import static com.epam.ta.reportportal.entity.activity.ActivityAction.UPDATE_DASHBOARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that the raw batch insert stores the same rows as the repository does
+ */
+class ActivityBatchWriterImplTest extends BaseMvcTest {
+
+	private static final Long OBJECT_ID = 100L;
+
+	@Autowired
+	private ActivityBatchWriter activityBatchWriter;
+
+	@Autowired
+	private ActivityRepository activityRepository;
+
+	@Test
+	void batchInsertStoresAllColumns() {
+		LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+		Activity withHistory = new ActivityBuilder().addCreatedAt(createdAt)
+				.addAction(UPDATE_DASHBOARD)
+				.addActivityEntityType(DASHBOARD)
+				.addUserId(1L)
+				.addUserName("superadmin")
+				.addProjectId(1L)
+				.addObjectId(OBJECT_ID)
+				.addObjectName("dashboard")
+				.addHistoryField("name", "before", "after")
+				.get();
+		Activity withoutUser = new ActivityBuilder().addCreatedAt(createdAt)
+				.addAction(FINISH_LAUNCH)
+				.addActivityEntityType(LAUNCH)
+				.addProjectId(2L)
+				.addObjectId(OBJECT_ID)
+				.addObjectName("launch")
+				.get();
+
+		activityBatchWriter.write(Arrays.asList(withHistory, withoutUser));
+
+		List<Activity> stored = activityRepository.findAll()
+				.stream()
+				.filter(activity -> OBJECT_ID.equals(activity.getObjectId()))
+				.sorted(Comparator.comparing(Activity::getId))
+				.collect(Collectors.toList());
+		assertEquals(2, stored.size());
+		assertActivity(withHistory, stored.get(0));
+		assertActivity(withoutUser, stored.get(1));
+		assertEquals(1, stored.get(0).getDetails().getHistory().size());
+		assertEquals("after", stored.get(0).getDetails().getHistory().get(0).getNewValue());
+		assertNull(stored.get(1).getUserId());
+	}
+
+	@Test
+	void batchInsertMatchesRepository() {
+		Activity saved = activityRepository.save(new ActivityBuilder().addCreatedNow()
+				.addAction(UPDATE_DASHBOARD)
+				.addActivityEntityType(DASHBOARD)
+				.addUserId(1L)
+				.addProjectId(1L)
+				.addObjectId(OBJECT_ID)
+				.addObjectName("dashboard")
+				.addHistoryField("description", "before", "after")
+				.get());
+		Activity inserted = new ActivityBuilder().addCreatedAt(saved.getCreatedAt())
+				.addAction(UPDATE_DASHBOARD)
+				.addActivityEntityType(DASHBOARD)
+				.addUserId(1L)
+				.addProjectId(1L)
+				.addObjectId(OBJECT_ID)
+				.addObjectName("dashboard")
+				.addHistoryField("description", "before", "after")
+				.get();
+
+		activityBatchWriter.write(Collections.singletonList(inserted));
+		activityRepository.flush();
+
+		List<Activity> stored = activityRepository.findAll()
+				.stream()
+				.filter(activity -> OBJECT_ID.equals(activity.getObjectId()))
+				.sorted(Comparator.comparing(Activity::getId))
+				.collect(Collectors.toList());
+		assertEquals(2, stored.size());
+		assertActivity(stored.get(0), stored.get(1));
+		assertEquals(stored.get(0).getDetails().getHistory().get(0).getField(), stored.get(1).getDetails().getHistory().get(0).getField());
+	}
+
+	private static void assertActivity(Activity expected, Activity actual) {
+		assertEquals(expected.getUserId(), actual.getUserId());
+		assertEquals(expected.getUsername(), actual.getUsername());
+		assertEquals(expected.getProjectId(), actual.getProjectId());
+		assertEquals(expected.getActivityEntityType(), actual.getActivityEntityType());
+		assertEquals(expected.getAction(), actual.getAction());
+		assertEquals(expected.getObjectId(), actual.getObjectId());
+		assertEquals(expected.getDetails().getObjectName(), actual.getDetails().getObjectName());
+		assertEquals(expected.getCreatedAt().truncatedTo(ChronoUnit.MILLIS), actual.getCreatedAt().truncatedTo(ChronoUnit.MILLIS));
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class RetryIndexCleanerTest {
+
+	private final LogIndexer logIndexer = mock(LogIndexer.class);
+
+	private final LogRepository logRepository = mock(LogRepository.class);
+
+	private final RetryIndexCleaner cleaner = new RetryIndexCleaner(logIndexer, logRepository, 100, 60000);
+
+	@AfterEach
+	void tearDown() {
+		cleaner.shutdown();
+	}
+
+	@Test
+	void bufferedItemsAreCleanedInBatchPerProject() {
+		when(logRepository.findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(any(), anyInt())).thenReturn(Lists.newArrayList(log(10L),
+				log(11L)
+		));
+
+		cleaner.add(1L, 1L);
+		cleaner.add(1L, 2L);
+		cleaner.add(1L, 2L);
+		cleaner.flush();
+
+		verify(logRepository, times(1)).findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(Lists.newArrayList(1L, 2L),
+				LogLevel.ERROR.toInt()
+		);
+		verify(logIndexer, times(1)).cleanIndex(1L, Lists.newArrayList(10L, 11L));
+	}
+
+	@Test
+	void noCleanIndexRequestWithoutErrorLogs() {
+		when(logRepository.findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(any(), anyInt())).thenReturn(Collections.emptyList());
+
+		cleaner.add(1L, 1L);
+		cleaner.flush();
+		cleaner.flush();
+
+		verify(logRepository, times(1)).findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(any(), anyInt());
+		verifyZeroInteractions(logIndexer);
+	}
+
+	@Test
+	void bufferIsFlushedOnShutdown() {
+		when(logRepository.findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(any(), anyInt())).thenReturn(Collections.singletonList(
+				log(10L)));
+
+		cleaner.add(1L, 1L);
+		cleaner.add(2L, 2L);
+		cleaner.shutdown();
+
+		verify(logIndexer, times(1)).cleanIndex(1L, Collections.singletonList(10L));
+		verify(logIndexer, times(1)).cleanIndex(2L, Collections.singletonList(10L));
+	}
+
+	private static Log log(Long id) {
+		Log log = mock(Log.class);
+		when(log.getId()).thenReturn(id);
+		return log;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.bts.impl;
+
+import com.epam.reportportal.extension.bugtracking.BtsExtension;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
+import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BtsResponseCacheImplTest {
+
+	private final BtsExtension btsExtension = mock(BtsExtension.class);
+
+	private final BtsResponseCacheImpl cache = new BtsResponseCacheImpl(new SimpleMeterRegistry(), 600, 60);
+
+	@Test
+	void ticketFieldsAreLoadedOncePerIntegrationAndType() {
+		Integration integration = integration(1L);
+		List<PostFormField> fields = Collections.singletonList(new PostFormField());
+		when(btsExtension.getTicketFields("Bug", integration)).thenReturn(fields);
+
+		assertSame(fields, cache.getTicketFields(btsExtension, integration, "Bug"));
+		assertSame(fields, cache.getTicketFields(btsExtension, integration, "Bug"));
+		cache.getTicketFields(btsExtension, integration, "Task");
+
+		verify(btsExtension, times(1)).getTicketFields("Bug", integration);
+		verify(btsExtension, times(1)).getTicketFields("Task", integration);
+	}
+
+	@Test
+	void evictionReloadsOnlyEvictedIntegration() {
+		Integration first = integration(1L);
+		Integration second = integration(2L);
+		when(btsExtension.getIssueTypes(any())).thenReturn(Collections.singletonList("Bug"));
+
+		cache.getIssueTypes(btsExtension, first);
+		cache.getIssueTypes(btsExtension, second);
+		cache.evict(Collections.singletonList(first.getId()));
+		cache.getIssueTypes(btsExtension, first);
+		cache.getIssueTypes(btsExtension, second);
+
+		verify(btsExtension, times(2)).getIssueTypes(first);
+		verify(btsExtension, times(1)).getIssueTypes(second);
+	}
+
+	@Test
+	void evictionWithinTransactionIsAppliedAfterCommit() {
+		Integration integration = integration(1L);
+		when(btsExtension.getIssueTypes(integration)).thenReturn(Collections.singletonList("Bug"));
+		cache.getIssueTypes(btsExtension, integration);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.evict(Collections.singletonList(integration.getId()));
+			cache.getIssueTypes(btsExtension, integration);
+			verify(btsExtension, times(1)).getIssueTypes(integration);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		cache.getIssueTypes(btsExtension, integration);
+		verify(btsExtension, times(2)).getIssueTypes(integration);
+	}
+
+	@Test
+	void absentTicketIsNotCached() {
+		Integration integration = integration(1L);
+		Ticket ticket = new Ticket();
+		ticket.setId("RP-1");
+		when(btsExtension.getTicket("RP-1", integration)).thenReturn(Optional.empty()).thenReturn(Optional.of(ticket));
+
+		assertFalse(cache.getTicket(btsExtension, integration, "RP-1").isPresent());
+		assertEquals(Optional.of(ticket), cache.getTicket(btsExtension, integration, "RP-1"));
+		assertEquals(Optional.of(ticket), cache.getTicket(btsExtension, integration, "RP-1"));
+
+		verify(btsExtension, times(2)).getTicket("RP-1", integration);
+	}
+
+	@Test
+	void submittedTicketIsServedFromCache() {
+		Integration integration = integration(1L);
+		Ticket ticket = new Ticket();
+		ticket.setId("RP-2");
+
+		cache.putTicket(integration, ticket);
+
+		assertEquals(Optional.of(ticket), cache.getTicket(btsExtension, integration, "RP-2"));
+		verifyZeroInteractions(btsExtension);
+	}
+
+	private static Integration integration(Long id) {
+		Integration integration = new Integration();
+		integration.setId(id);
+		return integration;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.configs;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.*;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SchedulerConfigurationTest {
+
+	private static final String THREAD_COUNT = "org.quartz.threadPool.threadCount";
+
+	@Test
+	void threadCountIsRaisedToTriggerCount() {
+		Properties quartz = new Properties();
+		quartz.setProperty(THREAD_COUNT, "2");
+		quartz.setProperty("org.quartz.jobStore.isClustered", "true");
+
+		Properties properties = SchedulerConfiguration.withLanes(quartz, 5);
+
+		assertEquals("5", properties.getProperty(THREAD_COUNT));
+		assertEquals("true", properties.getProperty("org.quartz.jobStore.isClustered"));
+		assertEquals("2", quartz.getProperty(THREAD_COUNT));
+	}
+
+	@Test
+	void configuredThreadCountIsKeptWhenGreater() {
+		Properties quartz = new Properties();
+		quartz.setProperty(THREAD_COUNT, "10");
+
+		assertEquals("10", SchedulerConfiguration.withLanes(quartz, 5).getProperty(THREAD_COUNT));
+	}
+
+	@Test
+	void threadCountDefaultsToTriggerCount() {
+		Properties quartz = new Properties();
+
+		assertEquals("5", SchedulerConfiguration.withLanes(quartz, 5).getProperty(THREAD_COUNT));
+		assertEquals("1", SchedulerConfiguration.withLanes(quartz, 0).getProperty(THREAD_COUNT));
+		assertNull(quartz.getProperty(THREAD_COUNT));
+	}
+
+	@Test
+	void unchangedStoredTriggerIsKept() throws SchedulerException {
+		Trigger configured = trigger(SchedulerConfiguration.MisfirePolicy.SKIP, 10, new Date());
+		Scheduler scheduler = mock(Scheduler.class);
+		when(scheduler.getTrigger(configured.getKey())).thenReturn(trigger(SchedulerConfiguration.MisfirePolicy.SKIP,
+				10,
+				new Date(0L)
+		));
+
+		SchedulerConfiguration.rescheduleChangedTriggers(scheduler, Collections.singletonList(configured));
+
+		verify(scheduler, never()).rescheduleJob(any(), any());
+	}
+
+	@Test
+	void changedTriggerKeepsStoredFireTime() {
+		Date nextFireTime = new Date(System.currentTimeMillis() + 60_000L);
+		Trigger stored = mock(Trigger.class);
+		when(stored.getPriority()).thenReturn(5);
+		when(stored.getNextFireTime()).thenReturn(nextFireTime);
+		Trigger configured = trigger(SchedulerConfiguration.MisfirePolicy.FIRE_NOW, 10, new Date());
+
+		Optional<Trigger> changed = SchedulerConfiguration.changedTrigger(stored, configured);
+
+		assertTrue(changed.isPresent());
+		assertEquals(nextFireTime, changed.get().getStartTime());
+		assertEquals(10, changed.get().getPriority());
+		assertEquals(SchedulerConfiguration.MisfirePolicy.FIRE_NOW.getInstruction(), changed.get().getMisfireInstruction());
+		assertEquals(configured.getKey(), changed.get().getKey());
+	}
+
+	@Test
+	void missingTriggerIsNotRescheduled() {
+		assertFalse(SchedulerConfiguration.changedTrigger(null, trigger(SchedulerConfiguration.MisfirePolicy.SKIP, 1, new Date()))
+				.isPresent());
+	}
+
+	private static Trigger trigger(SchedulerConfiguration.MisfirePolicy misfirePolicy, int priority, Date startTime) {
+		SimpleScheduleBuilder schedule = SimpleScheduleBuilder.simpleSchedule().withIntervalInMinutes(1).repeatForever();
+		return TriggerBuilder.newTrigger()
+				.withIdentity("trigger")
+				.forJob("job")
+				.withPriority(priority)
+				.startAt(startTime)
+				.withSchedule(misfirePolicy == SchedulerConfiguration.MisfirePolicy.SKIP ?
+						schedule.withMisfireHandlingInstructionNextWithRemainingCount() :
+						schedule.withMisfireHandlingInstructionNowWithExistingCount())
+				.build();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.configs.JacksonConfiguration;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.NegotiatingMessageConverter.MessageEncoding.JSON;
+import static com.epam.ta.reportportal.core.configs.rabbit.NegotiatingMessageConverter.MessageEncoding.SMILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NegotiatingMessageConverterTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NegotiatingMessageConverterTest.class);
+
+	private static final ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>> LOG_TYPE = new ParameterizedTypeReference<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>>() {
+	};
+
+	private static final int BENCHMARK_ITERATIONS = 2_000;
+
+	private final JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+
+	@Test
+	void smileMessageIsReadByJsonWriter() {
+		NegotiatingMessageConverter smileWriter = converter(SMILE, 0);
+		NegotiatingMessageConverter jsonWriter = converter(JSON, 0);
+
+		Message message = smileWriter.toMessage(logPayload(), new MessageProperties());
+
+		assertEquals(NegotiatingMessageConverter.CONTENT_TYPE_SMILE, message.getMessageProperties().getContentType());
+		assertLogPayload((DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>) jsonWriter.fromMessage(message, LOG_TYPE));
+	}
+
+	@Test
+	void jsonMessageIsReadBySmileWriter() {
+		NegotiatingMessageConverter smileWriter = converter(SMILE, 0);
+		NegotiatingMessageConverter jsonWriter = converter(JSON, 0);
+
+		Message message = jsonWriter.toMessage(logPayload(), new MessageProperties());
+
+		assertTrue(message.getMessageProperties().getContentType().contains("json"));
+		assertLogPayload((DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>) smileWriter.fromMessage(message, LOG_TYPE));
+	}
+
+	@Test
+	void compressedMessage() {
+		NegotiatingMessageConverter compressing = converter(SMILE, 1024);
+
+		Message message = compressing.toMessage(logPayload(), new MessageProperties());
+
+		assertTrue(message.getMessageProperties().getContentEncoding().startsWith("deflate"));
+		assertLogPayload((DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>) converter(JSON, 0).fromMessage(message, LOG_TYPE));
+	}
+
+	@Test
+	void typeHeaderIsUsedWithoutHint() {
+		SaveLogRQ rq = logPayload().getLeft();
+
+		Object converted = converter(JSON, 0).fromMessage(converter(SMILE, 0).toMessage(rq, new MessageProperties()));
+
+		assertEquals(rq.getMessage(), ((SaveLogRQ) converted).getMessage());
+	}
+
+	/**
+	 * Compares encode/decode cost and the body size of the log messages with large stack traces.
+	 * Run on demand with '-Drp.benchmark=true'
+	 */
+	@Test
+	@EnabledIfSystemProperty(named = "rp.benchmark", matches = "true")
+	void benchmark() {
+		DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload = logPayload();
+		int jsonSize = benchmark("json", converter(JSON, 0), payload);
+		int smileSize = benchmark("smile", converter(SMILE, 0), payload);
+		int jsonDeflateSize = benchmark("json+deflate", converter(JSON, 1024), payload);
+		int smileDeflateSize = benchmark("smile+deflate", converter(SMILE, 1024), payload);
+
+		assertTrue(smileSize <= jsonSize);
+		assertTrue(jsonDeflateSize < jsonSize);
+		assertTrue(smileDeflateSize < smileSize);
+	}
+
+	private int benchmark(String name, NegotiatingMessageConverter converter, DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> payload) {
+		Message message = converter.toMessage(payload, new MessageProperties());
+		for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+			converter.fromMessage(converter.toMessage(payload, new MessageProperties()), LOG_TYPE);
+		}
+
+		long encodeStart = System.nanoTime();
+		for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+			message = converter.toMessage(payload, new MessageProperties());
+		}
+		long encodeNanos = System.nanoTime() - encodeStart;
+
+		long decodeStart = System.nanoTime();
+		for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+			converter.fromMessage(message, LOG_TYPE);
+		}
+		long decodeNanos = System.nanoTime() - decodeStart;
+
+		LOGGER.info("{}: {} bytes, encode {} us/msg, decode {} us/msg",
+				name,
+				message.getBody().length,
+				encodeNanos / BENCHMARK_ITERATIONS / 1000,
+				decodeNanos / BENCHMARK_ITERATIONS / 1000
+		);
+		return message.getBody().length;
+	}
+
+	private NegotiatingMessageConverter converter(NegotiatingMessageConverter.MessageEncoding encoding, int compressionThreshold) {
+		return new NegotiatingMessageConverter(jacksonConfiguration.objectMapper(),
+				JacksonConfiguration.smileObjectMapper(),
+				encoding,
+				compressionThreshold
+		);
+	}
+
+	private static DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> logPayload() {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setUuid(UUID.randomUUID().toString());
+		rq.setItemUuid(UUID.randomUUID().toString());
+		rq.setLaunchUuid(UUID.randomUUID().toString());
+		rq.setLevel("ERROR");
+		rq.setLogTime(new Date());
+		rq.setMessage(stackTrace());
+		return DeserializablePair.of(rq, null);
+	}
+
+	private static String stackTrace() {
+		StringBuilder builder = new StringBuilder("java.lang.AssertionError: expected [true] but found [false]\n");
+		for (int i = 0; i < 150; i++) {
+			builder.append("\tat com.example.project.tests.ui.pages.SomePageObject.method")
+					.append(i % 10)
+					.append("(SomePageObject.java:")
+					.append(100 + i)
+					.append(")\n");
+		}
+		return builder.toString();
+	}
+
+	private static void assertLogPayload(DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> pair) {
+		assertEquals("ERROR", pair.getLeft().getLevel());
+		assertEquals(stackTrace(), pair.getLeft().getMessage());
+	}
+}
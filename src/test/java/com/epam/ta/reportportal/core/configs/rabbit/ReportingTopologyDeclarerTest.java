@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.METRIC_STARTUP;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReportingTopologyDeclarerTest {
+
+	private final AmqpAdmin amqpAdmin = mock(AmqpAdmin.class);
+
+	private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+
+	private final Channel channel = mock(Channel.class);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final List<String> exchanges = new ArrayList<>();
+
+	@Test
+	void declareChangedTopology() {
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L));
+		when(rabbitTemplate.execute(any())).thenThrow(new AmqpIOException(new IOException("NOT_FOUND")));
+
+		assertTrue(declarer.declareIfChanged());
+
+		verify(amqpAdmin, times(7)).declareQueue(any(Queue.class));
+		verify(amqpAdmin, times(7)).declareBinding(any(Binding.class));
+		verify(amqpAdmin).declareExchange(argThat(exchange -> declarer.getMarkerExchange().equals(exchange.getName())));
+		assertEquals(1, meterRegistry.timer(METRIC_STARTUP, "phase", "declaration", "result", "declared").count());
+	}
+
+	@Test
+	void skipUnchangedTopology() throws IOException {
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L));
+		when(rabbitTemplate.execute(any())).thenAnswer(a -> a.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+
+		assertFalse(declarer.declareIfChanged());
+
+		verify(channel).exchangeDeclarePassive(declarer.getMarkerExchange());
+		verifyZeroInteractions(amqpAdmin);
+		assertEquals(1, meterRegistry.timer(METRIC_STARTUP, "phase", "declaration", "result", "skipped").count());
+	}
+
+	@Test
+	void markerIsNotDeclaredIfGroupFailed() {
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L));
+		when(rabbitTemplate.execute(any())).thenThrow(new AmqpIOException(new IOException("NOT_FOUND")));
+		doThrow(new AmqpIOException(new IOException("PRECONDITION_FAILED"))).when(amqpAdmin)
+				.declareQueue(argThat(queue -> "reporting.1".equals(queue.getName())));
+
+		assertTrue(declarer.declareIfChanged());
+
+		verify(amqpAdmin, never()).declareExchange(any());
+	}
+
+	@Test
+	void markersOfOtherTopologiesAreDeleted() {
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L));
+		String previous = declarer(groups(2, 60_000L)).getMarkerExchange();
+		exchanges.addAll(Arrays.asList(ReportingConfiguration.EXCHANGE_REPORTING, previous, declarer.getMarkerExchange()));
+		when(rabbitTemplate.execute(any())).thenThrow(new AmqpIOException(new IOException("NOT_FOUND")));
+
+		assertTrue(declarer.declareIfChanged());
+
+		verify(amqpAdmin).deleteExchange(previous);
+		verify(amqpAdmin, times(1)).deleteExchange(any());
+	}
+
+	@Test
+	void markersAreKeptIfGroupFailed() {
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L));
+		exchanges.add(declarer(groups(2, 60_000L)).getMarkerExchange());
+		when(rabbitTemplate.execute(any())).thenThrow(new AmqpIOException(new IOException("NOT_FOUND")));
+		doThrow(new AmqpIOException(new IOException("PRECONDITION_FAILED"))).when(amqpAdmin)
+				.declareQueue(argThat(queue -> "reporting.1".equals(queue.getName())));
+
+		assertTrue(declarer.declareIfChanged());
+
+		verify(amqpAdmin, never()).deleteExchange(any());
+	}
+
+	@Test
+	void failedListingOfMarkersDoesNotFailDeclaration() {
+		ReportingTopologyDeclarer declarer = new ReportingTopologyDeclarer(amqpAdmin,
+				rabbitTemplate,
+				Runnable::run,
+				meterRegistry,
+				Collections.emptyList(),
+				groups(3, 60_000L),
+				() -> {
+					throw new IllegalStateException("Management API is unavailable");
+				}
+		);
+		when(rabbitTemplate.execute(any())).thenThrow(new AmqpIOException(new IOException("NOT_FOUND")));
+
+		assertTrue(declarer.declareIfChanged());
+
+		verify(amqpAdmin).declareExchange(argThat(exchange -> declarer.getMarkerExchange().equals(exchange.getName())));
+		verify(amqpAdmin, never()).deleteExchange(any());
+	}
+
+	@Test
+	void declareMissingGroup() {
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L));
+
+		declarer.declareGroup("reporting.2");
+
+		verify(amqpAdmin).declareQueue(argThat(queue -> "reporting.2".equals(queue.getName())));
+		verify(amqpAdmin).declareQueue(argThat(queue -> "reporting.retry.2".equals(queue.getName())));
+		verify(amqpAdmin, times(2)).declareBinding(any());
+	}
+
+	@Test
+	void fingerprintDependsOnTopology() {
+		String fingerprint = declarer(groups(3, 60_000L)).getMarkerExchange();
+
+		assertEquals(fingerprint, declarer(groups(3, 60_000L)).getMarkerExchange());
+		assertNotEquals(fingerprint, declarer(groups(4, 60_000L)).getMarkerExchange());
+		assertNotEquals(fingerprint, declarer(groups(3, 30_000L)).getMarkerExchange());
+	}
+
+	@Test
+	void startupPhasesAreRegisteredInPrometheus() throws IOException {
+		PrometheusMeterRegistry prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+		ReportingTopologyDeclarer declarer = declarer(groups(3, 60_000L), prometheusRegistry);
+		when(rabbitTemplate.execute(any())).thenAnswer(a -> a.<ChannelCallback<?>>getArgument(0).doInRabbit(channel))
+				.thenThrow(new AmqpIOException(new IOException("NOT_FOUND")));
+
+		assertFalse(declarer.declareIfChanged());
+		assertTrue(declarer.declareIfChanged());
+		assertDoesNotThrow(() -> {
+			ReportingConfiguration.startupTimer(prometheusRegistry, "consumer-probe", "complete").record(1, TimeUnit.SECONDS);
+			ReportingConfiguration.startupTimer(prometheusRegistry, "container-start", ReportingConfiguration.METRIC_STARTUP_NO_RESULT)
+					.record(1, TimeUnit.SECONDS);
+		});
+
+		String scrape = prometheusRegistry.scrape();
+		assertTrue(scrape.contains("phase=\"declaration\",result=\"skipped\""));
+		assertTrue(scrape.contains("phase=\"declaration\",result=\"declared\""));
+		assertTrue(scrape.contains("phase=\"consumer-probe\",result=\"complete\""));
+		assertTrue(scrape.contains("phase=\"container-start\",result=\"n/a\""));
+	}
+
+	private ReportingTopologyDeclarer declarer(Map<String, List<Declarable>> groups) {
+		return declarer(groups, meterRegistry);
+	}
+
+	private ReportingTopologyDeclarer declarer(Map<String, List<Declarable>> groups, MeterRegistry registry) {
+		Queue dlq = QueueBuilder.durable(ReportingConfiguration.QUEUE_DLQ).build();
+		Binding dlqBinding = BindingBuilder.bind(dlq)
+				.to(new DirectExchange(ReportingConfiguration.EXCHANGE_REPORTING_RETRY))
+				.with(ReportingConfiguration.QUEUE_DLQ);
+		List<Declarable> shared = Arrays.asList(dlq, dlqBinding);
+		return new ReportingTopologyDeclarer(amqpAdmin, rabbitTemplate, Runnable::run, registry, shared, groups, () -> exchanges);
+	}
+
+	private static Map<String, List<Declarable>> groups(int amount, long retryDelay) {
+		DirectExchange exchange = new DirectExchange(ReportingConfiguration.EXCHANGE_REPORTING);
+		DirectExchange retryExchange = new DirectExchange(ReportingConfiguration.EXCHANGE_REPORTING_RETRY);
+		Map<String, List<Declarable>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < amount; i++) {
+			String index = String.valueOf(i);
+			Queue queue = QueueBuilder.durable(ReportingConfiguration.QUEUE_PREFIX + "." + index)
+					.withArgument("x-dead-letter-exchange", ReportingConfiguration.EXCHANGE_REPORTING_RETRY)
+					.withArgument("x-dead-letter-routing-key", index)
+					.build();
+			Queue retryQueue = QueueBuilder.durable(ReportingConfiguration.QUEUE_RETRY_PREFIX + "." + index)
+					.withArgument("x-dead-letter-exchange", ReportingConfiguration.EXCHANGE_REPORTING)
+					.withArgument("x-dead-letter-routing-key", index)
+					.withArgument("x-message-ttl", retryDelay)
+					.build();
+			groups.put(queue.getName(),
+					Arrays.asList(queue,
+							retryQueue,
+							BindingBuilder.bind(queue).to(exchange).with(index),
+							BindingBuilder.bind(retryQueue).to(retryExchange).with(index)
+					)
+			);
+		}
+		return groups;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events;
+
+import com.epam.ta.reportportal.entity.activity.Activity;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.EXCHANGE_ACTIVITY;
+import static com.epam.ta.reportportal.core.events.MessageBusImpl.ACTIVITIES_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class MessageBusImplTest {
+
+	private final AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+
+	private final MessageBusImpl messageBus = new MessageBusImpl(amqpTemplate);
+
+	@Test
+	void activitiesArePublishedWithTheirOwnRoutingKeys() {
+		messageBus.publishActivities(Arrays.asList(event(1L, "LAUNCH", "startLaunch"),
+				event(2L, "LAUNCH", "startLaunch"),
+				event(1L, "LAUNCH", "startLaunch"),
+				event(1L, "WIDGET", "createWidget"),
+				() -> null
+		));
+
+		ArgumentCaptor<ActivitiesBatch> batchCaptor = ArgumentCaptor.forClass(ActivitiesBatch.class);
+		verify(amqpTemplate).convertAndSend(eq(EXCHANGE_ACTIVITY), eq("activity.1.LAUNCH.startLaunch"), batchCaptor.capture());
+		assertEquals(2, batchCaptor.getValue().getActivities().size());
+		verify(amqpTemplate).convertAndSend(eq(EXCHANGE_ACTIVITY), eq("activity.2.LAUNCH.startLaunch"), any(ActivitiesBatch.class));
+		verify(amqpTemplate).convertAndSend(eq(EXCHANGE_ACTIVITY), eq("activity.1.WIDGET.createWidget"), any(ActivitiesBatch.class));
+		verifyNoMoreInteractions(amqpTemplate);
+	}
+
+	@Test
+	void activitiesOfTheSameKeyArePartitioned() {
+		List<ActivityEvent> events = IntStream.range(0, ACTIVITIES_BATCH_SIZE + 1)
+				.mapToObj(i -> event(1L, "LAUNCH", "startLaunch"))
+				.collect(Collectors.toList());
+
+		messageBus.publishActivities(events);
+
+		ArgumentCaptor<ActivitiesBatch> batchCaptor = ArgumentCaptor.forClass(ActivitiesBatch.class);
+		verify(amqpTemplate, times(2)).convertAndSend(eq(EXCHANGE_ACTIVITY), eq("activity.1.LAUNCH.startLaunch"), batchCaptor.capture());
+		assertEquals(ACTIVITIES_BATCH_SIZE, batchCaptor.getAllValues().get(0).getActivities().size());
+		assertEquals(1, batchCaptor.getAllValues().get(1).getActivities().size());
+	}
+
+	private static ActivityEvent event(Long projectId, String entity, String action) {
+		return () -> {
+			Activity activity = new Activity();
+			activity.setProjectId(projectId);
+			activity.setActivityEntityType(entity);
+			activity.setAction(action);
+			return activity;
+		};
+	}
+}
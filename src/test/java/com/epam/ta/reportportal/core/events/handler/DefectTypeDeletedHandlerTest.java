@@ -20,7 +20,6 @@ import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeDeletedEvent;
-import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.attribute.Attribute;
 import com.epam.ta.reportportal.entity.project.Project;
@@ -56,9 +55,6 @@ class DefectTypeDeletedHandlerTest {
 	@Mock
 	private AnalyzerServiceClient analyzerServiceClient;
 
-	@Mock
-	private LaunchRepository launchRepository;
-
 	@Mock
 	private LogIndexer logIndexer;
 
@@ -106,7 +102,12 @@ class DefectTypeDeletedHandlerTest {
 
 		ReportPortalException exception = assertThrows(
 				ReportPortalException.class,
-				() -> handler.handleDefectTypeDeleted(new DefectTypeDeletedEvent(new IssueTypeActivityResource(), 1L, "user", projectId))
+				() -> handler.handleDefectTypeDeleted(new DefectTypeDeletedEvent(new IssueTypeActivityResource(),
+						1L,
+						"user",
+						projectId,
+						Arrays.asList(1L, 2L)
+				))
 		);
 		assertEquals("Forbidden operation. Index can not be removed until auto-analysis proceeds.", exception.getMessage());
 	}
@@ -118,12 +119,23 @@ class DefectTypeDeletedHandlerTest {
 		when(projectRepository.findById(projectId)).thenReturn(Optional.of(getProjectWithAnalyzerAttributes(projectId)));
 		when(analyzerServiceClient.hasClients()).thenReturn(true);
 		when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(Optional.of(CacheBuilder.newBuilder().build()));
-		List<Long> launchIds = Arrays.asList(1L, 2L, 3L);
-		when(launchRepository.findLaunchIdsByProjectId(projectId)).thenReturn(launchIds);
+		List<Long> itemIds = Arrays.asList(1L, 2L, 3L);
+
+		handler.handleDefectTypeDeleted(new DefectTypeDeletedEvent(new IssueTypeActivityResource(), 1L, "user", projectId, itemIds));
+
+		verify(logIndexer, times(1)).reindexItemsLogs(eq(projectId), eq(itemIds), any());
+	}
+
+	@Test
+	void noRemappedItemsTest() {
+		long projectId = 2L;
+
+		when(projectRepository.findById(projectId)).thenReturn(Optional.of(getProjectWithAnalyzerAttributes(projectId)));
+		when(analyzerServiceClient.hasClients()).thenReturn(true);
 
 		handler.handleDefectTypeDeleted(new DefectTypeDeletedEvent(new IssueTypeActivityResource(), 1L, "user", projectId));
 
-		verify(logIndexer, times(1)).indexLaunchesLogs(eq(projectId), eq(launchIds), any());
+		verifyZeroInteractions(logIndexer, analyzerStatusCache);
 	}
 
 	private Project getProjectWithAnalyzerAttributes(Long projectId) {
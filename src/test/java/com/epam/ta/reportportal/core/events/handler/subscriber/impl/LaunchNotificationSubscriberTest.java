@@ -30,6 +30,8 @@ import com.epam.ta.reportportal.entity.integration.Integration;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.util.email.EmailService;
+import com.epam.ta.reportportal.util.email.MailMessage;
+import com.epam.ta.reportportal.util.email.MailOutbox;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
 import com.epam.ta.reportportal.ws.model.activity.LaunchActivityResource;
 import com.google.common.collect.ImmutableMap;
@@ -49,6 +51,7 @@ class LaunchNotificationSubscriberTest {
 	private final MailServiceFactory mailServiceFactory = mock(MailServiceFactory.class);
 	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
 	private final UserRepository userRepository = mock(UserRepository.class);
+	private final MailOutbox mailOutbox = mock(MailOutbox.class);
 
 	private Integration emailIntegration = mock(Integration.class);
 
@@ -57,7 +60,8 @@ class LaunchNotificationSubscriberTest {
 	private final LaunchNotificationSubscriber launchNotificationSubscriber = new LaunchNotificationSubscriber(getIntegrationHandler,
 			mailServiceFactory,
 			launchRepository,
-			userRepository
+			userRepository,
+			mailOutbox
 	);
 
 	@Test
@@ -116,9 +120,12 @@ class LaunchNotificationSubscriberTest {
 
 		when(userRepository.findLoginById(any())).thenReturn(Optional.of("owner"));
 		when(mailServiceFactory.getDefaultEmailService(emailIntegration)).thenReturn(Optional.ofNullable(emailService));
+		when(emailService.buildLaunchFinishNotification(any(), any(), any(), any(), any())).thenReturn(new MailMessage());
 
 		launchNotificationSubscriber.handleEvent(event, project, launch.get());
-		verify(emailService, times(2)).sendLaunchFinishNotification(any(), any(), any(), any());
+		verify(emailService, times(2)).buildLaunchFinishNotification(any(), any(), any(), any(), any());
+		verify(mailOutbox, times(2)).enqueue(any(MailMessage.class));
+		verify(emailService, never()).sendLaunchFinishNotification(any(), any(), any(), any());
 
 	}
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.file.AttachmentThumbnailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AttachmentDeduplicatorImplTest {
+
+	private static final String RESERVE = "INSERT INTO attachment_reservation";
+
+	private final AttachmentThumbnailService attachmentThumbnailService = mock(AttachmentThumbnailService.class);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private AttachmentDeduplicatorImpl deduplicator;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		deduplicator = new AttachmentDeduplicatorImpl(attachmentThumbnailService, jdbcTemplate, meterRegistry, true, 100, 600);
+		when(jdbcTemplate.queryForObject(startsWith("SELECT count(*) = 2 FROM information_schema.columns"),
+				any(SqlParameterSource.class),
+				eq(Boolean.class)
+		)).thenReturn(true);
+	}
+
+	@Test
+	void identicalContentIsStoredOnce() {
+		BinaryDataMetaInfo stored = metaInfo("file", "thumbnail");
+		when(attachmentThumbnailService.saveAttachment(eq(1L), any())).thenReturn(Optional.of(stored));
+		when(jdbcTemplate.update(startsWith(RESERVE), any(SqlParameterSource.class))).thenReturn(1);
+
+		Optional<BinaryDataMetaInfo> first = save(1L, file("content"), "first");
+		Optional<BinaryDataMetaInfo> second = save(1L, file("content"), "second");
+
+		assertSame(stored, first.get());
+		assertSame(stored, second.get());
+		verify(attachmentThumbnailService, times(1)).saveAttachment(eq(1L), any());
+		verify(jdbcTemplate, times(1)).update(startsWith(RESERVE), any(SqlParameterSource.class));
+		assertEquals(1, meterRegistry.get("rp.attachment.deduplication.files").tag("result", "reused").counter().count());
+	}
+
+	@Test
+	void contentIsNotSharedBetweenProjects() {
+		when(attachmentThumbnailService.saveAttachment(any(), any())).thenReturn(Optional.of(metaInfo("file", null)));
+
+		save(1L, file("content"), "first");
+		save(2L, file("content"), "second");
+
+		verify(attachmentThumbnailService, times(1)).saveAttachment(eq(1L), any());
+		verify(attachmentThumbnailService, times(1)).saveAttachment(eq(2L), any());
+	}
+
+	@Test
+	void unreservedObjectIsStoredAgain() {
+		when(attachmentThumbnailService.saveAttachment(eq(1L), any())).thenReturn(Optional.of(metaInfo("file", null)));
+		when(jdbcTemplate.update(startsWith(RESERVE), any(SqlParameterSource.class))).thenReturn(0);
+
+		save(1L, file("content"), "first");
+		save(1L, file("content"), "second");
+
+		verify(attachmentThumbnailService, times(2)).saveAttachment(eq(1L), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void storedContentIsFoundByPersistedHash() {
+		BinaryDataMetaInfo stored = metaInfo("file", "thumbnail");
+		when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(Collections.singletonList(
+				stored));
+		when(jdbcTemplate.update(startsWith(RESERVE), any(SqlParameterSource.class))).thenReturn(1);
+
+		Optional<BinaryDataMetaInfo> reused = save(1L, file("content"), "log");
+
+		assertSame(stored, reused.get());
+		verify(attachmentThumbnailService, never()).saveAttachment(any(), any());
+		assertEquals(1, meterRegistry.get("rp.attachment.deduplication.files").tag("result", "reused").counter().count());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void changedThumbnailIsLookedUpAgain() {
+		BinaryDataMetaInfo stored = metaInfo("file", null);
+		BinaryDataMetaInfo withThumbnail = metaInfo("file", "thumbnail");
+		when(attachmentThumbnailService.saveAttachment(eq(1L), any())).thenReturn(Optional.of(stored));
+		when(jdbcTemplate.update(startsWith(RESERVE), any(SqlParameterSource.class))).thenReturn(0, 1);
+		when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(Collections.emptyList(),
+				Collections.singletonList(withThumbnail)
+		);
+
+		save(1L, file("content"), "first");
+		Optional<BinaryDataMetaInfo> reused = save(1L, file("content"), "second");
+
+		assertSame(withThumbnail, reused.get());
+		verify(attachmentThumbnailService, times(1)).saveAttachment(eq(1L), any());
+	}
+
+	@Test
+	void hashIsStoredAndReservationIsDroppedWhenAttachmentIsSaved() {
+		BinaryDataMetaInfo stored = metaInfo("file", null);
+
+		deduplicator.onAttachmentSaved(stored, "hash", "log");
+
+		verify(jdbcTemplate, times(1)).update(startsWith("UPDATE attachment SET content_hash"), any(SqlParameterSource.class));
+		verify(jdbcTemplate, times(1)).update(startsWith("DELETE FROM attachment_reservation"), any(SqlParameterSource.class));
+		verify(attachmentThumbnailService, times(1)).onAttachmentSaved(stored);
+	}
+
+	@Test
+	void hashIsNotStoredWithoutHash() {
+		BinaryDataMetaInfo metaInfo = metaInfo("file", null);
+
+		deduplicator.onAttachmentSaved(metaInfo, null, "log");
+
+		verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+		verify(attachmentThumbnailService, times(1)).onAttachmentSaved(metaInfo);
+	}
+
+	@Test
+	void referencedFilesAreNotReleased() {
+		List<String> referenced = Collections.singletonList("shared");
+		when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class))).thenReturn(referenced);
+
+		Set<String> released = deduplicator.releaseFiles(Arrays.asList("shared", "own", null), Collections.singletonList(1L));
+
+		assertEquals(Collections.singleton("own"), released);
+		verify(jdbcTemplate, times(1)).update(startsWith("UPDATE attachment SET content_hash = NULL"), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void missingSchemaDisablesDeduplication() {
+		when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class))).thenReturn(false);
+		when(attachmentThumbnailService.saveAttachment(eq(1L), any())).thenReturn(Optional.of(metaInfo("file", null)));
+
+		save(1L, file("content"), "first");
+		save(1L, file("content"), "second");
+		deduplicator.onAttachmentSaved(metaInfo("file", null), "hash", "first");
+		Set<String> released = deduplicator.releaseFiles(Arrays.asList("file", "thumbnail"), Collections.emptyList());
+
+		assertTrue(released.containsAll(Arrays.asList("file", "thumbnail")));
+		assertFalse(deduplicator.contentHash(file("content")).isPresent());
+		verify(attachmentThumbnailService, times(2)).saveAttachment(eq(1L), any());
+		verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class));
+		verifyNoMoreInteractions(jdbcTemplate);
+	}
+
+	@Test
+	void disabledDeduplicationReleasesAllFiles() {
+		AttachmentDeduplicatorImpl disabled = new AttachmentDeduplicatorImpl(attachmentThumbnailService,
+				jdbcTemplate,
+				meterRegistry,
+				false,
+				100,
+				600
+		);
+		when(attachmentThumbnailService.saveAttachment(eq(1L), any())).thenReturn(Optional.of(metaInfo("file", null)));
+
+		disabled.saveAttachment(1L, file("content"), disabled.contentHash(file("content")).orElse(null), "first");
+		disabled.saveAttachment(1L, file("content"), "hash", "second");
+		Set<String> released = disabled.releaseFiles(Arrays.asList("file", "thumbnail"), Collections.emptyList());
+
+		assertTrue(released.containsAll(Arrays.asList("file", "thumbnail")));
+		verify(attachmentThumbnailService, times(2)).saveAttachment(eq(1L), any());
+		verifyZeroInteractions(jdbcTemplate);
+	}
+
+	private Optional<BinaryDataMetaInfo> save(Long projectId, MockMultipartFile file, String logUuid) {
+		return deduplicator.saveAttachment(projectId, file, deduplicator.contentHash(file).orElse(null), logUuid);
+	}
+
+	private static MockMultipartFile file(String content) {
+		return new MockMultipartFile("file", "file.txt", "text/plain", content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static BinaryDataMetaInfo metaInfo(String fileId, String thumbnailId) {
+		BinaryDataMetaInfo metaInfo = new BinaryDataMetaInfo();
+		metaInfo.setFileId(fileId);
+		metaInfo.setThumbnailFileId(thumbnailId);
+		return metaInfo;
+	}
+}
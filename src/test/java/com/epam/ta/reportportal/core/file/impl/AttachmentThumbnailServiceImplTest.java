@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+class AttachmentThumbnailServiceImplTest {
+
+	private final AttachmentBinaryDataService attachmentBinaryDataService = mock(AttachmentBinaryDataService.class);
+
+	private final DataStoreService dataStoreService = mock(DataStoreService.class);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void imageIsStoredWithoutThumbnail() {
+		TaskExecutor rejecting = task -> {
+			throw new TaskRejectedException("full");
+		};
+		AttachmentThumbnailServiceImpl service = service(rejecting);
+		when(dataStoreService.save(anyString(), any(InputStream.class))).thenReturn("fileId");
+
+		Optional<BinaryDataMetaInfo> metaInfo = service.saveAttachment(1L, file("image/png"));
+
+		assertEquals("fileId", metaInfo.get().getFileId());
+		assertNull(metaInfo.get().getThumbnailFileId());
+		verify(dataStoreService, never()).saveThumbnail(anyString(), any());
+		verifyZeroInteractions(attachmentBinaryDataService);
+		assertEquals(1, meterRegistry.get("rp.attachment.thumbnail.requests").tag("mode", "rejected").counter().count());
+	}
+
+	@Test
+	void thumbnailIsGeneratedInBackground() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		when(dataStoreService.save(anyString(), any(InputStream.class))).thenReturn("fileId");
+		when(dataStoreService.load("fileId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 1 })));
+		when(dataStoreService.saveThumbnail(anyString(), any(InputStream.class))).thenReturn("thumbnailId");
+		when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+
+		service.saveAttachment(1L, file("image/png"));
+
+		verify(dataStoreService, times(1)).saveThumbnail(anyString(), any(InputStream.class));
+		verify(jdbcTemplate, times(1)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void notImageIsStoredInline() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		MockMultipartFile file = file("text/plain");
+
+		service.saveAttachment(1L, file);
+
+		verify(attachmentBinaryDataService, times(1)).saveAttachment(1L, file);
+		verifyZeroInteractions(dataStoreService);
+	}
+
+	@Test
+	void thumbnailIsGeneratedOnDemand() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		Attachment attachment = new Attachment();
+		attachment.setProjectId(1L);
+		attachment.setFileId("fileId");
+		attachment.setContentType("image/png");
+		when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class))).thenReturn(Collections.emptyList());
+		when(dataStoreService.load("fileId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 1 })));
+		when(dataStoreService.saveThumbnail(anyString(), any(InputStream.class))).thenReturn("thumbnailId");
+		when(dataStoreService.load("thumbnailId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 2, 3 })));
+
+		BinaryData thumbnail = service.loadThumbnail(attachment);
+
+		assertEquals(2L, thumbnail.getLength().longValue());
+		assertEquals(1, meterRegistry.get("rp.attachment.thumbnail.requests").tag("mode", "on-demand").counter().count());
+	}
+
+	@Test
+	void existingThumbnailIsReused() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		Attachment attachment = new Attachment();
+		attachment.setFileId("fileId");
+		attachment.setContentType("image/png");
+		List<String> existing = Collections.singletonList("thumbnailId");
+		when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class))).thenReturn(existing);
+		when(dataStoreService.load("thumbnailId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 2 })));
+
+		service.loadThumbnail(attachment);
+
+		verify(dataStoreService, never()).saveThumbnail(anyString(), any());
+		verify(jdbcTemplate, times(1)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void pendingThumbnailIsAssignedWhenAttachmentIsSaved() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		when(dataStoreService.save(anyString(), any(InputStream.class))).thenReturn("fileId");
+		when(dataStoreService.load("fileId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 1 })));
+		when(dataStoreService.saveThumbnail(anyString(), any(InputStream.class))).thenReturn("thumbnailId");
+		when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(0, 1);
+
+		BinaryDataMetaInfo metaInfo = service.saveAttachment(1L, file("image/png")).get();
+		service.onAttachmentSaved(metaInfo);
+
+		verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+		verify(jdbcTemplate, never()).queryForList(anyString(), any(SqlParameterSource.class), eq(String.class));
+		verify(dataStoreService, never()).delete(anyString());
+
+		service.releaseUnassigned();
+		verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void thumbnailOfReusedOriginalIsAssigned() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class))).thenReturn(Collections.singletonList(
+				"thumbnailId"));
+
+		service.onAttachmentSaved(metaInfo("fileId", "image/png"));
+
+		verify(jdbcTemplate, times(1)).update(anyString(), any(SqlParameterSource.class));
+		verifyZeroInteractions(dataStoreService);
+	}
+
+	@Test
+	void notImageAttachmentIsIgnored() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+
+		service.onAttachmentSaved(metaInfo("fileId", "text/plain"));
+
+		verifyZeroInteractions(jdbcTemplate, dataStoreService);
+	}
+
+	@Test
+	void unassignedThumbnailIsDeletedOnShutdown() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		when(dataStoreService.save(anyString(), any(InputStream.class))).thenReturn("fileId");
+		when(dataStoreService.load("fileId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 1 })));
+		when(dataStoreService.saveThumbnail(anyString(), any(InputStream.class))).thenReturn("thumbnailId");
+		when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+		when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class))).thenReturn(false);
+
+		service.saveAttachment(1L, file("image/png"));
+		service.releaseUnassigned();
+
+		verify(dataStoreService, times(1)).delete("thumbnailId");
+	}
+
+	@Test
+	void referencedThumbnailIsNotDeleted() {
+		AttachmentThumbnailServiceImpl service = service(new SyncTaskExecutor());
+		when(dataStoreService.save(anyString(), any(InputStream.class))).thenReturn("fileId");
+		when(dataStoreService.load("fileId")).thenReturn(Optional.of(new ByteArrayInputStream(new byte[] { 1 })));
+		when(dataStoreService.saveThumbnail(anyString(), any(InputStream.class))).thenReturn("thumbnailId");
+		when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+		when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class))).thenReturn(true);
+
+		service.saveAttachment(1L, file("image/png"));
+		service.releaseUnassigned();
+
+		verify(dataStoreService, never()).delete(anyString());
+	}
+
+	private AttachmentThumbnailServiceImpl service(TaskExecutor executor) {
+		return new AttachmentThumbnailServiceImpl(attachmentBinaryDataService, dataStoreService, jdbcTemplate, executor, meterRegistry,
+				true, 60
+		);
+	}
+
+	private static BinaryDataMetaInfo metaInfo(String fileId, String contentType) {
+		BinaryDataMetaInfo metaInfo = new BinaryDataMetaInfo();
+		metaInfo.setFileId(fileId);
+		metaInfo.setContentType(contentType);
+		return metaInfo;
+	}
+
+	private static MockMultipartFile file(String contentType) {
+		return new MockMultipartFile("file", "file.png", contentType, "content".getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.core.file.BinaryDataCache;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryDataCacheImplTest {
+
+	private static final byte[] CONTENT = "content".getBytes();
+
+	@TempDir
+	Path tempDir;
+
+	private MeterRegistry meterRegistry;
+
+	private BinaryDataCacheImpl cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new BinaryDataCacheImpl(meterRegistry, 100, 1024, 1024, tempDir.toString());
+	}
+
+	@Test
+	void cachedDataIsLoadedOnce() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<BinaryData> loader = countingLoader(loads, CONTENT);
+		String key = BinaryDataCache.userPhotoKey("user", "photoId", false);
+
+		cache.get(key, loader);
+		BinaryData cached = cache.get(key, loader);
+
+		assertEquals(1, loads.get());
+		assertArrayEquals(CONTENT, IOUtils.toByteArray(cached.getInputStream()));
+		assertEquals(1, meterRegistry.get("rp.binary.cache.requests").tag("tier", "memory").tag("result", "hit").counter().count());
+		assertEquals(1, meterRegistry.get("rp.binary.cache.requests").tag("result", "miss").counter().count());
+	}
+
+	@Test
+	void largeDataIsNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<BinaryData> loader = countingLoader(loads, new byte[101]);
+		String key = BinaryDataCache.attachmentKey(1L, 1L);
+
+		cache.get(key, loader);
+		cache.get(key, loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void evictUserPhoto() {
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<BinaryData> loader = countingLoader(loads, CONTENT);
+		String key = BinaryDataCache.userPhotoKey("user", "photoId", true);
+
+		cache.get(key, loader);
+		cache.evictUserPhoto("user");
+		cache.get(key, loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void evictAttachments() {
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<BinaryData> loader = countingLoader(loads, CONTENT);
+		String key = BinaryDataCache.attachmentKey(1L, 2L);
+
+		cache.get(key, loader);
+		cache.evictAttachments(Collections.singletonList(1L));
+		cache.get(key, loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	private static Supplier<BinaryData> countingLoader(AtomicInteger counter, byte[] content) {
+		return () -> {
+			counter.incrementAndGet();
+			return new BinaryData("image/png", (long) content.length, new ByteArrayInputStream(content));
+		};
+	}
+}
@@ -23,6 +23,7 @@ import com.epam.ta.reportportal.core.events.ActivityEvent;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.filter.UpdateUserFilterHandler;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
+import com.epam.ta.reportportal.core.widget.WidgetContentPlanCache;
 import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
@@ -68,10 +69,12 @@ class UpdateUserFilterHandlerTest {
 
 	private GetShareableEntityHandler<UserFilter> getShareableEntityHandler = mock(GetShareableEntityHandler.class);
 
+	private WidgetContentPlanCache widgetContentPlanCache = mock(WidgetContentPlanCache.class);
+
 	private UpdateUserFilterHandler updateUserFilterHandler = new UpdateUserFilterHandlerImpl(
 			getShareableEntityHandler,
 			userFilterRepository, widgetRepository, aclHandler,
-			messageBus
+			messageBus, widgetContentPlanCache
 	);
 
 	@Test
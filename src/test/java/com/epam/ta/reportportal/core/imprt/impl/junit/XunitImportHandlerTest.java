@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.parsers.SAXParserFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XunitImportHandlerTest {
+
+	private static final String REPORT = "<testsuite name=\"suite\" timestamp=\"2019-11-20T10:00:00\">"
+			+ "<testcase name=\"first\" time=\"1.5\"/>"
+			+ "<testcase name=\"second\" time=\"0.5\"><failure>assertion failed</failure></testcase>"
+			+ "</testsuite>";
+
+	@Test
+	void parsedRecordsReferenceGeneratedUuids() throws Exception {
+		List<ImportRecord> records = new ArrayList<>();
+		XunitImportHandler handler = new XunitImportHandler("launchUuid", records::add);
+
+		SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), handler);
+
+		assertEquals(Arrays.asList(ImportRecord.Type.START_ROOT,
+				ImportRecord.Type.START_CHILD,
+				ImportRecord.Type.FINISH,
+				ImportRecord.Type.START_CHILD,
+				ImportRecord.Type.LOG,
+				ImportRecord.Type.FINISH,
+				ImportRecord.Type.FINISH_ROOT
+		), records.stream().map(ImportRecord::getType).collect(Collectors.toList()));
+
+		StartTestItemRQ suite = records.get(0).getRequest();
+		StartTestItemRQ second = records.get(3).getRequest();
+		SaveLogRQ log = records.get(4).getRequest();
+		assertEquals(suite.getUuid(), records.get(1).getItemUuid());
+		assertEquals(suite.getUuid(), records.get(6).getItemUuid());
+		assertEquals(second.getUuid(), log.getItemUuid());
+		assertEquals(second.getUuid(), records.get(5).getItemUuid());
+		assertEquals("assertion failed", log.getMessage());
+		assertEquals(2000L, handler.getCommonDuration());
+	}
+}
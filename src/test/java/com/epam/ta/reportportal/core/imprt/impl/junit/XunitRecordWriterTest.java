@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class XunitRecordWriterTest {
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+	private final XunitRecordWriter writer = new XunitRecordWriter(mock(StartTestItemHandler.class),
+			mock(FinishTestItemHandler.class),
+			testItemRepository,
+			jdbcTemplate,
+			transactionTemplate,
+			null,
+			null,
+			2
+	);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void logsAreInsertedByJdbcBatch() {
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+		TestItem item = new TestItem();
+		item.setItemId(1L);
+		item.setUuid("itemUuid");
+		when(testItemRepository.findByUuid("itemUuid")).thenReturn(Optional.of(item));
+
+		writer.write(ImportRecord.log(log("first")));
+		verifyZeroInteractions(jdbcTemplate);
+		writer.write(ImportRecord.log(log("second")));
+
+		ArgumentCaptor<Collection<Log>> logsCaptor = ArgumentCaptor.forClass(Collection.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO log"),
+				logsCaptor.capture(),
+				eq(2),
+				any(ParameterizedPreparedStatementSetter.class)
+		);
+		assertEquals(2, logsCaptor.getValue().size());
+		logsCaptor.getValue().forEach(log -> assertEquals(item, log.getTestItem()));
+		verify(testItemRepository, times(1)).findByUuid("itemUuid");
+
+		writer.flushLogs();
+		verifyNoMoreInteractions(jdbcTemplate);
+	}
+
+	private static SaveLogRQ log(String message) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid("itemUuid");
+		rq.setMessage(message);
+		rq.setLevel("error");
+		rq.setLogTime(new Date());
+		return rq;
+	}
+}
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.integration.impl;
 import com.epam.ta.reportportal.ReportPortalUserUtil;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.bts.BtsResponseCache;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.integration.DeleteIntegrationHandler;
 import com.epam.ta.reportportal.core.integration.impl.util.IntegrationTestUtil;
@@ -32,6 +33,7 @@ import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.TEST_PROJECT_NAME;
@@ -48,11 +50,13 @@ public class DeleteIntegrationHandlerTest {
 	private final IntegrationTypeRepository integrationTypeRepository = mock(IntegrationTypeRepository.class);
 	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
 	private final MessageBus messageBus = mock(MessageBus.class);
+	private final BtsResponseCache btsResponseCache = mock(BtsResponseCache.class);
 
 	private final DeleteIntegrationHandler deleteIntegrationHandler = new DeleteIntegrationHandlerImpl(integrationRepository,
 			projectRepository,
 			integrationTypeRepository,
-			messageBus
+			messageBus,
+			btsResponseCache
 	);
 
 	@Test
@@ -72,6 +76,7 @@ public class DeleteIntegrationHandlerTest {
 				Suppliers.formattedSupplier("Global integration with id = {} has been successfully removed", emailIntegrationId).get(),
 				operationCompletionRS.getResultMessage()
 		);
+		verify(btsResponseCache, times(1)).evict(Collections.singletonList(emailIntegrationId));
 
 	}
 
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.item.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.attachment.DeleteTestItemAttachmentsEvent;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -30,22 +31,28 @@ import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -68,6 +75,12 @@ class DeleteTestItemHandlerImplTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private PathNameCache pathNameCache;
+
+	@Mock
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
 	@InjectMocks
 	private DeleteTestItemHandlerImpl handler;
 
@@ -195,6 +208,50 @@ class DeleteTestItemHandlerImplTest {
 
 	}
 
+	@Test
+	void bulkDeleteRemovesTopmostItemsOnce() {
+		ReportPortalUser rpUser = getRpUser("owner", UserRole.ADMINISTRATOR, ProjectRole.MEMBER, 1L);
+
+		TestItem parent = new TestItem();
+		parent.setItemId(1L);
+		parent.setPath("1");
+		TestItem first = getTestItem(StatusEnum.PASSED, StatusEnum.PASSED, 1L, "owner");
+		first.setItemId(2L);
+		first.setPath("1.2");
+		first.setParent(parent);
+		TestItem child = getTestItem(StatusEnum.PASSED, StatusEnum.PASSED, 1L, "owner");
+		child.setItemId(3L);
+		child.setPath("1.2.3");
+		child.setParent(first);
+		TestItem second = getTestItem(StatusEnum.PASSED, StatusEnum.PASSED, 1L, "owner");
+		second.setItemId(4L);
+		second.setPath("1.4");
+		second.setParent(parent);
+
+		Launch launch = new Launch();
+		launch.setId(1L);
+		launch.setStatus(StatusEnum.PASSED);
+		launch.setProjectId(1L);
+		launch.setUserId(1L);
+
+		when(testItemRepository.findAllById(any())).thenReturn(Lists.newArrayList(first, child, second));
+		when(launchRepository.findAllById(any())).thenReturn(Collections.singletonList(launch));
+		when(logRepository.findIdsByTestItemIds(any())).thenReturn(Collections.emptyList());
+		when(testItemRepository.hasChildren(1L, "1")).thenReturn(false);
+
+		List<OperationCompletionRS> responses = handler.deleteTestItem(new Long[] { 2L, 3L, 4L, 4L },
+				extractProjectDetails(rpUser, "test_project"),
+				rpUser
+		);
+
+		assertEquals(3, responses.size());
+		verify(jdbcTemplate, times(1)).update(anyString(), eq((Map<String, ?>) Collections.singletonMap("ids", Lists.newArrayList(2L, 4L))));
+		verify(testItemRepository, times(1)).hasChildren(1L, "1");
+		verify(launchRepository, times(1)).hasRetries(1L);
+		verify(eventPublisher, times(1)).publishEvent(any(DeleteTestItemAttachmentsEvent.class));
+		assertFalse(parent.isHasChildren());
+	}
+
 	private TestItem getTestItem(StatusEnum itemStatus, StatusEnum launchStatus, Long projectId, String owner) {
 		TestItem item = new TestItem();
 		item.setItemId(1L);
@@ -20,10 +20,13 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.filter.ObjectType;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.entity.item.TestItem;
@@ -31,23 +34,34 @@ import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.handler.impl.QueryProjectionFinder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_LAUNCH_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_TEST_ITEM_ID;
+import static com.epam.ta.reportportal.jooq.Tables.TEST_ITEM;
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -64,6 +78,15 @@ class GetTestItemHandlerImplTest {
 	@Mock
 	private GetShareableEntityHandler<UserFilter> getShareableEntityHandler;
 
+	@Mock
+	private PathNameCache pathNameCache;
+
+	@Mock
+	private TestItemProjectionFinder testItemProjectionFinder;
+
+	@Mock
+	private QueryProjectionFinder queryProjectionFinder;
+
 	@InjectMocks
 	private GetTestItemHandlerImpl handler;
 
@@ -164,6 +187,46 @@ class GetTestItemHandlerImplTest {
 		);
 	}
 
+	@Test
+	void getTestItemsByLaunchRendersPageIds() {
+		final ReportPortalUser rpUser = getRpUser("test", UserRole.USER, ProjectRole.MEMBER, 1L);
+
+		Launch launch = new Launch();
+		launch.setId(1L);
+		launch.setProjectId(1L);
+		launch.setStatus(StatusEnum.PASSED);
+		launch.setMode(LaunchModeEnum.DEFAULT);
+		when(launchRepository.findById(1L)).thenReturn(Optional.of(launch));
+
+		Filter filter = Filter.builder()
+				.withTarget(TestItem.class)
+				.withCondition(FilterCondition.builder().eq(CRITERIA_LAUNCH_ID, "1").build())
+				.build();
+		PageRequest pageable = PageRequest.of(0, 10);
+		when(queryProjectionFinder.findIdsPage(filter, pageable, TEST_ITEM.ITEM_ID)).thenReturn(new PageImpl<>(Lists.newArrayList(2L, 3L),
+				pageable,
+				2
+		));
+		when(testItemProjectionFinder.findByIds(Lists.newArrayList(2L, 3L))).thenReturn(Lists.newArrayList(resource(2L), resource(3L)));
+		when(pathNameCache.getPathNames(eq(1L), anyMap(), eq(true))).thenReturn(Collections.emptyMap());
+
+		Iterable<TestItemResource> resources = handler.getTestItems(filter,
+				pageable,
+				extractProjectDetails(rpUser, "test_project"),
+				rpUser,
+				1L,
+				null,
+				false,
+				0
+		);
+
+		assertEquals(Lists.newArrayList(2L, 3L),
+				StreamSupport.stream(resources.spliterator(), false).map(TestItemResource::getItemId).collect(Collectors.toList())
+		);
+		verify(pathNameCache).getPathNames(1L, ImmutableMap.of(2L, 1L, 3L, 1L), true);
+		verify(testItemRepository, never()).findByFilter(any(Queryable.class), any(Pageable.class));
+	}
+
 	@Test
 	void getItemByOperator() {
 		ReportPortalUser operator = getRpUser("operator", UserRole.USER, ProjectRole.OPERATOR, 1L);
@@ -271,4 +334,11 @@ class GetTestItemHandlerImplTest {
 				exception.getMessage()
 		);
 	}
-}
\ No newline at end of file
+
+	private static TestItemResource resource(Long itemId) {
+		TestItemResource resource = new TestItemResource();
+		resource.setItemId(itemId);
+		resource.setLaunchId(1L);
+		return resource;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.PathName;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PathNameCacheImplTest {
+
+	private static final Long PROJECT_ID = 1L;
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final PathNameCacheImpl cache = new PathNameCacheImpl(testItemRepository, new SimpleMeterRegistry(), 100, 3600);
+
+	@Test
+	void cachedPageRequiresNoQueries() {
+		PathName pathName = mock(PathName.class);
+		List<TestItem> items = Lists.newArrayList(item(1L, 10L), item(2L, 10L));
+		when(testItemRepository.selectPathNames(anyList(), eq(PROJECT_ID))).thenReturn(ImmutableMap.of(2L, pathName));
+
+		cache.getPathNames(PROJECT_ID, items, true);
+		Map<Long, PathName> pathNames = cache.getPathNames(PROJECT_ID, items, true);
+
+		assertEquals(1, pathNames.size());
+		assertSame(pathName, pathNames.get(2L));
+		verify(testItemRepository, times(1)).selectPathNames(Lists.newArrayList(1L, 2L), PROJECT_ID);
+	}
+
+	@Test
+	void onlyMissedItemsAreLoaded() {
+		when(testItemRepository.selectPathNames(anyList(), eq(PROJECT_ID))).thenReturn(Collections.emptyMap());
+
+		cache.getPathNames(PROJECT_ID, Lists.newArrayList(item(1L, 10L)), true);
+		cache.getPathNames(PROJECT_ID, Lists.newArrayList(item(1L, 10L), item(2L, 10L)), true);
+
+		verify(testItemRepository, times(1)).selectPathNames(Collections.singletonList(1L), PROJECT_ID);
+		verify(testItemRepository, times(1)).selectPathNames(Collections.singletonList(2L), PROJECT_ID);
+	}
+
+	@Test
+	void itemsOfLaunchInProgressAreNotCached() {
+		List<TestItem> items = Collections.singletonList(item(1L, 10L));
+		when(testItemRepository.selectPathNames(anyList(), eq(PROJECT_ID))).thenReturn(Collections.emptyMap());
+
+		cache.getPathNames(PROJECT_ID, items, false);
+		cache.getPathNames(PROJECT_ID, items, false);
+
+		verify(testItemRepository, times(2)).selectPathNames(Collections.singletonList(1L), PROJECT_ID);
+	}
+
+	@Test
+	void evictionByLaunchReloadsOnlyItsItems() {
+		when(testItemRepository.selectPathNames(anyList(), eq(PROJECT_ID))).thenReturn(Collections.emptyMap());
+		List<TestItem> items = Lists.newArrayList(item(1L, 10L), item(2L, 20L));
+
+		cache.getPathNames(PROJECT_ID, items, true);
+		cache.evictByLaunchIds(Collections.singletonList(10L));
+		cache.getPathNames(PROJECT_ID, items, true);
+
+		verify(testItemRepository, times(1)).selectPathNames(Lists.newArrayList(1L, 2L), PROJECT_ID);
+		verify(testItemRepository, times(1)).selectPathNames(Collections.singletonList(1L), PROJECT_ID);
+	}
+
+	private static TestItem item(Long itemId, Long launchId) {
+		TestItem item = new TestItem();
+		item.setItemId(itemId);
+		item.setLaunchId(launchId);
+		return item;
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that projections render the same resources as the converter of the loaded entities
+ */
+@Sql("/db/test-item/test-item-fill.sql")
+class TestItemProjectionFinderTest extends BaseMvcTest {
+
+	@Autowired
+	private TestItemProjectionFinder testItemProjectionFinder;
+
+	@Autowired
+	private TestItemRepository testItemRepository;
+
+	@Test
+	void projectionsMatchConvertedEntities() {
+		List<TestItem> items = testItemRepository.findAll();
+		List<Long> ids = items.stream().map(TestItem::getItemId).collect(Collectors.toList());
+		Map<Long, TestItemResource> expected = items.stream()
+				.map(TestItemConverter.TO_RESOURCE)
+				.collect(Collectors.toMap(TestItemResource::getItemId, Function.identity()));
+
+		List<TestItemResource> resources = testItemProjectionFinder.findByIds(ids);
+
+		assertEquals(ids, resources.stream().map(TestItemResource::getItemId).collect(Collectors.toList()));
+		resources.forEach(resource -> assertResource(expected.get(resource.getItemId()), resource));
+	}
+
+	@Test
+	void projectionsKeepOrderOfIds() {
+		List<TestItemResource> resources = testItemProjectionFinder.findByIds(Arrays.asList(3L, 1L, 2L, 1_000L));
+
+		assertEquals(Arrays.asList(3L, 1L, 2L), resources.stream().map(TestItemResource::getItemId).collect(Collectors.toList()));
+	}
+
+	@Test
+	void itemsOfAnotherProjectAreNotPermitted() {
+		assertTrue(testItemProjectionFinder.findPermitted(Arrays.asList(1L, 2L), 1L, false).isEmpty());
+		assertEquals(2, testItemProjectionFinder.findPermitted(Arrays.asList(1L, 2L), 2L, true).size());
+	}
+
+	private static void assertResource(TestItemResource expected, TestItemResource actual) {
+		assertEquals(expected.getUuid(), actual.getUuid());
+		assertEquals(expected.getName(), actual.getName());
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getStatus(), actual.getStatus());
+		assertEquals(expected.getDescription(), actual.getDescription());
+		assertEquals(expected.getStartTime(), actual.getStartTime());
+		assertEquals(expected.getEndTime(), actual.getEndTime());
+		assertEquals(expected.getPath(), actual.getPath());
+		assertEquals(expected.getUniqueId(), actual.getUniqueId());
+		assertEquals(expected.getTestCaseHash(), actual.getTestCaseHash());
+		assertEquals(expected.getParent(), actual.getParent());
+		assertEquals(expected.getLaunchId(), actual.getLaunchId());
+		assertEquals(expected.isHasChildren(), actual.isHasChildren());
+		assertEquals(expected.getPatternTemplates(), actual.getPatternTemplates());
+		assertEquals(attributes(expected), attributes(actual));
+		assertEquals(parameters(expected), parameters(actual));
+		assertEquals(expected.getStatisticsResource().getExecutions(), actual.getStatisticsResource().getExecutions());
+		assertEquals(expected.getStatisticsResource().getDefects(), actual.getStatisticsResource().getDefects());
+		assertEquals(expected.getIssue() == null, actual.getIssue() == null);
+		if (expected.getIssue() != null) {
+			assertEquals(expected.getIssue().getIssueType(), actual.getIssue().getIssueType());
+			assertEquals(expected.getIssue().getComment(), actual.getIssue().getComment());
+			assertEquals(tickets(expected.getIssue()), tickets(actual.getIssue()));
+		}
+		assertEquals(retries(expected), retries(actual));
+	}
+
+	private static Set<String> attributes(TestItemResource resource) {
+		return resource.getAttributes().stream().map(it -> it.getKey() + ":" + it.getValue()).collect(Collectors.toSet());
+	}
+
+	private static Set<String> parameters(TestItemResource resource) {
+		return resource.getParameters().stream().map(it -> it.getKey() + ":" + it.getValue()).collect(Collectors.toSet());
+	}
+
+	private static Set<String> tickets(Issue issue) {
+		return issue.getExternalSystemIssues().stream().map(Issue.ExternalSystemIssue::getTicketId).collect(Collectors.toSet());
+	}
+
+	private static Set<Long> retries(TestItemResource resource) {
+		return resource.getRetries().stream().map(TestItemResource::getItemId).collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.activity.BulkLinkTicketEvent;
+import com.epam.ta.reportportal.core.item.UpdateTestItemHandler;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.item.LinkExternalIssueRQ;
+import com.epam.ta.reportportal.ws.model.item.UnlinkExternalIssueRQ;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Measures linking and unlinking of {@link #TICKETS_COUNT} tickets to {@link #ITEMS_COUNT} failed test items with a single request.
+ * Run on demand with '-Drp.benchmark=true'
+ */
+@Sql("/db/test-item/test-item-fill.sql")
+@EnabledIfSystemProperty(named = "rp.benchmark", matches = "true")
+class TicketLinkBenchmark extends BaseMvcTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TicketLinkBenchmark.class);
+
+	private static final int ITEMS_COUNT = 10_000;
+
+	private static final int TICKETS_COUNT = 10;
+
+	private static final long FIRST_ITEM_ID = 100_000L;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UpdateTestItemHandler updateTestItemHandler;
+
+	@Test
+	void linkAndUnlinkTickets() {
+		jdbcTemplate.update("INSERT INTO test_item (test_case_hash, item_id, uuid, name, type, start_time, last_modified, path, unique_id, "
+				+ "has_children, has_retries, launch_id) SELECT i, i, md5(i::TEXT), 'step ' || i, 'STEP', now(), now(), i::TEXT::LTREE, "
+				+ "md5(i::TEXT), false, false, 2 FROM generate_series(?, ?) i", FIRST_ITEM_ID, FIRST_ITEM_ID + ITEMS_COUNT - 1);
+		jdbcTemplate.update("INSERT INTO test_item_results (result_id, status) SELECT i, 'FAILED' FROM generate_series(?, ?) i",
+				FIRST_ITEM_ID,
+				FIRST_ITEM_ID + ITEMS_COUNT - 1
+		);
+		jdbcTemplate.update("INSERT INTO issue (issue_id, issue_type, auto_analyzed, ignore_analyzer) SELECT i, 2, true, false "
+				+ "FROM generate_series(?, ?) i", FIRST_ITEM_ID, FIRST_ITEM_ID + ITEMS_COUNT - 1);
+
+		ReportPortalUser user = getRpUser("default", UserRole.USER, ProjectRole.PROJECT_MANAGER, 2L);
+		List<Long> itemIds = LongStream.range(FIRST_ITEM_ID, FIRST_ITEM_ID + ITEMS_COUNT).boxed().collect(Collectors.toList());
+		List<String> ticketIds = IntStream.range(0, TICKETS_COUNT).mapToObj(i -> "BENCH-" + i).collect(Collectors.toList());
+
+		LinkExternalIssueRQ linkRq = new LinkExternalIssueRQ();
+		linkRq.setTestItemIds(itemIds);
+		linkRq.setIssues(ticketIds.stream().map(ticketId -> {
+			Issue.ExternalSystemIssue issue = new Issue.ExternalSystemIssue();
+			issue.setTicketId(ticketId);
+			issue.setBtsUrl("https://jira.example.com");
+			issue.setBtsProject("BENCH");
+			issue.setUrl("https://jira.example.com/browse/" + ticketId);
+			return issue;
+		}).collect(Collectors.toList()));
+
+		long start = System.nanoTime();
+		updateTestItemHandler.processExternalIssues(linkRq, extractProjectDetails(user, "test_project"), user);
+		long linkNanos = System.nanoTime() - start;
+		assertEquals(ITEMS_COUNT * TICKETS_COUNT, countLinks());
+
+		UnlinkExternalIssueRQ unlinkRq = new UnlinkExternalIssueRQ();
+		unlinkRq.setTestItemIds(itemIds);
+		unlinkRq.setTicketIds(ticketIds);
+
+		start = System.nanoTime();
+		updateTestItemHandler.processExternalIssues(unlinkRq, extractProjectDetails(user, "test_project"), user);
+		long unlinkNanos = System.nanoTime() - start;
+		assertEquals(0, countLinks());
+
+		verify(messageBus, times(2)).publishActivity(any(BulkLinkTicketEvent.class));
+		LOGGER.info("{} items x {} tickets: link {} ms, unlink {} ms",
+				ITEMS_COUNT,
+				TICKETS_COUNT,
+				TimeUnit.NANOSECONDS.toMillis(linkNanos),
+				TimeUnit.NANOSECONDS.toMillis(unlinkNanos)
+		);
+	}
+
+	private int countLinks() {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM issue_ticket it JOIN ticket t ON it.ticket_id = t.id "
+				+ "WHERE t.ticket_id LIKE 'BENCH-%'", Integer.class);
+	}
+}
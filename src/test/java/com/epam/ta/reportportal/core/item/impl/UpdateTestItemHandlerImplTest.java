@@ -17,11 +17,16 @@
 package com.epam.ta.reportportal.core.item.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.activity.BulkLinkTicketEvent;
+import com.epam.ta.reportportal.core.item.TicketLinkWriter;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.ItemAttribute;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.entity.bts.Ticket;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
 import com.epam.ta.reportportal.entity.item.TestItem;
@@ -31,17 +36,22 @@ import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.issue.DefineIssueRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.item.LinkExternalIssueRQ;
+import com.epam.ta.reportportal.ws.model.item.UnlinkExternalIssueRQ;
 import com.epam.ta.reportportal.ws.model.item.UpdateTestItemRQ;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static com.epam.ta.reportportal.core.item.impl.UpdateTestItemHandlerImpl.INITIAL_STATUS_ATTRIBUTE_KEY;
@@ -71,6 +81,12 @@ class UpdateTestItemHandlerImplTest {
 	@Mock
 	private LaunchRepository launchRepository;
 
+	@Mock
+	private TicketLinkWriter ticketLinkWriter;
+
+	@Mock
+	private MessageBus messageBus;
+
 	@InjectMocks
 	private UpdateTestItemHandlerImpl handler;
 
@@ -242,4 +258,66 @@ class UpdateTestItemHandlerImplTest {
 				.anyMatch(attribute -> INITIAL_STATUS_ATTRIBUTE_KEY.equalsIgnoreCase(attribute.getKey())
 						&& StatusEnum.PASSED.getExecutionCounterField().equalsIgnoreCase("passed")));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void linkTicketsWithSingleActivity() {
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L);
+		LinkExternalIssueRQ rq = new LinkExternalIssueRQ();
+		rq.setTestItemIds(Arrays.asList(1L, 2L, 3L));
+		rq.setIssues(Arrays.asList(externalIssue("ticket1"), externalIssue("ticket2"), externalIssue("ticket1")));
+
+		when(ticketLinkWriter.findTargets(rq.getTestItemIds())).thenReturn(Arrays.asList(linkTarget(1L, StatusEnum.FAILED),
+				linkTarget(2L, StatusEnum.FAILED),
+				linkTarget(3L, StatusEnum.SKIPPED)
+		));
+		when(ticketLinkWriter.saveTickets(any())).thenReturn(ImmutableMap.of("ticket1", 10L, "ticket2", 20L));
+		when(ticketLinkWriter.link(any(), any())).thenReturn(Sets.newHashSet(3L, 1L));
+
+		List<OperationCompletionRS> response = handler.processExternalIssues(rq, extractProjectDetails(user, "test_project"), user);
+
+		assertEquals(3, response.size());
+		ArgumentCaptor<Collection<Ticket>> ticketsCaptor = ArgumentCaptor.forClass(Collection.class);
+		verify(ticketLinkWriter).saveTickets(ticketsCaptor.capture());
+		assertEquals(2, ticketsCaptor.getValue().size());
+		assertTrue(ticketsCaptor.getValue().stream().allMatch(ticket -> "user".equals(ticket.getSubmitter())));
+		verify(ticketLinkWriter).link(eq(Arrays.asList(1L, 2L, 3L)), argThat(ids -> Sets.newHashSet(10L, 20L).equals(new HashSet<>(ids))));
+
+		ArgumentCaptor<BulkLinkTicketEvent> eventCaptor = ArgumentCaptor.forClass(BulkLinkTicketEvent.class);
+		verify(messageBus).publishActivity(eventCaptor.capture());
+		assertEquals(Arrays.asList(1L, 3L), eventCaptor.getValue().getItemIds());
+		assertEquals(Arrays.asList("ticket1", "ticket2"), eventCaptor.getValue().getTicketIds());
+		assertEquals(ActivityAction.LINK_ISSUE, eventCaptor.getValue().getActivityAction());
+	}
+
+	@Test
+	void unlinkTicketsFromPassedItem() {
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L);
+		UnlinkExternalIssueRQ rq = new UnlinkExternalIssueRQ();
+		rq.setTestItemIds(Arrays.asList(1L, 2L));
+		rq.setTicketIds(Collections.singletonList("ticket1"));
+
+		when(ticketLinkWriter.findTargets(rq.getTestItemIds())).thenReturn(Arrays.asList(linkTarget(1L, StatusEnum.FAILED),
+				linkTarget(2L, StatusEnum.PASSED)
+		));
+
+		ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> handler.processExternalIssues(rq, extractProjectDetails(user, "test_project"), user)
+		);
+		assertTrue(exception.getMessage().contains("Issue status update cannot be applied on PASSED test items"));
+		verify(ticketLinkWriter, never()).unlink(any(), any());
+		verifyZeroInteractions(messageBus);
+	}
+
+	private static TicketLinkWriter.LinkTarget linkTarget(Long itemId, StatusEnum status) {
+		return new TicketLinkWriter.LinkTarget(itemId, false, status.name(), itemId, 1L);
+	}
+
+	private static Issue.ExternalSystemIssue externalIssue(String ticketId) {
+		Issue.ExternalSystemIssue issue = new Issue.ExternalSystemIssue();
+		issue.setTicketId(ticketId);
+		issue.setBtsUrl("https://jira.example.com");
+		issue.setBtsProject("project");
+		issue.setUrl("https://jira.example.com/browse/" + ticketId);
+		return issue;
+	}
+}
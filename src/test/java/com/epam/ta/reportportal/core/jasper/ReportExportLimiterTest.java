@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper;
+
+import com.epam.ta.reportportal.exception.RetryableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReportExportLimiterTest {
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	@Test
+	void permitIsReleasedAfterFailedExport() {
+		ReportExportLimiter limiter = new ReportExportLimiter(1, 0, transactionManager);
+		AtomicInteger exported = new AtomicInteger();
+
+		assertThrows(IllegalStateException.class, () -> limiter.execute(() -> {
+			throw new IllegalStateException("export failed");
+		}));
+		limiter.execute(exported::incrementAndGet);
+
+		assertEquals(1, exported.get());
+	}
+
+	@Test
+	void saturationIsRejectedAsRetryable() {
+		ReportExportLimiter limiter = new ReportExportLimiter(1, 0, transactionManager);
+		AtomicInteger exported = new AtomicInteger();
+
+		RetryableException exception = assertThrows(RetryableException.class,
+				() -> limiter.execute(() -> limiter.execute(exported::incrementAndGet))
+		);
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+		assertEquals(0, exception.getRetryAfterSeconds());
+		assertEquals(0, exported.get());
+		verify(transactionManager, times(1)).getTransaction(any());
+	}
+
+	@Test
+	void interruptedWaitIsRejectedAsRetryable() {
+		ReportExportLimiter limiter = new ReportExportLimiter(1, 30, transactionManager);
+		AtomicInteger exported = new AtomicInteger();
+
+		Thread.currentThread().interrupt();
+		RetryableException exception = assertThrows(RetryableException.class, () -> limiter.execute(exported::incrementAndGet));
+
+		assertTrue(Thread.interrupted());
+		assertEquals(30, exception.getRetryAfterSeconds());
+		assertEquals(0, exported.get());
+		verify(transactionManager, never()).getTransaction(any());
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvReportWriterTest {
+
+	@Test
+	void writeRows() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		CsvReportWriter writer = new CsvReportWriter(outputStream, Arrays.asList("Login", "Projects and Roles", "Members"));
+
+		writer.writeRow(ImmutableMap.of("Login", "default", "Projects and Roles", "first - MEMBER, second - PROJECT_MANAGER", "Members", 2));
+		writer.writeRow(Collections.singletonMap("Login", "say \"hi\""));
+		writer.flush();
+
+		assertEquals("Login,Projects and Roles,Members\n" + "default,\"first - MEMBER, second - PROJECT_MANAGER\",2\n"
+				+ "\"say \"\"hi\"\"\",,\n", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CursorDataSourceTest {
+
+	private final ScrollableResults results = mock(ScrollableResults.class);
+
+	private final Session session = mock(Session.class);
+
+	private final CursorDataSource<String> dataSource = new CursorDataSource<>(results, session, Row::new, 2);
+
+	@Test
+	void readsRowsAndClearsSessionByInterval() throws JRException {
+		when(results.next()).thenReturn(true, true, true, false);
+		when(results.get(0)).thenReturn("first", "second", "third");
+
+		assertTrue(dataSource.next());
+		assertEquals("first", dataSource.getFieldValue(field("name")));
+		verify(session, never()).clear();
+
+		assertTrue(dataSource.next());
+		assertEquals("second", dataSource.getFieldValue(field("name")));
+		verify(session, times(1)).clear();
+
+		assertTrue(dataSource.next());
+		assertEquals("third", dataSource.getFieldValue(field("name")));
+		assertFalse(dataSource.next());
+		verify(session, times(1)).clear();
+	}
+
+	@Test
+	void unknownFieldFails() {
+		when(results.next()).thenReturn(true);
+		when(results.get(0)).thenReturn("first");
+
+		assertTrue(dataSource.next());
+		JRException exception = assertThrows(JRException.class, () -> dataSource.getFieldValue(field("unknown")));
+		assertTrue(exception.getMessage().contains("unknown"));
+	}
+
+	@Test
+	void closeReleasesCursor() {
+		dataSource.close();
+
+		verify(results).close();
+		verifyZeroInteractions(session);
+	}
+
+	private static JRField field(String name) {
+		JRField field = mock(JRField.class);
+		when(field.getName()).thenReturn(name);
+		return field;
+	}
+
+	public static class Row {
+
+		private final String name;
+
+		Row(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
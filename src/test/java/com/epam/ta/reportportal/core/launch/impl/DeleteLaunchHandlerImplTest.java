@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.item.PathNameCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -45,6 +46,9 @@ class DeleteLaunchHandlerImplTest {
 	@Mock
 	private LaunchRepository launchRepository;
 
+	@Mock
+	private PathNameCache pathNameCache;
+
 	@InjectMocks
 	private DeleteLaunchHandlerImpl handler;
 
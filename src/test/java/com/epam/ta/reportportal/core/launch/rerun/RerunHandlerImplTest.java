@@ -24,6 +24,7 @@ import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.entity.item.Parameter;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.TestItemResults;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -44,6 +45,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
@@ -71,6 +74,9 @@ class RerunHandlerImplTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private RerunItemIndex rerunItemIndex;
+
 	@InjectMocks
 	private RerunHandlerImpl rerunHandler;
 
@@ -141,7 +147,7 @@ class RerunHandlerImplTest {
 		request.setName(itemName);
 		Launch launch = getLaunch("uuid");
 
-		when(testItemRepository.findByNameAndLaunchWithoutParents(itemName, launch.getId())).thenReturn(Optional.empty());
+		when(rerunItemIndex.findItemIds(launch.getId(), null, itemName)).thenReturn(Collections.emptyList());
 
 		Optional<ItemCreatedRS> rerunCreatedRS = rerunHandler.handleRootItem(request, launch);
 
@@ -157,13 +163,41 @@ class RerunHandlerImplTest {
 		request.setName(itemName);
 		Launch launch = getLaunch("uuid");
 
-		when(testItemRepository.findByNameAndLaunchWithoutParents(itemName, launch.getId())).thenReturn(Optional.of(getItem(itemName,
-				launch
-		)));
+		when(rerunItemIndex.findItemIds(launch.getId(), null, itemName)).thenReturn(Collections.singletonList(1L));
+		when(testItemRepository.findById(1L)).thenReturn(Optional.of(getItem(itemName, launch)));
 
 		Optional<ItemCreatedRS> rerunCreatedRS = rerunHandler.handleRootItem(request, launch);
 
 		assertTrue(rerunCreatedRS.isPresent());
+		verify(rerunItemIndex, times(1)).replaceItem(eq(launch.getId()), isNull(), eq(itemName), eq(1L), any());
+	}
+
+	@Test
+	void skipRetriedAndNotMatchedRootItems() {
+		StartTestItemRQ request = new StartTestItemRQ();
+		request.setLaunchUuid("launch_uuid");
+		request.setType("STEP");
+		String itemName = "name";
+		request.setName(itemName);
+		Launch launch = getLaunch("uuid");
+		TestItem retried = getItem(itemName, launch);
+		retried.setLaunchId(null);
+		TestItem withParameters = getItem(itemName, launch);
+		withParameters.setItemId(2L);
+		Parameter parameter = new Parameter();
+		parameter.setKey("key");
+		parameter.setValue("value");
+		withParameters.setParameters(Sets.newHashSet(parameter));
+
+		when(rerunItemIndex.findItemIds(launch.getId(), null, itemName)).thenReturn(Arrays.asList(1L, 2L, 3L));
+		when(testItemRepository.findById(1L)).thenReturn(Optional.of(retried));
+		when(testItemRepository.findById(2L)).thenReturn(Optional.of(withParameters));
+		when(testItemRepository.findById(3L)).thenReturn(Optional.empty());
+
+		Optional<ItemCreatedRS> rerunCreatedRS = rerunHandler.handleRootItem(request, launch);
+
+		assertFalse(rerunCreatedRS.isPresent());
+		verify(rerunItemIndex, never()).replaceItem(any(), any(), any(), any(), any());
 	}
 
 	@Test
@@ -175,9 +209,10 @@ class RerunHandlerImplTest {
 		request.setName(itemName);
 		Launch launch = getLaunch("uuid");
 		TestItem parent = new TestItem();
+		parent.setItemId(2L);
 		parent.setPath("1.2");
 
-		when(testItemRepository.findByNameAndLaunchUnderPath(itemName, launch.getId(), parent.getPath())).thenReturn(Optional.empty());
+		when(rerunItemIndex.findItemIds(launch.getId(), parent.getItemId(), itemName)).thenReturn(Collections.emptyList());
 
 		Optional<ItemCreatedRS> rerunCreatedRS = rerunHandler.handleChildItem(request, launch, parent);
 
@@ -193,15 +228,30 @@ class RerunHandlerImplTest {
 		request.setName(itemName);
 		Launch launch = getLaunch("uuid");
 		TestItem parent = new TestItem();
+		parent.setItemId(2L);
 		parent.setPath("1.2");
 
-		when(testItemRepository.findByNameAndLaunchUnderPath(itemName, launch.getId(), parent.getPath())).thenReturn(Optional.of(getItem(itemName,
-				launch
-		)));
+		when(rerunItemIndex.findItemIds(launch.getId(), parent.getItemId(), itemName)).thenReturn(Collections.singletonList(1L));
+		when(testItemRepository.findById(1L)).thenReturn(Optional.of(getItem(itemName, launch)));
 
 		Optional<ItemCreatedRS> rerunCreatedRS = rerunHandler.handleChildItem(request, launch, parent);
 
 		assertTrue(rerunCreatedRS.isPresent());
+		verify(rerunItemIndex, times(1)).replaceItem(eq(launch.getId()), eq(parent.getItemId()), eq(itemName), eq(1L), any());
+	}
+
+	@Test
+	void registerNewItem() {
+		Launch launch = getLaunch("uuid");
+		TestItem parent = new TestItem();
+		parent.setItemId(2L);
+		TestItem item = getItem("name", launch);
+		item.setItemId(3L);
+		item.setParent(parent);
+
+		rerunHandler.handleNewItem(launch, item);
+
+		verify(rerunItemIndex, times(1)).addItem(launch.getId(), 2L, "name", 3L);
 	}
 
 	private TestItem getItem(String name, Launch launch) {
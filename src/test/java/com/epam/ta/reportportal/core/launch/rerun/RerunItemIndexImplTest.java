@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.rerun;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RerunItemIndexImplTest {
+
+	private static final Long LAUNCH_ID = 1L;
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private RerunItemIndexImpl rerunItemIndex;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		rerunItemIndex = new RerunItemIndexImpl(jdbcTemplate, new SimpleMeterRegistry(), 1000, 100, 600);
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("item_id")).thenReturn(1L, 2L, 3L);
+		when(resultSet.getObject("parent_id", Long.class)).thenReturn(null, null, 1L);
+		when(resultSet.getString("name")).thenReturn("suite", "suite", "step");
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (int i = 0; i < 3; i++) {
+				handler.processRow(resultSet);
+			}
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(LAUNCH_ID), anyInt());
+	}
+
+	@Test
+	void indexIsBuiltOnceOnFirstLookup() {
+		assertEquals(Arrays.asList(1L, 2L), rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite"));
+		assertEquals(Collections.singletonList(3L), rerunItemIndex.findItemIds(LAUNCH_ID, 1L, "step"));
+		assertEquals(Collections.emptyList(), rerunItemIndex.findItemIds(LAUNCH_ID, 2L, "step"));
+
+		verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(LAUNCH_ID), anyInt());
+	}
+
+	@Test
+	void addAndReplaceItems() {
+		rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite");
+
+		rerunItemIndex.addItem(LAUNCH_ID, 1L, "step", 4L);
+		rerunItemIndex.replaceItem(LAUNCH_ID, 1L, "step", 3L, 5L);
+
+		assertEquals(Arrays.asList(5L, 4L), rerunItemIndex.findItemIds(LAUNCH_ID, 1L, "step"));
+	}
+
+	@Test
+	void changesOfNotBuiltIndexAreSkipped() {
+		rerunItemIndex.addItem(LAUNCH_ID, 1L, "step", 4L);
+
+		assertEquals(Collections.singletonList(3L), rerunItemIndex.findItemIds(LAUNCH_ID, 1L, "step"));
+	}
+
+	@Test
+	void releasedIndexIsRebuilt() {
+		rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite");
+		rerunItemIndex.release(LAUNCH_ID);
+		rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite");
+
+		verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(LAUNCH_ID), anyInt());
+	}
+
+	@Test
+	void indexChangedInRolledBackTransactionIsRebuilt() {
+		rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			rerunItemIndex.addItem(LAUNCH_ID, 1L, "step", 4L);
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertEquals(Collections.singletonList(3L), rerunItemIndex.findItemIds(LAUNCH_ID, 1L, "step"));
+		verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(LAUNCH_ID), anyInt());
+	}
+
+	@Test
+	void oversizedLaunchIsNotIndexed() {
+		rerunItemIndex = new RerunItemIndexImpl(jdbcTemplate, new SimpleMeterRegistry(), 1000, 2, 600);
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(LAUNCH_ID), eq(1L), eq("step"))).thenReturn(
+				Collections.singletonList(3L));
+
+		assertEquals(Collections.singletonList(3L), rerunItemIndex.findItemIds(LAUNCH_ID, 1L, "step"));
+		assertEquals(Collections.singletonList(3L), rerunItemIndex.findItemIds(LAUNCH_ID, 1L, "step"));
+
+		verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(LAUNCH_ID), eq(3));
+		verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq(LAUNCH_ID), eq(1L), eq("step"));
+	}
+
+	@Test
+	void indexGrownOverLimitIsDropped() {
+		rerunItemIndex = new RerunItemIndexImpl(jdbcTemplate, new SimpleMeterRegistry(), 1000, 3, 600);
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(LAUNCH_ID), eq("suite"))).thenReturn(Arrays.asList(1L, 2L));
+
+		rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite");
+		rerunItemIndex.addItem(LAUNCH_ID, 1L, "step", 4L);
+
+		assertEquals(Arrays.asList(1L, 2L), rerunItemIndex.findItemIds(LAUNCH_ID, null, "suite"));
+		verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(LAUNCH_ID), anyInt());
+	}
+}
@@ -75,7 +75,7 @@ class CreateLogHandlerAsyncImplTest {
     void sendMessage() {
         SaveLogRQ request = new SaveLogRQ();
 
-        createLogHandlerAsync.sendMessage(request, binaryDataMetaInfo, 0L);
+        createLogHandlerAsync.sendMessage(request, binaryDataMetaInfo, "hash", 0L);
         verify(amqpTemplate).convertAndSend(any(), any(), any(), any());
         verify(reportingQueueService).getReportingQueueKey(any());
     }
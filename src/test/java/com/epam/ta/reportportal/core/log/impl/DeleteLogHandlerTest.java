@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -39,6 +40,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
@@ -65,6 +68,9 @@ class DeleteLogHandlerTest {
 	@Mock
 	private TestItemService testItemService;
 
+	@Mock
+	private AttachmentDeduplicator attachmentDeduplicator;
+
 	@InjectMocks
 	private DeleteLogHandlerImpl handler;
 
@@ -157,6 +163,7 @@ class DeleteLogHandlerTest {
 		when(testItemService.getEffectiveLaunch(any(TestItem.class))).thenReturn(launch);
 		when(projectRepository.findById(projectId)).thenReturn(Optional.of(new Project()));
 		when(logRepository.findById(logId)).thenReturn(Optional.of(log));
+		when(attachmentDeduplicator.releaseFiles(any(), any())).thenAnswer(a -> new HashSet<>(a.<Collection<String>>getArgument(0)));
 
 		handler.deleteLog(logId, extractProjectDetails(user, "test_project"), user);
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.log.KeysetRequest;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_TEST_ITEM_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the latency of the deep pages of the offset and the cursor based pagination of the logs of a single test item.
+ * Run on demand with '-Drp.benchmark=true'
+ */
+@Sql("/db/test-item/test-item-fill.sql")
+@EnabledIfSystemProperty(named = "rp.benchmark", matches = "true")
+class LogKeysetPaginationBenchmark extends BaseMvcTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogKeysetPaginationBenchmark.class);
+
+	private static final int LOGS_COUNT = 200_000;
+
+	private static final int PAGE_SIZE = 50;
+
+	private static final int ITERATIONS = 20;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private LogRepository logRepository;
+
+	@Autowired
+	private LogKeysetFinder logKeysetFinder;
+
+	@Test
+	void deepPageLatency() {
+		jdbcTemplate.update("INSERT INTO log (uuid, log_time, log_message, item_id, last_modified, log_level) "
+				+ "SELECT md5(random()::TEXT), now() + i * INTERVAL '1 millisecond', 'message ' || i, 2, now(), 40000 "
+				+ "FROM generate_series(1, ?) i", LOGS_COUNT);
+		jdbcTemplate.execute("ANALYZE log");
+
+		Filter filter = Filter.builder()
+				.withTarget(Log.class)
+				.withCondition(FilterCondition.builder()
+						.withCondition(Condition.EQUALS)
+						.withSearchCriteria(CRITERIA_TEST_ITEM_ID)
+						.withValue("2")
+						.build())
+				.build();
+		int lastPage = LOGS_COUNT / PAGE_SIZE - 1;
+		PageRequest deepPage = PageRequest.of(lastPage, PAGE_SIZE, Sort.by("logTime", CRITERIA_ID));
+		Long anchorId = jdbcTemplate.queryForObject("SELECT id FROM log WHERE item_id = 2 ORDER BY log_time, id OFFSET ? LIMIT 1",
+				Long.class,
+				lastPage * PAGE_SIZE
+		);
+		KeysetRequest request = new KeysetRequest();
+		request.setSize(PAGE_SIZE);
+		request.setAround(anchorId);
+
+		assertEquals(PAGE_SIZE, logRepository.findByFilter(filter, deepPage).getContent().size());
+		assertEquals(PAGE_SIZE, logKeysetFinder.findLogs(2L, null, request).getRows().size());
+
+		long offsetNanos = measure(() -> logRepository.findByFilter(filter, deepPage));
+		long keysetNanos = measure(() -> logKeysetFinder.findLogs(2L, null, request));
+		long nestedNanos = measure(() -> logKeysetFinder.findNested(2L, null, false, false, request));
+		LOGGER.info("Page {} of {} logs: offset {} ms, keyset {} ms, keyset with nested steps {} ms",
+				lastPage,
+				LOGS_COUNT,
+				TimeUnit.NANOSECONDS.toMillis(offsetNanos),
+				TimeUnit.NANOSECONDS.toMillis(keysetNanos),
+				TimeUnit.NANOSECONDS.toMillis(nestedNanos)
+		);
+		LOGGER.info("Plan of the item logs seek:\n{}", String.join("\n", jdbcTemplate.queryForList(
+				"EXPLAIN SELECT id FROM log WHERE item_id = 2 AND (log_time, id) > (now(), 0) ORDER BY log_time, id LIMIT 26",
+				String.class
+		)));
+	}
+
+	/**
+	 * @return Median latency of the action in nanoseconds
+	 */
+	private static long measure(Runnable action) {
+		long[] latencies = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			action.run();
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+		return latencies[ITERATIONS / 2];
+	}
+}
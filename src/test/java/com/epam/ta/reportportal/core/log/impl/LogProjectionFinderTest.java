@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.epam.ta.reportportal.ws.converter.converters.LogConverter;
+import com.epam.ta.reportportal.ws.model.log.LogResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that projections render the same resources as the converter of the loaded entities
+ */
+@Sql({ "/db/test-item/test-item-fill.sql", "/db/log/log-fill.sql" })
+class LogProjectionFinderTest extends BaseMvcTest {
+
+	@Autowired
+	private LogProjectionFinder logProjectionFinder;
+
+	@Autowired
+	private LogRepository logRepository;
+
+	@Test
+	void projectionsMatchConvertedEntities() {
+		List<Log> logs = logRepository.findAll();
+
+		Map<Long, LogResource> resources = logProjectionFinder.findByIds(logs.stream().map(Log::getId).collect(Collectors.toList()));
+
+		assertEquals(logs.size(), resources.size());
+		logs.stream().map(LogConverter.TO_RESOURCE).forEach(expected -> {
+			LogResource actual = resources.get(expected.getId());
+			assertEquals(expected.getUuid(), actual.getUuid());
+			assertEquals(expected.getMessage(), actual.getMessage());
+			assertEquals(expected.getLogTime(), actual.getLogTime());
+			assertEquals(expected.getLevel(), actual.getLevel());
+			assertEquals(expected.getItemId(), actual.getItemId());
+			assertEquals(expected.getLaunchId(), actual.getLaunchId());
+			assertEquals(expected.getBinaryContent() == null, actual.getBinaryContent() == null);
+		});
+	}
+
+	@Test
+	void missingLogsAreSkipped() {
+		assertEquals(2, logProjectionFinder.findByIds(Arrays.asList(1L, 2L, 1_000L)).size());
+	}
+}
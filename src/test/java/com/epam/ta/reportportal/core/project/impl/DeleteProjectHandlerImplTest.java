@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
+import com.epam.ta.reportportal.core.project.ProjectDeletionService;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.attribute.Attribute;
@@ -68,6 +69,9 @@ class DeleteProjectHandlerImplTest {
 	@Mock
 	private MessageBus messageBus;
 
+	@Mock
+	private ProjectDeletionService projectDeletionService;
+
 	@InjectMocks
 	private DeleteProjectHandlerImpl handler;
 
@@ -81,6 +85,20 @@ class DeleteProjectHandlerImplTest {
 		assertEquals("Project '1' not found. Did you use correct project name?", exception.getMessage());
 	}
 
+	@Test
+	void deleteProjectSchedulesDeletion() {
+		Long projectId = 1L;
+		Project project = new Project();
+		project.setId(projectId);
+		when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+
+		OperationCompletionRS response = handler.deleteProject(projectId);
+
+		verify(projectDeletionService, times(1)).schedule(project);
+		verifyZeroInteractions(logIndexer);
+		assertEquals("Project with id = '1' has been scheduled for deletion.", response.getResultMessage());
+	}
+
 	@Test
 	void deleteIndexOnNotExistProject() {
 		String projectName = "notExist";
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.events.attachment.DeleteProjectAttachmentsEvent;
+import com.epam.ta.reportportal.core.project.ProjectDeletionStatus;
+import com.epam.ta.reportportal.dao.IssueTypeRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProjectDeletionServiceImplTest {
+
+	private static final long PROJECT_ID = 1L;
+
+	private static final long LAUNCH_ID = 10L;
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+	private final IssueTypeRepository issueTypeRepository = mock(IssueTypeRepository.class);
+
+	private final LogIndexer logIndexer = mock(LogIndexer.class);
+
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+	private final PreparedStatement lockStatement = mock(PreparedStatement.class);
+
+	private final ResultSet lockResult = mock(ResultSet.class);
+
+	private final ProjectDeletionStatus storedStatus = new ProjectDeletionStatus(PROJECT_ID,
+			ProjectDeletionStatus.State.IN_PROGRESS,
+			new Date(0L)
+	);
+
+	private final ProjectDeletionServiceImpl service = new ProjectDeletionServiceImpl(jdbcTemplate,
+			transactionTemplate,
+			Runnable::run,
+			projectRepository,
+			issueTypeRepository,
+			logIndexer,
+			eventPublisher,
+			CHUNK_SIZE
+	);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws Exception {
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString())).thenReturn(lockStatement);
+		when(lockStatement.executeQuery()).thenReturn(lockResult);
+		when(lockResult.next()).thenReturn(true);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+			ConnectionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInConnection(connection);
+		});
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+		when(jdbcTemplate.query(startsWith("SELECT project_id"), any(RowMapper.class), eq(PROJECT_ID)))
+				.thenReturn(Collections.singletonList(storedStatus));
+		when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), eq(PROJECT_ID))).thenReturn(true);
+	}
+
+	@Test
+	void scheduleDeletesProjectByChunks() throws Exception {
+		when(lockResult.getBoolean(1)).thenReturn(true);
+		when(jdbcTemplate.queryForList(startsWith("SELECT id FROM launch"), eq(Long.class), eq(PROJECT_ID), eq(CHUNK_SIZE))).thenReturn(
+				Collections.singletonList(LAUNCH_ID),
+				Collections.emptyList()
+		);
+		when(jdbcTemplate.update(startsWith("DELETE FROM log WHERE id IN (SELECT l.id"), eq(LAUNCH_ID), eq(CHUNK_SIZE))).thenReturn(5,
+				0);
+		when(jdbcTemplate.update(startsWith("DELETE FROM test_item"), eq(LAUNCH_ID), eq(CHUNK_SIZE))).thenReturn(3, 0);
+		when(jdbcTemplate.update(startsWith("DELETE FROM activity"), eq(PROJECT_ID), eq(CHUNK_SIZE))).thenReturn(2, 0);
+		Project project = project();
+		when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+
+		ProjectDeletionStatus scheduled = service.schedule(project);
+
+		assertEquals(new Date(0L), scheduled.getStartedAt());
+		verify(jdbcTemplate).update(startsWith("UPDATE project SET metadata"), anyLong(), eq(PROJECT_ID));
+		verify(jdbcTemplate).update("DELETE FROM project_user WHERE project_id = ?", PROJECT_ID);
+		verify(jdbcTemplate).update("DELETE FROM launch WHERE id = ?", LAUNCH_ID);
+		verify(projectRepository).delete(project);
+		verify(logIndexer).deleteIndex(PROJECT_ID);
+		verify(eventPublisher).publishEvent(any(DeleteProjectAttachmentsEvent.class));
+		verify(lockStatement, times(2)).executeQuery();
+		verify(lockStatement, times(2)).setLong(1, PROJECT_ID);
+		verify(jdbcTemplate, atLeastOnce()).update(startsWith("UPDATE project_deletion"),
+				eq("COMPLETED"),
+				any(),
+				any(),
+				any(),
+				any(),
+				any(),
+				any(),
+				eq(PROJECT_ID)
+		);
+
+		ProjectDeletionStatus status = service.getStatus(PROJECT_ID);
+		assertSame(storedStatus, status);
+		assertEquals(ProjectDeletionStatus.State.COMPLETED, status.getState());
+		assertEquals(1L, status.getDeletedLaunches());
+		assertEquals(3L, status.getDeletedItems());
+		assertEquals(5L, status.getDeletedLogs());
+		assertEquals(2L, status.getDeletedActivities());
+		assertNotNull(status.getFinishedAt());
+	}
+
+	@Test
+	void resumeSkipsProjectLockedByAnotherInstance() throws Exception {
+		when(lockResult.getBoolean(1)).thenReturn(false);
+		tombstoned(PROJECT_ID);
+
+		service.resume();
+
+		verify(jdbcTemplate, never()).queryForList(startsWith("SELECT id FROM launch"), eq(Long.class), any(), any());
+		verify(jdbcTemplate, never()).update(anyString(), any(), any());
+		verifyZeroInteractions(projectRepository, logIndexer, eventPublisher);
+		verify(lockStatement, times(1)).executeQuery();
+		assertEquals(ProjectDeletionStatus.State.IN_PROGRESS, service.getStatus(PROJECT_ID).getState());
+	}
+
+	@Test
+	void failedDeletionIsRetried() throws Exception {
+		when(lockResult.getBoolean(1)).thenReturn(true);
+		storedStatus.setState(ProjectDeletionStatus.State.FAILED);
+		storedStatus.setDeletedLaunches(2L);
+		tombstoned(PROJECT_ID);
+		when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project()));
+
+		service.retry();
+
+		verify(jdbcTemplate).update(startsWith("INSERT INTO project_deletion"), eq(PROJECT_ID), any());
+		verify(jdbcTemplate).update(startsWith("DELETE FROM project_deletion"), any(Object.class));
+		assertEquals(ProjectDeletionStatus.State.COMPLETED, storedStatus.getState());
+		assertEquals(new Date(0L), storedStatus.getStartedAt());
+		assertEquals(2L, storedStatus.getDeletedLaunches());
+	}
+
+	@Test
+	void notScheduledDeletion() {
+		when(jdbcTemplate.query(startsWith("SELECT project_id"), any(RowMapper.class), eq(2L))).thenReturn(Collections.emptyList());
+		when(projectRepository.existsById(2L)).thenReturn(true);
+
+		ReportPortalException exception = assertThrows(ReportPortalException.class, () -> service.getStatus(2L));
+
+		assertEquals(ErrorType.BAD_REQUEST_ERROR, exception.getErrorType());
+	}
+
+	@Test
+	void tombstonedProjectsAreExcluded() throws Exception {
+		Queryable filter = mock(Queryable.class);
+		assertSame(filter, service.withoutTombstoned(filter));
+
+		tombstoned(PROJECT_ID);
+
+		assertEquals(Collections.singletonMap(PROJECT_ID, "project"), service.getTombstonedProjects());
+		assertTrue(service.withoutTombstoned(filter) instanceof CompositeFilter);
+	}
+
+	@Test
+	void failedDeletionIsReported() throws Exception {
+		when(lockResult.getBoolean(1)).thenReturn(true);
+		when(jdbcTemplate.queryForList(startsWith("SELECT id FROM launch"), eq(Long.class), eq(PROJECT_ID), eq(CHUNK_SIZE))).thenThrow(
+				new IllegalStateException("Connection refused"));
+
+		service.schedule(project());
+
+		ProjectDeletionStatus status = service.getStatus(PROJECT_ID);
+		assertEquals(ProjectDeletionStatus.State.FAILED, status.getState());
+		assertEquals("Connection refused", status.getError());
+		verifyZeroInteractions(logIndexer, eventPublisher);
+		verify(lockStatement, times(2)).executeQuery();
+	}
+
+	private void tombstoned(Long projectId) throws Exception {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("id")).thenReturn(projectId);
+		when(resultSet.getString("name")).thenReturn("project");
+		doAnswer(invocation -> {
+			invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT id, name FROM project"), any(RowCallbackHandler.class));
+	}
+
+	private static Project project() {
+		Project project = new Project();
+		project.setId(PROJECT_ID);
+		project.setProjectIssueTypes(new HashSet<>());
+		return project;
+	}
+}
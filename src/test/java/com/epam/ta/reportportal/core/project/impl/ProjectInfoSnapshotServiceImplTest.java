@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.core.project.ProjectInfoSnapshot;
+import com.epam.ta.reportportal.entity.enums.InfoInterval;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ProjectInfoSnapshotServiceImplTest {
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void snapshotIsReusedUntilRefresh() {
+		ProjectInfoSnapshotServiceImpl service = service(60, 600);
+
+		ProjectInfoSnapshot<Integer> first = service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+		ProjectInfoSnapshot<Integer> second = service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+
+		assertEquals(1, first.getValue().intValue());
+		assertEquals(1, second.getValue().intValue());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void snapshotsAreSeparatedByIntervalAndKind() {
+		ProjectInfoSnapshotServiceImpl service = service(60, 600);
+
+		service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+		service.get(1L, InfoInterval.ONE_MONTH, "kind", loads::incrementAndGet);
+		service.get(1L, InfoInterval.THREE_MONTHS, "other", loads::incrementAndGet);
+
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void refreshRecomputesOnlySnapshotsOfProject() {
+		ProjectInfoSnapshotServiceImpl service = service(60, 600);
+		service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+		service.get(2L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+
+		service.refresh(1L);
+
+		assertEquals(3, loads.get());
+		assertEquals(3, service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet).getValue().intValue());
+		assertEquals(2, service.get(2L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet).getValue().intValue());
+	}
+
+	@Test
+	void outdatedSnapshotIsServedAndRefreshedInBackground() {
+		ProjectInfoSnapshotServiceImpl service = service(0, 600);
+		service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+
+		ProjectInfoSnapshot<Integer> snapshot = service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+
+		assertEquals(1, snapshot.getValue().intValue());
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void disabledSnapshotsAreComputedOnEveryRequest() {
+		ProjectInfoSnapshotServiceImpl service = service(60, 0);
+
+		service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+		service.get(1L, InfoInterval.THREE_MONTHS, "kind", loads::incrementAndGet);
+
+		assertEquals(2, loads.get());
+	}
+
+	private ProjectInfoSnapshotServiceImpl service(long refresh, long maxAge) {
+		return new ProjectInfoSnapshotServiceImpl(transactionManager, Runnable::run, new SimpleMeterRegistry(), refresh, maxAge);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.widget.impl;
+
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentPlan;
+import com.epam.ta.reportportal.entity.filter.UserFilter;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetOptions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_PROJECT_ID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WidgetContentPlanCacheImplTest {
+
+	private final WidgetContentPlanCacheImpl cache = new WidgetContentPlanCacheImpl(new SimpleMeterRegistry(), 100, 60);
+
+	@Test
+	void planIsBuiltOncePerWidgetVersion() {
+		AtomicInteger builds = new AtomicInteger();
+		Widget widget = widget("first");
+
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(1, builds.get());
+
+		widget.getWidgetOptions().getOptions().put("launchNameFilter", "second");
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	void planIsRebuiltWhenContentFieldsOrFiltersChange() {
+		AtomicInteger builds = new AtomicInteger();
+		Widget widget = widget("first");
+
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		widget.getContentFields().add("statistics$executions$passed");
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(2, builds.get());
+
+		UserFilter filter = new UserFilter();
+		filter.setId(2L);
+		widget.getFilters().add(filter);
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(3, builds.get());
+	}
+
+	@Test
+	void planBuiltInRolledBackTransactionIsEvicted() {
+		AtomicInteger builds = new AtomicInteger();
+		Widget widget = widget("first");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.getPlan(widget, 1L, countingBuilder(builds));
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	void planIsEvictedWithFilterAndWidget() {
+		AtomicInteger builds = new AtomicInteger();
+		Widget widget = widget("first");
+
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		cache.evictFilter(2L);
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(1, builds.get());
+
+		cache.evictFilter(1L);
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(2, builds.get());
+
+		cache.evictWidget(widget.getId());
+		cache.getPlan(widget, 1L, countingBuilder(builds));
+		assertEquals(3, builds.get());
+	}
+
+	@Test
+	void everyRequestIsBoundToOwnFilters() {
+		WidgetContentPlan plan = cache.getPlan(widget("first"), 1L, countingBuilder(new AtomicInteger()));
+
+		Map<Filter, Sort> first = plan.bindFilterSortMapping();
+		first.keySet().forEach(filter -> filter.withCondition(new FilterCondition(Condition.EQUALS, false, "2", CRITERIA_PROJECT_ID)));
+		Map<Filter, Sort> second = plan.bindFilterSortMapping();
+
+		assertNotSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+		assertEquals(1, second.keySet().iterator().next().getFilterConditions().size());
+		assertEquals(Sort.by("name"), second.values().iterator().next());
+		assertTrue(plan.isFiltered());
+	}
+
+	private static Supplier<WidgetContentPlan> countingBuilder(AtomicInteger builds) {
+		return () -> {
+			builds.incrementAndGet();
+			Filter filter = new Filter(1L,
+					Launch.class,
+					Lists.newArrayList(new FilterCondition(Condition.EQUALS, false, "1", CRITERIA_PROJECT_ID))
+			);
+			return new WidgetContentPlan(true,
+					Collections.singletonList("statistics$executions$total"),
+					Collections.singletonMap(filter, Sort.by("name"))
+			);
+		};
+	}
+
+	private static Widget widget(String launchName) {
+		Widget widget = new Widget();
+		widget.setId(10L);
+		widget.setWidgetType("launchStatistics");
+		widget.setItemsCount(10);
+		WidgetOptions widgetOptions = new WidgetOptions();
+		Map<String, Object> options = new HashMap<>();
+		options.put("launchNameFilter", launchName);
+		widgetOptions.setOptions(options);
+		widget.setWidgetOptions(widgetOptions);
+		widget.getContentFields().add("statistics$executions$total");
+		widget.setFilters(Sets.newHashSet());
+		return widget;
+	}
+}
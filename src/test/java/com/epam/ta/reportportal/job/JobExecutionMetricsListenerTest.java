@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobExecutionMetricsListenerTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final JobExecutionMetricsListener listener = new JobExecutionMetricsListener(meterRegistry);
+
+	@Test
+	void recordsQueueDelayPerJob() {
+		JobExecutionContext context = context();
+		when(context.getScheduledFireTime()).thenReturn(new Date(1000L));
+		when(context.getFireTime()).thenReturn(new Date(3500L));
+
+		listener.jobToBeExecuted(context);
+
+		Timer timer = meterRegistry.find("rp.job.queue.delay").tag("job", CleanLogsJob.class.getSimpleName()).timer();
+		assertNotNull(timer);
+		assertEquals(1L, timer.count());
+		assertEquals(2500D, timer.totalTime(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void recordsRunDurationWithResult() {
+		JobExecutionContext context = context();
+		when(context.getJobRunTime()).thenReturn(700L);
+
+		listener.jobWasExecuted(context, null);
+		listener.jobWasExecuted(context, new JobExecutionException("failed"));
+
+		Timer success = meterRegistry.find("rp.job.duration").tags("job", CleanLogsJob.class.getSimpleName(), "result", "success").timer();
+		Timer failure = meterRegistry.find("rp.job.duration").tags("job", CleanLogsJob.class.getSimpleName(), "result", "failure").timer();
+		assertNotNull(success);
+		assertNotNull(failure);
+		assertEquals(700D, success.totalTime(TimeUnit.MILLISECONDS));
+		assertEquals(1L, failure.count());
+	}
+
+	private static JobExecutionContext context() {
+		JobDetail jobDetail = mock(JobDetail.class);
+		doReturn(CleanLogsJob.class).when(jobDetail).getJobClass();
+		JobExecutionContext context = mock(JobExecutionContext.class);
+		when(context.getJobDetail()).thenReturn(jobDetail);
+		return context;
+	}
+}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.enums.KeepLogsDelay;
@@ -31,6 +32,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
@@ -62,6 +66,9 @@ class LogCleanerServiceImplTest {
 	@Mock
 	private AttachmentRepository attachmentRepository;
 
+	@Mock
+	private AttachmentDeduplicator attachmentDeduplicator;
+
 	@InjectMocks
 	private LogCleanerServiceImpl logCleanerService;
 
@@ -93,6 +100,7 @@ class LogCleanerServiceImplTest {
 		when(launchRepository.streamIdsModifiedBefore(eq(project.getId()), any(LocalDateTime.class))).thenReturn(Stream.of(launchId));
 		when(testItemRepository.streamTestItemIdsByLaunchId(launchId)).thenReturn(Stream.of(testItemId));
 		when(logRepository.findLogsWithThumbnailByTestItemIdAndPeriod(testItemId, period)).thenReturn(Arrays.asList(log1, log2));
+		when(attachmentDeduplicator.releaseFiles(any(), any())).thenAnswer(a -> new HashSet<>(a.<Collection<String>>getArgument(0)));
 		when(logRepository.deleteByPeriodAndTestItemIds(eq(period), any())).thenReturn(deletedLogsCount);
 
 		logCleanerService.removeOutdatedLogs(project, period, removedLogsCount);
@@ -126,6 +134,7 @@ class LogCleanerServiceImplTest {
 		when(launchRepository.streamIdsModifiedBefore(eq(project.getId()), any(LocalDateTime.class))).thenReturn(Stream.of(launchId));
 		when(testItemRepository.streamTestItemIdsByLaunchId(launchId)).thenReturn(Stream.of(testItemId));
 		when(logRepository.findLogsWithThumbnailByTestItemIdAndPeriod(testItemId, period)).thenReturn(Arrays.asList(log1, log2));
+		when(attachmentDeduplicator.releaseFiles(any(), any())).thenAnswer(a -> new HashSet<>(a.<Collection<String>>getArgument(0)));
 
 		logCleanerService.removeProjectAttachments(project, period, new AtomicLong(), new AtomicLong());
 
@@ -133,4 +142,32 @@ class LogCleanerServiceImplTest {
 		verify(attachmentRepository, times(1)).deleteAllByIds(any());
 
 	}
+
+	@Test
+	void keepSharedFilesOnAttachmentsRemoval() {
+		Project project = new Project();
+		project.setId(1L);
+		Duration period = ofDays(KeepLogsDelay.SIX_MONTHS.getDays());
+
+		long launchId = 1L;
+		long testItemId = 2L;
+		Log log = new Log();
+		Attachment attachment = new Attachment();
+		attachment.setId(3L);
+		attachment.setFileId("shared");
+		attachment.setThumbnailId("sharedThumbnail");
+		log.setAttachment(attachment);
+
+		when(launchRepository.streamIdsModifiedBefore(eq(project.getId()), any(LocalDateTime.class))).thenReturn(Stream.of(launchId));
+		when(testItemRepository.streamTestItemIdsByLaunchId(launchId)).thenReturn(Stream.of(testItemId));
+		when(logRepository.findLogsWithThumbnailByTestItemIdAndPeriod(testItemId, period)).thenReturn(Collections.singletonList(log));
+		when(attachmentDeduplicator.releaseFiles(any(), any())).thenReturn(Collections.emptySet());
+
+		AtomicLong removedAttachmentsCount = new AtomicLong();
+		logCleanerService.removeProjectAttachments(project, period, removedAttachmentsCount, new AtomicLong());
+
+		assertEquals(0, removedAttachmentsCount.get());
+		verify(dataStoreService, never()).delete(any());
+		verify(attachmentRepository, times(1)).deleteAllByIds(Collections.singletonList(3L));
+	}
 }
\ No newline at end of file
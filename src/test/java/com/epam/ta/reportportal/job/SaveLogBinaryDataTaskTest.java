@@ -17,6 +17,8 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTask;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
 import org.junit.jupiter.api.Test;
@@ -27,9 +29,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -40,6 +42,8 @@ class SaveLogBinaryDataTaskTest {
 	@Mock
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Mock
+	private AttachmentDeduplicator attachmentDeduplicator;
 	@InjectMocks
 	private SaveLogBinaryDataTask saveLogBinaryDataTask;
 
@@ -49,11 +53,17 @@ class SaveLogBinaryDataTaskTest {
 		MockMultipartFile file = new MockMultipartFile("file", "filename", "text/plain", "some data".getBytes(StandardCharsets.UTF_8));
 		long projectId = 2L;
 		AttachmentMetaInfo attachmentMetaInfo = AttachmentMetaInfo.builder().withLogId(logId).withProjectId(projectId).build();
-		SaveLogBinaryDataTask saveLogBinaryDataTask = this.saveLogBinaryDataTask.withFile(file).withAttachmentMetaInfo(attachmentMetaInfo);
+		SaveLogBinaryDataTask saveLogBinaryDataTask = this.saveLogBinaryDataTask.withFile(file)
+				.withAttachmentMetaInfo(attachmentMetaInfo)
+				.withLogUuid("uuid");
+		BinaryDataMetaInfo binaryDataMetaInfo = new BinaryDataMetaInfo();
+		when(attachmentDeduplicator.contentHash(file)).thenReturn(Optional.of("hash"));
+		when(attachmentDeduplicator.saveAttachment(projectId, file, "hash", "uuid")).thenReturn(Optional.of(binaryDataMetaInfo));
 
 		saveLogBinaryDataTask.run();
 
-		verify(attachmentBinaryDataService, times(1)).saveFileAndAttachToLog(file, attachmentMetaInfo);
+		verify(attachmentBinaryDataService, times(1)).attachToLog(binaryDataMetaInfo, attachmentMetaInfo);
+		verify(attachmentDeduplicator, times(1)).onAttachmentSaved(binaryDataMetaInfo, "hash", "uuid");
 
 	}
 }
\ No newline at end of file
@@ -25,14 +25,30 @@ import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.ProjectIssueType;
 import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.entity.statistics.StatisticsField;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import com.sun.mail.smtp.SMTPSendFailedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.internet.AddressException;
+import javax.mail.internet.InternetAddress;
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -67,6 +83,112 @@ class EmailServiceTest {
 		System.out.println(url);
 	}
 
+	@Test
+	void sendBatchOverSingleConnection() throws IOException {
+		when(templateEngine.merge(any(String.class), any(Map.class))).thenReturn("EMAIL MESSAGE");
+
+		try (SmtpServerStub smtpServer = new SmtpServerStub()) {
+			EmailService service = smtpService(smtpServer);
+
+			List<MailMessage> failed = service.sendBatch(Stream.of("first@example.com", "second@example.com", "third@example.com")
+					.map(EmailServiceTest::mailMessage)
+					.collect(Collectors.toList()));
+
+			assertTrue(failed.isEmpty());
+			assertEquals(1, smtpServer.getConnections());
+			assertEquals(3, smtpServer.getMessages().size());
+		}
+	}
+
+	@Test
+	void sendBatchReturnsOnlyTransientFailures() throws IOException {
+		when(templateEngine.merge(any(String.class), any(Map.class))).thenReturn("EMAIL MESSAGE");
+
+		try (SmtpServerStub smtpServer = new SmtpServerStub()) {
+			EmailService service = smtpService(smtpServer);
+			MailMessage accepted = mailMessage("first@example.com");
+			MailMessage rejected = mailMessage(SmtpServerStub.REJECTED_RECIPIENT);
+			MailMessage deferred = mailMessage(SmtpServerStub.DEFERRED_RECIPIENT);
+
+			List<MailMessage> failed = service.sendBatch(Stream.of(accepted, rejected, deferred).collect(Collectors.toList()));
+
+			assertEquals(Collections.singletonList(deferred), failed);
+			assertEquals(1, smtpServer.getMessages().size());
+		}
+	}
+
+	@Test
+	void permanentFailureIsDetectedBySmtpReply() throws AddressException {
+		InternetAddress address = new InternetAddress("user@example.com");
+		MessagingException rejected = new SMTPSendFailedException("RCPT TO",
+				550,
+				"No such user",
+				new SMTPAddressFailedException(address, "RCPT TO", 550, "No such user"),
+				null,
+				null,
+				new Address[] { address }
+		);
+		MessagingException deferred = new SMTPSendFailedException("RCPT TO",
+				451,
+				"Try again later",
+				new SMTPAddressFailedException(address, "RCPT TO", 451, "Try again later"),
+				null,
+				new Address[] { address },
+				null
+		);
+
+		assertTrue(EmailService.isPermanentFailure(rejected));
+		assertFalse(EmailService.isPermanentFailure(deferred));
+		assertFalse(EmailService.isPermanentFailure(new MessagingException("Connection reset", new IOException())));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void finishLaunchModelContainsAllDefectSubtypes() {
+		ArgumentCaptor<Map<String, Object>> model = ArgumentCaptor.forClass(Map.class);
+		when(templateEngine.merge(any(String.class), model.capture())).thenReturn("EMAIL MESSAGE");
+
+		Launch launch = getLaunch();
+		launch.getStatistics().add(new Statistics(new StatisticsField("statistics$defects$product_bug$pb001"), 2, 1L));
+		launch.getStatistics().add(new Statistics(new StatisticsField("statistics$defects$product_bug$pb_custom"), 3, 1L));
+		launch.getStatistics().add(new Statistics(new StatisticsField("statistics$defects$product_bug$total"), 5, 1L));
+
+		emailService.mergeFinishLaunchText("url",
+				launch,
+				Sets.newHashSet(projectIssueType("pb001", "Product Bug"), projectIssueType("pb_custom", "Custom Bug"))
+		);
+
+		assertEquals(ImmutableMap.of("Product Bug", 2, "Custom Bug", 3), model.getValue().get("pbInfo"));
+	}
+
+	private static ProjectIssueType projectIssueType(String locator, String longName) {
+		IssueType issueType = new IssueType();
+		issueType.setLocator(locator);
+		issueType.setLongName(longName);
+		ProjectIssueType projectIssueType = new ProjectIssueType();
+		projectIssueType.setIssueType(issueType);
+		return projectIssueType;
+	}
+
+	private EmailService smtpService(SmtpServerStub smtpServer) {
+		EmailService service = new EmailService(new Properties());
+		service.setTemplateEngine(templateEngine);
+		service.setHost("localhost");
+		service.setPort(smtpServer.getPort());
+		service.setFrom("reportportal@example.com");
+		return service;
+	}
+
+	private static MailMessage mailMessage(String recipient) {
+		MailMessage message = new MailMessage();
+		message.setIntegrationId(1L);
+		message.setRecipients(Collections.singletonList(recipient));
+		message.setSubject("subject");
+		message.setTemplate("finish-launch-template.ftl");
+		message.setInlines(Collections.singletonList("ic-github.png"));
+		return message;
+	}
+
 	private Launch getLaunch() {
 		Launch launch = new Launch();
 		launch.setId(1L);
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.email;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process SMTP server accepting all the messages except the ones addressed to {@link #REJECTED_RECIPIENT}
+ * (permanent failure) and {@link #DEFERRED_RECIPIENT} (transient failure)
+ */
+class SmtpServerStub implements Closeable {
+
+	static final String REJECTED_RECIPIENT = "rejected@example.com";
+
+	static final String DEFERRED_RECIPIENT = "deferred@example.com";
+
+	private final ServerSocket serverSocket;
+
+	private final AtomicInteger connections = new AtomicInteger();
+
+	private final List<String> messages = new CopyOnWriteArrayList<>();
+
+	SmtpServerStub() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		Thread acceptor = new Thread(this::accept, "smtp-stub");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	int getConnections() {
+		return connections.get();
+	}
+
+	List<String> getMessages() {
+		return messages;
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try (Socket socket = serverSocket.accept()) {
+				connections.incrementAndGet();
+				serve(socket);
+			} catch (IOException ignored) {
+				//server is closed or client has disconnected
+			}
+		}
+	}
+
+	private void serve(Socket socket) throws IOException {
+		BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+		Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+		reply(out, "220 localhost SMTP stub");
+		String line;
+		while ((line = in.readLine()) != null) {
+			String command = line.toUpperCase();
+			if (command.startsWith("DATA")) {
+				reply(out, "354 End data with <CR><LF>.<CR><LF>");
+				StringBuilder message = new StringBuilder();
+				while ((line = in.readLine()) != null && !".".equals(line)) {
+					message.append(line).append('\n');
+				}
+				messages.add(message.toString());
+				reply(out, "250 OK");
+			} else if (command.startsWith("RCPT") && command.contains(REJECTED_RECIPIENT.toUpperCase())) {
+				reply(out, "550 No such user");
+			} else if (command.startsWith("RCPT") && command.contains(DEFERRED_RECIPIENT.toUpperCase())) {
+				reply(out, "451 Try again later");
+			} else if (command.startsWith("QUIT")) {
+				reply(out, "221 Bye");
+				return;
+			} else {
+				reply(out, "250 OK");
+			}
+		}
+	}
+
+	private static void reply(Writer out, String reply) throws IOException {
+		out.write(reply + "\r\n");
+		out.flush();
+	}
+}
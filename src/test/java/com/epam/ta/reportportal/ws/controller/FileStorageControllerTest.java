@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.ws.controller;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.file.AttachmentThumbnailService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
@@ -25,6 +26,7 @@ import com.epam.ta.reportportal.ws.BaseMvcTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.jdbc.Sql;
@@ -35,9 +37,13 @@ import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.util.MultipartFileUtils.getMultipartFile;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -51,6 +57,9 @@ class FileStorageControllerTest extends BaseMvcTest {
 	@Autowired
 	private AttachmentRepository attachmentRepository;
 
+	@Autowired
+	private AttachmentThumbnailService attachmentThumbnailService;
+
 	@Test
 	void userPhoto() throws Exception {
 		final MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.multipart("/v1/data/photo")
@@ -104,6 +113,69 @@ class FileStorageControllerTest extends BaseMvcTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	@Sql("/db/data-store/data-store-fill.sql")
+	void getFileRange() throws Exception {
+		Long attachmentId = saveAttachment();
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachmentId).header(HttpHeaders.RANGE, "bytes=0-9")
+				.with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "10"))
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, startsWith("bytes 0-9/")));
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachmentId).header(HttpHeaders.RANGE, "bytes=0-9,20-29")
+				.with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("multipart/byteranges")));
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachmentId).header(HttpHeaders.RANGE, "bytes=999999999-")
+				.with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isRequestedRangeNotSatisfiable());
+	}
+
+	@Test
+	@Sql("/db/data-store/data-store-fill.sql")
+	void getFileNotModified() throws Exception {
+		Long attachmentId = saveAttachment();
+
+		String eTag = mockMvc.perform(get("/v1/data/superadmin_personal/" + attachmentId).with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.CONTENT_LENGTH))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachmentId).header(HttpHeaders.IF_NONE_MATCH, eTag)
+				.with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isNotModified());
+	}
+
+	@Test
+	void getMissingFileIsNotCached() throws Exception {
+		mockMvc.perform(get("/v1/data/superadmin_personal/100500").with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().is4xxClientError())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+	}
+
+	@Test
+	@Sql("/db/data-store/data-store-fill.sql")
+	void getDeferredThumbnail() throws Exception {
+		Optional<BinaryDataMetaInfo> binaryDataMetaInfo = attachmentThumbnailService.saveAttachment(1L,
+				getMultipartFile("image/large_image.png")
+		);
+		assertTrue(binaryDataMetaInfo.isPresent());
+		attachmentBinaryDataService.attachToLog(binaryDataMetaInfo.get(),
+				AttachmentMetaInfo.builder().withProjectId(1L).withItemId(1L).withLaunchId(1L).withLogId(1L).build()
+		);
+		Optional<Attachment> attachment = attachmentRepository.findByFileId(binaryDataMetaInfo.get().getFileId());
+		assertTrue(attachment.isPresent());
+
+		String thumbnailUrl = "/v1/data/superadmin_personal/" + attachment.get().getId() + "/thumbnail";
+		mockMvc.perform(get(thumbnailUrl).with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.CONTENT_LENGTH));
+	}
+
 	@Test
 	void getUserPhotoNegative() throws Exception {
 		mockMvc.perform(get("/v1/data/photo").with(token(oAuthHelper.getDefaultToken()))).andExpect(status().isBadRequest());
@@ -115,6 +187,19 @@ class FileStorageControllerTest extends BaseMvcTest {
 				.andExpect(status().isBadRequest());
 	}
 
+	private Long saveAttachment() throws Exception {
+		Optional<BinaryDataMetaInfo> binaryDataMetaInfo = attachmentBinaryDataService.saveAttachment(1L,
+				getMultipartFile("image/large_image.png")
+		);
+		assertTrue(binaryDataMetaInfo.isPresent());
+		attachmentBinaryDataService.attachToLog(binaryDataMetaInfo.get(),
+				AttachmentMetaInfo.builder().withProjectId(1L).withItemId(1L).withLaunchId(1L).withLogId(1L).build()
+		);
+		Optional<Attachment> attachment = attachmentRepository.findByFileId(binaryDataMetaInfo.get().getFileId());
+		assertTrue(attachment.isPresent());
+		return attachment.get().getId();
+	}
+
 	@Test
 	void getNotExistUserPhoto() throws Exception {
 		mockMvc.perform(get("/v1/data/userphoto?id=not_exist").with(token(oAuthHelper.getSuperadminToken())))
@@ -16,8 +16,10 @@
 
 package com.epam.ta.reportportal.ws.controller;
 
+import com.epam.ta.reportportal.core.log.KeysetPage;
 import com.epam.ta.reportportal.ws.BaseMvcTest;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,8 +29,10 @@ import org.springframework.test.context.jdbc.Sql;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -65,6 +69,43 @@ class LogControllerTest extends BaseMvcTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void getLogsPageTraversal() throws Exception {
+		KeysetPage<Map<String, Object>> first = getPage(DEFAULT_PROJECT_BASE_URL + "/log/item/2/cursor?size=2");
+		assertEquals(2, first.getContent().size());
+		assertNull(first.getPrevious());
+		assertNotNull(first.getNext());
+
+		KeysetPage<Map<String, Object>> second = getPage(DEFAULT_PROJECT_BASE_URL + "/log/item/2/cursor?size=2&cursor=" + first.getNext());
+		assertEquals(1, second.getContent().size());
+		assertNotNull(second.getPrevious());
+		assertNull(second.getNext());
+
+		KeysetPage<Map<String, Object>> back = getPage(
+				DEFAULT_PROJECT_BASE_URL + "/log/item/2/cursor?size=2&direction=PREVIOUS&cursor=" + second.getPrevious());
+		assertEquals(first.getContent(), back.getContent());
+		assertNull(back.getPrevious());
+	}
+
+	@Test
+	void getLogsPageAroundLog() throws Exception {
+		KeysetPage<Map<String, Object>> page = getPage(DEFAULT_PROJECT_BASE_URL + "/log/item/2/cursor?size=3&around=2");
+		assertEquals(3, page.getContent().size());
+		assertEquals(2, page.getContent().get(1).get("id"));
+	}
+
+	@Test
+	void getLogsPageInvalidCursor() throws Exception {
+		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/log/item/2/cursor?cursor=invalid").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getNestedItemsPagePositive() throws Exception {
+		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/log/nested/1/cursor?size=10").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().isOk());
+	}
+
 	@Test
 	void getLogPositive() throws Exception {
 		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/log/2").with(token(oAuthHelper.getDefaultToken()))).andExpect(status().isOk());
@@ -80,4 +121,13 @@ class LogControllerTest extends BaseMvcTest {
 		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/log/100").with(token(oAuthHelper.getDefaultToken())))
 				.andExpect(status().isNotFound());
 	}
+
+	private KeysetPage<Map<String, Object>> getPage(String url) throws Exception {
+		return objectMapper.readValue(mockMvc.perform(get(url).with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsByteArray(), new TypeReference<KeysetPage<Map<String, Object>>>() {
+		});
+	}
 }
\ No newline at end of file
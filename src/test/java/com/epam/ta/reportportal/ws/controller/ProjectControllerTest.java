@@ -42,6 +42,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -54,6 +56,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -73,6 +76,9 @@ class ProjectControllerTest extends BaseMvcTest {
 	@Autowired
 	private Client rabbitClient;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	@Autowired
 	@Qualifier("analyzerRabbitTemplate")
 	private RabbitTemplate rabbitTemplate;
@@ -196,11 +202,21 @@ class ProjectControllerTest extends BaseMvcTest {
 				.with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isBadRequest());
 	}
 
+	/**
+	 * Deletion is started after the commit of the request transaction, so the project is only tombstoned within the test
+	 */
 	@Test
 	void deleteProjectPositive() throws Exception {
-		mockMvc.perform(delete("/v1/project/3").with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isOk());
+		mockMvc.perform(delete("/v1/project/3").with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.message").value("Project with id = '3' has been scheduled for deletion."));
 
-		assertFalse(projectRepository.findById(3L).isPresent());
+		assertTrue(projectRepository.findById(3L).isPresent());
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM project_user WHERE project_id = 3", Integer.class).intValue());
+		mockMvc.perform(get("/v1/project/3/deletion").with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.projectId").value(3))
+				.andExpect(jsonPath("$.state").value("IN_PROGRESS"));
 	}
 
 	@Test
@@ -308,7 +324,8 @@ class ProjectControllerTest extends BaseMvcTest {
 				.andExpect(jsonPath("$.projectName").value("default_personal"))
 				.andExpect(jsonPath("$.usersQuantity").value(1))
 				.andExpect(jsonPath("$.launchesQuantity").value(1))
-				.andExpect(jsonPath("$.entryType").value("PERSONAL"));
+				.andExpect(jsonPath("$.entryType").value("PERSONAL"))
+				.andExpect(header().exists(HttpHeaders.AGE));
 	}
 
 	@Sql("/db/test-item/test-item-fill.sql")
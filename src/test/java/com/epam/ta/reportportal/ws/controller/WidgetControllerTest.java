@@ -303,6 +303,34 @@ class WidgetControllerTest extends BaseMvcTest {
 				.andReturn();
 	}
 
+	@Sql("/db/widget/launches-table.sql")
+	@Test
+	void getLaunchesTableWidgetAfterContentFieldsUpdate() throws Exception {
+		mockMvc.perform(get(SUPERADMIN_PROJECT_BASE_URL + "/widget/2").with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.result[0].values.statistics$executions$passed").value("1"));
+
+		final WidgetRQ rq = new WidgetRQ();
+		rq.setName("launches table");
+		rq.setWidgetType("launchesTable");
+		rq.setShare(false);
+		rq.setFilterIds(Collections.singletonList(1L));
+		final ContentParameters contentParameters = new ContentParameters();
+		contentParameters.setContentFields(Arrays.asList("name", "number", "statistics$executions$total"));
+		contentParameters.setItemsCount(20);
+		contentParameters.setWidgetOptions(new HashMap<>());
+		rq.setContentParameters(contentParameters);
+		mockMvc.perform(put(SUPERADMIN_PROJECT_BASE_URL + "/widget/2").with(token(oAuthHelper.getSuperadminToken()))
+				.content(objectMapper.writeValueAsBytes(rq))
+				.contentType(APPLICATION_JSON)).andExpect(status().isOk());
+
+		mockMvc.perform(get(SUPERADMIN_PROJECT_BASE_URL + "/widget/2").with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.contentParameters.contentFields", hasSize(3)))
+				.andExpect(jsonPath("$.content.result[0].values.statistics$executions$total").value("5"))
+				.andExpect(jsonPath("$.content.result[0].values.statistics$executions$passed").doesNotExist());
+	}
+
 	@Sql("/db/widget/launches-table.sql")
 	@Test
 	void getEmptyContentLaunchesTableWidget() throws Exception {
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.converter.converters;
+
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.user.User;
+import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LaunchConverterTest {
+
+	@Mock
+	private AnalyzerStatusCache analyzerStatusCache;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@InjectMocks
+	private LaunchConverter launchConverter;
+
+	@Test
+	void toResourcesResolvesOwnersAtOnce() {
+		when(userRepository.findAllById(Sets.newHashSet(1L, 2L))).thenReturn(Lists.newArrayList(getUser(1L, "first"), getUser(2L, "second")));
+
+		List<LaunchResource> resources = launchConverter.TO_RESOURCES.apply(Lists.newArrayList(getLaunch(10L, 1L),
+				getLaunch(11L, 2L),
+				getLaunch(12L, 1L),
+				getLaunch(13L, null)
+		));
+
+		assertEquals(4, resources.size());
+		assertEquals("first", resources.get(0).getOwner());
+		assertEquals("second", resources.get(1).getOwner());
+		assertEquals("first", resources.get(2).getOwner());
+		assertNull(resources.get(3).getOwner());
+		assertEquals(Long.valueOf(12L), resources.get(2).getLaunchId());
+		verify(userRepository, times(1)).findAllById(any());
+		verify(userRepository, never()).findLoginById(any());
+	}
+
+	private static Launch getLaunch(Long id, Long userId) {
+		Launch launch = new Launch();
+		launch.setId(id);
+		launch.setUserId(userId);
+		launch.setName("launch");
+		launch.setNumber(1L);
+		launch.setStatistics(Sets.newHashSet());
+		return launch;
+	}
+
+	private static User getUser(Long id, String login) {
+		User user = new User();
+		user.setId(id);
+		user.setLogin(login);
+		return user;
+	}
+}
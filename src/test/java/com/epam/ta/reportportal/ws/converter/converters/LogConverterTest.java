@@ -28,6 +28,7 @@ import java.time.ZoneId;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -72,4 +73,23 @@ class LogConverterTest {
 		assertEquals(binaryContent.getBinaryDataId(), String.valueOf(log.getAttachment().getId()));
 		assertEquals(binaryContent.getThumbnailId(), log.getAttachment().getThumbnailId());
 	}
+
+	@Test
+	void toResourcePendingThumbnail() {
+		final Log log = getLog();
+		log.getAttachment().setContentType("image/png");
+		log.getAttachment().setThumbnailId(null);
+
+		final LogResource.BinaryContent binaryContent = LogConverter.TO_RESOURCE.apply(log).getBinaryContent();
+
+		assertEquals("1/thumbnail", binaryContent.getThumbnailId());
+	}
+
+	@Test
+	void toResourceNotImageWithoutThumbnail() {
+		final Log log = getLog();
+		log.getAttachment().setThumbnailId(null);
+
+		assertNull(LogConverter.TO_RESOURCE.apply(log).getBinaryContent().getThumbnailId());
+	}
 }
\ No newline at end of file
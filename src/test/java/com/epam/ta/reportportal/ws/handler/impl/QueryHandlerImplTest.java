@@ -25,18 +25,33 @@ import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.rabbit.QueryPageRQ;
+import com.epam.ta.reportportal.ws.rabbit.QueryPageRS;
 import com.epam.ta.reportportal.ws.rabbit.QueryRQ;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static com.epam.ta.reportportal.jooq.Tables.LOG;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -57,9 +72,23 @@ class QueryHandlerImplTest {
 	@Mock
 	private LogRepository logRepository;
 
-	@InjectMocks
+	@Mock
+	private QueryProjectionFinder queryProjectionFinder;
+
 	private QueryHandlerImpl queryHandler;
 
+	@BeforeEach
+	void setUp() {
+		queryHandler = new QueryHandlerImpl(projectRepository,
+				integrationRepository,
+				testItemRepository,
+				logRepository,
+				queryProjectionFinder,
+				new SimpleMeterRegistry(),
+				2
+		);
+	}
+
 	@Test
 	void testFind_withLogRepositoryRequest() {
 
@@ -102,4 +131,105 @@ class QueryHandlerImplTest {
 		//when:
 		assertThrows(ReportPortalException.class, () -> queryHandler.find(queryRQ));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testFindPage_capsLimitAndReturnsContinuationToken() {
+
+		//given:
+		Filter requestFilter = Filter.builder()
+				.withTarget(Log.class).withCondition(FilterCondition.builder().eq("item", "1").build())
+				.build();
+
+		QueryPageRQ queryPageRQ = new QueryPageRQ();
+		queryPageRQ.setEntity(Log.class.getSimpleName());
+		queryPageRQ.setFilter(requestFilter);
+		queryPageRQ.setLimit(100);
+
+		//setup:
+		when(logRepository.findByFilter(eq(requestFilter), any(Pageable.class))).thenReturn(new PageImpl<>(Lists.newArrayList(log(3L),
+				log(7L)
+		)));
+
+		//when:
+		QueryPageRS page = queryHandler.findPage(queryPageRQ);
+
+		//then:
+		ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+		verify(logRepository).findByFilter(eq(requestFilter), captor.capture());
+		assertEquals(2, captor.getValue().getPageSize());
+
+		assertEquals(2, page.getContent().size());
+		assertNotNull(page.getContinuationToken());
+		verifyZeroInteractions(queryProjectionFinder);
+
+		//next page:
+		queryPageRQ.setContinuationToken(page.getContinuationToken());
+		when(logRepository.findByFilter(eq(requestFilter), any(Pageable.class))).thenReturn(new PageImpl<>(Lists.newArrayList(log(9L))));
+
+		QueryPageRS lastPage = queryHandler.findPage(queryPageRQ);
+
+		assertEquals(1, lastPage.getContent().size());
+		assertNull(lastPage.getContinuationToken());
+	}
+
+	@Test
+	void testFindPage_selectsRequestedFieldsOnly() {
+
+		//given:
+		Filter requestFilter = Filter.builder()
+				.withTarget(Log.class).withCondition(FilterCondition.builder().eq("item", "1").build())
+				.build();
+
+		List<String> fields = Lists.newArrayList("id", "logMessage");
+		QueryPageRQ queryPageRQ = new QueryPageRQ();
+		queryPageRQ.setEntity(Log.class.getSimpleName());
+		queryPageRQ.setFilter(requestFilter);
+		queryPageRQ.setLimit(100);
+		queryPageRQ.setFields(fields);
+
+		//setup:
+		List<Long> ids = Lists.newArrayList(3L, 7L);
+		when(queryProjectionFinder.findIds(requestFilter, LOG.ID, 2)).thenReturn(ids);
+		when(queryProjectionFinder.findFields(LOG.ID, ids, fields)).thenReturn(Lists.newArrayList(row(3L), row(7L)));
+
+		//when:
+		QueryPageRS page = queryHandler.findPage(queryPageRQ);
+
+		//then:
+		assertEquals(2, page.getContent().size());
+		assertEquals(3L, ((Map<?, ?>) page.getContent().get(0)).get("id"));
+		assertNotNull(page.getContinuationToken());
+		verifyZeroInteractions(logRepository);
+
+		//next page:
+		queryPageRQ.setContinuationToken(page.getContinuationToken());
+		when(queryProjectionFinder.findIds(requestFilter, LOG.ID, 2)).thenReturn(Lists.newArrayList(9L));
+		when(queryProjectionFinder.findFields(LOG.ID, Lists.newArrayList(9L), fields)).thenReturn(Lists.newArrayList(row(9L)));
+
+		QueryPageRS lastPage = queryHandler.findPage(queryPageRQ);
+
+		assertEquals(1, lastPage.getContent().size());
+		assertNull(lastPage.getContinuationToken());
+	}
+
+	@Test
+	void testFindPage_withoutLimit() {
+
+		QueryPageRQ queryPageRQ = new QueryPageRQ();
+		queryPageRQ.setEntity(Log.class.getSimpleName());
+		queryPageRQ.setFilter(Filter.builder().withTarget(Log.class).withCondition(FilterCondition.builder().eq("id", "2").build()).build());
+
+		assertThrows(ReportPortalException.class, () -> queryHandler.findPage(queryPageRQ));
+	}
+
+	private static Map<String, Object> row(Long id) {
+		return Collections.singletonMap("id", id);
+	}
+
+	private static Log log(Long id) {
+		Log log = new Log();
+		log.setId(id);
+		log.setLogMessage("message");
+		return log;
+	}
+}
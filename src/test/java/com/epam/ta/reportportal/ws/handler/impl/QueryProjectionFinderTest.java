@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.handler.impl;
+
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+import static com.epam.ta.reportportal.jooq.Tables.LOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the projections select the same page as the repository
+ */
+@Sql({ "/db/test-item/test-item-fill.sql", "/db/log/log-fill.sql" })
+class QueryProjectionFinderTest extends BaseMvcTest {
+
+	@Autowired
+	private QueryProjectionFinder queryProjectionFinder;
+
+	@Autowired
+	private LogRepository logRepository;
+
+	@Test
+	void projectionsMatchFilteredEntities() {
+		List<Log> logs = logRepository.findByFilter(filter(), PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, CRITERIA_ID)))
+				.getContent();
+
+		List<Long> ids = queryProjectionFinder.findIds(filter(), LOG.ID, 2);
+		List<Map<String, Object>> rows = queryProjectionFinder.findFields(LOG.ID, ids, Arrays.asList("id", "logMessage"));
+
+		assertEquals(logs.stream().map(Log::getId).collect(Collectors.toList()), ids);
+		assertEquals(logs.size(), rows.size());
+		for (int i = 0; i < logs.size(); i++) {
+			assertEquals(2, rows.get(i).size());
+			assertEquals(logs.get(i).getId(), ((Number) rows.get(i).get("id")).longValue());
+			assertEquals(logs.get(i).getLogMessage(), rows.get(i).get("logMessage"));
+		}
+	}
+
+	@Test
+	void idsPageMatchesFilteredEntities() {
+		PageRequest pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, CRITERIA_ID));
+		Page<Log> logs = logRepository.findByFilter(filter(), pageable);
+
+		Page<Long> ids = queryProjectionFinder.findIdsPage(filter(), pageable, LOG.ID);
+
+		assertEquals(logs.getContent().stream().map(Log::getId).collect(Collectors.toList()), ids.getContent());
+		assertEquals(logs.getTotalElements(), ids.getTotalElements());
+	}
+
+	@Test
+	void idsPageIsRestrictedByConditions() {
+		Long id = queryProjectionFinder.findIds(filter(), LOG.ID, 1).get(0);
+
+		Page<Long> ids = queryProjectionFinder.findIdsPage(filter(), PageRequest.of(0, 10), LOG.ID, LOG.ID.eq(id));
+
+		assertEquals(Collections.singletonList(id), ids.getContent());
+		assertEquals(1, ids.getTotalElements());
+	}
+
+	@Test
+	void latestIdsAreSelectedBySubquery() {
+		List<Log> logs = logRepository.findByFilter(filter());
+		List<Long> latest = logs.stream()
+				.collect(Collectors.toMap(log -> log.getTestItem().getItemId(), Log::getId, Math::max))
+				.values()
+				.stream()
+				.sorted()
+				.collect(Collectors.toList());
+
+		Page<Long> ids = queryProjectionFinder.findIdsPage(filter(),
+				PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, CRITERIA_ID)),
+				LOG.ID,
+				queryProjectionFinder.latestIdsCondition(filter(), LOG.ID, LOG.ITEM_ID, LOG.ID)
+		);
+
+		assertEquals(latest, ids.getContent());
+	}
+
+	@Test
+	void emptyPageIsNotQueried() {
+		assertTrue(queryProjectionFinder.findFields(LOG.ID, Collections.emptyList(), Collections.singletonList("id")).isEmpty());
+	}
+
+	@Test
+	void unknownFieldIsRejected() {
+		assertThrows(ReportPortalException.class,
+				() -> queryProjectionFinder.findFields(LOG.ID, Collections.singletonList(1L), Collections.singletonList("testItem"))
+		);
+	}
+
+	private static Filter filter() {
+		return Filter.builder()
+				.withTarget(Log.class)
+				.withCondition(FilterCondition.builder()
+						.withCondition(Condition.GREATER_THAN)
+						.withSearchCriteria(CRITERIA_ID)
+						.withValue("0")
+						.build())
+				.build();
+	}
+}
@@ -16,15 +16,27 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.core.events.ActivityEvent;
-import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityBatchWriter;
+import com.epam.ta.reportportal.core.events.ActivitiesBatch;
 import com.epam.ta.reportportal.entity.activity.Activity;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
 
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,56 +46,55 @@ import static org.mockito.Mockito.*;
 class ActivityConsumerTest {
 
 	@Mock
-	private ActivityRepository activityRepository;
+	private ActivityBatchWriter activityBatchWriter;
+
+	@Mock
+	private MessageConverter messageConverter;
 
 	@InjectMocks
 	private ActivityConsumer activityConsumer;
 
-	private static class EmptyActivity implements ActivityEvent {
-
-		@Override
-		public Activity toActivity() {
-			return null;
-		}
-	}
+	@Captor
+	private ArgumentCaptor<List<Activity>> activitiesCaptor;
 
 	@Test
 	void nullTest() {
-		activityConsumer.onEvent(new EmptyActivity().toActivity());
-		verifyNoInteractions(activityRepository);
-	}
+		Message message = message();
+		when(messageConverter.fromMessage(message)).thenReturn(null);
+
+		activityConsumer.onEvents(Collections.singletonList(message));
 
-	private static class NotEmptyActivity implements ActivityEvent {
-
-		private Long userId;
-		private Long projectId;
-		private String username;
-		private Long objectId;
-
-		NotEmptyActivity(Long userId, Long projectId, String username, Long objectId) {
-			this.userId = userId;
-			this.projectId = projectId;
-			this.username = username;
-			this.objectId = objectId;
-		}
-
-		@Override
-		public Activity toActivity() {
-			Activity activity = new Activity();
-			activity.setUserId(userId);
-			activity.setProjectId(projectId);
-			activity.setUsername(username);
-			activity.setObjectId(objectId);
-			return activity;
-		}
+		verify(activityBatchWriter, times(1)).write(activitiesCaptor.capture());
+		assertTrue(activitiesCaptor.getValue().isEmpty());
 	}
 
 	@Test
 	void consume() {
-		NotEmptyActivity notEmptyActivity = new NotEmptyActivity(1L, 2L, "username", 3L);
+		Message single = message();
+		Message batch = message();
+		Message broken = message();
+		when(messageConverter.fromMessage(single)).thenReturn(activity(1L, 2L, "username", 3L));
+		when(messageConverter.fromMessage(batch)).thenReturn(new ActivitiesBatch(Lists.newArrayList(activity(1L, 2L, "username", 4L),
+				activity(1L, 2L, "username", 5L)
+		)));
+		when(messageConverter.fromMessage(broken)).thenThrow(new MessageConversionException("Broken"));
+
+		activityConsumer.onEvents(Lists.newArrayList(single, batch, broken));
+
+		verify(activityBatchWriter, times(1)).write(activitiesCaptor.capture());
+		assertEquals(3, activitiesCaptor.getValue().size());
+	}
 
-		activityConsumer.onEvent(notEmptyActivity.toActivity());
+	private static Message message() {
+		return new Message(new byte[0], new MessageProperties());
+	}
 
-		verify(activityRepository, times(1)).save(any());
+	private static Activity activity(Long userId, Long projectId, String username, Long objectId) {
+		Activity activity = new Activity();
+		activity.setUserId(userId);
+		activity.setProjectId(projectId);
+		activity.setUsername(username);
+		activity.setObjectId(objectId);
+		return activity;
 	}
 }
@@ -17,6 +17,8 @@
 package com.epam.ta.reportportal.ws.rabbit;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.file.AttachmentDeduplicator;
+import com.epam.ta.reportportal.core.file.BinaryDataCache;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
@@ -28,6 +30,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -44,6 +49,12 @@ class AttachmentConsumerTest {
 	@Mock
 	private AttachmentRepository attachmentRepository;
 
+	@Mock
+	private BinaryDataCache binaryDataCache;
+
+	@Mock
+	private AttachmentDeduplicator attachmentDeduplicator;
+
 	@InjectMocks
 	private AttachmentConsumer attachmentConsumer;
 
@@ -57,11 +68,32 @@ class AttachmentConsumerTest {
 		attachment.setThumbnailId("thimbnailId");
 		attachment.setId(1L);
 		when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+		when(attachmentDeduplicator.releaseFiles(any(), any())).thenAnswer(a -> new HashSet<>(a.<Collection<String>>getArgument(0)));
 
 		attachmentConsumer.onEvent(event);
 
 		verify(attachmentRepository, times(1)).deleteAllByIds(any());
 		verify(dataStoreService, times(1)).delete(attachment.getFileId());
 		verify(dataStoreService, times(1)).delete(attachment.getThumbnailId());
+		verify(binaryDataCache, times(1)).evictAttachments(ids);
+	}
+
+	@Test
+	void consumeSharedFile() {
+		ArrayList<Long> ids = Lists.newArrayList(1L);
+		DeleteAttachmentEvent event = new DeleteAttachmentEvent(ids);
+
+		Attachment attachment = new Attachment();
+		attachment.setFileId("fileId");
+		attachment.setThumbnailId("thimbnailId");
+		attachment.setId(1L);
+		when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+		when(attachmentDeduplicator.releaseFiles(any(), eq(ids))).thenReturn(Collections.singleton(attachment.getThumbnailId()));
+
+		attachmentConsumer.onEvent(event);
+
+		verify(attachmentRepository, times(1)).deleteAllByIds(ids);
+		verify(dataStoreService, never()).delete(attachment.getFileId());
+		verify(dataStoreService, times(1)).delete(attachment.getThumbnailId());
 	}
 }
\ No newline at end of file
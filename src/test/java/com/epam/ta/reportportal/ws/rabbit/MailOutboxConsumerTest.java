@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.dao.IntegrationRepository;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.util.email.EmailService;
+import com.epam.ta.reportportal.util.email.MailMessage;
+import com.epam.ta.reportportal.util.email.MailOutbox;
+import com.epam.ta.reportportal.util.email.MailServiceFactory;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxConsumerTest {
+
+	@Mock
+	private IntegrationRepository integrationRepository;
+
+	@Mock
+	private MailServiceFactory mailServiceFactory;
+
+	@Mock
+	private MailOutbox mailOutbox;
+
+	@Mock
+	private MessageConverter messageConverter;
+
+	@InjectMocks
+	private MailOutboxConsumer mailOutboxConsumer;
+
+	@Test
+	void failedIntegrationIsRetried() {
+		Message first = message();
+		Message second = message();
+		MailMessage firstMail = mail(1L);
+		MailMessage secondMail = mail(2L);
+		when(messageConverter.fromMessage(first)).thenReturn(firstMail);
+		when(messageConverter.fromMessage(second)).thenReturn(secondMail);
+		Integration integration = new Integration();
+		EmailService emailService = mock(EmailService.class);
+		when(integrationRepository.findById(1L)).thenThrow(new DataAccessResourceFailureException("Unavailable"));
+		when(integrationRepository.findById(2L)).thenReturn(Optional.of(integration));
+		when(mailServiceFactory.getEmailService(integration)).thenReturn(Optional.of(emailService));
+		when(emailService.sendBatch(any())).thenReturn(Collections.emptyList());
+
+		mailOutboxConsumer.onMessages(Lists.newArrayList(first, second));
+
+		verify(mailOutbox, times(1)).retry(Collections.singletonList(firstMail));
+		verify(emailService, times(1)).sendBatch(Collections.singletonList(secondMail));
+		verify(mailOutbox, times(1)).retry(Collections.emptyList());
+	}
+
+	@Test
+	void batchIsRequeuedWhenRetryFails() {
+		Message message = message();
+		MailMessage mail = mail(1L);
+		when(messageConverter.fromMessage(message)).thenReturn(mail);
+		when(integrationRepository.findById(1L)).thenThrow(new DataAccessResourceFailureException("Unavailable"));
+		doThrow(new AmqpException("Unavailable")).when(mailOutbox).retry(any());
+
+		assertThrows(AmqpException.class, () -> mailOutboxConsumer.onMessages(Collections.singletonList(message)));
+	}
+
+	private static Message message() {
+		return new Message(new byte[0], new MessageProperties());
+	}
+
+	private static MailMessage mail(Long integrationId) {
+		MailMessage mail = new MailMessage();
+		mail.setIntegrationId(integrationId);
+		mail.setSubject("subject");
+		return mail;
+	}
+}
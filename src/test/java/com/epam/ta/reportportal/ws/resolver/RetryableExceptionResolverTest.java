@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.exception.RetryableException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryableExceptionResolverTest {
+
+	private final RetryableExceptionResolver resolver = new RetryableExceptionResolver(new MappingJackson2HttpMessageConverter());
+
+	@Test
+	void retryableExceptionIsRenderedWithRetryAfter() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setContentType("text/csv");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=RP_USERS_CSV_Report.csv");
+
+		ModelAndView modelAndView = resolver.resolveException(new MockHttpServletRequest(),
+				response,
+				null,
+				new RetryableException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, HttpStatus.SERVICE_UNAVAILABLE, 30, "Try later")
+		);
+
+		assertNotNull(modelAndView);
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+		assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+		assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+		assertTrue(response.getContentType().startsWith("application/json"));
+		assertTrue(response.getContentAsString().contains("Try later"));
+	}
+
+	@Test
+	void otherExceptionsAreSkipped() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertNull(resolver.resolveException(new MockHttpServletRequest(),
+				response,
+				null,
+				new ReportPortalException(ErrorType.FORBIDDEN_OPERATION, "Forbidden")
+		));
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+	}
+
+	@Test
+	void committedResponseIsSkipped() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.flushBuffer();
+
+		assertNull(resolver.resolveException(new MockHttpServletRequest(),
+				response,
+				null,
+				new RetryableException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, HttpStatus.TOO_MANY_REQUESTS, 1, "Try later")
+		));
+	}
+}
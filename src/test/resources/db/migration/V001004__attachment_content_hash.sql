@@ -0,0 +1,18 @@
+ALTER TABLE attachment ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS attachment_project_content_hash_idx ON attachment (project_id, content_hash);
+
+CREATE TABLE IF NOT EXISTS attachment_reservation
+(
+    id           BIGSERIAL PRIMARY KEY,
+    log_uuid     VARCHAR   NOT NULL,
+    file_id      VARCHAR   NOT NULL,
+    thumbnail_id VARCHAR,
+    expires_at   TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS attachment_reservation_log_uuid_idx ON attachment_reservation (log_uuid);
+
+CREATE INDEX IF NOT EXISTS attachment_reservation_file_id_idx ON attachment_reservation (file_id);
+
+CREATE INDEX IF NOT EXISTS attachment_reservation_thumbnail_id_idx ON attachment_reservation (thumbnail_id);
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS project_deletion
+(
+    project_id         BIGINT PRIMARY KEY,
+    state              VARCHAR(16) NOT NULL,
+    started_at         TIMESTAMP   NOT NULL,
+    finished_at        TIMESTAMP,
+    deleted_launches   BIGINT      NOT NULL DEFAULT 0,
+    deleted_items      BIGINT      NOT NULL DEFAULT 0,
+    deleted_logs       BIGINT      NOT NULL DEFAULT 0,
+    deleted_activities BIGINT      NOT NULL DEFAULT 0,
+    error              TEXT
+);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS log_item_id_log_time_id_idx ON log (item_id, log_time, id);
+
+CREATE INDEX IF NOT EXISTS test_item_parent_id_start_time_item_id_idx ON test_item (parent_id, start_time, item_id);